@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat - Initial Contribution
+ *******************************************************************************/
+package org.eclipse.linuxtools.docker.core;
+
+import java.util.List;
+
+/**
+ * A {@link IDockerContainerListener} which is told which containers changed
+ * when only some of them did, for example after an event of the Docker
+ * daemon. Such listeners are notified with
+ * {@link #containersChanged(IDockerConnection, List, List, List)} instead of
+ * {@link #listChanged(IDockerConnection, List)} in that case.
+ *
+ * @since 4.6
+ */
+public interface IDockerContainerListener2 extends IDockerContainerListener {
+
+	/**
+	 * Called when some of the {@link IDockerContainer} of the given
+	 * {@link IDockerConnection} were added, updated or removed.
+	 *
+	 * @param connection
+	 *            the Docker connection
+	 * @param containers
+	 *            the new list of containers
+	 * @param changed
+	 *            the containers which were added or updated
+	 * @param removed
+	 *            the ids of the containers which were removed
+	 */
+	void containersChanged(IDockerConnection connection,
+			List<IDockerContainer> containers, List<IDockerContainer> changed,
+			List<String> removed);
+
+}
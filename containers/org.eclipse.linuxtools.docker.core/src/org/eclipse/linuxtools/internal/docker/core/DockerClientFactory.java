@@ -65,6 +65,46 @@ public class DockerClientFactory {
 			final IDockerConnectionSettings connectionSettings,
 			final IRegistryAccount registryAccount)
 			throws DockerCertificateException {
+		final Builder builder = getBuilder(connectionSettings);
+		// skip if no URI exists
+		if (builder == null) {
+			return null;
+		}
+
+		if (registryAccount != null) {
+			builder.registryAuth(buildAuthentication(registryAccount));
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Creates a new {@link DockerClient} to follow the events of the Docker
+	 * daemon from the given {@link IDockerConnectionSettings}. Unlike the
+	 * clients returned by {@link #getClient(IDockerConnectionSettings)}, reads
+	 * never time out, since no event may be sent for a long time.
+	 * 
+	 * @param connectionSettings
+	 *            the connection settings
+	 * @return the {@link DockerClient} or <code>null</code> if the connection
+	 *         URI (Unix socker path or TCP host) was missing (ie,
+	 *         <code>null</code> or empty)
+	 * @throws DockerCertificateException
+	 *             if the path to Docker certificates is invalid (missing files)
+	 */
+	public DockerClient getEventsClient(
+			final IDockerConnectionSettings connectionSettings)
+			throws DockerCertificateException {
+		final Builder builder = getBuilder(connectionSettings);
+		// skip if no URI exists
+		if (builder == null) {
+			return null;
+		}
+		return builder.readTimeoutMillis(0).build();
+	}
+
+	private Builder getBuilder(
+			final IDockerConnectionSettings connectionSettings)
+			throws DockerCertificateException {
 		final Builder builder = DefaultDockerClient.builder();
 		if (connectionSettings
 				.getType() == BindingType.UNIX_SOCKET_CONNECTION) {
@@ -86,15 +126,10 @@ public class DockerClientFactory {
 				}
 			}
 		}
-		// skip if no URI exists
 		if (builder.uri() == null) {
 			return null;
 		}
-
-		if (registryAccount != null) {
-			builder.registryAuth(buildAuthentication(registryAccount));
-		}
-		return builder.build();
+		return builder;
 	}
 
 	private RegistryAuth buildAuthentication(final IRegistryAccount info) {
@@ -23,6 +23,8 @@ import java.net.UnknownHostException;
 import java.nio.ByteBuffer;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.FileSystems;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -34,7 +36,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.ws.rs.ProcessingException;
 
@@ -73,6 +74,7 @@ import org.eclipse.linuxtools.docker.core.IDockerContainerConfig;
 import org.eclipse.linuxtools.docker.core.IDockerContainerExit;
 import org.eclipse.linuxtools.docker.core.IDockerContainerInfo;
 import org.eclipse.linuxtools.docker.core.IDockerContainerListener;
+import org.eclipse.linuxtools.docker.core.IDockerContainerListener2;
 import org.eclipse.linuxtools.docker.core.IDockerHostConfig;
 import org.eclipse.linuxtools.docker.core.IDockerImage;
 import org.eclipse.linuxtools.docker.core.IDockerImageBuildOptions;
@@ -195,6 +197,8 @@ public class DockerConnection
 	private Map<String, Job> actionJobs;
 
 	private Map<String, LogThread> loggingThreads = new HashMap<>();
+	// client shared by the logging threads
+	private DockerClient loggingClient;
 
 	// containers sorted by name
 	private List<IDockerContainer> containers;
@@ -203,6 +207,8 @@ public class DockerConnection
 	// flag to indicate if the state of the connection to the Docker daemon
 	private EnumDockerConnectionState state = EnumDockerConnectionState.UNKNOWN;
 	private List<IDockerImage> images;
+	// images indexed by id, parent id and repo tag
+	private DockerImageIndex imageIndex = DockerImageIndex.EMPTY;
 	private Boolean isLocalConnection;
 
 	ListenerList<IDockerContainerListener> containerListeners;
@@ -330,7 +336,7 @@ public class DockerConnection
 		case UNKNOWN:
 		case CLOSED:
 			synchronized (imageLock) {
-				this.images = Collections.emptyList();
+				setImages(Collections.emptyList());
 			}
 			synchronized (containerLock) {
 				this.containers = Collections.emptyList();
@@ -409,12 +415,15 @@ public class DockerConnection
 	@Override
 	public void close() {
 		// stop and remove all logging threads
-		for (String key : loggingThreads.keySet().toArray(new String[0])) {
-			LogThread t = loggingThreads.get(key);
-			if (t != null) {
+		synchronized (loggingThreads) {
+			for (LogThread t : loggingThreads.values()) {
 				t.kill();
 			}
-			loggingThreads.remove(key);
+			loggingThreads.clear();
+			if (loggingClient != null) {
+				loggingClient.close();
+				loggingClient = null;
+			}
 		}
 		synchronized (clientLock) {
 			if (this.client != null) {
@@ -587,14 +596,36 @@ public class DockerConnection
 		return getClientCopy();
 	}
 
+	/**
+	 * Creates a new client to follow the events of the Docker daemon, whose
+	 * reads never time out. It must be closed with
+	 * {@link #closeOperationToken(Object)}.
+	 *
+	 * @return the client
+	 * @throws DockerException
+	 *             if the client cannot be created
+	 */
+	DockerClient getEventsClient() throws DockerException {
+		try {
+			final DockerClient client = dockerClientFactory
+					.getEventsClient(this.connectionSettings);
+			if (client == null) {
+				throw new DockerException(NLS.bind(
+						Messages.Open_Connection_Failure, this.name,
+						this.getUri()));
+			}
+			return client;
+		} catch (DockerCertificateException e) {
+			throw new DockerException(NLS.bind(Messages.Open_Connection_Failure,
+					this.name, this.getUri()));
+		}
+	}
+
 	public void closeOperationToken(Object token) {
 		DockerClient client = (DockerClient) token;
 		client.close();
 	}
 
-	// TODO: we might need something more fine grained, to indicate which
-	// container changed, was added or was removed, so we can refresh the UI
-	// accordingly.
 	public void notifyContainerListeners(List<IDockerContainer> list) {
 		if (containerListeners != null) {
 			for (IDockerContainerListener listener : containerListeners) {
@@ -603,6 +634,32 @@ public class DockerConnection
 		}
 	}
 
+	/**
+	 * Notifies the listeners that some containers changed. The
+	 * {@link IDockerContainerListener2} are given the changes, the other
+	 * listeners are given the new list of containers.
+	 *
+	 * @param list
+	 *            the new list of containers
+	 * @param changed
+	 *            the containers which were added or updated
+	 * @param removed
+	 *            the ids of the containers which were removed
+	 */
+	public void notifyContainerListeners(List<IDockerContainer> list,
+			List<IDockerContainer> changed, List<String> removed) {
+		if (containerListeners != null) {
+			for (IDockerContainerListener listener : containerListeners) {
+				if (listener instanceof IDockerContainerListener2) {
+					((IDockerContainerListener2) listener)
+							.containersChanged(this, list, changed, removed);
+				} else {
+					listener.listChanged(this, list);
+				}
+			}
+		}
+	}
+
 	/**
 	 * @return an fixed-size list of all {@link IDockerContainerListener}
 	 */
@@ -680,19 +737,34 @@ public class DockerConnection
 
 	/**
 	 * Class to perform logging of a container run to a given output stream
-	 * (usually a console stream).
-	 *
+	 * (usually a console stream). All the logging threads of a connection
+	 * share the same client, and each thread blocks while reading its log or
+	 * writing it to its output stream, so that a slow output stream only
+	 * slows down the reading of its own log.
 	 */
 	private class LogThread extends AbstractKillableThread implements ILogger {
 		private String id;
 		private DockerClient copyClient;
 		private OutputStream outputStream;
 		private boolean follow;
+		private LogStream stream;
+		private final boolean timestamps;
+		private byte[] buffer = new byte[0];
+		private volatile long startTime;
+		private volatile long endTime;
+		private volatile long bytes;
+		private volatile long frames;
+		private volatile long blockedNanos;
+		private volatile long lagMillis = -1;
 
 		public LogThread(String id, DockerClient copyClient, boolean follow) {
 			this.id = id;
 			this.copyClient = copyClient;
 			this.follow = follow;
+			// Add timestamps to log based on user preference
+			IEclipsePreferences preferences = InstanceScope.INSTANCE
+					.getNode("org.eclipse.linuxtools.docker.ui"); //$NON-NLS-1$
+			this.timestamps = preferences.getBoolean("logTimestamp", true); //$NON-NLS-1$
 		}
 
 		@Override
@@ -706,42 +778,57 @@ public class DockerConnection
 		}
 
 		@Override
-		public void execute() throws InterruptedException, IOException {
-			LogStream stream = null;
-			try {
-				// Add timestamps to log based on user preference
-				IEclipsePreferences preferences = InstanceScope.INSTANCE
-						.getNode("org.eclipse.linuxtools.docker.ui"); //$NON-NLS-1$
+		public void requestStop() {
+			super.requestStop();
+			// unblock the thread if it is waiting for the next frame
+			closeStream();
+		}
 
-				boolean timestamps = preferences.getBoolean(
-						"logTimestamp", true); //$NON-NLS-1$
+		@Override
+		public void kill() {
+			super.kill();
+			closeStream();
+		}
 
+		private synchronized void setStream(final LogStream stream) {
+			this.stream = stream;
+			if (this.stop || this.kill) {
+				closeStream();
+			}
+		}
 
+		private synchronized void closeStream() {
+			if (stream != null) {
+				try {
+					stream.close();
+				} catch (RuntimeException e) {
+					// the connection is already closed
+				}
+				stream = null;
+			}
+		}
+
+		@Override
+		public void execute() throws InterruptedException, IOException {
+			final LogStream logStream;
+			try {
+				startTime = System.nanoTime();
 				if (timestamps)
-					stream = copyClient.logs(id, LogsParam.follow(),
+					logStream = copyClient.logs(id, LogsParam.follow(),
 							LogsParam.stdout(), LogsParam.stderr(),
 							LogsParam.timestamps());
 				else
-					stream = copyClient.logs(id, LogsParam.follow(),
+					logStream = copyClient.logs(id, LogsParam.follow(),
 							LogsParam.stdout(), LogsParam.stderr());
-
-				// First time through, don't sleep before showing log data
-				int delayTime = 100;
-
-				do {
-					Thread.sleep(delayTime);
-					// Second time in loop and following, pause a second to
-					// allow other threads to do meaningful work
-					delayTime = 500;
-					while (stream.hasNext()) {
-						ByteBuffer b = stream.next().content();
-						byte[] bytes = new byte[b.remaining()];
-						b.get(bytes);
-						if (outputStream != null)
-							outputStream.write(bytes);
-					}
-				} while (follow && !stop);
-				listContainers();
+				setStream(logStream);
+				// block until the next frame rather than polling the stream
+				while (!stop && logStream.hasNext()) {
+					write(logStream.next().content());
+				}
+				if (!stop && follow) {
+					// the container stopped: update it
+					updateContainers(Collections.singleton(id));
+				}
 			} catch (com.spotify.docker.client.exceptions.DockerRequestException e) {
 				Activator.logErrorMessage(
 						ProcessMessages.getString("Monitor_Logs_Exception"), e); //$NON-NLS-1$
@@ -755,17 +842,98 @@ public class DockerConnection
 				kill = true;
 				Thread.currentThread().interrupt();
 			} catch (Exception e) {
-				Activator.logErrorMessage(
-						ProcessMessages.getString("Monitor_Logs_Exception"), e); //$NON-NLS-1$
+				// closing the stream to stop the thread makes it fail
+				if (!stop && !kill) {
+					Activator.logErrorMessage(
+							ProcessMessages.getString("Monitor_Logs_Exception"), //$NON-NLS-1$
+							e);
+				}
 			} finally {
 				follow = false;
-				copyClient.close(); // we are done with copyClient..dispose
-				if (stream != null)
-					stream.close();
+				endTime = System.nanoTime();
+				closeStream();
 				if (outputStream != null)
 					outputStream.close();
 			}
 		}
+
+		/**
+		 * Writes a frame to the output stream without copying it when
+		 * possible, and records the time spent waiting for the output stream.
+		 */
+		private void write(final ByteBuffer content) throws IOException {
+			final int length = content.remaining();
+			frames++;
+			if (timestamps && length > 0) {
+				lagMillis = lag(content);
+			}
+			if (outputStream == null) {
+				return;
+			}
+			final long start = System.nanoTime();
+			if (content.hasArray()) {
+				outputStream.write(content.array(),
+						content.arrayOffset() + content.position(), length);
+			} else {
+				if (buffer.length < length) {
+					buffer = new byte[length];
+				}
+				content.get(buffer, 0, length);
+				outputStream.write(buffer, 0, length);
+			}
+			blockedNanos += System.nanoTime() - start;
+			bytes += length;
+		}
+
+		/**
+		 * @return the delay in milliseconds between the timestamp which starts
+		 *         the given frame and now, or the previous lag if the frame
+		 *         does not start with a timestamp
+		 */
+		private long lag(final ByteBuffer content) {
+			// timestamps look like 2019-01-01T00:00:00.000000000Z
+			final int end = Math.min(content.remaining(), 40);
+			final StringBuilder timestamp = new StringBuilder(end);
+			for (int i = 0; i < end; i++) {
+				final char c = (char) content.get(content.position() + i);
+				if (c == ' ') {
+					break;
+				}
+				timestamp.append(c);
+			}
+			try {
+				return Math.max(0, System.currentTimeMillis()
+						- Instant.parse(timestamp).toEpochMilli());
+			} catch (DateTimeParseException e) {
+				return lagMillis;
+			}
+		}
+
+		public DockerLoggingStatistics getStatistics() {
+			final boolean active = isAlive();
+			final long end = active || endTime == 0 ? System.nanoTime()
+					: endTime;
+			return new DockerLoggingStatistics(
+					active ? EnumDockerLoggingStatus.LOGGING_ACTIVE
+							: EnumDockerLoggingStatus.LOGGING_COMPLETE,
+					active ? 1 : 0, bytes, frames,
+					startTime == 0 ? 0 : end - startTime, blockedNanos,
+					lagMillis);
+		}
+	}
+
+	/**
+	 * @return the client shared by all the logging threads, created when
+	 *         needed. Must be called while holding the lock on
+	 *         {@code loggingThreads}.
+	 * @throws DockerException
+	 *             if the client could not be created
+	 */
+	private DockerClient getLoggingClient() throws DockerException {
+		if (loggingClient == null) {
+			loggingClient = getClientCopy();
+		}
+		return loggingClient;
 	}
 
 	private List<IDockerContainer> listContainers()
@@ -792,37 +960,11 @@ public class DockerConnection
 				// core format in case we decide to change the underlying engine
 				// in the future.
 				for (Container nativeContainer : nativeContainers) {
-					// For containers that have exited, make sure we aren't
-					// tracking
-					// them with a logging thread.
-					if (nativeContainer.status() != null && nativeContainer
-							.status().startsWith(Messages.Exited_specifier)) {
-						synchronized (loggingThreads) {
-							if (loggingThreads
-									.containsKey(nativeContainer.id())) {
-								loggingThreads.get(nativeContainer.id())
-										.requestStop();
-								loggingThreads.remove(nativeContainer.id());
-							}
-						}
-					}
-					// skip containers that are being removed
-					if (nativeContainer.status() != null
-							&& nativeContainer.status().equals(
-									Messages.Removal_In_Progress_specifier)) {
-						continue;
-					}
-					// re-use info from existing container with same id
-					if (this.containers != null && this.containersById
-							.containsKey(nativeContainer.id())) {
-						final IDockerContainer container = this.containersById
-								.get(nativeContainer.id());
-						updatedContainersById.put(nativeContainer.id(),
-								new DockerContainer(this, nativeContainer,
-										container.info()));
-					} else {
+					final IDockerContainer container = toDockerContainer(
+							nativeContainer);
+					if (container != null) {
 						updatedContainersById.put(nativeContainer.id(),
-								new DockerContainer(this, nativeContainer));
+								container);
 					}
 				}
 			} catch (DockerTimeoutException e) {
@@ -859,6 +1001,133 @@ public class DockerConnection
 		return sortedContainers;
 	}
 
+	/**
+	 * Translates a native {@link Container} to our own core format in case we
+	 * decide to change the underlying engine in the future. Must be called
+	 * while holding the {@code containerLock}.
+	 *
+	 * @param nativeContainer
+	 *            the container returned by the Docker client
+	 * @return the {@link IDockerContainer}, or <code>null</code> if the
+	 *         container is being removed
+	 */
+	private IDockerContainer toDockerContainer(
+			final Container nativeContainer) {
+		// For containers that have exited, make sure we aren't tracking
+		// them with a logging thread.
+		if (nativeContainer.status() != null && nativeContainer.status()
+				.startsWith(Messages.Exited_specifier)) {
+			synchronized (loggingThreads) {
+				if (loggingThreads.containsKey(nativeContainer.id())) {
+					loggingThreads.get(nativeContainer.id()).requestStop();
+					loggingThreads.remove(nativeContainer.id());
+				}
+			}
+		}
+		// skip containers that are being removed
+		if (nativeContainer.status() != null && nativeContainer.status()
+				.equals(Messages.Removal_In_Progress_specifier)) {
+			return null;
+		}
+		// re-use info from existing container with same id
+		if (this.containers != null
+				&& this.containersById.containsKey(nativeContainer.id())) {
+			final IDockerContainer container = this.containersById
+					.get(nativeContainer.id());
+			return new DockerContainer(this, nativeContainer,
+					container.info());
+		}
+		return new DockerContainer(this, nativeContainer);
+	}
+
+	/**
+	 * Updates the given containers only, for example after the Docker daemon
+	 * sent events about them, and notifies the listeners with the containers
+	 * which were added, updated or removed. All the containers are listed if
+	 * they were not loaded yet.
+	 *
+	 * @param ids
+	 *            the ids of the containers to update
+	 * @return the updated list of containers
+	 * @throws DockerException
+	 *             if the containers could not be listed
+	 */
+	public List<IDockerContainer> updateContainers(final Collection<String> ids)
+			throws DockerException {
+		if (!isContainersLoaded()) {
+			return listContainers();
+		}
+		if (ids.isEmpty()) {
+			return this.containers;
+		}
+		final List<IDockerContainer> changed = new ArrayList<>();
+		final List<String> removed = new ArrayList<>();
+		List<IDockerContainer> sortedContainers;
+		synchronized (containerLock) {
+			final List<Container> nativeContainers = new ArrayList<>();
+			try {
+				final List<DockerClient.ListContainersParam> params = new ArrayList<>();
+				params.add(DockerClient.ListContainersParam.allContainers());
+				for (String id : ids) {
+					params.add(DockerClient.ListContainersParam.filter("id", //$NON-NLS-1$
+							id));
+				}
+				synchronized (clientLock) {
+					if (client == null) {
+						return Collections.emptyList();
+					}
+					nativeContainers.addAll(client.listContainers(params
+							.toArray(new DockerClient.ListContainersParam[params
+									.size()])));
+				}
+			} catch (DockerTimeoutException e) {
+				if (isOpen()) {
+					Activator.log(
+							new Status(IStatus.WARNING, Activator.PLUGIN_ID,
+									Messages.Docker_Connection_Timeout, e));
+				}
+				return this.containers;
+			} catch (com.spotify.docker.client.exceptions.DockerException
+					| InterruptedException e) {
+				throw new DockerException(e.getMessage());
+			}
+			final Map<String, IDockerContainer> updatedContainersById = new HashMap<>(
+					this.containersById);
+			final Set<String> found = new HashSet<>();
+			for (Container nativeContainer : nativeContainers) {
+				// the id filter also matches on prefixes
+				if (!ids.contains(nativeContainer.id())) {
+					continue;
+				}
+				final IDockerContainer container = toDockerContainer(
+						nativeContainer);
+				if (container != null) {
+					found.add(nativeContainer.id());
+					updatedContainersById.put(nativeContainer.id(), container);
+					changed.add(container);
+				}
+			}
+			for (String id : ids) {
+				if (!found.contains(id)
+						&& updatedContainersById.remove(id) != null) {
+					removed.add(id);
+				}
+			}
+			if (changed.isEmpty() && removed.isEmpty()) {
+				return this.containers;
+			}
+			this.containersById = updatedContainersById;
+			sortedContainers = sort(updatedContainersById.values(),
+					(container, otherContainer) -> container.name()
+							.compareTo(otherContainer.name()));
+			this.containers = sortedContainers;
+		}
+		// perform notification outside of containerLock so we don't have a View
+		// causing a deadlock
+		notifyContainerListeners(sortedContainers, changed, removed);
+		return sortedContainers;
+	}
+
 	public Set<String> getContainerIdsWithLabels(Map<String, String> labels)
 			throws DockerException {
 		Set<String> labelSet = new HashSet<>();
@@ -1081,7 +1350,7 @@ public class DockerConnection
 				latestImages = listImages();
 			} catch (DockerException e) {
 				synchronized (imageLock) {
-					this.images = Collections.emptyList();
+					setImages(Collections.emptyList());
 				}
 				Activator.log(e);
 			}
@@ -1097,7 +1366,8 @@ public class DockerConnection
 	// TODO: remove this method from the API
 	@Override
 	public List<IDockerImage> listImages() throws DockerException {
-		final List<IDockerImage> tempImages = new CopyOnWriteArrayList<>();
+		final List<IDockerImage> tempImages = new ArrayList<>();
+		List<IDockerImage> publishedImages;
 		synchronized (imageLock) {
 			try {
 				final List<Image> nativeImages = new ArrayList<>();
@@ -1116,10 +1386,17 @@ public class DockerConnection
 				// We have a list of images. Now, we translate them to our own
 				// core format in case we decide to change the underlying engine
 				// in the future. We also look for intermediate and dangling
-				// images.
+				// images, using the ids of all parent images collected once.
+				final Set<String> parentIds = new HashSet<>(
+						nativeImages.size() * 2);
+				for (Image nativeImage : nativeImages) {
+					if (nativeImage.parentId() != null) {
+						parentIds.add(nativeImage.parentId());
+					}
+				}
 				for (Image nativeImage : nativeImages) {
 					final DockerImageQualifier imageQualifier = resolveQualifier(
-							nativeImage, nativeImages);
+							nativeImage, parentIds);
 					// return one IDockerImage per raw image
 					final List<String> repoTags = (nativeImage
 							.repoTags() != null)
@@ -1161,32 +1438,46 @@ public class DockerConnection
 							e);
 				}
 			} finally {
-				this.images = tempImages;
+				// publish the complete list at once
+				publishedImages = Collections.unmodifiableList(tempImages);
+				setImages(publishedImages);
 			}
 		}
 		// Perform notification outside of lock so that listener doesn't cause a
 		// deadlock to occur
-		notifyImageListeners(tempImages);
-		return tempImages;
+		notifyImageListeners(publishedImages);
+		return publishedImages;
+	}
+
+	/**
+	 * Replaces the list of images and the associated {@link DockerImageIndex}.
+	 * Must be called while holding the {@code imageLock}.
+	 *
+	 * @param images
+	 *            the new list of images
+	 */
+	private void setImages(final List<IDockerImage> images) {
+		this.images = images;
+		this.imageIndex = images.isEmpty() ? DockerImageIndex.EMPTY
+				: new DockerImageIndex(images);
 	}
 
 	/**
 	 * Resolves the {@link DockerImageQualifier} for the given
-	 * {@code nativeImage} in the context of all {@code nativeImages}
+	 * {@code nativeImage} in the context of all known images
 	 *
 	 * @param nativeImage
 	 *            the image to analyze
-	 * @param nativeImages
-	 *            all known images
+	 * @param parentIds
+	 *            the ids of the images which are the parent of another image
 	 * @return the corresponding {@link DockerImageQualifier}
 	 */
 	private static DockerImageQualifier resolveQualifier(
-			final Image nativeImage, final List<Image> nativeImages) {
+			final Image nativeImage, final Set<String> parentIds) {
 		final boolean hasTag = !(nativeImage.repoTags() == null
 				|| (nativeImage.repoTags().size() == 1
 						&& nativeImage.repoTags().contains("<none>:<none>"))); //$NON-NLS-1$
-		final boolean hasChildImage = nativeImages.stream()
-				.anyMatch(i -> nativeImage.id().equals(i.parentId()));
+		final boolean hasChildImage = parentIds.contains(nativeImage.id());
 		// imtermediate image
 		if (!hasTag && hasChildImage) {
 			return DockerImageQualifier.INTERMEDIATE;
@@ -1751,7 +2042,7 @@ public class DockerConnection
 				synchronized (loggingThreads) {
 					LogThread t = loggingThreads.get(id);
 					if (t == null || !t.isAlive()) {
-						t = new LogThread(id, getClientCopy(), true);
+						t = new LogThread(id, getLoggingClient(), true);
 						loggingThreads.put(id, t);
 						t.setOutputStream(stream);
 						t.start();
@@ -1827,7 +2118,7 @@ public class DockerConnection
 				synchronized (loggingThreads) {
 					LogThread t = loggingThreads.get(id);
 					if (t == null || !t.isAlive()) {
-						t = new LogThread(id, getClientCopy(), true);
+						t = new LogThread(id, getLoggingClient(), true);
 						loggingThreads.put(id, t);
 						t.setOutputStream(stream);
 						t.start();
@@ -1874,7 +2165,7 @@ public class DockerConnection
 				synchronized (loggingThreads) {
 					LogThread t = loggingThreads.get(loggingId);
 					if (t == null || !t.isAlive()) {
-						t = new LogThread(id, getClientCopy(), true);
+						t = new LogThread(id, getLoggingClient(), true);
 						loggingThreads.put(loggingId, t);
 						t.setOutputStream(stream);
 						t.start();
@@ -1919,7 +2210,7 @@ public class DockerConnection
 				synchronized (loggingThreads) {
 					LogThread t = loggingThreads.get(id);
 					if (t == null || !t.isAlive()) {
-						t = new LogThread(id, getClientCopy(), true);
+						t = new LogThread(id, getLoggingClient(), true);
 						loggingThreads.put(id, t);
 						t.setOutputStream(stream);
 						t.start();
@@ -2077,6 +2368,34 @@ public class DockerConnection
 		}
 	}
 
+	/**
+	 * @param id
+	 *            the logging id, which is usually the id of the container
+	 * @return the throughput and lag of the log of the given container
+	 */
+	public DockerLoggingStatistics loggingStatistics(final String id) {
+		synchronized (loggingThreads) {
+			LogThread t = loggingThreads.get(id);
+			if (t == null)
+				return DockerLoggingStatistics.NONE;
+			return t.getStatistics();
+		}
+	}
+
+	/**
+	 * @return the aggregated throughput and lag of the logs of all the
+	 *         containers
+	 */
+	public DockerLoggingStatistics loggingStatistics() {
+		synchronized (loggingThreads) {
+			DockerLoggingStatistics statistics = DockerLoggingStatistics.NONE;
+			for (LogThread t : loggingThreads.values()) {
+				statistics = statistics.add(t.getStatistics());
+			}
+			return statistics;
+		}
+	}
+
 	public EnumDockerLoggingStatus loggingStatus(final String id) {
 		synchronized (loggingThreads) {
 			LogThread t = loggingThreads.get(id);
@@ -2115,7 +2434,7 @@ public class DockerConnection
 				ContainerInfo info = client.inspectContainer(id);
 				LogThread t = loggingThreads.get(id);
 				if (t == null || !t.isAlive()) {
-					t = new LogThread(id, getClientCopy(), info.state()
+					t = new LogThread(id, getLoggingClient(), info.state()
 							.running());
 					loggingThreads.put(id, t);
 					t.setOutputStream(stream);
@@ -2561,18 +2880,27 @@ public class DockerConnection
 		return getSettings().hashCode();
 	}
 
+	/**
+	 * @return the {@link DockerImageIndex} of the current list of images
+	 */
+	public DockerImageIndex getImageIndex() {
+		synchronized (imageLock) {
+			return this.imageIndex;
+		}
+	}
+
 	@Override
 	public IDockerImageHierarchyNode resolveImageHierarchy(
 			final IDockerImage selectedImage) {
-		return DockerImageHierarchyNodeUtils.resolveImageHierarchy(this.images,
-				this.containers, selectedImage);
+		return DockerImageHierarchyNodeUtils.resolveImageHierarchy(
+				getImageIndex(), this.containers, selectedImage);
 	}
 
 	@Override
 	public IDockerImageHierarchyNode resolveImageHierarchy(
 			final IDockerContainer selectedContainer) {
-		return DockerImageHierarchyNodeUtils.resolveImageHierarchy(this.images,
-				selectedContainer);
+		return DockerImageHierarchyNodeUtils
+				.resolveImageHierarchy(getImageIndex(), selectedContainer);
 	}
 
 }
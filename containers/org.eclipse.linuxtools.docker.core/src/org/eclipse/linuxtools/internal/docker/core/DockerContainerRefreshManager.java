@@ -14,6 +14,7 @@ package org.eclipse.linuxtools.internal.docker.core;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -34,8 +35,11 @@ public class DockerContainerRefreshManager implements IDockerContainerListener {
 
 	private Map<IDockerConnection, ContainerRefreshThread> refreshThreadMap;
 
+	private Map<IDockerConnection, DockerEventMonitor> eventMonitorMap;
+
 	private DockerContainerRefreshManager() {
 		this.refreshThreadMap = new HashMap<>();
+		this.eventMonitorMap = new HashMap<>();
 	}
 
 	public static DockerContainerRefreshManager getInstance() {
@@ -48,35 +52,74 @@ public class DockerContainerRefreshManager implements IDockerContainerListener {
 	 * @return an immutable {@link Set} of all the {@link IDockerConnection}
 	 *         that are monitored
 	 */
-	public Set<IDockerConnection> getConnections() {
-		return Collections.unmodifiableSet(this.refreshThreadMap.keySet());
+	public synchronized Set<IDockerConnection> getConnections() {
+		final Set<IDockerConnection> connections = new HashSet<>(
+				this.refreshThreadMap.keySet());
+		connections.addAll(this.eventMonitorMap.keySet());
+		return Collections.unmodifiableSet(connections);
 	}
 
 	@Override
 	public synchronized void listChanged(
 			final IDockerConnection connection,
 			final List<IDockerContainer> dclist) {
-		if (!this.refreshThreadMap.containsKey(connection)) {
-			long refreshRateInSeconds = Platform.getPreferencesService()
-					.getLong("org.eclipse.linuxtools.docker.ui", //$NON-NLS-1$
-							"containerRefreshTime", DEFAULT_REFRESH_TIME, null); //$NON-NLS-1$
-			final ContainerRefreshThread rt = new ContainerRefreshThread(
-					connection,
-					TimeUnit.SECONDS.toMillis(refreshRateInSeconds));
-			rt.start();
-			this.refreshThreadMap.put(connection, rt);
+		if (!this.refreshThreadMap.containsKey(connection)
+				&& !this.eventMonitorMap.containsKey(connection)) {
+			if (connection instanceof DockerConnection) {
+				// listen to the events of the Docker daemon and only poll the
+				// containers if the events cannot be received
+				final DockerEventMonitor eventMonitor = new DockerEventMonitor(
+						(DockerConnection) connection,
+						() -> fallBackToRefreshThread(connection));
+				this.eventMonitorMap.put(connection, eventMonitor);
+				eventMonitor.start();
+			} else {
+				startRefreshThread(connection);
+			}
 		}
 	}
 
 	/**
-	 * Stops and remove the {@link ContainerRefreshThread} associated with the
-	 * given {@link IDockerConnection}.
+	 * Polls the containers of the given {@link IDockerConnection} after the
+	 * events of its Docker daemon could not be received.
+	 *
+	 * @param connection
+	 *            the monitored connection
+	 */
+	private synchronized void fallBackToRefreshThread(
+			final IDockerConnection connection) {
+		// the connection may have been removed in the mean time
+		if (this.eventMonitorMap.remove(connection) != null) {
+			startRefreshThread(connection);
+		}
+	}
+
+	private void startRefreshThread(final IDockerConnection connection) {
+		long refreshRateInSeconds = Platform.getPreferencesService()
+				.getLong("org.eclipse.linuxtools.docker.ui", //$NON-NLS-1$
+						"containerRefreshTime", DEFAULT_REFRESH_TIME, null); //$NON-NLS-1$
+		final ContainerRefreshThread rt = new ContainerRefreshThread(
+				connection,
+				TimeUnit.SECONDS.toMillis(refreshRateInSeconds));
+		rt.start();
+		this.refreshThreadMap.put(connection, rt);
+	}
+
+	/**
+	 * Stops and remove the {@link DockerEventMonitor} or
+	 * {@link ContainerRefreshThread} associated with the given
+	 * {@link IDockerConnection}.
 	 *
 	 * @param connection
 	 *            the connection that was monitored
 	 */
 	public synchronized void removeContainerRefreshThread(
 			final IDockerConnection connection) {
+		final DockerEventMonitor eventMonitor = this.eventMonitorMap
+				.remove(connection);
+		if (eventMonitor != null) {
+			eventMonitor.stopMonitoring();
+		}
 		if (this.refreshThreadMap.containsKey(connection)) {
 			final ContainerRefreshThread containerRefreshThread = refreshThreadMap.get(connection);
 			containerRefreshThread.stopMonitoring();
@@ -178,19 +221,24 @@ public class DockerContainerRefreshManager implements IDockerContainerListener {
 	/***
 	 * Method to kill all threads at shutdown.
 	 */
-	public void killAllThreads() {
+	public synchronized void killAllThreads() {
+		for (DockerEventMonitor eventMonitor : this.eventMonitorMap.values()) {
+			eventMonitor.stopMonitoring();
+		}
+		this.eventMonitorMap.clear();
 		for (ContainerRefreshThread rt : this.refreshThreadMap.values()) {
 			rt.kill();
-			this.refreshThreadMap.remove(rt.getConnection());
 		}
+		this.refreshThreadMap.clear();
 	}
 
 	/**
 	 * This methods clears the map of threads that monitor the connections. This
 	 * method should only be called during the tests.
 	 */
-	public void reset() {
+	public synchronized void reset() {
 		this.refreshThreadMap.clear();
+		this.eventMonitorMap.clear();
 
 	}
 }
@@ -0,0 +1,276 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat - Initial Contribution
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.docker.core;
+
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.linuxtools.docker.core.Activator;
+import org.eclipse.linuxtools.docker.core.DockerException;
+
+import com.spotify.docker.client.DockerClient;
+import com.spotify.docker.client.DockerClient.EventsParam;
+import com.spotify.docker.client.EventStream;
+import com.spotify.docker.client.messages.Event;
+
+/**
+ * Listens to the container and image events of a Docker daemon and updates
+ * the containers and images of the associated {@link DockerConnection}
+ * accordingly. Only the containers mentioned in the events are listed again,
+ * and events received in a short period of time are handled together.
+ *
+ * The events are read with a client whose reads do not time out, since an idle
+ * daemon may send nothing for a long time. Should a read time out anyway, for
+ * example because of a proxy, the events are subscribed to again. If the
+ * events cannot be received, for example because the daemon does not support
+ * them or the connection was lost, the given fallback is run so that the
+ * containers can be refreshed periodically instead.
+ */
+public class DockerEventMonitor extends Thread {
+
+	/**
+	 * Delay in milliseconds to wait for other events before updating the
+	 * containers and images.
+	 */
+	private static final long UPDATE_DELAY = 200;
+
+	/** Container actions which do not change the list of containers. */
+	private static final List<String> IGNORED_ACTIONS = Arrays.asList(
+			"attach", //$NON-NLS-1$
+			"detach", //$NON-NLS-1$
+			"resize", //$NON-NLS-1$
+			"top", //$NON-NLS-1$
+			"archive-path", //$NON-NLS-1$
+			"extract-to-dir", //$NON-NLS-1$
+			"export", //$NON-NLS-1$
+			"copy"); //$NON-NLS-1$
+
+	private static final String EXEC_ACTION_PREFIX = "exec_"; //$NON-NLS-1$
+
+	private final DockerConnection connection;
+	private final Runnable fallback;
+	private final UpdateJob updateJob;
+	private final Set<String> pendingContainers = new HashSet<>();
+	private boolean pendingImages;
+	private volatile boolean monitor = true;
+	private EventStream stream;
+
+	/**
+	 * Constructor
+	 *
+	 * @param connection
+	 *            the connection whose containers and images are updated
+	 * @param fallback
+	 *            the action to run if the events cannot be received
+	 */
+	public DockerEventMonitor(final DockerConnection connection,
+			final Runnable fallback) {
+		super("Docker events of " + connection.getName()); //$NON-NLS-1$
+		setDaemon(true);
+		this.connection = connection;
+		this.fallback = fallback;
+		this.updateJob = new UpdateJob();
+	}
+
+	public DockerConnection getConnection() {
+		return connection;
+	}
+
+	/**
+	 * Stops listening to the events of the Docker daemon, without running the
+	 * fallback.
+	 */
+	public void stopMonitoring() {
+		monitor = false;
+		updateJob.cancel();
+		closeStream();
+		interrupt();
+	}
+
+	@Override
+	public void run() {
+		DockerClient client = null;
+		Exception failure = null;
+		try {
+			client = connection.getEventsClient();
+			while (monitor && follow(client)) {
+				// the daemon sent nothing for too long, subscribe again
+			}
+		} catch (InterruptedException e) {
+			// stopped
+		} catch (Exception e) {
+			// the stream throws unchecked exceptions when the connection is
+			// lost
+			failure = e;
+		} finally {
+			closeStream();
+			if (client != null) {
+				connection.closeOperationToken(client);
+			}
+		}
+		if (monitor) {
+			Activator.log(new Status(IStatus.WARNING, Activator.PLUGIN_ID,
+					DockerMessages.getFormattedString("DockerEvents.error", //$NON-NLS-1$
+							connection.getName()),
+					failure));
+			monitor = false;
+			fallback.run();
+		}
+	}
+
+	/**
+	 * Subscribes to the events and handles them until the stream ends.
+	 *
+	 * @param client
+	 *            the client to subscribe with
+	 * @return <code>true</code> if reading the stream timed out and the events
+	 *         should be subscribed to again, <code>false</code> if the stream
+	 *         ended
+	 * @throws Exception
+	 *             if the events cannot be received
+	 */
+	private boolean follow(final DockerClient client) throws Exception {
+		final EventStream events = client.events(
+				EventsParam.type(Event.Type.CONTAINER),
+				EventsParam.type(Event.Type.IMAGE));
+		if (events == null) {
+			throw new DockerException(DockerMessages.getFormattedString(
+					"DockerEvents.error", connection.getName())); //$NON-NLS-1$
+		}
+		synchronized (this) {
+			stream = events;
+		}
+		try {
+			// catch up with the changes made before the subscription
+			if (monitor) {
+				connection.getContainers(true);
+			}
+			while (monitor && events.hasNext()) {
+				handleEvent(events.next());
+			}
+			return false;
+		} catch (RuntimeException e) {
+			if (monitor && isTimeout(e)) {
+				return true;
+			}
+			throw e;
+		} finally {
+			closeStream();
+		}
+	}
+
+	private static boolean isTimeout(final Throwable failure) {
+		for (Throwable t = failure; t != null; t = t.getCause()) {
+			if (t instanceof SocketTimeoutException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private synchronized void closeStream() {
+		if (stream != null) {
+			try {
+				stream.close();
+			} catch (RuntimeException e) {
+				// the connection is already closed
+			}
+			stream = null;
+		}
+	}
+
+	/**
+	 * Records the container or image mentioned in the given event and
+	 * schedules an update.
+	 *
+	 * @param event
+	 *            the event sent by the Docker daemon
+	 */
+	@SuppressWarnings("deprecation")
+	void handleEvent(final Event event) {
+		// older daemons only send the status and id of the event
+		final String action = event.action() != null ? event.action()
+				: event.status();
+		final Event.Type type = event.type();
+		synchronized (pendingContainers) {
+			if (type == Event.Type.IMAGE) {
+				pendingImages = true;
+			} else if (type == null || type == Event.Type.CONTAINER) {
+				if (action != null && (IGNORED_ACTIONS.contains(action)
+						|| action.startsWith(EXEC_ACTION_PREFIX))) {
+					return;
+				}
+				final String id = event.actor() != null
+						? event.actor().id()
+						: event.id();
+				if (id == null) {
+					return;
+				}
+				pendingContainers.add(id);
+			} else {
+				return;
+			}
+		}
+		// do not delay an update which is already waiting
+		final int state = updateJob.getState();
+		if (state != Job.WAITING && state != Job.SLEEPING) {
+			updateJob.schedule(UPDATE_DELAY);
+		}
+	}
+
+	/**
+	 * Updates the containers and images mentioned in the events received
+	 * since the previous run.
+	 */
+	private class UpdateJob extends Job {
+
+		public UpdateJob() {
+			super(DockerMessages.getFormattedString("DockerEventsJob.msg", //$NON-NLS-1$
+					connection.getName()));
+			setSystem(true);
+		}
+
+		@Override
+		protected IStatus run(final IProgressMonitor progressMonitor) {
+			final Set<String> ids;
+			final boolean images;
+			synchronized (pendingContainers) {
+				ids = new HashSet<>(pendingContainers);
+				pendingContainers.clear();
+				images = pendingImages;
+				pendingImages = false;
+			}
+			if (!monitor || progressMonitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			try {
+				connection.updateContainers(ids);
+			} catch (DockerException e) {
+				Activator.log(e);
+			}
+			if (images) {
+				// the qualifiers of an image depend on all the other images,
+				// so they are all listed again
+				connection.getImages(true);
+			}
+			return Status.OK_STATUS;
+		}
+	}
+}
@@ -13,7 +13,15 @@
 
 package org.eclipse.linuxtools.internal.docker.core;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.eclipse.linuxtools.docker.core.IDockerContainer;
 import org.eclipse.linuxtools.docker.core.IDockerImage;
@@ -27,19 +35,32 @@ public class DockerImageHierarchyNodeUtils {
 	public static IDockerImageHierarchyNode resolveImageHierarchy(
 			final List<IDockerImage> images,
 			final List<IDockerContainer> containers, final IDockerImage image) {
-		// recursively find all parents and build associated
-		// IDockerImageHierarchyNode instances
+		return resolveImageHierarchy(new DockerImageIndex(images), containers,
+				image);
+	}
+
+	public static IDockerImageHierarchyNode resolveImageHierarchy(
+			final List<IDockerImage> images,
+			final IDockerContainer container) {
+		return resolveImageHierarchy(new DockerImageIndex(images), container);
+	}
+
+	public static IDockerImageHierarchyNode resolveImageHierarchy(
+			final DockerImageIndex imageIndex,
+			final List<IDockerContainer> containers, final IDockerImage image) {
+		// find all parents and build associated IDockerImageHierarchyNode
+		// instances
 		final IDockerImageHierarchyNode parentImageNode = getImageParentImageNode(
-				images, image.parentId());
-		return getDockerImageHierarchyNode(images, containers, image,
+				imageIndex, image.parentId());
+		return getDockerImageHierarchyNode(imageIndex, containers, image,
 				parentImageNode);
 	}
 
 	public static IDockerImageHierarchyNode resolveImageHierarchy(
-			final List<IDockerImage> images,
+			final DockerImageIndex imageIndex,
 			final IDockerContainer container) {
 		final IDockerImageHierarchyNode parentImageNode = getContainerParentImageNode(
-				images, container.image());
+				imageIndex, container.image());
 		final DockerImageHierarchyNode dockerImageHierarchyNode = getDockerImageHierarchyNode(
 				container, parentImageNode);
 		return dockerImageHierarchyNode;
@@ -49,8 +70,8 @@ public class DockerImageHierarchyNodeUtils {
 	 * Resolves the parent {@link IDockerImageHierarchyNode} for an
 	 * {@link IDockerImage}.
 	 * 
-	 * @param images
-	 *            all existing {@link IDockerImage}
+	 * @param imageIndex
+	 *            the index of all existing {@link IDockerImage}
 	 * @param parentImageId
 	 *            the id of the parent {@link IDockerImage} to look-up
 	 * @return the {@link IDockerImageHierarchyNode} corresponding to the parent
@@ -58,26 +79,31 @@ public class DockerImageHierarchyNodeUtils {
 	 *         found.
 	 */
 	private static IDockerImageHierarchyNode getImageParentImageNode(
-			final List<IDockerImage> images, final String parentImageId) {
-		// recursively find all parents and build associated
-		// IDockerImageHierarchyNode instances
-		return images.stream().filter(image -> image.id().equals(parentImageId))
-				// parent image found: get its own parent image hierarchy
-				.map(parentImage -> new DockerImageHierarchyImageNode(
-						parentImage,
-						getImageParentImageNode(images,
-								parentImage.parentId())))
-				.findFirst()
-				// no parent image found: stop here.
-				.orElse(null);
+			final DockerImageIndex imageIndex, final String parentImageId) {
+		// collect the ancestors first, since the chain of parents of an image
+		// can be too long to be resolved recursively
+		final List<IDockerImage> ancestors = new ArrayList<>();
+		final Set<String> visited = new HashSet<>();
+		IDockerImage parentImage = imageIndex.getImage(parentImageId);
+		while (parentImage != null && visited.add(parentImage.id())) {
+			ancestors.add(parentImage);
+			parentImage = imageIndex.getImage(parentImage.parentId());
+		}
+		// then build the nodes from the root image
+		IDockerImageHierarchyNode parentNode = null;
+		for (int i = ancestors.size() - 1; i >= 0; i--) {
+			parentNode = new DockerImageHierarchyImageNode(ancestors.get(i),
+					parentNode);
+		}
+		return parentNode;
 	}
 
 	/**
 	 * Resolves the parent {@link IDockerImageHierarchyNode} for an
 	 * {@link IDockerContainer}.
 	 * 
-	 * @param images
-	 *            all existing {@link IDockerImage}
+	 * @param imageIndex
+	 *            the index of all existing {@link IDockerImage}
 	 * @param parentImageName
 	 *            the name of the parent {@link IDockerImage} to look-up
 	 * @return the {@link IDockerImageHierarchyNode} corresponding to the parent
@@ -85,56 +111,81 @@ public class DockerImageHierarchyNodeUtils {
 	 *         found.
 	 */
 	private static IDockerImageHierarchyNode getContainerParentImageNode(
-			final List<IDockerImage> images, final String parentImageName) {
-		// recursively find all parents and build associated
-		// IDockerImageHierarchyNode instances
-		return images.stream()
-				.filter(image -> image.repoTags().contains(parentImageName))
-				// parent image found: get its own parent image hierarchy
-				.map(parentImage -> new DockerImageHierarchyImageNode(
-						parentImage,
-						getImageParentImageNode(images, parentImage.parentId())))
-				.findFirst()
-				// no parent image found: stop here.
-				.orElse(null);
+			final DockerImageIndex imageIndex, final String parentImageName) {
+		final IDockerImage parentImage = imageIndex
+				.getImageByRepoTag(parentImageName);
+		if (parentImage == null) {
+			// no parent image found: stop here.
+			return null;
+		}
+		// parent image found: get its own parent image hierarchy
+		return new DockerImageHierarchyImageNode(parentImage,
+				getImageParentImageNode(imageIndex, parentImage.parentId()));
 	}
 
 	private static DockerImageHierarchyNode getDockerImageHierarchyNode(
-			final List<IDockerImage> images,
+			final DockerImageIndex imageIndex,
 			final List<IDockerContainer> containers, final IDockerImage image,
 			final IDockerImageHierarchyNode parentImageNode) {
 		final DockerImageHierarchyNode imageNode = new DockerImageHierarchyImageNode(
 				image, parentImageNode);
-		// also includes all children images/containers, recursively
-		resolveChildrenImageNodes(images, containers, image.id(),
-				image.repoTags(), imageNode);
+		// also includes all children images/containers
+		resolveChildrenImageNodes(imageIndex, containers, image, imageNode);
 		return imageNode;
 	}
 
 	private static void resolveChildrenImageNodes(
-			final List<IDockerImage> images,
-			final List<IDockerContainer> containers, final String imageId,
-			final List<String> imageRepoTags,
-			final IDockerImageHierarchyNode parentNode) {
-		// recursively find all parents and build associated
-		// IDockerImageHierarchyNode instances
-		images.stream().filter(image -> image.parentId() != null
-				&& image.parentId().equals(imageId))
-				// use the flatMap below to duplicate images that have multiple repos
-				//.flatMap(image -> DockerImage.duplicateImageByRepo(image))
-				.forEach(image -> {
-					final DockerImageHierarchyNode childNode = new DockerImageHierarchyImageNode(
-							image, parentNode);
-					resolveChildrenImageNodes(images, containers, image.id(),
-							image.repoTags(),
-							childNode);
-				});
-		containers.stream()
-				.filter(container -> container.image() != null
-						&& imageRepoTags.contains(container.image()))
-				.forEach(container -> new DockerImageHierarchyContainerNode(
-						container,
-						parentNode));
+			final DockerImageIndex imageIndex,
+			final List<IDockerContainer> containers, final IDockerImage image,
+			final IDockerImageHierarchyNode imageNode) {
+		// index the positions of the containers by image name once for the
+		// whole hierarchy
+		final Map<String, List<Integer>> containersByImage = new HashMap<>();
+		if (containers != null) {
+			for (int i = 0; i < containers.size(); i++) {
+				final String imageName = containers.get(i).image();
+				if (imageName != null) {
+					containersByImage
+							.computeIfAbsent(imageName,
+									name -> new ArrayList<>(1))
+							.add(i);
+				}
+			}
+		}
+		// walk down the children images with a stack rather than recursively,
+		// since the hierarchy can be deep
+		final Deque<IDockerImageHierarchyNode> pending = new ArrayDeque<>();
+		final Set<String> visited = new HashSet<>();
+		visited.add(image.id());
+		pending.push(imageNode);
+		while (!pending.isEmpty()) {
+			final IDockerImageHierarchyNode parentNode = pending.pop();
+			final IDockerImage parentImage = (IDockerImage) parentNode
+					.getElement();
+			for (IDockerImage childImage : imageIndex
+					.getChildren(parentImage.id())) {
+				if (visited.add(childImage.id())) {
+					pending.push(new DockerImageHierarchyImageNode(childImage,
+							parentNode));
+				}
+			}
+			final List<String> repoTags = parentImage.repoTags();
+			if (repoTags == null) {
+				continue;
+			}
+			// keep the order of the list of containers
+			final Set<Integer> imageContainers = new TreeSet<>();
+			for (String repoTag : repoTags) {
+				final List<Integer> positions = containersByImage.get(repoTag);
+				if (positions != null) {
+					imageContainers.addAll(positions);
+				}
+			}
+			for (Integer position : imageContainers) {
+				new DockerImageHierarchyContainerNode(
+						containers.get(position), parentNode);
+			}
+		}
 	}
 
 	private static DockerImageHierarchyNode getDockerImageHierarchyNode(
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat - Initial Contribution
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.internal.docker.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.linuxtools.docker.core.IDockerImage;
+
+/**
+ * Index of the {@link IDockerImage} of a connection by id, by parent id and by
+ * repo tag, built once each time the images are listed so that qualifiers and
+ * image hierarchies can be resolved without scanning all the images for each
+ * of them.
+ */
+public class DockerImageIndex {
+
+	/** an index of no image */
+	public static final DockerImageIndex EMPTY = new DockerImageIndex(
+			Collections.emptyList());
+
+	private final List<IDockerImage> images;
+	private final Map<String, IDockerImage> imagesById;
+	private final Map<String, List<IDockerImage>> childrenByParentId;
+	private final Map<String, IDockerImage> imagesByRepoTag;
+
+	/**
+	 * Constructor
+	 *
+	 * @param images
+	 *            all the images of a connection
+	 */
+	public DockerImageIndex(final List<IDockerImage> images) {
+		this.images = images;
+		this.imagesById = new HashMap<>(images.size() * 2);
+		this.childrenByParentId = new HashMap<>();
+		this.imagesByRepoTag = new HashMap<>(images.size() * 2);
+		for (IDockerImage image : images) {
+			// keep the first image like a search in the list would do
+			imagesById.putIfAbsent(image.id(), image);
+			if (image.parentId() != null) {
+				childrenByParentId
+						.computeIfAbsent(image.parentId(),
+								id -> new ArrayList<>(1))
+						.add(image);
+			}
+			if (image.repoTags() != null) {
+				for (String repoTag : image.repoTags()) {
+					imagesByRepoTag.putIfAbsent(repoTag, image);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return all the indexed images
+	 */
+	public List<IDockerImage> getImages() {
+		return images;
+	}
+
+	/**
+	 * @param id
+	 *            the id of an image
+	 * @return the image with the given id or <code>null</code> if none was
+	 *         found
+	 */
+	public IDockerImage getImage(final String id) {
+		return id == null ? null : imagesById.get(id);
+	}
+
+	/**
+	 * @param repoTag
+	 *            a repo tag, such as {@code foo:latest}
+	 * @return the first image with the given repo tag or <code>null</code> if
+	 *         none was found
+	 */
+	public IDockerImage getImageByRepoTag(final String repoTag) {
+		return repoTag == null ? null : imagesByRepoTag.get(repoTag);
+	}
+
+	/**
+	 * @param id
+	 *            the id of an image
+	 * @return the images whose parent is the given image, in the order of the
+	 *         indexed list
+	 */
+	public List<IDockerImage> getChildren(final String id) {
+		final List<IDockerImage> children = childrenByParentId.get(id);
+		return children == null ? Collections.emptyList() : children;
+	}
+
+	/**
+	 * @param id
+	 *            the id of an image
+	 * @return <code>true</code> if at least one image has the given image as
+	 *         its parent
+	 */
+	public boolean hasChildren(final String id) {
+		return childrenByParentId.containsKey(id);
+	}
+}
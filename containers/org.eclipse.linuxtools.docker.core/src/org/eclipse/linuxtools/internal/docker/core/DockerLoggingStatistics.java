@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat - Initial Contribution
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.docker.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.linuxtools.docker.core.EnumDockerLoggingStatus;
+
+/**
+ * A snapshot of the throughput and lag of the logs followed for one or all
+ * the containers of a connection.
+ */
+public class DockerLoggingStatistics {
+
+	/** statistics of a connection which does not follow any log */
+	public static final DockerLoggingStatistics NONE = new DockerLoggingStatistics(
+			EnumDockerLoggingStatus.LOGGING_NONE, 0, 0, 0, 0, 0, -1);
+
+	private final EnumDockerLoggingStatus status;
+	private final int activeLogs;
+	private final long bytes;
+	private final long frames;
+	private final long elapsedNanos;
+	private final long blockedNanos;
+	private final long lagMillis;
+
+	/**
+	 * Constructor
+	 *
+	 * @param status
+	 *            the status of the logging
+	 * @param activeLogs
+	 *            the number of logs which are still followed
+	 * @param bytes
+	 *            the number of bytes written to the output streams
+	 * @param frames
+	 *            the number of frames read from the Docker daemon
+	 * @param elapsedNanos
+	 *            the time spent following the logs
+	 * @param blockedNanos
+	 *            the time spent waiting for the output streams to accept the
+	 *            frames
+	 * @param lagMillis
+	 *            the largest delay between the timestamp of the last frame
+	 *            and its display, or <code>-1</code> if unknown
+	 */
+	public DockerLoggingStatistics(final EnumDockerLoggingStatus status,
+			final int activeLogs, final long bytes, final long frames,
+			final long elapsedNanos, final long blockedNanos,
+			final long lagMillis) {
+		this.status = status;
+		this.activeLogs = activeLogs;
+		this.bytes = bytes;
+		this.frames = frames;
+		this.elapsedNanos = elapsedNanos;
+		this.blockedNanos = blockedNanos;
+		this.lagMillis = lagMillis;
+	}
+
+	/**
+	 * Combines these statistics with the given ones.
+	 *
+	 * @param other
+	 *            the statistics of other logs
+	 * @return the aggregated statistics
+	 */
+	public DockerLoggingStatistics add(final DockerLoggingStatistics other) {
+		final EnumDockerLoggingStatus aggregatedStatus;
+		if (this.status == EnumDockerLoggingStatus.LOGGING_ACTIVE
+				|| other.status == EnumDockerLoggingStatus.LOGGING_ACTIVE) {
+			aggregatedStatus = EnumDockerLoggingStatus.LOGGING_ACTIVE;
+		} else if (this.status == EnumDockerLoggingStatus.LOGGING_COMPLETE
+				|| other.status == EnumDockerLoggingStatus.LOGGING_COMPLETE) {
+			aggregatedStatus = EnumDockerLoggingStatus.LOGGING_COMPLETE;
+		} else {
+			aggregatedStatus = EnumDockerLoggingStatus.LOGGING_NONE;
+		}
+		return new DockerLoggingStatistics(aggregatedStatus,
+				this.activeLogs + other.activeLogs, this.bytes + other.bytes,
+				this.frames + other.frames,
+				Math.max(this.elapsedNanos, other.elapsedNanos),
+				this.blockedNanos + other.blockedNanos,
+				Math.max(this.lagMillis, other.lagMillis));
+	}
+
+	/**
+	 * @return the status of the logging, which is
+	 *         {@link EnumDockerLoggingStatus#LOGGING_ACTIVE} if at least one
+	 *         log is still followed
+	 */
+	public EnumDockerLoggingStatus getStatus() {
+		return status;
+	}
+
+	/**
+	 * @return the number of logs which are still followed
+	 */
+	public int getActiveLogs() {
+		return activeLogs;
+	}
+
+	/**
+	 * @return the number of bytes written to the output streams
+	 */
+	public long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * @return the number of frames read from the Docker daemon
+	 */
+	public long getFrames() {
+		return frames;
+	}
+
+	/**
+	 * @return the number of bytes written per second
+	 */
+	public double getBytesPerSecond() {
+		if (elapsedNanos <= 0) {
+			return 0;
+		}
+		return bytes * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+	}
+
+	/**
+	 * @return the time in milliseconds spent waiting for the output streams
+	 *         to accept the frames, that is the time during which the logs
+	 *         were not read because of backpressure
+	 */
+	public long getBlockedMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(blockedNanos);
+	}
+
+	/**
+	 * @return the largest delay in milliseconds between the timestamp of the
+	 *         last frame of a log and its display, or <code>-1</code> if the
+	 *         logs have no timestamps
+	 */
+	public long getLagMillis() {
+		return lagMillis;
+	}
+
+	@Override
+	public String toString() {
+		return "DockerLoggingStatistics [status=" + status + ", activeLogs=" //$NON-NLS-1$ //$NON-NLS-2$
+				+ activeLogs + ", bytes=" + bytes + ", frames=" + frames //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", blockedMillis=" + getBlockedMillis() + ", lagMillis=" //$NON-NLS-1$ //$NON-NLS-2$
+				+ lagMillis + "]"; //$NON-NLS-1$
+	}
+}
@@ -88,6 +88,8 @@ public class MockDockerConnection {
 				Mockito.when(dockerClientFactory.getClient(ArgumentMatchers.any())).thenReturn(dockerClient);
 				// return same dockerClient with auth arg
 				Mockito.when(dockerClientFactory.getClient(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(dockerClient);
+				// return same dockerClient to follow the events
+				Mockito.when(dockerClientFactory.getEventsClient(ArgumentMatchers.any())).thenReturn(dockerClient);
 			} catch (DockerCertificateException e) {
 				// rest assured, nothing will happen while mocking the
 				// DockerClientFactory
@@ -17,10 +17,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.linuxtools.docker.core.DockerException;
 import org.eclipse.linuxtools.docker.core.EnumDockerConnectionState;
+import org.eclipse.linuxtools.docker.core.EnumDockerLoggingStatus;
 import org.eclipse.linuxtools.docker.core.IDockerContainer;
 import org.eclipse.linuxtools.docker.core.IDockerImage;
 import org.eclipse.linuxtools.internal.docker.ui.testutils.MockContainerFactory;
@@ -28,11 +36,16 @@ import org.eclipse.linuxtools.internal.docker.ui.testutils.MockDockerClientFacto
 import org.eclipse.linuxtools.internal.docker.ui.testutils.MockDockerConnectionFactory;
 import org.eclipse.linuxtools.internal.docker.ui.testutils.MockImageFactory;
 import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
 
 import com.spotify.docker.client.DockerClient;
+import com.spotify.docker.client.LogStream;
 import com.spotify.docker.client.exceptions.DockerCertificateException;
 import com.spotify.docker.client.messages.Container;
+import com.spotify.docker.client.messages.ContainerInfo;
 import com.spotify.docker.client.messages.Image;
+import com.spotify.docker.client.messages.LogMessage;
 
 /**
  * Testing the {@link DockerConnection} class.
@@ -103,4 +116,46 @@ public class DockerConnectionTest {
 		assertThat(dockerConnection.getState()).isEqualTo(EnumDockerConnectionState.CLOSED);
 	}
 
+	@Test
+	public void shouldWriteLogAndReportStatistics() throws Exception {
+		// given
+		final String line = "2019-01-01T00:00:00.000000000Z hello\n";
+		final DockerClient client = MockDockerClientFactory.build();
+		final ContainerInfo containerInfo = Mockito.mock(ContainerInfo.class, Mockito.RETURNS_DEEP_STUBS);
+		Mockito.when(client.inspectContainer("foo")).thenReturn(containerInfo);
+		final LogStream logStream = Mockito.mock(LogStream.class);
+		Mockito.when(logStream.hasNext()).thenReturn(true, true, false);
+		Mockito.when(logStream.next()).thenAnswer(invocation -> new LogMessage(LogMessage.Stream.STDOUT,
+				ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8))));
+		Mockito.when(client.logs(ArgumentMatchers.anyString(), ArgumentMatchers.any())).thenReturn(logStream);
+		final DockerConnection dockerConnection = MockDockerConnectionFactory.from("Test", client)
+				.withDefaultTCPConnectionSettings();
+		dockerConnection.open(false);
+		// the logging thread closes the output stream when it is done
+		final CountDownLatch closed = new CountDownLatch(1);
+		final AtomicReference<Thread> loggingThread = new AtomicReference<>();
+		final ByteArrayOutputStream output = new ByteArrayOutputStream() {
+			@Override
+			public void close() throws IOException {
+				super.close();
+				loggingThread.set(Thread.currentThread());
+				closed.countDown();
+			}
+		};
+		// when
+		dockerConnection.logContainer("foo", output);
+		assertTrue(closed.await(10, TimeUnit.SECONDS));
+		loggingThread.get().join(TimeUnit.SECONDS.toMillis(10));
+		// then
+		assertThat(dockerConnection.loggingStatus("foo")).isEqualTo(EnumDockerLoggingStatus.LOGGING_COMPLETE);
+		assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(line + line);
+		final DockerLoggingStatistics statistics = dockerConnection.loggingStatistics();
+		assertThat(statistics.getStatus()).isEqualTo(EnumDockerLoggingStatus.LOGGING_COMPLETE);
+		assertThat(statistics.getActiveLogs()).isEqualTo(0);
+		assertThat(statistics.getFrames()).isEqualTo(2);
+		assertThat(statistics.getBytes()).isEqualTo(2 * line.length());
+		assertThat(statistics.getLagMillis()).isGreaterThan(0);
+		Mockito.verify(logStream).close();
+	}
+
 }
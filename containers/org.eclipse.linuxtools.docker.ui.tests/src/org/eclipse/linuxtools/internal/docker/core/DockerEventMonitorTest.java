@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat - Initial Contribution
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.internal.docker.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.linuxtools.docker.core.IDockerConnection;
+import org.eclipse.linuxtools.docker.core.IDockerContainer;
+import org.eclipse.linuxtools.docker.core.IDockerContainerListener2;
+import org.eclipse.linuxtools.internal.docker.ui.testutils.MockContainerFactory;
+import org.eclipse.linuxtools.internal.docker.ui.testutils.MockDockerClientFactory;
+import org.eclipse.linuxtools.internal.docker.ui.testutils.MockDockerConnectionFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.spotify.docker.client.DockerClient;
+import com.spotify.docker.client.EventStream;
+import com.spotify.docker.client.messages.Container;
+import com.spotify.docker.client.messages.Event;
+
+/**
+ * Testing the {@link DockerEventMonitor} class.
+ */
+public class DockerEventMonitorTest {
+
+	private final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+	private final BlockingQueue<List<String>> notifications = new LinkedBlockingQueue<>();
+	private final CountDownLatch listening = new CountDownLatch(1);
+	private final CountDownLatch fallback = new CountDownLatch(1);
+	private final List<Container> containers = new CopyOnWriteArrayList<>();
+	private DockerClient client;
+	private DockerConnection dockerConnection;
+	private DockerEventMonitor eventMonitor;
+
+	@Before
+	public void setUp() throws Exception {
+		client = MockDockerClientFactory.build();
+		Mockito.when(client.listContainers(ArgumentMatchers.any()))
+				.thenAnswer(invocation -> new ArrayList<>(containers));
+		final EventStream eventStream = mockEventStream();
+		Mockito.when(client.events(ArgumentMatchers.any()))
+				.thenReturn(eventStream);
+		containers.add(MockContainerFactory.id("foo").name("foo").build());
+		dockerConnection = MockDockerConnectionFactory.from("Test", client)
+				.withDefaultTCPConnectionSettings();
+		// remove the DockerContainerRefreshManager
+		dockerConnection.removeContainerListener(
+				DockerContainerRefreshManager.getInstance());
+		dockerConnection.open(false);
+		dockerConnection.getContainers();
+		dockerConnection.addContainerListener(new IDockerContainerListener2() {
+
+			@Override
+			public void listChanged(final IDockerConnection connection,
+					final List<IDockerContainer> list) {
+				// only the changes are recorded
+			}
+
+			@Override
+			public void containersChanged(final IDockerConnection connection,
+					final List<IDockerContainer> list,
+					final List<IDockerContainer> changed,
+					final List<String> removed) {
+				final List<String> notification = new ArrayList<>();
+				changed.forEach(c -> notification.add("+" + c.id()));
+				removed.forEach(id -> notification.add("-" + id));
+				notifications.add(notification);
+			}
+		});
+		eventMonitor = new DockerEventMonitor(dockerConnection,
+				() -> fallback.countDown());
+		eventMonitor.start();
+		// wait until the containers were listed after the subscription
+		assertThat(listening.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@After
+	public void tearDown() {
+		eventMonitor.stopMonitoring();
+	}
+
+	private EventStream mockEventStream() {
+		final EventStream eventStream = Mockito.mock(EventStream.class);
+		final Object[] next = new Object[1];
+		Mockito.when(eventStream.hasNext()).thenAnswer(invocation -> {
+			listening.countDown();
+			next[0] = events.take();
+			if (next[0] instanceof RuntimeException) {
+				throw (RuntimeException) next[0];
+			}
+			return true;
+		});
+		Mockito.when(eventStream.next()).thenAnswer(invocation -> next[0]);
+		return eventStream;
+	}
+
+	private static Event event(final Event.Type type, final String action,
+			final String id) {
+		final Event event = Mockito.mock(Event.class);
+		final Event.Actor actor = Mockito.mock(Event.Actor.class);
+		Mockito.when(actor.id()).thenReturn(id);
+		Mockito.when(event.type()).thenReturn(type);
+		Mockito.when(event.action()).thenReturn(action);
+		Mockito.when(event.actor()).thenReturn(actor);
+		return event;
+	}
+
+	@Test
+	public void shouldNotifyAddedContainer() throws InterruptedException {
+		// given
+		containers.add(MockContainerFactory.id("bar").name("bar").build());
+		// when
+		events.add(event(Event.Type.CONTAINER, "create", "bar"));
+		events.add(event(Event.Type.CONTAINER, "start", "bar"));
+		// then both events are handled together
+		assertThat(notifications.poll(5, TimeUnit.SECONDS))
+				.containsExactly("+bar");
+		assertThat(dockerConnection.getContainers()).hasSize(2);
+	}
+
+	@Test
+	public void shouldNotifyRemovedContainer() throws InterruptedException {
+		// given
+		containers.clear();
+		// when
+		events.add(event(Event.Type.CONTAINER, "destroy", "foo"));
+		// then
+		assertThat(notifications.poll(5, TimeUnit.SECONDS))
+				.containsExactly("-foo");
+		assertThat(dockerConnection.getContainers()).isEmpty();
+	}
+
+	@Test
+	public void shouldIgnoreExecEvents() throws InterruptedException {
+		// when
+		events.add(event(Event.Type.CONTAINER, "exec_start: sh", "foo"));
+		events.add(event(Event.Type.CONTAINER, "resize", "foo"));
+		// then
+		assertThat(notifications.poll(1, TimeUnit.SECONDS)).isNull();
+	}
+
+	@Test
+	public void shouldFallBackWhenStreamFails() throws InterruptedException {
+		// when
+		events.add(new IllegalStateException("connection lost"));
+		// then
+		assertThat(fallback.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	public void shouldResubscribeWhenStreamTimesOut() throws Exception {
+		// given
+		containers.add(MockContainerFactory.id("bar").name("bar").build());
+		// when the idle daemon sent nothing before the read timed out
+		events.add(new RuntimeException(
+				new SocketTimeoutException("Read timed out")));
+		events.add(event(Event.Type.CONTAINER, "create", "bar"));
+		// then the events are still received
+		assertThat(notifications.poll(5, TimeUnit.SECONDS))
+				.containsExactly("+bar");
+		Mockito.verify(client, Mockito.timeout(5000).times(2))
+				.events(ArgumentMatchers.any());
+		assertThat(fallback.getCount()).isEqualTo(1);
+	}
+}
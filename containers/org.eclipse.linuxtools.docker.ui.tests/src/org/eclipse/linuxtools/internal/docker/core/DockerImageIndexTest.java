@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat - Initial Contribution
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.internal.docker.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.linuxtools.docker.core.DockerException;
+import org.eclipse.linuxtools.docker.core.IDockerContainer;
+import org.eclipse.linuxtools.docker.core.IDockerImage;
+import org.eclipse.linuxtools.docker.core.IDockerImageHierarchyNode;
+import org.eclipse.linuxtools.internal.docker.core.DockerImage.DockerImageQualifier;
+import org.eclipse.linuxtools.internal.docker.ui.testutils.MockDockerClientFactory;
+import org.eclipse.linuxtools.internal.docker.ui.testutils.MockDockerConnectionFactory;
+import org.eclipse.linuxtools.internal.docker.ui.testutils.MockImageFactory;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.spotify.docker.client.DockerClient;
+import com.spotify.docker.client.messages.Image;
+
+/**
+ * Testing the {@link DockerImageIndex} class and its use to resolve the
+ * qualifiers and the hierarchies of images, on synthetic image graphs.
+ */
+public class DockerImageIndexTest {
+
+	/** number of base images */
+	private static final int BASES = 50;
+	/** number of layers above each base image */
+	private static final int LAYERS = 200;
+	/** every n-th layer is tagged */
+	private static final int TAGGED = 10;
+
+	private static String id(final int base, final int layer) {
+		return String.format("sha256:%04d%04d", base, layer);
+	}
+
+	private static String tag(final int base, final int layer) {
+		return "app" + base + ":" + layer;
+	}
+
+	/**
+	 * @return chains of {@link #LAYERS} layers above {@link #BASES} base
+	 *         images, with one tagged layer out of {@link #TAGGED}
+	 */
+	private static List<IDockerImage> imageGraph() {
+		final List<IDockerImage> images = new ArrayList<>();
+		for (int base = 0; base < BASES; base++) {
+			for (int layer = 0; layer <= LAYERS; layer++) {
+				final List<String> repoTags = layer % TAGGED == 0
+						? Arrays.asList(tag(base, layer))
+						: Arrays.asList("<none>:<none>");
+				images.add(new DockerImage(null, repoTags, "app" + base,
+						Collections.singletonList(Integer.toString(layer)),
+						id(base, layer),
+						layer == 0 ? "" : id(base, layer - 1), null, 0L, 0L,
+						DockerImageQualifier.TOP_LEVEL));
+			}
+		}
+		return images;
+	}
+
+	private static IDockerContainer container(final String id,
+			final String image) {
+		final IDockerContainer container = Mockito
+				.mock(IDockerContainer.class);
+		Mockito.when(container.id()).thenReturn(id);
+		Mockito.when(container.image()).thenReturn(image);
+		return container;
+	}
+
+	@Test
+	public void shouldIndexImages() {
+		// given
+		final List<IDockerImage> images = imageGraph();
+		// when
+		final DockerImageIndex index = new DockerImageIndex(images);
+		// then
+		assertThat(index.getImage(id(3, 7)).id()).isEqualTo(id(3, 7));
+		assertThat(index.getImageByRepoTag(tag(3, 20)).id())
+				.isEqualTo(id(3, 20));
+		assertThat(index.getChildren(id(3, 7))).extracting("id")
+				.containsExactly(id(3, 8));
+		assertThat(index.hasChildren(id(3, 7))).isTrue();
+		assertThat(index.hasChildren(id(3, LAYERS))).isFalse();
+		assertThat(index.getImage("unknown")).isNull();
+	}
+
+	@Test
+	public void shouldResolveDeepImageHierarchy() {
+		// given
+		final DockerImageIndex index = new DockerImageIndex(imageGraph());
+		final List<IDockerContainer> containers = Arrays.asList(
+				container("c1", tag(1, 100)), container("c2", tag(1, 190)),
+				container("c3", tag(2, 100)));
+		// when
+		final IDockerImageHierarchyNode node = DockerImageHierarchyNodeUtils
+				.resolveImageHierarchy(index, containers,
+						index.getImage(id(1, 100)));
+		// then all the parents are resolved
+		int depth = 0;
+		for (IDockerImageHierarchyNode parent = node
+				.getParent(); parent != null; parent = parent.getParent()) {
+			depth++;
+		}
+		assertThat(depth).isEqualTo(100);
+		// and the container comes after the child image
+		assertThat(node.getChildren()).hasSize(2);
+		assertThat(node.getChildren().get(0).getElement())
+				.isSameAs(index.getImage(id(1, 101)));
+		assertThat(node.getChildren().get(1).getElement())
+				.isSameAs(containers.get(0));
+		// and all the children are resolved
+		IDockerImageHierarchyNode child = node;
+		for (int layer = 101; layer <= LAYERS; layer++) {
+			child = child.getChild(id(1, layer));
+			assertThat(child).isNotNull();
+		}
+		assertThat(child.getChild("c2")).isNull();
+	}
+
+	@Test
+	public void shouldResolveContainerHierarchy() {
+		// given
+		final DockerImageIndex index = new DockerImageIndex(imageGraph());
+		// when
+		final IDockerImageHierarchyNode node = DockerImageHierarchyNodeUtils
+				.resolveImageHierarchy(index, container("c1", tag(4, 50)));
+		// then
+		assertThat(((IDockerImage) node.getParent().getElement()).id())
+				.isEqualTo(id(4, 50));
+		assertThat(node.getRoot().getElement())
+				.isSameAs(index.getImage(id(4, 0)));
+	}
+
+	/**
+	 * Lists and qualifies the images of a synthetic image graph, and resolves
+	 * the hierarchy of one of its base images.
+	 */
+	@Test
+	public void shouldListImageGraph() throws DockerException {
+		// given
+		final Image[] nativeImages = new Image[BASES * (LAYERS + 1)];
+		int i = 0;
+		for (int base = 0; base < BASES; base++) {
+			for (int layer = 0; layer <= LAYERS; layer++) {
+				final MockImageFactory.Builder builder = MockImageFactory
+						.id(id(base, layer))
+						.parentId(layer == 0 ? "" : id(base, layer - 1));
+				if (layer % TAGGED == 0) {
+					builder.name(tag(base, layer));
+				}
+				nativeImages[i++] = builder.build();
+			}
+		}
+		final DockerClient client = MockDockerClientFactory
+				.images(nativeImages).build();
+		final DockerConnection dockerConnection = MockDockerConnectionFactory
+				.from("Test", client).withDefaultTCPConnectionSettings();
+		dockerConnection.open(false);
+		// when
+		final List<IDockerImage> images = dockerConnection.listImages();
+		final IDockerImageHierarchyNode node = dockerConnection
+				.resolveImageHierarchy(
+						dockerConnection.getImageIndex().getImage(id(0, 0)));
+		// then
+		assertThat(images).hasSize(nativeImages.length);
+		final DockerImageIndex index = dockerConnection.getImageIndex();
+		assertThat(index.getImage(id(0, 5)).isIntermediateImage()).isTrue();
+		assertThat(index.getImage(id(0, TAGGED)).isIntermediateImage())
+				.isFalse();
+		assertThat(index.getImage(id(0, LAYERS)).isIntermediateImage())
+				.isFalse();
+		assertThat(index.getImage(id(0, LAYERS)).isDangling()).isFalse();
+		assertThat(node.getParent()).isNull();
+		assertThat(node.getChildren()).hasSize(1);
+		// and all the layers above the base image are resolved
+		IDockerImageHierarchyNode child = node;
+		for (int layer = 1; layer <= LAYERS; layer++) {
+			child = child.getChild(id(0, layer));
+			assertThat(child).isNotNull();
+		}
+		assertThat(child.getChildren()).isEmpty();
+	}
+}
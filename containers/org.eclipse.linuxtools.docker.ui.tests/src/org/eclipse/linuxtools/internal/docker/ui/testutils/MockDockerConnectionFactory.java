@@ -86,6 +86,8 @@ public class MockDockerConnectionFactory {
 				// return same dockerClient with auth arg
 				Mockito.when(dockerClientFactory.getClient(ArgumentMatchers.any(), ArgumentMatchers.any()))
 						.thenReturn(dockerClient);
+				// return same dockerClient to follow the events
+				Mockito.when(dockerClientFactory.getEventsClient(ArgumentMatchers.any())).thenReturn(dockerClient);
 			} catch (DockerCertificateException e) {
 				// rest assured, nothing will happen while mocking the DockerClientFactory
 			}
@@ -15,8 +15,10 @@ package org.eclipse.linuxtools.internal.docker.ui.views;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.linuxtools.docker.core.IDockerContainer;
 import org.eclipse.linuxtools.internal.docker.core.DockerConnection;
 import org.eclipse.linuxtools.internal.docker.core.DockerContainerRefreshManager;
 import org.eclipse.linuxtools.internal.docker.ui.testutils.MockContainerFactory;
@@ -213,4 +215,32 @@ public class DockerContainersViewSWTBotTest {
 				.hasId("org.eclipse.linuxtools.docker.ui.properties.container.info");
 	}
 
+	@Test
+	public void shouldUpdateChangedContainersOnly() {
+		// given
+		final DockerClient client = MockDockerClientFactory
+				.container(MockContainerFactory.name("gentle_foo").status("Running").build())
+				.container(MockContainerFactory.name("angry_bar").status("Running").build()).build();
+		final DockerConnection dockerConnection = MockDockerConnectionFactory.from("Test", client)
+				.withDefaultTCPConnectionSettings();
+		DockerConnectionManagerUtils.configureConnectionManager(dockerConnection);
+		SWTUtils.getTreeItem(dockerExplorerBotView, "Test").select();
+		selectContainerInTable("angry_bar");
+		final IDockerContainer gentleFoo = dockerConnection.getContainers().stream()
+				.filter(c -> c.name().equals("gentle_foo")).findFirst().get();
+		final IDockerContainer angryBar = dockerConnection.getContainers().stream()
+				.filter(c -> c.name().equals("angry_bar")).findFirst().get();
+		// when 'gentle_foo' is removed and 'angry_bar' is updated
+		dockerConnection.notifyContainerListeners(Arrays.asList(angryBar), Arrays.asList(angryBar),
+				Arrays.asList(gentleFoo.id()));
+		// then only 'angry_bar' is left, and still selected
+		SWTUtils.syncAssert(() -> {
+			final TableItem[] containers = dockerContainersView.getViewer().getTable().getItems();
+			assertThat(containers).hasSize(1);
+			assertThat(containers[0].getText(0)).isEqualTo("angry_bar");
+			assertThat(dockerContainersView.getViewer().getStructuredSelection().toList())
+					.containsExactly(angryBar);
+		});
+	}
+
 }
@@ -55,7 +55,7 @@ import org.eclipse.linuxtools.docker.core.EnumDockerStatus;
 import org.eclipse.linuxtools.docker.core.IDockerConnection;
 import org.eclipse.linuxtools.docker.core.IDockerConnectionManagerListener;
 import org.eclipse.linuxtools.docker.core.IDockerContainer;
-import org.eclipse.linuxtools.docker.core.IDockerContainerListener;
+import org.eclipse.linuxtools.docker.core.IDockerContainerListener2;
 import org.eclipse.linuxtools.docker.core.IDockerImage;
 import org.eclipse.linuxtools.docker.core.IDockerPortMapping;
 import org.eclipse.linuxtools.docker.ui.Activator;
@@ -73,6 +73,7 @@ import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.swt.widgets.TableItem;
 import org.eclipse.swt.widgets.Text;
 import org.eclipse.ui.ISelectionListener;
 import org.eclipse.ui.IWorkbenchPart;
@@ -85,7 +86,7 @@ import org.eclipse.ui.views.properties.tabbed.ITabbedPropertySheetPageContributo
 import org.eclipse.ui.views.properties.tabbed.TabbedPropertySheetPage;
 
 public class DockerContainersView extends ViewPart implements
-		IDockerContainerListener, ISelectionListener,
+		IDockerContainerListener2, ISelectionListener,
 		ITabbedPropertySheetPageContributor, IDockerConnectionManagerListener {
 
 	private static final String TOGGLE_STATE = "org.eclipse.ui.commands.toggleState"; //$NON-NLS-1$
@@ -541,6 +542,67 @@ public class DockerContainersView extends ViewPart implements
 		}
 	}
 	
+	@Override
+	public void containersChanged(final IDockerConnection connection,
+			final List<IDockerContainer> containers,
+			final List<IDockerContainer> changed, final List<String> removed) {
+		Display.getDefault().asyncExec(() -> {
+			if (DockerContainersView.this.viewer != null
+					&& !DockerContainersView.this.viewer.getTable()
+							.isDisposed()) {
+				setLabelFilterIds();
+				updateContainers(changed, removed);
+				refreshViewTitle();
+				updateToolBarItemEnablement(DockerContainersView.this.viewer
+						.getStructuredSelection());
+			}
+		});
+	}
+
+	/**
+	 * Replaces the rows of the given containers only, rather than refreshing
+	 * the whole table. The changed containers are removed and added again so
+	 * that the filters and the sort order apply to their new state, and
+	 * those which were selected are selected again.
+	 *
+	 * @param changed
+	 *            the containers which were added or updated
+	 * @param removed
+	 *            the ids of the containers which were removed
+	 */
+	private void updateContainers(final List<IDockerContainer> changed,
+			final List<String> removed) {
+		final Set<String> ids = new HashSet<>(removed);
+		for (IDockerContainer container : changed) {
+			ids.add(container.id());
+		}
+		final Set<String> selectedIds = new HashSet<>();
+		for (Object element : this.viewer.getStructuredSelection()
+				.toList()) {
+			selectedIds.add(((IDockerContainer) element).id());
+		}
+		final List<Object> stale = new ArrayList<>();
+		for (TableItem item : this.viewer.getTable().getItems()) {
+			if (item.getData() instanceof IDockerContainer && ids
+					.contains(((IDockerContainer) item.getData()).id())) {
+				stale.add(item.getData());
+			}
+		}
+		this.viewer.remove(stale.toArray());
+		this.viewer.add(changed.toArray());
+		selectedIds.retainAll(ids);
+		if (!selectedIds.isEmpty()) {
+			final List<Object> selection = new ArrayList<>(
+					this.viewer.getStructuredSelection().toList());
+			for (IDockerContainer container : changed) {
+				if (selectedIds.contains(container.id())) {
+					selection.add(container);
+				}
+			}
+			this.viewer.setSelection(new StructuredSelection(selection));
+		}
+	}
+
 	/**
 	 * @return the {@link IDockerConnection} used to display the current {@link IDockerContainer}
 	 */
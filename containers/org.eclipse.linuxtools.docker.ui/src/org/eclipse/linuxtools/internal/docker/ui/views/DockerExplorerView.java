@@ -32,7 +32,7 @@ import org.eclipse.linuxtools.docker.core.DockerConnectionManager;
 import org.eclipse.linuxtools.docker.core.IDockerConnection;
 import org.eclipse.linuxtools.docker.core.IDockerConnectionManagerListener;
 import org.eclipse.linuxtools.docker.core.IDockerContainer;
-import org.eclipse.linuxtools.docker.core.IDockerContainerListener;
+import org.eclipse.linuxtools.docker.core.IDockerContainerListener2;
 import org.eclipse.linuxtools.docker.core.IDockerImage;
 import org.eclipse.linuxtools.docker.core.IDockerImageListener;
 import org.eclipse.linuxtools.internal.docker.ui.DockerConnectionWatcher;
@@ -354,12 +354,27 @@ public class DockerExplorerView extends CommonNavigator implements
 	}
 
 	private void refresh(final IDockerConnection connection) {
+		refresh(connection, connection);
+	}
+
+	/**
+	 * Refreshes the given elements of the tree of a connection.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @param elements
+	 *            the connection itself or elements below it
+	 */
+	private void refresh(final IDockerConnection connection,
+			final Object... elements) {
 		Display.getDefault().asyncExec(() -> {
 			if (getCommonViewer().getTree() != null
 					&& !getCommonViewer().getTree().isDisposed()) {
 				ITreeSelection old = (ITreeSelection) getCommonViewer()
 						.getSelection();
-				getCommonViewer().refresh(connection, true);
+				for (Object element : elements) {
+					getCommonViewer().refresh(element, true);
+				}
 				// Bug 499919 - Deselected connection after deleted tag
 				// if we had an old selection and now we don't, assume that
 				// operation in another view removed the item we had selected
@@ -375,13 +390,55 @@ public class DockerExplorerView extends CommonNavigator implements
 		});
 	}
 
-	class ContainersRefresher implements IDockerContainerListener {
+	class ContainersRefresher implements IDockerContainerListener2 {
+
+		/** the names of the containers by id, as of the last notification */
+		private Map<String, String> names;
 
 		@Override
-		public void listChanged(final IDockerConnection connection,
+		public synchronized void listChanged(
+				final IDockerConnection connection,
 				final List<IDockerContainer> containers) {
+			names = getNames(containers);
 			refresh(connection);
 		}
+
+		/**
+		 * Refreshes the changed containers only, unless containers were added,
+		 * removed or renamed: their order then changes, so all the containers
+		 * of the connection are refreshed, but not its images.
+		 */
+		@Override
+		public synchronized void containersChanged(
+				final IDockerConnection connection,
+				final List<IDockerContainer> containers,
+				final List<IDockerContainer> changed,
+				final List<String> removed) {
+			boolean reordered = names == null || !removed.isEmpty();
+			for (IDockerContainer container : changed) {
+				if (reordered) {
+					break;
+				}
+				reordered = !container.name().equals(names.get(container.id()));
+			}
+			names = getNames(containers);
+			if (reordered) {
+				refresh(connection,
+						new DockerExplorerContentProvider.DockerContainersCategory(
+								connection));
+			} else {
+				refresh(connection, changed.toArray());
+			}
+		}
+
+		private Map<String, String> getNames(
+				final List<IDockerContainer> containers) {
+			final Map<String, String> result = new HashMap<>();
+			for (IDockerContainer container : containers) {
+				result.put(container.id(), container.name());
+			}
+			return result;
+		}
 	}
 
 	class ImagesRefresher implements IDockerImageListener {
@@ -15,7 +15,6 @@ package org.eclipse.linuxtools.internal.gcov.parser;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
-import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -23,6 +22,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.io.LineNumberReader;
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -30,6 +30,10 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.cdt.core.IBinaryParser.IBinaryObject;
 import org.eclipse.core.resources.IProject;
@@ -109,9 +113,6 @@ public class CovManager implements Serializable {
      */
 
     public void processCovFiles(List<String> covFilesPaths, String initialGcda) throws CoreException, IOException {
-        GcdaRecordsParser daRcrd = null;
-        DataInput traceFile;
-
         Map<File, File> sourcePath = new HashMap<>();
 
         if (initialGcda != null) {
@@ -131,89 +132,70 @@ public class CovManager implements Serializable {
             }
         }
 
+        // locate every gcno/gcda pair first: this may ask the user, so it is done here, in order
+        List<File[]> covFiles = new ArrayList<>(covFilesPaths.size());
         for (String gcdaPath : covFilesPaths) {
             String gcnoPath = gcdaPath.replace(".gcda", ".gcno"); //$NON-NLS-1$ //$NON-NLS-2$
-            // parse GCNO file
-            traceFile = openTraceFileStream(gcnoPath, ".gcno", sourcePath); //$NON-NLS-1$
-            if (traceFile == null) {
+            File gcnoFile = findTraceFile(gcnoPath, ".gcno", sourcePath); //$NON-NLS-1$
+            if (gcnoFile == null) {
                 return;
             }
-            GcnoRecordsParser noRcrd = new GcnoRecordsParser(sourceMap, allSrcs);
-            noRcrd.parseData(traceFile);
-
-            // add new functions parsed to AllSrcs array
-            for (GcnoFunction f : noRcrd.getFnctns()) {
-                allFnctns.add(f);
-            }
-
-            // close the input stream
-            if (traceFile.getClass() == DataInputStream.class) {
-                ((DataInputStream) traceFile).close();
-            }
-
-            // parse GCDA file
-            traceFile = openTraceFileStream(gcdaPath, ".gcda", sourcePath); //$NON-NLS-1$
-            if (traceFile == null) {
+            File gcdaFile = findTraceFile(gcdaPath, ".gcda", sourcePath); //$NON-NLS-1$
+            if (gcdaFile == null) {
                 return;
             }
-            if (noRcrd.getFnctns().isEmpty()) {
-                String message = NLS.bind(Messages.CovManager_No_Funcs_Error, gcnoPath);
-                Status status = new Status(IStatus.ERROR, Activator.PLUGIN_ID, message);
-                throw new CoreException(status);
-            }
-            daRcrd = new GcdaRecordsParser(noRcrd.getFnctns());
-            daRcrd.parseGcdaRecord(traceFile);
-
-            // close the input stream
-            if (traceFile.getClass() == DataInputStream.class) {
-                ((DataInputStream) traceFile).close();
-            }
+            covFiles.add(new File[] { gcnoFile, gcdaFile });
         }
 
-        // to fill the view title
-        if (daRcrd != null) {
-            nbrPgmRuns = daRcrd.getPgmSmryNbrPgmRuns();
+        // parse the pairs concurrently, then merge them in order so that the result does not
+        // depend on scheduling. Pairs which did not change since the last time are read from the cache.
+        CoverageCache cache = CoverageCache.forBinary(binaryPath);
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            List<Future<ParsedCovFiles>> parsed = new ArrayList<>(covFiles.size());
+            for (File[] pair : covFiles) {
+                parsed.add(executor.submit(() -> parseCovFiles(cache, pair[0], pair[1])));
+            }
+            for (Future<ParsedCovFiles> future : parsed) {
+                ParsedCovFiles result = getParseResult(future);
+                mergeParsedCovFiles(result);
+                // to fill the view title
+                nbrPgmRuns = result.nbrPgmRuns;
+            }
+        } finally {
+            executor.shutdownNow();
         }
 
         /* process counts from data parsed */
 
         // solve graph for each function
-        for (GcnoFunction gf : allFnctns) {
-            gf.solveGraphFnctn();
-        }
+        allFnctns.parallelStream().forEach(GcnoFunction::solveGraphFnctn);
 
         // allocate lines
-        for (SourceFile sourceFile : allSrcs) {
-            sourceFile.createLines();
-        }
+        allSrcs.parallelStream().forEach(SourceFile::createLines);
 
-        // add line counts
+        // add line counts (functions may share lines, so this is not done concurrently)
         for (GcnoFunction gf : allFnctns) {
             gf.addLineCounts(allSrcs);
         }
 
         // accumulate lines
-        for (SourceFile sf : allSrcs) {
-            sf.accumulateLineCounts();
-        }
+        allSrcs.parallelStream().forEach(SourceFile::accumulateLineCounts);
 
         /* compute counts by folder */
 
         // make the folders list
+        Map<String, Folder> foldersByPath = new HashMap<>();
         for (SourceFile sf : allSrcs) {
             File srcFile = new File(sf.getName());
             String folderName = srcFile.getParent();
             if (folderName == null) {
                 folderName = "?"; //$NON-NLS-1$
             }
-            Folder folder = null;
-            for (Folder f : allFolders) {
-                if (f.getPath().equals(folderName)) {
-                    folder = f;
-                }
-            }
+            Folder folder = foldersByPath.get(folderName);
             if (folder == null) {
                 folder = new Folder(folderName);
+                foldersByPath.put(folderName, folder);
                 allFolders.add(folder);
             }
             folder.addSrcFiles(sf);
@@ -225,6 +207,97 @@ public class CovManager implements Serializable {
         }
     }
 
+    private static ParsedCovFiles parseCovFiles(CoverageCache cache, File gcnoFile, File gcdaFile)
+            throws CoreException, IOException {
+        CoverageCache.Key key = null;
+        if (cache != null) {
+            // fingerprint the files before they are read, so that changes made while parsing invalidate the entry
+            key = cache.key(gcnoFile, gcdaFile);
+            ParsedCovFiles cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        ArrayList<SourceFile> srcs = new ArrayList<>();
+        GcnoRecordsParser noRcrd = new GcnoRecordsParser(new HashMap<>(), srcs);
+        try (DataInputStream traceFile = openTraceFile(gcnoFile)) {
+            noRcrd.parseData(traceFile);
+        }
+        if (noRcrd.getFnctns().isEmpty()) {
+            String message = NLS.bind(Messages.CovManager_No_Funcs_Error, gcnoFile.getPath());
+            Status status = new Status(IStatus.ERROR, Activator.PLUGIN_ID, message);
+            throw new CoreException(status);
+        }
+        GcdaRecordsParser daRcrd = new GcdaRecordsParser(noRcrd.getFnctns());
+        try (DataInputStream traceFile = openTraceFile(gcdaFile)) {
+            daRcrd.parseGcdaRecord(traceFile);
+        }
+        ParsedCovFiles parsed = new ParsedCovFiles(noRcrd.getFnctns(), srcs, daRcrd.getPgmSmryNbrPgmRuns());
+        if (cache != null) {
+            cache.put(key, parsed);
+        }
+        return parsed;
+    }
+
+    private static ParsedCovFiles getParseResult(Future<ParsedCovFiles> future) throws CoreException, IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CoreException) {
+                throw (CoreException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Add the source files and functions of a parsed gcno/gcda pair to the results. Source files
+     * already known are shared, and the source file indices used in block line encodings are
+     * translated to the indices of the results.
+     */
+    private void mergeParsedCovFiles(ParsedCovFiles parsed) {
+        int[] indices = new int[parsed.srcs.size() + 1];
+        for (SourceFile src : parsed.srcs) {
+            SourceFile sf = sourceMap.get(src.getName());
+            if (sf == null) {
+                sf = new SourceFile(src.getName(), allSrcs.size() + 1);
+                allSrcs.add(sf);
+                sourceMap.put(src.getName(), sf);
+            }
+            if (src.getNumLines() > sf.getNumLines()) {
+                sf.setNumLines(src.getNumLines());
+            }
+            for (GcnoFunction f : src.getFnctns()) {
+                sf.addFnctn(f);
+            }
+            indices[src.getIndex()] = sf.getIndex();
+        }
+        for (GcnoFunction f : parsed.fnctns) {
+            for (Block b : f.getFunctionBlocks()) {
+                long[] enc = b.getEncoding();
+                if (enc == null) {
+                    continue;
+                }
+                // the encoding is a list of line numbers, each file being introduced by 0 and its index
+                for (int k = 0; k < b.getLineNum(); k++) {
+                    if (enc[k] == 0) {
+                        k++;
+                        enc[k] = indices[(int) enc[k]];
+                    }
+                }
+            }
+            allFnctns.add(f);
+        }
+    }
+
     /**
      * fill the model by count results
      * @throws CoreException, IOException, InterruptedException
@@ -243,6 +316,7 @@ public class CovManager implements Serializable {
         rootNode = new CovRootTreeElement(Messages.CovManager_Summary, summaryTotal, summaryExecuted,
                 summaryInstrumented);
         IBinaryObject binaryObject = STSymbolManager.sharedInstance.getBinaryObject(new Path(binaryPath));
+        Map<String, String> demangledNames = demangle(binaryObject);
 
         for (Folder fldr : allFolders) {
             String folderLocation = fldr.getPath();
@@ -256,8 +330,7 @@ public class CovManager implements Serializable {
                 fldrTreeElem.addChild(srcTreeElem);
 
                 for (GcnoFunction fnctn : src.getFnctns()) {
-                    String name = fnctn.getName();
-                    name = STSymbolManager.sharedInstance.demangle(binaryObject, name, project);
+                    String name = demangledNames.getOrDefault(fnctn.getName(), fnctn.getName());
                     srcTreeElem.addChild(new CovFunctionTreeElement(srcTreeElem, name, fnctn.getSrcFile(), fnctn
                             .getFirstLineNmbr(), fnctn.getCvrge().getLinesExecuted(), fnctn.getCvrge()
                             .getLinesInstrumented()));
@@ -266,6 +339,26 @@ public class CovManager implements Serializable {
         }
     }
 
+    /**
+     * Demangles the names of all the functions at once, so that c++filt is given many names per request.
+     * @param binaryObject the binary of the functions
+     * @return the demangled name of each function
+     */
+    private Map<String, String> demangle(IBinaryObject binaryObject) {
+        if (binaryObject == null) {
+            return new HashMap<>();
+        }
+        List<String> names = new ArrayList<>();
+        for (Folder fldr : allFolders) {
+            for (SourceFile src : fldr.getSrcFiles()) {
+                for (GcnoFunction fnctn : src.getFnctns()) {
+                    names.add(fnctn.getName());
+                }
+            }
+        }
+        return STSymbolManager.sharedInstance.demangle(binaryObject, names, project);
+    }
+
     // Get the Windows OS Type.  We might have to change a path over to Windows format
     // and this is different on Cygwin vs MingW.
     private String getWinOSType() {
@@ -314,17 +407,20 @@ public class CovManager implements Serializable {
 		}
 	}
 
-    private DataInput openTraceFileStream(String filePath, String extension, Map<File, File> sourcePath)
-            throws FileNotFoundException {
+    private static DataInputStream openTraceFile(File f) throws FileNotFoundException {
+        FileInputStream fis = new FileInputStream(f);
+        InputStream inputStream = new BufferedInputStream(fis);
+        return new DataInputStream(inputStream);
+    }
+
+    private File findTraceFile(String filePath, String extension, Map<File, File> sourcePath) {
         Path p = new Path(filePath);
         // get the file path transformed to work on local OS (e.g. Windows)
         filePath = getTransformedPathString(p);
         File f = new File(filePath).getAbsoluteFile();
         String filename = f.getName();
         if (f.isFile() && f.canRead()) {
-            FileInputStream fis = new FileInputStream(f);
-            InputStream inputStream = new BufferedInputStream(fis);
-            return new DataInputStream(inputStream);
+            return f;
         } else {
             String postfix = ""; //$NON-NLS-1$
             File dir = null;
@@ -345,7 +441,7 @@ public class CovManager implements Serializable {
             if (dir != null) {
                 f = new File(dir, postfix);
                 if (f.isFile() && f.canRead()) {
-                    return openTraceFileStream(f.getAbsolutePath(), extension, sourcePath);
+                    return findTraceFile(f.getAbsolutePath(), extension, sourcePath);
                 }
             }
 
@@ -369,15 +465,17 @@ public class CovManager implements Serializable {
 				f = new File(s).getAbsoluteFile();
 				addSourceLookup(sourcePath, f, new File(filePath).getAbsoluteFile());
 				if (f.isFile() && f.canRead()) {
-					FileInputStream fis = new FileInputStream(f);
-					InputStream inputStream = new BufferedInputStream(fis);
-					return new DataInputStream(inputStream);
+					return f;
 				}
             }
         }
         return null;
     }
 
+    public ArrayList<Folder> getAllFolders() {
+        return allFolders;
+    }
+
     public ArrayList<SourceFile> getAllSrcs() {
         return allSrcs;
     }
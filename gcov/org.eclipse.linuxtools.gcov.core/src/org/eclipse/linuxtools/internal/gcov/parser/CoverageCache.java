@@ -0,0 +1,301 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.gcov.parser;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.linuxtools.internal.gcov.Activator;
+
+/**
+ * On-disk cache of parsed gcno/gcda pairs.
+ *
+ * Entries are stored under the plug-in state location, in a directory named
+ * after the hash of the binary path, and keyed by the hash of the gcno and
+ * gcda paths. Each entry records the size, modification time and checksum
+ * of both files, so that only the pairs which changed since the last time
+ * the coverage was opened need to be parsed again. These are taken with
+ * {@link #key(File, File)} before the files are parsed, so that an entry
+ * never records files which changed while they were parsed.
+ *
+ * The cache of all binaries is bounded by {@link #MAX_CACHE_SIZE}: whenever a
+ * cache is opened, the least recently used entries are evicted until the total
+ * size of the entries fits again.
+ */
+public class CoverageCache {
+
+    private static final String CACHE_DIR = "coverage-cache"; //$NON-NLS-1$
+    private static final String HASH_ALGORITHM = "SHA-1"; //$NON-NLS-1$
+    /** incremented whenever the format of the entries changes */
+    private static final int FORMAT_VERSION = 2;
+    /** upper bound of the total size of the entries of all binaries */
+    static final long MAX_CACHE_SIZE = 256L * 1024 * 1024;
+
+    private final File dir;
+
+    CoverageCache(File dir) {
+        this.dir = dir;
+    }
+
+    /**
+     * Get the cache for the given binary.
+     *
+     * @param binaryPath path of the binary the coverage files belong to
+     * @return the cache, or <code>null</code> if no state location exists.
+     */
+    public static CoverageCache forBinary(String binaryPath) {
+        if (binaryPath == null || Activator.getDefault() == null) {
+            return null;
+        }
+        try {
+            IPath stateLoc = Activator.getDefault().getStateLocation();
+            File root = stateLoc.append(CACHE_DIR).toFile();
+            evict(root, MAX_CACHE_SIZE);
+            String binaryHash = hash(new File(binaryPath).getAbsolutePath());
+            File dir = new File(root, binaryHash);
+            if (!dir.isDirectory() && !dir.mkdirs()) {
+                return null;
+            }
+            return new CoverageCache(dir);
+        } catch (IllegalStateException e) {
+            log(e);
+            return null;
+        }
+    }
+
+    /**
+     * Take the fingerprints of a gcno/gcda pair. Must be called before the
+     * files are parsed.
+     *
+     * @param gcno the gcno file
+     * @param gcda the gcda file
+     * @return the key of the pair
+     * @throws IOException if one of the files cannot be read
+     */
+    Key key(File gcno, File gcda) throws IOException {
+        return new Key(gcno, gcda);
+    }
+
+    /**
+     * Get the cached content of a gcno/gcda pair.
+     *
+     * @param key the key of the pair
+     * @return the parsed content, or <code>null</code> if it has not been
+     *         cached or if one of the files changed since.
+     */
+    ParsedCovFiles get(Key key) {
+        File entry = getEntry(key);
+        if (!entry.isFile()) {
+            return null;
+        }
+        long length = entry.length();
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(entry.toPath())))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            Fingerprint gcnoPrint = new Fingerprint(in);
+            Fingerprint gcdaPrint = new Fingerprint(in);
+            if (!gcnoPrint.matches(key.gcnoPrint) || !gcdaPrint.matches(key.gcdaPrint)) {
+                return null;
+            }
+            // no count can exceed the size of the entry
+            ParsedCovFiles parsed = ParsedCovFiles.read(in, length);
+            // the modification time of entries tells which were used last
+            entry.setLastModified(System.currentTimeMillis());
+            return parsed;
+        } catch (IOException e) {
+            // stale or unreadable entry: it will be replaced
+            return null;
+        }
+    }
+
+    /**
+     * Store the content of a gcno/gcda pair. Must be called before the
+     * content is merged into a {@link CovManager}, which modifies it.
+     *
+     * @param key the key of the pair, taken before the files were parsed
+     * @param parsed the parsed content of the files
+     */
+    void put(Key key, ParsedCovFiles parsed) {
+        File entry = getEntry(key);
+        File tmp = null;
+        try {
+            // write to a temporary file first so readers never see partial entries
+            tmp = File.createTempFile(entry.getName(), null, dir);
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+                out.writeInt(FORMAT_VERSION);
+                key.gcnoPrint.write(out);
+                key.gcdaPrint.write(out);
+                parsed.write(out);
+            }
+            Files.move(tmp.toPath(), entry.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            tmp = null;
+        } catch (IOException e) {
+            log(e);
+        } finally {
+            if (tmp != null) {
+                tmp.delete();
+            }
+        }
+    }
+
+    private File getEntry(Key key) {
+        return new File(dir, hash(key.gcno.getAbsolutePath() + '\0' + key.gcda.getAbsolutePath()));
+    }
+
+    /**
+     * Delete the least recently used entries until the total size of the
+     * entries of all binaries is at most the given size.
+     *
+     * @param root the directory holding the cache of every binary
+     * @param maxSize the maximum total size of the entries, in bytes
+     */
+    static synchronized void evict(File root, long maxSize) {
+        File[] binaryDirs = root.listFiles(File::isDirectory);
+        if (binaryDirs == null) {
+            return;
+        }
+        List<File> entries = new ArrayList<>();
+        long total = 0;
+        for (File binaryDir : binaryDirs) {
+            File[] files = binaryDir.listFiles(File::isFile);
+            if (files != null) {
+                for (File f : files) {
+                    entries.add(f);
+                    total += f.length();
+                }
+            }
+        }
+        if (total <= maxSize) {
+            return;
+        }
+        entries.sort(Comparator.comparingLong(File::lastModified));
+        for (File f : entries) {
+            if (total <= maxSize) {
+                break;
+            }
+            long length = f.length();
+            if (f.delete()) {
+                total -= length;
+            }
+        }
+        for (File binaryDir : binaryDirs) {
+            // only succeeds on directories left empty
+            binaryDir.delete();
+        }
+    }
+
+    /**
+     * A gcno/gcda pair and the fingerprints of its files.
+     */
+    static final class Key {
+        private final File gcno;
+        private final File gcda;
+        private final Fingerprint gcnoPrint;
+        private final Fingerprint gcdaPrint;
+
+        private Key(File gcno, File gcda) throws IOException {
+            this.gcno = gcno;
+            this.gcda = gcda;
+            this.gcnoPrint = new Fingerprint(gcno);
+            this.gcdaPrint = new Fingerprint(gcda);
+        }
+    }
+
+    /**
+     * Size, modification time and checksum of a file.
+     */
+    private static final class Fingerprint {
+        private final long size;
+        private final long lastModified;
+        private final long checksum;
+
+        Fingerprint(File file) throws IOException {
+            this.size = file.length();
+            this.lastModified = file.lastModified();
+            this.checksum = checksum(file);
+        }
+
+        Fingerprint(DataInput in) throws IOException {
+            this.size = in.readLong();
+            this.lastModified = in.readLong();
+            this.checksum = in.readLong();
+        }
+
+        void write(DataOutput out) throws IOException {
+            out.writeLong(size);
+            out.writeLong(lastModified);
+            out.writeLong(checksum);
+        }
+
+        boolean matches(Fingerprint other) {
+            // a rebuild may touch a file without changing it: compare the contents then
+            return other.size == size && (other.lastModified == lastModified || other.checksum == checksum);
+        }
+    }
+
+    private static long checksum(File file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buf = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            int n;
+            while ((n = in.read(buf)) != -1) {
+                crc.update(buf, 0, n);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static String hash(String s) {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-1
+            throw new IllegalStateException(e);
+        }
+        byte[] digest = md.digest(s.getBytes(StandardCharsets.UTF_8));
+        StringBuilder sb = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            sb.append(String.format("%02x", b)); //$NON-NLS-1$
+        }
+        return sb.toString();
+    }
+
+    private static void log(Exception e) {
+        Status status = new Status(IStatus.ERROR, Activator.PLUGIN_ID, IStatus.ERROR, e.getMessage(), e);
+        Activator.getDefault().getLog().log(status);
+    }
+}
@@ -58,12 +58,7 @@ public class GcnoFunction implements Serializable, Comparable<GcnoFunction> {
             for (int j = 0, k = 0; j != blk.getLineNum(); j++, k++) {
                 if (enc[k] == 0) {
                     int srcn = (int) enc[++k];
-                    for (SourceFile sf : srcs) {
-                        if (sf.getIndex() == srcn) {
-                            fileSrc = sf;
-                            break;
-                        }
-                    }
+                    fileSrc = findSourceFile(srcs, srcn);
                     j++;
                 } else if ((fileSrc != null) && enc[k] < fileSrc.getLines().size()) {
                     Line line = fileSrc.getLines().get((int) enc[k]);
@@ -98,6 +93,19 @@ public class GcnoFunction implements Serializable, Comparable<GcnoFunction> {
 		}
     }
 
+    private static SourceFile findSourceFile(ArrayList<SourceFile> srcs, int index) {
+        // source files are usually numbered by their position in the list
+        if (index >= 1 && index <= srcs.size() && srcs.get(index - 1).getIndex() == index) {
+            return srcs.get(index - 1);
+        }
+        for (SourceFile sf : srcs) {
+            if (sf.getIndex() == index) {
+                return sf;
+            }
+        }
+        return null;
+    }
+
     public void solveGraphFnctn() {
         ArrayList<Block> fnctnBlcks = this.functionBlocks;
         ArrayList<Block> validBlocks = new ArrayList<>();
@@ -264,6 +272,10 @@ public class GcnoFunction implements Serializable, Comparable<GcnoFunction> {
         return numCounts;
     }
 
+    public void setNumCounts(int numCounts) {
+        this.numCounts = numCounts;
+    }
+
     public int getNumBlocks() {
         return numBlocks;
     }
@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.gcov.parser;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Content of a gcno/gcda pair, parsed independently of the other pairs.
+ *
+ * The content can be written to and read from a flat stream, in which blocks
+ * and arcs refer to each other by index, so that neither needs to recurse along
+ * the block graph.
+ */
+class ParsedCovFiles {
+
+    final ArrayList<GcnoFunction> fnctns;
+    final ArrayList<SourceFile> srcs;
+    final long nbrPgmRuns;
+
+    ParsedCovFiles(ArrayList<GcnoFunction> fnctns, ArrayList<SourceFile> srcs, long nbrPgmRuns) {
+        this.fnctns = fnctns;
+        this.srcs = srcs;
+        this.nbrPgmRuns = nbrPgmRuns;
+    }
+
+    /**
+     * Write the content. Must be called before the line counts are computed:
+     * the lines and coverage info are not written.
+     *
+     * @param out the stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    void write(DataOutput out) throws IOException {
+        out.writeLong(nbrPgmRuns);
+
+        // functions, including those only known by their source file
+        List<GcnoFunction> allFnctns = new ArrayList<>(fnctns);
+        Map<GcnoFunction, Integer> fnctnIndices = new IdentityHashMap<>();
+        for (GcnoFunction f : fnctns) {
+            fnctnIndices.putIfAbsent(f, fnctnIndices.size());
+        }
+        for (SourceFile sf : srcs) {
+            for (GcnoFunction f : sf.getFnctns()) {
+                if (!fnctnIndices.containsKey(f)) {
+                    fnctnIndices.put(f, allFnctns.size());
+                    allFnctns.add(f);
+                }
+            }
+        }
+        out.writeInt(fnctns.size());
+        out.writeInt(allFnctns.size());
+        for (GcnoFunction f : allFnctns) {
+            writeFnctn(out, f);
+        }
+
+        out.writeInt(srcs.size());
+        for (SourceFile sf : srcs) {
+            writeString(out, sf.getName());
+            out.writeInt(sf.getIndex());
+            out.writeInt(sf.getNumLines());
+            out.writeInt(sf.getFnctns().size());
+            for (GcnoFunction f : sf.getFnctns()) {
+                out.writeInt(fnctnIndices.get(f));
+            }
+        }
+    }
+
+    /**
+     * Read content written by {@link #write(DataOutput)}.
+     *
+     * @param in the stream to read from
+     * @param maxCount upper bound of any element count, used to reject corrupted input
+     * @return the content
+     * @throws IOException if the stream cannot be read or is corrupted
+     */
+    static ParsedCovFiles read(DataInput in, long maxCount) throws IOException {
+        long nbrPgmRuns = in.readLong();
+
+        int nbrListed = readCount(in, maxCount);
+        int nbrFnctns = readCount(in, maxCount);
+        if (nbrListed > nbrFnctns) {
+            throw new IOException();
+        }
+        List<GcnoFunction> allFnctns = new ArrayList<>(nbrFnctns);
+        for (int i = 0; i < nbrFnctns; i++) {
+            allFnctns.add(readFnctn(in, maxCount));
+        }
+
+        int nbrSrcs = readCount(in, maxCount);
+        ArrayList<SourceFile> srcs = new ArrayList<>(nbrSrcs);
+        for (int i = 0; i < nbrSrcs; i++) {
+            SourceFile sf = new SourceFile(readString(in, maxCount), in.readInt());
+            sf.setNumLines(in.readInt());
+            int n = readCount(in, maxCount);
+            for (int j = 0; j < n; j++) {
+                sf.addFnctn(allFnctns.get(readIndex(in, nbrFnctns)));
+            }
+            srcs.add(sf);
+        }
+        return new ParsedCovFiles(new ArrayList<>(allFnctns.subList(0, nbrListed)), srcs, nbrPgmRuns);
+    }
+
+    private static void writeFnctn(DataOutput out, GcnoFunction f) throws IOException {
+        out.writeLong(f.getIdent());
+        out.writeLong(f.getCheksum());
+        writeString(out, f.getName());
+        writeString(out, f.getSrcFile());
+        out.writeLong(f.getFirstLineNmbr());
+        out.writeInt(f.getNumCounts());
+        out.writeInt(f.getNumBlocks());
+
+        ArrayList<Block> blocks = f.getFunctionBlocks();
+        if (blocks == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(blocks.size());
+        Map<Block, Integer> blockIndices = new IdentityHashMap<>();
+        for (Block b : blocks) {
+            blockIndices.put(b, blockIndices.size());
+            writeBlock(out, b);
+        }
+
+        // arcs are numbered in the order of the exit arcs of the blocks
+        Map<Arc, Integer> arcIndices = new IdentityHashMap<>();
+        for (Block b : blocks) {
+            out.writeInt(b.getExitArcs().size());
+            for (Arc a : b.getExitArcs()) {
+                arcIndices.put(a, arcIndices.size());
+                out.writeInt(a.getDstnatnBlockIndice());
+                out.writeLong(a.getFlag());
+                out.writeLong(a.getCount());
+                out.writeBoolean(a.isCountValid());
+                out.writeBoolean(a.isCallNonReturn());
+                out.writeBoolean(a.isNonLoclaReturn());
+                out.writeBoolean(a.isUnconditionnal());
+            }
+        }
+        for (Block b : blocks) {
+            out.writeInt(b.getEntryArcs().size());
+            for (Arc a : b.getEntryArcs()) {
+                out.writeInt(arcIndices.get(a));
+            }
+        }
+    }
+
+    private static GcnoFunction readFnctn(DataInput in, long maxCount) throws IOException {
+        long ident = in.readLong();
+        long cheksum = in.readLong();
+        String name = readString(in, maxCount);
+        String srcFile = readString(in, maxCount);
+        GcnoFunction f = new GcnoFunction(ident, cheksum, name, srcFile, in.readLong());
+        f.setNumCounts(in.readInt());
+        f.setNumBlocks(in.readInt());
+
+        int nbrBlocks = in.readInt();
+        if (nbrBlocks == -1) {
+            f.setFunctionBlocks(null);
+            return f;
+        }
+        if (nbrBlocks < 0 || nbrBlocks > maxCount) {
+            throw new IOException();
+        }
+        ArrayList<Block> blocks = new ArrayList<>(nbrBlocks);
+        for (int i = 0; i < nbrBlocks; i++) {
+            blocks.add(readBlock(in, maxCount));
+        }
+
+        List<Arc> arcs = new ArrayList<>();
+        for (int i = 0; i < nbrBlocks; i++) {
+            Block b = blocks.get(i);
+            int n = readCount(in, maxCount);
+            for (int j = 0; j < n; j++) {
+                Arc a = new Arc(i, readIndex(in, nbrBlocks), in.readLong(), blocks);
+                a.setCount(in.readLong());
+                a.setCountValid(in.readBoolean());
+                a.setCallNonReturn(in.readBoolean());
+                a.setNonLoclaReturn(in.readBoolean());
+                a.setUnconditionnal(in.readBoolean());
+                b.addExitArcs(a);
+                arcs.add(a);
+            }
+        }
+        for (Block b : blocks) {
+            int n = readCount(in, maxCount);
+            for (int j = 0; j < n; j++) {
+                b.addEntryArcs(arcs.get(readIndex(in, arcs.size())));
+            }
+        }
+        f.setFunctionBlocks(blocks);
+        return f;
+    }
+
+    private static void writeBlock(DataOutput out, Block b) throws IOException {
+        out.writeLong(b.getFlag());
+        out.writeLong(b.getNumSuccs());
+        out.writeLong(b.getNumPreds());
+        out.writeLong(b.getCount());
+        out.writeBoolean(b.isCallSite());
+        out.writeBoolean(b.isCallReturn());
+        out.writeBoolean(b.isNonLocalReturn());
+        out.writeBoolean(b.isValidChain());
+        out.writeBoolean(b.isInvalidChain());
+        out.writeBoolean(b.isCountValid());
+        out.writeInt(b.getLineNum());
+        long[] enc = b.getEncoding();
+        if (enc == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(enc.length);
+            for (long l : enc) {
+                out.writeLong(l);
+            }
+        }
+    }
+
+    private static Block readBlock(DataInput in, long maxCount) throws IOException {
+        Block b = new Block(in.readLong());
+        b.setNumSuccs(in.readLong());
+        b.setNumPreds(in.readLong());
+        b.setCount(in.readLong());
+        b.setCallSite(in.readBoolean());
+        b.setCallReturn(in.readBoolean());
+        b.setNonLocalReturn(in.readBoolean());
+        b.setValidChain(in.readBoolean());
+        b.setInvalidChain(in.readBoolean());
+        b.setCountValid(in.readBoolean());
+        b.setNumLine(in.readInt());
+        int n = in.readInt();
+        if (n != -1) {
+            if (n < 0 || n > maxCount) {
+                throw new IOException();
+            }
+            long[] enc = new long[n];
+            for (int i = 0; i < n; i++) {
+                enc[i] = in.readLong();
+            }
+            b.setEncoding(enc);
+        }
+        return b;
+    }
+
+    private static void writeString(DataOutput out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in, long maxCount) throws IOException {
+        int n = in.readInt();
+        if (n == -1) {
+            return null;
+        }
+        if (n < 0 || n > maxCount) {
+            throw new IOException();
+        }
+        byte[] bytes = new byte[n];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readCount(DataInput in, long maxCount) throws IOException {
+        int n = in.readInt();
+        if (n < 0 || n > maxCount) {
+            throw new IOException();
+        }
+        return n;
+    }
+
+    private static int readIndex(DataInput in, int size) throws IOException {
+        int i = in.readInt();
+        if (i < 0 || i >= size) {
+            throw new IOException();
+        }
+        return i;
+    }
+}
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.gcov.parser;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the on-disk cache of parsed gcno/gcda pairs. The test lives in the
+ * package of the cache, which is not part of the API of the plug-in.
+ */
+public class CoverageCacheTest {
+
+    private File root;
+    private File gcno;
+    private File gcda;
+    private CoverageCache cache;
+
+    @Before
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("coverage-cache").toFile();
+        File dir = new File(root, "binary");
+        assertTrue(dir.mkdir());
+        gcno = new File(root, "main.gcno");
+        gcda = new File(root, "main.gcda");
+        write(gcno, "notes");
+        write(gcda, "counts");
+        cache = new CoverageCache(dir);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(root.toPath())) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        assertNull(cache.get(cache.key(gcno, gcda)));
+        cache.put(cache.key(gcno, gcda), createParsedCovFiles());
+
+        ParsedCovFiles read = cache.get(cache.key(gcno, gcda));
+        assertNotNull(read);
+        assertEquals(3, read.nbrPgmRuns);
+        assertEquals(1, read.fnctns.size());
+        GcnoFunction f = read.fnctns.get(0);
+        assertEquals("main", f.getName());
+        assertEquals("/src/main.c", f.getSrcFile());
+        assertEquals(4, f.getFirstLineNmbr());
+        assertEquals(2, f.getFunctionBlocks().size());
+        Block entry = f.getFunctionBlocks().get(0);
+        Block exit = f.getFunctionBlocks().get(1);
+        assertEquals(1, entry.getExitArcs().size());
+        Arc arc = entry.getExitArcs().get(0);
+        assertEquals(7, arc.getCount());
+        assertTrue(arc.isCountValid());
+        // the arc is shared by both ends
+        assertEquals(1, exit.getEntryArcs().size());
+        assertTrue(arc == exit.getEntryArcs().get(0));
+        assertArrayEquals(new long[] {0, 1, 4, 5}, entry.getEncoding());
+
+        assertEquals(1, read.srcs.size());
+        SourceFile sf = read.srcs.get(0);
+        assertEquals("/src/main.c", sf.getName());
+        assertEquals(1, sf.getIndex());
+        assertEquals(6, sf.getNumLines());
+        assertEquals(1, sf.getFnctns().size());
+        assertTrue(f == sf.getFnctns().first());
+    }
+
+    @Test
+    public void testInvalidation() throws IOException {
+        cache.put(cache.key(gcno, gcda), createParsedCovFiles());
+
+        // touching a file without changing it keeps the entry
+        assertTrue(gcda.setLastModified(gcda.lastModified() - 10000));
+        assertNotNull(cache.get(cache.key(gcno, gcda)));
+
+        // a file of the same size with other contents invalidates it
+        write(gcda, "COUNTS");
+        assertTrue(gcda.setLastModified(gcda.lastModified() - 20000));
+        assertNull(cache.get(cache.key(gcno, gcda)));
+
+        // as does a file of another size
+        cache.put(cache.key(gcno, gcda), createParsedCovFiles());
+        assertNotNull(cache.get(cache.key(gcno, gcda)));
+        write(gcno, "more notes");
+        assertNull(cache.get(cache.key(gcno, gcda)));
+    }
+
+    /**
+     * The entry records the files as they were before they were parsed, so a
+     * change made while they were parsed is not mistaken for their content.
+     */
+    @Test
+    public void testChangedWhileParsed() throws IOException {
+        CoverageCache.Key key = cache.key(gcno, gcda);
+        write(gcda, "more counts");
+        cache.put(key, createParsedCovFiles());
+        assertNull(cache.get(cache.key(gcno, gcda)));
+    }
+
+    @Test
+    public void testEviction() throws IOException {
+        File first = new File(root, "first");
+        File second = new File(root, "second");
+        assertTrue(first.mkdir());
+        assertTrue(second.mkdir());
+        long now = System.currentTimeMillis();
+        File oldest = entry(first, "a", 100, now - 30000);
+        File old = entry(second, "b", 100, now - 20000);
+        File recent = entry(second, "c", 100, now - 10000);
+
+        // nothing is evicted while the entries fit
+        CoverageCache.evict(root, 300);
+        assertTrue(oldest.isFile() && old.isFile() && recent.isFile());
+
+        // the least recently used entries go first, across binaries
+        CoverageCache.evict(root, 150);
+        assertFalse(oldest.exists());
+        assertFalse(old.exists());
+        assertTrue(recent.isFile());
+        // and the directory of a binary left without entries is deleted
+        assertFalse(first.exists());
+        assertTrue(second.isDirectory());
+    }
+
+    /**
+     * Create the content of a pair with a function of two blocks linked by an
+     * arc, as the parsers would.
+     */
+    private static ParsedCovFiles createParsedCovFiles() {
+        GcnoFunction f = new GcnoFunction(1, 2, "main", "/src/main.c", 4);
+        f.setNumBlocks(2);
+        f.setNumCounts(1);
+        ArrayList<Block> blocks = new ArrayList<>();
+        blocks.add(new Block(0));
+        blocks.add(new Block(0));
+        blocks.get(0).setEncoding(new long[] {0, 1, 4, 5});
+        blocks.get(0).setNumLine(4);
+        Arc arc = new Arc(0, 1, 0, blocks);
+        arc.setCount(7);
+        arc.setCountValid(true);
+        blocks.get(0).addExitArcs(arc);
+        blocks.get(1).addEntryArcs(arc);
+        f.setFunctionBlocks(blocks);
+
+        SourceFile sf = new SourceFile("/src/main.c", 1);
+        sf.setNumLines(6);
+        sf.addFnctn(f);
+        ArrayList<GcnoFunction> fnctns = new ArrayList<>();
+        fnctns.add(f);
+        ArrayList<SourceFile> srcs = new ArrayList<>();
+        srcs.add(sf);
+        return new ParsedCovFiles(fnctns, srcs, 3);
+    }
+
+    private static File entry(File dir, String name, int size, long lastModified) throws IOException {
+        File f = new File(dir, name);
+        Files.write(f.toPath(), new byte[size]);
+        assertTrue(f.setLastModified(lastModified));
+        return f;
+    }
+
+    private static void write(File f, String contents) throws IOException {
+        Files.write(f.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+    }
+}
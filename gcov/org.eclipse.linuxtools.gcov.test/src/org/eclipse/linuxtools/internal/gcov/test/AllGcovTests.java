@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.linuxtools.internal.gcov.test;
 
+import org.eclipse.linuxtools.internal.gcov.parser.CoverageCacheTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
@@ -19,7 +20,8 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
     GcovTestC.class,
     GcovTestCPP.class,
-    GcovTestCLibrary.class
+    GcovTestCLibrary.class,
+    CoverageCacheTest.class
 })
 public class AllGcovTests {
 
@@ -13,9 +13,14 @@
  *******************************************************************************/
 package org.eclipse.linuxtools.internal.gcov.test;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.TreeSet;
 
@@ -38,6 +43,13 @@ import org.eclipse.jface.action.MenuManager;
 import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.linuxtools.dataviewers.actions.STExportToCSVAction;
 import org.eclipse.linuxtools.internal.gcov.action.OpenGCAction;
+import org.eclipse.linuxtools.internal.gcov.parser.CovManager;
+import org.eclipse.linuxtools.internal.gcov.parser.Folder;
+import org.eclipse.linuxtools.internal.gcov.parser.GcdaRecordsParser;
+import org.eclipse.linuxtools.internal.gcov.parser.GcnoFunction;
+import org.eclipse.linuxtools.internal.gcov.parser.GcnoRecordsParser;
+import org.eclipse.linuxtools.internal.gcov.parser.Line;
+import org.eclipse.linuxtools.internal.gcov.parser.SourceFile;
 import org.eclipse.linuxtools.profiling.tests.AbstractTest;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Menu;
@@ -283,6 +295,115 @@ public abstract class GcovTest extends AbstractTest {
         }
     }
 
+    /**
+     * Checks that parsing the coverage files of several sources concurrently
+     * and merging them gives the same folders, sources and line counts as
+     * parsing them one after the other into shared source files.
+     */
+    @Test
+    public void testProcessCovFilesMatchesSequentialParse() throws CoreException, IOException {
+        List<String> gcdaPaths = new ArrayList<>();
+        for (String string : gcovFiles) {
+            if (string.endsWith(".gcda")) {
+                gcdaPaths.add(project.getFile(string).getLocation().toOSString());
+            }
+        }
+        Assert.assertTrue("Expected the coverage files of several sources.", gcdaPaths.size() > 1);
+
+        CovManager cvrgMnger = new CovManager(project.getFile(getBinName()).getLocation().toOSString(), project);
+        cvrgMnger.processCovFiles(gcdaPaths, null);
+
+        // parse the files one after the other, sharing the source files between them
+        HashMap<String, SourceFile> sourceMap = new HashMap<>();
+        ArrayList<SourceFile> srcs = new ArrayList<>();
+        ArrayList<GcnoFunction> fnctns = new ArrayList<>();
+        for (String gcdaPath : gcdaPaths) {
+            GcnoRecordsParser noRcrd = new GcnoRecordsParser(sourceMap, srcs);
+            try (DataInputStream in = openTraceFile(gcdaPath.replace(".gcda", ".gcno"))) {
+                noRcrd.parseData(in);
+            }
+            fnctns.addAll(noRcrd.getFnctns());
+            GcdaRecordsParser daRcrd = new GcdaRecordsParser(noRcrd.getFnctns());
+            try (DataInputStream in = openTraceFile(gcdaPath)) {
+                daRcrd.parseGcdaRecord(in);
+            }
+        }
+        for (GcnoFunction gf : fnctns) {
+            gf.solveGraphFnctn();
+        }
+        for (SourceFile sf : srcs) {
+            sf.createLines();
+        }
+        for (GcnoFunction gf : fnctns) {
+            gf.addLineCounts(srcs);
+        }
+        for (SourceFile sf : srcs) {
+            sf.accumulateLineCounts();
+        }
+        ArrayList<Folder> folders = new ArrayList<>();
+        for (SourceFile sf : srcs) {
+            String folderName = new File(sf.getName()).getParent();
+            if (folderName == null) {
+                folderName = "?";
+            }
+            Folder folder = null;
+            for (Folder f : folders) {
+                if (f.getPath().equals(folderName)) {
+                    folder = f;
+                }
+            }
+            if (folder == null) {
+                folder = new Folder(folderName);
+                folders.add(folder);
+            }
+            folder.addSrcFiles(sf);
+        }
+        for (Folder f : folders) {
+            f.accumulateSourcesCounts();
+        }
+
+        Assert.assertEquals(folders.size(), cvrgMnger.getAllFolders().size());
+        for (int i = 0; i < folders.size(); i++) {
+            Folder expected = folders.get(i);
+            Folder actual = cvrgMnger.getAllFolders().get(i);
+            Assert.assertEquals(expected.getPath(), actual.getPath());
+            Assert.assertEquals(expected.getSrcFiles().size(), actual.getSrcFiles().size());
+            Assert.assertEquals(expected.getNumLines(), actual.getNumLines());
+            Assert.assertEquals(expected.getLinesInstrumented(), actual.getLinesInstrumented());
+            Assert.assertEquals(expected.getLinesExecuted(), actual.getLinesExecuted());
+        }
+        Assert.assertEquals(srcs.size(), cvrgMnger.getAllSrcs().size());
+        for (int i = 0; i < srcs.size(); i++) {
+            SourceFile expected = srcs.get(i);
+            SourceFile actual = cvrgMnger.getAllSrcs().get(i);
+            Assert.assertEquals(expected.getName(), actual.getName());
+            Assert.assertEquals(expected.getIndex(), actual.getIndex());
+            Assert.assertEquals(expected.getNumLines(), actual.getNumLines());
+            Assert.assertEquals(expected.getLinesInstrumented(), actual.getLinesInstrumented());
+            Assert.assertEquals(expected.getLinesExecuted(), actual.getLinesExecuted());
+            Assert.assertEquals(expected.getFnctns().size(), actual.getFnctns().size());
+            Assert.assertEquals(expected.getLines().size(), actual.getLines().size());
+            for (int j = 0; j < expected.getLines().size(); j++) {
+                Line expectedLine = expected.getLines().get(j);
+                Line actualLine = actual.getLines().get(j);
+                Assert.assertEquals(expected.getName() + ":" + j, expectedLine.exists(), actualLine.exists());
+                Assert.assertEquals(expected.getName() + ":" + j, expectedLine.getCount(), actualLine.getCount());
+            }
+        }
+        Assert.assertEquals(fnctns.size(), cvrgMnger.getAllFnctns().size());
+        for (int i = 0; i < fnctns.size(); i++) {
+            GcnoFunction expected = fnctns.get(i);
+            GcnoFunction actual = cvrgMnger.getAllFnctns().get(i);
+            Assert.assertEquals(expected.getName(), actual.getName());
+            Assert.assertEquals(expected.getCvrge().getLinesInstrumented(), actual.getCvrge().getLinesInstrumented());
+            Assert.assertEquals(expected.getCvrge().getLinesExecuted(), actual.getCvrge().getLinesExecuted());
+        }
+    }
+
+    private static DataInputStream openTraceFile(String path) throws IOException {
+        return new DataInputStream(new BufferedInputStream(new FileInputStream(path)));
+    }
+
     @Override
     protected ILaunchConfigurationType getLaunchConfigType() {
         return null;
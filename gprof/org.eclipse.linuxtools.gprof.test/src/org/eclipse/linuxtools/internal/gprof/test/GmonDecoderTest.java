@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.gprof.test;
+
+import static org.eclipse.linuxtools.internal.gprof.test.STJunitUtils.BINARY_FILE;
+import static org.eclipse.linuxtools.internal.gprof.test.STJunitUtils.OUTPUT_FILE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.cdt.core.IBinaryParser.IBinaryObject;
+import org.eclipse.cdt.core.IBinaryParser.ISymbol;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.linuxtools.binutils.utils.STSymbolManager;
+import org.eclipse.linuxtools.internal.gprof.parser.GmonDecoder;
+import org.junit.Test;
+
+/**
+ * Compares the memory-mapped and the stream based gmon decoders, and the
+ * merge of several gmon files with 'gprof -s'.
+ */
+public class GmonDecoderTest {
+
+    private static final int SYNTHETIC_BINS = 64 * 1024;
+    private static final int SYNTHETIC_ARCS = 2000;
+
+    @Test
+    public void testMappedMatchesStream() throws IOException {
+        for (File testDir : STJunitUtils.getTestDirs()) {
+            IBinaryObject binary = STSymbolManager.sharedInstance
+                    .getBinaryObject(new File(testDir, BINARY_FILE).getAbsolutePath());
+            String gmon = new File(testDir, OUTPUT_FILE).getAbsolutePath();
+            assertEquals(testDir.getName(), dump(binary, gmon, false), dump(binary, gmon, true));
+        }
+    }
+
+    @Test
+    public void testMergeMatchesGprofSum() throws IOException {
+        for (File testDir : STJunitUtils.getTestDirs()) {
+            IBinaryObject binary = STSymbolManager.sharedInstance
+                    .getBinaryObject(new File(testDir, BINARY_FILE).getAbsolutePath());
+            String gmon = new File(testDir, OUTPUT_FILE).getAbsolutePath();
+            // gmon.sum.ref is the result of 'gprof -s' on two copies of gmon.out
+            GmonDecoder sum = decode(binary, new File(testDir, "gmon.sum.ref").getAbsolutePath(), false);
+            GmonDecoder merged = new GmonDecoder(binary, null);
+            merged.read(Arrays.asList(gmon, gmon), new NullProgressMonitor());
+            assertEquals(testDir.getName(), sum.getRootNode().getSamples(), merged.getRootNode().getSamples());
+            assertEquals(testDir.getName(), sum.getRootNode().getChildren().size(),
+                    merged.getRootNode().getChildren().size());
+        }
+    }
+
+    @Test
+    public void testSyntheticGmon() throws IOException {
+        File testDir = STJunitUtils.getTestDirs()[0];
+        IBinaryObject binary = STSymbolManager.sharedInstance
+                .getBinaryObject(new File(testDir, BINARY_FILE).getAbsolutePath());
+        File gmon = File.createTempFile("synthetic", ".gmon");
+        try {
+            writeSyntheticGmon(binary, gmon);
+            String path = gmon.getAbsolutePath();
+            GmonDecoder mapped = decode(binary, path, false);
+            GmonDecoder stream = decode(binary, path, true);
+            assertTrue(mapped.getRootNode().getSamples() > 0);
+            assertEquals(stream.getRootNode().getSamples(), mapped.getRootNode().getSamples());
+            assertEquals(stream.getRootNode().getChildren().size(), mapped.getRootNode().getChildren().size());
+            assertEquals(dump(binary, path, true), dump(binary, path, false));
+        } finally {
+            gmon.delete();
+        }
+    }
+
+    private static GmonDecoder decode(IBinaryObject binary, String gmon, boolean stream) throws IOException {
+        GmonDecoder decoder = new GmonDecoder(binary, null);
+        if (stream) {
+            decoder.readStream(gmon);
+        } else {
+            decoder.read(gmon);
+        }
+        return decoder;
+    }
+
+    private static String dump(IBinaryObject binary, String gmon, boolean stream) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PrintStream ps = new PrintStream(out, true, StandardCharsets.UTF_8.name())) {
+            GmonDecoder decoder = new GmonDecoder(binary, ps, null);
+            decoder.setShouldDump(true);
+            if (stream) {
+                decoder.readStream(gmon);
+            } else {
+                decoder.read(gmon);
+            }
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a gmon file with one large histogram covering the symbols of
+     * the given binary, followed by random call arcs between them.
+     */
+    private static void writeSyntheticGmon(IBinaryObject binary, File gmon) throws IOException {
+        boolean is64 = binary.getAddressFactory().getMax().getSize() > 4 || binary.getCPU().endsWith("64");
+        int addrSize = is64 ? 8 : 4;
+        ISymbol[] symbols = binary.getSymbols();
+        long lowpc = symbols[0].getAddress().getValue().longValue();
+        long highpc = lowpc + 2L * SYNTHETIC_BINS;
+        Random random = new Random(42);
+
+        int histSize = 1 + 2 * addrSize + 4 + 4 + 15 + 1 + 2 * SYNTHETIC_BINS;
+        int arcSize = 1 + 2 * addrSize + 4;
+        ByteBuffer buffer = ByteBuffer.allocate(20 + histSize + SYNTHETIC_ARCS * arcSize);
+        buffer.order(binary.isLittleEndian() ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        buffer.put("gmon".getBytes(StandardCharsets.US_ASCII));
+        buffer.putInt(1);
+        buffer.put(new byte[12]);
+
+        buffer.put((byte) GmonDecoder.VPF_GMON_RECORD_TYPE_HISTOGRAM);
+        putAddress(buffer, lowpc, addrSize);
+        putAddress(buffer, highpc, addrSize);
+        buffer.putInt(SYNTHETIC_BINS);
+        buffer.putInt(100);
+        byte[] dimen = new byte[15];
+        System.arraycopy("seconds".getBytes(StandardCharsets.US_ASCII), 0, dimen, 0, 7);
+        buffer.put(dimen);
+        buffer.put((byte) 's');
+        for (int i = 0; i < SYNTHETIC_BINS; i++) {
+            buffer.putShort((short) random.nextInt(16));
+        }
+
+        for (int i = 0; i < SYNTHETIC_ARCS; i++) {
+            buffer.put((byte) GmonDecoder.VPF_GMON_RECORD_TYPE_CALLGRAPH);
+            putAddress(buffer, symbols[random.nextInt(symbols.length)].getAddress().getValue().longValue(), addrSize);
+            putAddress(buffer, symbols[random.nextInt(symbols.length)].getAddress().getValue().longValue(), addrSize);
+            buffer.putInt(1 + random.nextInt(1000));
+        }
+
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(gmon.toPath(), StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private static void putAddress(ByteBuffer buffer, long address, int addrSize) {
+        if (addrSize == 8) {
+            buffer.putLong(address);
+        } else {
+            buffer.putInt((int) address);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.gprof.test;
+
+import static org.eclipse.linuxtools.internal.gprof.test.STJunitUtils.BINARY_FILE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+
+import org.eclipse.cdt.core.IAddressFactory;
+import org.eclipse.cdt.core.IBinaryParser.IBinaryObject;
+import org.eclipse.cdt.core.IBinaryParser.ISymbol;
+import org.eclipse.linuxtools.binutils.utils.STSymbolManager;
+import org.eclipse.linuxtools.internal.gprof.symbolManager.SymbolIndex;
+import org.junit.Test;
+
+public class SymbolIndexTest {
+
+    @Test
+    public void testLookupMatchesBinary() {
+        for (File testDir : STJunitUtils.getTestDirs()) {
+            IBinaryObject binary = STSymbolManager.sharedInstance
+                    .getBinaryObject(new File(testDir, BINARY_FILE).getAbsolutePath());
+            SymbolIndex index = new SymbolIndex(binary);
+            ISymbol[] symbols = binary.getSymbols();
+            assertEquals(symbols.length, index.size());
+            for (ISymbol symbol : symbols) {
+                long start = symbol.getAddress().getValue().longValue();
+                long[] addresses = { start - 1, start, start + symbol.getSize() - 1, start + symbol.getSize() };
+                for (long address : addresses) {
+                    assertSame(testDir.getName() + " 0x" + Long.toHexString(address),
+                            lookup(binary, address), index.getSymbol(address));
+                }
+            }
+        }
+    }
+
+    private static ISymbol lookup(IBinaryObject binary, long address) {
+        IAddressFactory factory = binary.getAddressFactory();
+        return binary.getSymbol(factory.createAddress(Long.toString(address)));
+    }
+}
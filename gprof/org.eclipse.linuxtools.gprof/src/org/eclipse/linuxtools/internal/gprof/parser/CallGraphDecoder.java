@@ -14,15 +14,17 @@ package org.eclipse.linuxtools.internal.gprof.parser;
 
 import java.io.DataInput;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.cdt.core.IAddress;
-import org.eclipse.cdt.core.IAddressFactory;
 import org.eclipse.cdt.core.IBinaryParser.IBinaryObject;
 import org.eclipse.cdt.core.IBinaryParser.ISymbol;
 import org.eclipse.linuxtools.internal.gprof.symbolManager.CallGraphArc;
 import org.eclipse.linuxtools.internal.gprof.symbolManager.CallGraphNode;
+import org.eclipse.linuxtools.internal.gprof.symbolManager.SymbolIndex;
 import org.eclipse.linuxtools.internal.gprof.view.histogram.HistRoot;
 
 
@@ -38,6 +40,11 @@ public class CallGraphDecoder {
 
     private final Map<ISymbol, CallGraphNode> nodes = new HashMap<>();
 
+    /** Arcs read from gmon files, not yet added to the call graph, by parent and child */
+    private final Map<ISymbol, Map<ISymbol, PendingArc>> pendingArcs = new HashMap<>();
+    /** The same arcs, in the order they were first read */
+    private final List<PendingArc> pendingOrder = new ArrayList<>();
+
     /**
      * Constructor
      * @param decoder the Gmon decoder
@@ -55,16 +62,13 @@ public class CallGraphDecoder {
         long from_pc = readAddress(stream);
         long self_pc = readAddress(stream);
         int count    = bsdFormat?(int)readAddress(stream):stream.readInt();
-        IBinaryObject program = decoder.getProgram();
-        IAddressFactory addressFactory = program.getAddressFactory();
-        IAddress parentAddress = addressFactory.createAddress(Long.toString(from_pc));
-        ISymbol  parentSymbol  = program.getSymbol(parentAddress);
-        IAddress childAddress  = addressFactory.createAddress(Long.toString(self_pc));
-        ISymbol  childSymbol   = program.getSymbol(childAddress);
+        SymbolIndex symbols = decoder.getSymbolIndex();
+        ISymbol parentSymbol = symbols.getSymbol(from_pc);
+        ISymbol childSymbol  = symbols.getSymbol(self_pc);
         if (childSymbol == null || parentSymbol == null) {
             return;
         }
-        addCallArc(parentSymbol, parentAddress, childSymbol, count);
+        addPendingArc(parentSymbol, from_pc, childSymbol, count);
     }
 
 
@@ -73,7 +77,33 @@ public class CallGraphDecoder {
     }
 
 
-    private void addCallArc(ISymbol parent, IAddress parentAddress, ISymbol child, int count) {
+    private void addPendingArc(ISymbol parent, long parentAddress, ISymbol child, int count) {
+        Map<ISymbol, PendingArc> arcs = pendingArcs.get(parent);
+        if (arcs == null) {
+            arcs = new HashMap<>();
+            pendingArcs.put(parent, arcs);
+        }
+        PendingArc arc = arcs.get(child);
+        if (arc == null) {
+            arc = new PendingArc(parent, parentAddress, child, count);
+            arcs.put(child, arc);
+            pendingOrder.add(arc);
+        } else {
+            arc.count += count;
+        }
+    }
+
+    /**
+     * Adds the call arcs of another decoder to this one.
+     * @param other a decoder which has read another gmon file of the same program
+     */
+    void merge(CallGraphDecoder other) {
+        for (PendingArc arc : other.pendingOrder) {
+            addPendingArc(arc.parent, arc.parentAddress, arc.child, arc.count);
+        }
+    }
+
+    private void addCallArc(ISymbol parent, long parentAddress, ISymbol child, int count) {
         CallGraphNode parentNode = nodes.get(parent);
         CallGraphNode childNode  = nodes.get(child);
         if (parentNode == null) {
@@ -86,7 +116,9 @@ public class CallGraphDecoder {
         }
         CallGraphArc arc = parentNode.getOutputArc(childNode);
         if (arc == null) {
-            arc = new CallGraphArc(parentNode, parentAddress, childNode, count, decoder.getProgram(), decoder.getProject());
+            IBinaryObject program = decoder.getProgram();
+            IAddress address = program.getAddressFactory().createAddress(Long.toString(parentAddress));
+            arc = new CallGraphArc(parentNode, address, childNode, count, program, decoder.getProject());
             parentNode.getChildren().add(arc);
             childNode.getParents().add(arc);
         } else {
@@ -95,10 +127,27 @@ public class CallGraphDecoder {
     }
 
     void populate(HistRoot rootNode) {
+        for (PendingArc arc : pendingOrder) {
+            addCallArc(arc.parent, arc.parentAddress, arc.child, arc.count);
+        }
+        pendingArcs.clear();
+        pendingOrder.clear();
         for (CallGraphNode callGraphNode : nodes.values()) {
             rootNode.addCallGraphNode(callGraphNode);
         }
     }
 
-
+    private static final class PendingArc {
+        final ISymbol parent;
+        final long parentAddress;
+        final ISymbol child;
+        int count;
+
+        PendingArc(ISymbol parent, long parentAddress, ISymbol child, int count) {
+            this.parent = parent;
+            this.parentAddress = parentAddress;
+            this.child = child;
+            this.count = count;
+        }
+    }
 }
@@ -20,16 +20,35 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.text.DateFormat;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.cdt.core.IAddressFactory;
 import org.eclipse.cdt.core.IBinaryParser.IBinaryObject;
 import org.eclipse.cdt.core.IBinaryParser.ISymbol;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.linuxtools.binutils.utils.STSymbolManager;
 import org.eclipse.linuxtools.internal.gprof.Messages;
+import org.eclipse.linuxtools.internal.gprof.symbolManager.SymbolIndex;
+import org.eclipse.linuxtools.internal.gprof.utils.ByteBufferDataInput;
 import org.eclipse.linuxtools.internal.gprof.utils.LEDataInputStream;
 import org.eclipse.linuxtools.internal.gprof.view.histogram.HistRoot;
 
@@ -47,11 +66,15 @@ public class GmonDecoder {
 
     public static final int GMONVERSION = 0x00051879;
 
+    /** Interval (in ms) between progress updates when merging gmon files */
+    private static final long PROGRESS_INTERVAL = 100;
+
     // header
     private String cookie;
     private int gmonVersion;
 
     private final IBinaryObject program;
+    private SymbolIndex symbolIndex;
     final boolean _32_bit_platform;
     private HistogramDecoder histo;
     private CallGraphDecoder callGraph;
@@ -105,12 +128,163 @@ public class GmonDecoder {
     }
 
     /**
-     * Reads the given file
+     * Reads the given file. The file is memory-mapped and decoded in place;
+     * files too large to be mapped at once are read as a stream.
      *
      * @param file
      * @throws IOException
      */
     public void read(String file) throws IOException {
+        decode(file);
+        buildTree();
+    }
+
+    /**
+     * Reads the given file as a stream.
+     *
+     * @param file
+     * @throws IOException
+     */
+    public void readStream(String file) throws IOException {
+        decodeStream(file);
+        buildTree();
+    }
+
+    /**
+     * Reads and merges the given files, as 'gprof -s' would do. The files are
+     * decoded concurrently; their histograms and call arcs are then summed
+     * into this decoder.
+     *
+     * @param files gmon files produced by the same program
+     * @param monitor the progress monitor, may be <code>null</code>
+     * @throws IOException if a file cannot be read, or if the histograms of
+     *             the files are not compatible.
+     * @throws OperationCanceledException if the monitor is canceled
+     */
+    public void read(List<String> files, IProgressMonitor monitor) throws IOException {
+        if (files.isEmpty()) {
+            return;
+        }
+        SubMonitor progress = SubMonitor.convert(monitor, files.size());
+        this.file = files.get(0);
+        // built once here, then shared by the decoders of each file
+        getSymbolIndex();
+        AtomicInteger decoded = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool();
+        try {
+            ForkJoinTask<GmonDecoder> task = pool.submit(new MergeTask(files, 0, files.size(), decoded));
+            int reported = 0;
+            while (true) {
+                try {
+                    merge(task.get(PROGRESS_INTERVAL, TimeUnit.MILLISECONDS));
+                    break;
+                } catch (TimeoutException e) {
+                    // report progress below
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new OperationCanceledException();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof UncheckedIOException) {
+                        throw ((UncheckedIOException) cause).getCause();
+                    }
+                    throw new IOException(cause);
+                }
+                if (progress.isCanceled()) {
+                    task.cancel(true);
+                    throw new OperationCanceledException();
+                }
+                int done = decoded.get();
+                progress.worked(done - reported);
+                reported = done;
+            }
+            progress.worked(files.size() - reported);
+        } finally {
+            pool.shutdownNow();
+        }
+        buildTree();
+    }
+
+    /**
+     * Decodes the files of a range, splitting it until it contains only one
+     * file. The decoder of the first file of the range receives the merged
+     * result, so files are always merged in order.
+     */
+    private class MergeTask extends RecursiveTask<GmonDecoder> {
+        private static final long serialVersionUID = 1L;
+        private final List<String> files;
+        private final int start;
+        private final int end;
+        private final AtomicInteger decoded;
+
+        MergeTask(List<String> files, int start, int end, AtomicInteger decoded) {
+            this.files = files;
+            this.start = start;
+            this.end = end;
+            this.decoded = decoded;
+        }
+
+        @Override
+        protected GmonDecoder compute() {
+            try {
+                if (end - start == 1) {
+                    GmonDecoder partial = new GmonDecoder(program, null, project);
+                    partial.symbolIndex = symbolIndex;
+                    partial.decode(files.get(start));
+                    decoded.incrementAndGet();
+                    return partial;
+                }
+                int mid = (start + end) >>> 1;
+                MergeTask left = new MergeTask(files, start, mid, decoded);
+                left.fork();
+                GmonDecoder right = new MergeTask(files, mid, end, decoded).compute();
+                GmonDecoder merged = left.join();
+                merged.merge(right);
+                return merged;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Add the decoded content of another gmon file to this one.
+     */
+    private void merge(GmonDecoder other) throws IOException {
+        histo.merge(other.histo);
+        callGraph.merge(other.callGraph);
+    }
+
+    /**
+     * Build the tree representation of the decoded content.
+     */
+    private void buildTree() {
+        this.callGraph.populate(rootNode);
+        this.histo.assignSamplesSymbol();
+    }
+
+    private void decode(String file) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(file), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                decodeStream(file);
+                return;
+            }
+            this.file = file;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(program.isLittleEndian() ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+            ByteBufferDataInput input = new ByteBufferDataInput(buffer);
+            boolean gmonType = readHeader(input);
+            if (gmonType) {
+                readGmonContent(input);
+            } else {
+                input.position(0);
+                readOldContent(input);
+            }
+        }
+    }
+
+    private void decodeStream(String file) throws IOException {
         this.file = file;
         DataInputStream beStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
         if (program.isLittleEndian()) {
@@ -121,17 +295,7 @@ public class GmonDecoder {
                     readGmonContent(leStream);
                 else {
                     leStream.reset();
-                    histo.decodeOldHeader(leStream);
-                    histo.decodeHistRecord(leStream);
-                    try {
-                        do {
-                            this.callGraph.decodeCallGraphRecord(leStream, true);
-                        } while (true);
-                    } catch (EOFException e) {
-                        // normal. End of file reached.
-                    }
-                    this.callGraph.populate(rootNode);
-                    this.histo.assignSamplesSymbol();
+                    readOldContent(leStream);
                 }
             }
         } else {
@@ -142,17 +306,7 @@ public class GmonDecoder {
                     readGmonContent(beStream);
                 } else {
                     beStream.reset();
-                    histo.decodeOldHeader(beStream);
-                    histo.decodeHistRecord(beStream);
-                    try {
-                        do {
-                            this.callGraph.decodeCallGraphRecord(beStream, true);
-                        } while (true);
-                    } catch (EOFException e) {
-                        // normal. End of file reached.
-                    }
-                    this.callGraph.populate(rootNode);
-                    this.histo.assignSamplesSymbol();
+                    readOldContent(beStream);
                 }
             } finally {
                 beStream.close();
@@ -160,6 +314,25 @@ public class GmonDecoder {
         }
     }
 
+    /**
+     * Read the whole content of an old-style (BSD) gmon file, which has no
+     * "gmon" header.
+     *
+     * @param stream
+     * @throws IOException
+     */
+    private void readOldContent(DataInput stream) throws IOException {
+        histo.decodeOldHeader(stream);
+        histo.decodeHistRecord(stream);
+        try {
+            do {
+                this.callGraph.decodeCallGraphRecord(stream, true);
+            } while (true);
+        } catch (EOFException e) {
+            // normal. End of file reached.
+        }
+    }
+
     /**
      * Read gmon header
      *
@@ -211,10 +384,6 @@ public class GmonDecoder {
             }
 
         } while (true);
-
-        this.callGraph.populate(rootNode);
-        this.histo.assignSamplesSymbol();
-
     }
 
     public void dumpGmonResult(PrintStream ps) {
@@ -249,6 +418,16 @@ public class GmonDecoder {
         return program;
     }
 
+    /**
+     * @return the address index of the program symbols, built on first use
+     */
+    public SymbolIndex getSymbolIndex() {
+        if (symbolIndex == null) {
+            symbolIndex = new SymbolIndex(program);
+        }
+        return symbolIndex;
+    }
+
     /**
      * @return the rootNode
      */
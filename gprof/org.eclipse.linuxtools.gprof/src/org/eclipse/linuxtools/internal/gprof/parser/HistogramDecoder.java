@@ -15,10 +15,13 @@ package org.eclipse.linuxtools.internal.gprof.parser;
 import java.io.DataInput;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.ShortBuffer;
 
 import org.eclipse.cdt.core.IBinaryParser.ISymbol;
 import org.eclipse.linuxtools.internal.gprof.Messages;
 import org.eclipse.linuxtools.internal.gprof.symbolManager.Bucket;
+import org.eclipse.linuxtools.internal.gprof.symbolManager.SymbolIndex;
+import org.eclipse.linuxtools.internal.gprof.utils.ByteBufferDataInput;
 import org.eclipse.linuxtools.internal.gprof.view.histogram.HistRoot;
 
 
@@ -35,6 +38,9 @@ public class HistogramDecoder {
     private static final int GMON_HDRSIZE_OLDBSD_32 = (4 + 4 + 4) ;
     private static final int GMON_HDRSIZE_OLDBSD_64 = (8 + 8 + 4);
 
+    /** Number of bins copied at once when decoding a mapped histogram */
+    private static final int HIST_CHUNK_SIZE = 8192;
+
 
     /** the decoder */
     protected final GmonDecoder decoder;
@@ -173,12 +179,45 @@ public class HistogramDecoder {
 
 
 
+    /**
+     * Adds the histogram of another decoder to this one.
+     * @param other a decoder which has read another gmon file of the same program
+     * @throws IOException if the two histograms are not compatible
+     */
+    void merge(HistogramDecoder other) throws IOException {
+        if (!other.hasValues()) {
+            return;
+        }
+        if (!hasValues()) {
+            this.lowpc       = other.lowpc;
+            this.highpc      = other.highpc;
+            this.profRate    = other.profRate;
+            this.dimenAbbrev = other.dimenAbbrev;
+            this.bucketSize  = other.bucketSize;
+            this.hist_sample = other.hist_sample.clone();
+            this.initialized = true;
+            return;
+        }
+        initialized = true;
+        if (!isCompatible(other.lowpc, other.highpc, other.profRate, other.hist_sample.length)) {
+            throw new IOException(Messages.HistogramDecoder_INCOMPATIBLE_HIST_HEADER_ERROR_MSG);
+        }
+        for (int i = 0; i < hist_sample.length; i++) {
+            hist_sample[i] += other.hist_sample[i];
+        }
+    }
+
+
     /**
      * Reads hitogram record
      * @param stream a DataInputStream, pointing just after histogram header in a gmon file.
      * @throws IOException if an IO error occurs
      */
     public void decodeHistRecord(DataInput stream) throws IOException {
+        if (stream instanceof ByteBufferDataInput) {
+            decodeHistRecord((ByteBufferDataInput) stream);
+            return;
+        }
         for (int i = 0; i<hist_sample.length; i++) {
             short rv = stream.readShort();
             if (rv != 0) {
@@ -189,6 +228,25 @@ public class HistogramDecoder {
     }
 
 
+    /**
+     * Reads histogram record from a mapped gmon file, in bulk.
+     * @param input the mapped gmon, pointing just after histogram header.
+     * @throws IOException if the histogram is truncated
+     */
+    private void decodeHistRecord(ByteBufferDataInput input) throws IOException {
+        ShortBuffer bins = input.readShorts(hist_sample.length);
+        short[] chunk = new short[Math.min(hist_sample.length, HIST_CHUNK_SIZE)];
+        int i = 0;
+        while (bins.hasRemaining()) {
+            int n = Math.min(chunk.length, bins.remaining());
+            bins.get(chunk, 0, n);
+            for (int j = 0; j < n; j++) {
+                hist_sample[i++] += chunk[j] & 0xFFFF;
+            }
+        }
+    }
+
+
     /**
      * Print the histogram header, for debug usage.
      * @param ps a printstream (typically System.out)
@@ -236,7 +294,8 @@ public class HistogramDecoder {
      */
     public void assignSamplesSymbol() {
         if (hist_sample == null || hist_sample.length == 0) return;
-        ISymbol[] symblist = this.decoder.getProgram().getSymbols();
+        SymbolIndex symblist = this.decoder.getSymbolIndex();
+        if (symblist.size() == 0) return;
         /* read samples and assign to namelist symbols */
         int j = 1;
         for (int i = 0; i < hist_sample.length; i++)
@@ -248,11 +307,11 @@ public class HistogramDecoder {
                 long pch = pcl+bucketSize;
                 total_time += ccnt;
                 long svalue0;
-                long svalue1 = symblist[j-1].getAddress().getValue().longValue();
-                for (j = j-1; j < symblist.length - 1; j++)
+                long svalue1 = symblist.startAt(j-1);
+                for (j = j-1; j < symblist.size() - 1; j++)
                 {
                     svalue0 = svalue1;
-                    svalue1 = symblist[j+1].getAddress().getValue().longValue();
+                    svalue1 = symblist.startAt(j+1);
                     /* if high end of tick is below entry address,
                      * go for next tick. */
                     if(pch < svalue0) {
@@ -265,7 +324,7 @@ public class HistogramDecoder {
                         long end_addr   = pch<svalue1?pch:svalue1;
                         long overlap = end_addr - start_addr;
                         if(overlap > 0)    {
-                            ISymbol symbol = symblist[j];
+                            ISymbol symbol = symblist.symbolAt(j);
                             int time = (int) ((overlap * ccnt) / bucketSize);
                             Bucket   bck = new Bucket(start_addr, end_addr, time);
                             addBucket(bck,symbol);
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.gprof.symbolManager;
+
+import org.eclipse.cdt.core.IBinaryParser.IBinaryObject;
+import org.eclipse.cdt.core.IBinaryParser.ISymbol;
+
+/**
+ * Address index of the symbols of a binary.
+ *
+ * Symbol start and end addresses are copied once into primitive arrays, so
+ * that resolving an address is a binary search which does not allocate.
+ * Lookups follow the semantics of {@link IBinaryObject#getSymbol}.
+ */
+public class SymbolIndex {
+
+    private final ISymbol[] symbols;
+    /** start address of each symbol, sorted */
+    private final long[] starts;
+    /** end address (exclusive) of each symbol */
+    private final long[] ends;
+
+    /**
+     * Constructor
+     * @param program the binary to index
+     */
+    public SymbolIndex(IBinaryObject program) {
+        ISymbol[] syms = program.getSymbols();
+        this.symbols = syms == null ? new ISymbol[0] : syms;
+        this.starts = new long[symbols.length];
+        this.ends = new long[symbols.length];
+        for (int i = 0; i < symbols.length; i++) {
+            starts[i] = symbols[i].getAddress().getValue().longValue();
+            ends[i] = starts[i] + symbols[i].getSize();
+        }
+    }
+
+    /**
+     * @return the number of indexed symbols
+     */
+    public int size() {
+        return symbols.length;
+    }
+
+    /**
+     * @param index position of a symbol in the index
+     * @return the symbol
+     */
+    public ISymbol symbolAt(int index) {
+        return symbols[index];
+    }
+
+    /**
+     * @param index position of a symbol in the index
+     * @return the start address of the symbol
+     */
+    public long startAt(int index) {
+        return starts[index];
+    }
+
+    /**
+     * Find the symbol containing the given address.
+     * @param address an address in the binary
+     * @return the position of the symbol in the index, or -1 if no symbol
+     *         contains the address.
+     */
+    public int indexOf(long address) {
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Long.compareUnsigned(starts[mid], address);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        // low is the insertion point: the candidate is the symbol before it
+        if (low == 0 || Long.compareUnsigned(address, ends[low - 1]) >= 0) {
+            return -1;
+        }
+        return low - 1;
+    }
+
+    /**
+     * Find the symbol containing the given address.
+     * @param address an address in the binary
+     * @return the symbol, or <code>null</code> if no symbol contains the
+     *         address.
+     */
+    public ISymbol getSymbol(long address) {
+        int index = indexOf(address);
+        return index < 0 ? null : symbols[index];
+    }
+}
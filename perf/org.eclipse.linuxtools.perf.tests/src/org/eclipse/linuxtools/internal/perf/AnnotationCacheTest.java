@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.perf;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the on-disk cache of 'perf annotate' output. The test lives in the
+ * package of the cache, which is not part of the API of the plug-in.
+ */
+public class AnnotationCacheTest {
+
+    private File root;
+    private File dir;
+    private File perfData;
+
+    @Before
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("annotate-cache").toFile();
+        dir = new File(root, "data");
+        assertTrue(dir.mkdir());
+        perfData = new File(root, "perf.data");
+        write(perfData, "samples");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(root.toPath())) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void testHitAndMiss() {
+        AnnotationCache cache = new AnnotationCache(dir, perfData);
+        assertNull(cache.get("libc.so", "malloc"));
+        cache.put("libc.so", "malloc", "annotation");
+        assertEquals("annotation", cache.get("libc.so", "malloc"));
+        assertNull(cache.get("libc.so", "free"));
+        assertNull(cache.get("a.out", "malloc"));
+
+        // reopening the same perf data file finds the entries again
+        assertEquals("annotation", new AnnotationCache(dir, perfData).get("libc.so", "malloc"));
+    }
+
+    @Test
+    public void testInvalidation() throws IOException {
+        new AnnotationCache(dir, perfData).put("libc.so", "malloc", "annotation");
+
+        // touching the perf data file without changing it keeps the entries
+        assertTrue(perfData.setLastModified(perfData.lastModified() - 10000));
+        assertEquals("annotation", new AnnotationCache(dir, perfData).get("libc.so", "malloc"));
+
+        // a file of the same size with other contents does not
+        write(perfData, "SAMPLES");
+        assertTrue(perfData.setLastModified(perfData.lastModified() - 20000));
+        assertNull(new AnnotationCache(dir, perfData).get("libc.so", "malloc"));
+
+        // nor does a file of another size, and the stale entries are deleted
+        new AnnotationCache(dir, perfData).put("libc.so", "malloc", "annotation");
+        write(perfData, "more samples");
+        assertNull(new AnnotationCache(dir, perfData).get("libc.so", "malloc"));
+        assertEquals(0, dir.list().length);
+    }
+
+    @Test
+    public void testEviction() throws IOException {
+        File first = new File(root, "first");
+        File second = new File(root, "second");
+        assertTrue(first.mkdir());
+        assertTrue(second.mkdir());
+        write(new File(first, AnnotationCache.STAMP), "stamp");
+        write(new File(second, AnnotationCache.STAMP), "stamp");
+        long now = System.currentTimeMillis();
+        File oldest = entry(first, "a", 100, now - 30000);
+        File old = entry(second, "b", 100, now - 20000);
+        File recent = entry(second, "c", 100, now - 10000);
+
+        // nothing is evicted while the entries fit, stamps aside
+        AnnotationCache.evict(root, 300);
+        assertTrue(oldest.isFile() && old.isFile() && recent.isFile());
+
+        // the least recently used entries go first, across perf data files
+        AnnotationCache.evict(root, 150);
+        assertFalse(oldest.exists());
+        assertFalse(old.exists());
+        assertTrue(recent.isFile());
+        // and the directory of a perf data file left without entries is deleted
+        assertFalse(first.exists());
+        assertTrue(second.isDirectory());
+    }
+
+    /**
+     * Only the output of commands which succeeded is cached, and cached output
+     * is returned without running the command.
+     */
+    @Test
+    public void testFailedCommand() throws IOException, InterruptedException {
+        AnnotationCache cache = new AnnotationCache(dir, perfData);
+        String[] failing = new String[] { "sh", "-c", "echo partial; echo failed >&2; exit 1" };
+        String[] result = PerfCore.annotate(failing, null, null, cache,
+                ConcurrentHashMap.newKeySet(), "libc.so", "malloc");
+        assertArrayEquals(new String[] { "partial\n", "failed\n" }, result);
+        assertNull(cache.get("libc.so", "malloc"));
+
+        String[] succeeding = new String[] { "sh", "-c", "echo complete" };
+        result = PerfCore.annotate(succeeding, null, null, cache,
+                ConcurrentHashMap.newKeySet(), "libc.so", "malloc");
+        assertEquals("complete\n", result[0]);
+        assertEquals("complete\n", cache.get("libc.so", "malloc"));
+
+        result = PerfCore.annotate(failing, null, null, cache,
+                ConcurrentHashMap.newKeySet(), "libc.so", "malloc");
+        assertArrayEquals(new String[] { "complete\n", "" }, result);
+    }
+
+    private static File entry(File dir, String name, int size, long lastModified) throws IOException {
+        File f = new File(dir, name);
+        Files.write(f.toPath(), new byte[size]);
+        assertTrue(f.setLastModified(lastModified));
+        return f;
+    }
+
+    private static void write(File f, String contents) throws IOException {
+        Files.write(f.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -23,6 +23,8 @@ import java.io.BufferedReader;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -39,6 +41,7 @@ import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.linuxtools.internal.perf.PerfCore;
+import org.eclipse.linuxtools.internal.perf.PerfDataReader;
 import org.eclipse.linuxtools.internal.perf.PerfPlugin;
 import org.eclipse.linuxtools.internal.perf.launch.PerfEventsTab;
 import org.eclipse.linuxtools.internal.perf.launch.PerfOptionsTab;
@@ -233,6 +236,95 @@ public class ModelTest extends AbstractTest {
                 "ld-2.14.90.so", "perf" };
         checkCommadLabels(cmdLabels, cmd);
     }
+    @Test
+    public void testNativeReaderDefaultEvent() throws IOException {
+        TreeParent invisibleRoot = new TreeParent("");
+        PerfDataReader.read("resources/defaultevent-data/perf.data",
+                invisibleRoot, false, null);
+
+        checkChildrenStructure(invisibleRoot, stack);
+        checkChildrenPercentages(invisibleRoot, invisibleRoot.getPercent());
+
+        assertEquals(1, invisibleRoot.getChildren().length);
+        TreeParent event = invisibleRoot.getChildren()[0];
+        assertEquals("cycles", event.getName());
+
+        TreeParent cmd = event.getChild("hellotest");
+        assertNotNull(cmd);
+        PMDso dso = (PMDso) cmd.getChild("hellotest");
+        assertNotNull(dso);
+        assertEquals("/home/cabernal/runtime-EclipseApplication/hellotest/Debug/hellotest", dso.getPath());
+        assertEquals(99.01, dso.getPercent(), 0.01);
+        assertTrue(((PMDso) cmd.getChild("[kernel.kallsyms]")).isKernelDso());
+    }
+
+    @Test
+    public void testNativeReaderMixedSampleTypes() throws IOException {
+        // cpu-clock samples of 'alpha' hold an ip, a tid and a period, page-faults
+        // samples of 'beta' also hold a time and an address before their period
+        TreeParent invisibleRoot = new TreeParent("");
+        PerfDataReader.read("resources/mixedsampletype-data/perf.data",
+                invisibleRoot, false, null);
+
+        assertEquals(2, invisibleRoot.getChildren().length);
+        TreeParent cpuClock = invisibleRoot.getChild("cpu-clock");
+        assertNotNull(cpuClock.getChild("alpha"));
+        assertEquals(1, cpuClock.getChildren().length);
+
+        TreeParent pageFaults = invisibleRoot.getChild("page-faults");
+        assertEquals(1, pageFaults.getChildren().length);
+        TreeParent file = pageFaults.getChild("beta").getChild("[unknown]")
+                .getChild(PerfPlugin.STRINGS_UnfiledSymbols);
+        // 0x2000 was sampled twice and 0x2001 once, all with the same period
+        assertEquals(66.67, file.getChild("[.] 0x0000000000002000").getPercent(), 0.01);
+        assertEquals(33.33, file.getChild("[.] 0x0000000000002001").getPercent(), 0.01);
+    }
+
+    @Test
+    public void testChildIndex() {
+        PMFile file = new PMFile("testFile");
+        PMSymbol first = new PMSymbol("sym", 10, 10);
+        PMSymbol second = new PMSymbol("sym", 20, 20);
+        PMSymbol other = new PMSymbol("other", 30, 30);
+        file.addChild(first);
+        file.addChild(second);
+        file.addChild(other);
+
+        assertEquals(first, file.getChild("sym"));
+        assertEquals(other, file.getChild("other"));
+        assertEquals(60, file.getPercent(), 0);
+
+        // lookups fall back to the remaining child with the same name
+        file.removeChild(first);
+        assertEquals(second, file.getChild("sym"));
+        file.removeChild(second);
+        assertEquals(null, file.getChild("sym"));
+        assertEquals(30, file.getPercent(), 0);
+    }
+
+    @Test
+    public void testLargeSyntheticReport() {
+        // powers of two keep the per-symbol percentage exact as a float
+        final int dsos = 8;
+        final int symbolsPerDso = 16384;
+        TreeParent invisibleRoot = new TreeParent("");
+        BufferedReader input = new BufferedReader(new SyntheticReportReader(dsos, symbolsPerDso));
+        BufferedReader error = new BufferedReader(new StringReader(""));
+
+        PerfCore.parseReport(config, null, null, "perf.data", null,
+                invisibleRoot, false, input, error);
+
+        assertEquals(1, invisibleRoot.getChildren().length);
+        TreeParent cmd = invisibleRoot.getChildren()[0].getChildren()[0];
+        assertEquals(dsos, cmd.getChildren().length);
+        for (TreeParent dso : cmd.getChildren()) {
+            TreeParent file = ((PMDso) dso).getFile(PerfPlugin.STRINGS_UnfiledSymbols);
+            assertEquals(symbolsPerDso, file.getChildren().length);
+            assertNotNull(file.getChild("[.] sym" + (symbolsPerDso - 1))); //$NON-NLS-1$
+        }
+        checkChildrenPercentages(invisibleRoot, invisibleRoot.getPercent());
+    }
+
     @Test
     public void testParseEventList() throws FileNotFoundException {
         BufferedReader input = new BufferedReader(new FileReader("resources/simple-perf-event-list"));
@@ -494,4 +586,47 @@ public class ModelTest extends AbstractTest {
             cmdList.remove(0);
         }
     }
+
+    /**
+     * Generates a perf report in the custom field separator format on the fly,
+     * one command, the given number of dsos and the given number of symbols
+     * in each, sharing 100% of the samples evenly.
+     */
+    private static class SyntheticReportReader extends Reader {
+        private final int dsos;
+        private final int symbolsPerDso;
+        private final float percent;
+        private int line = -1;
+        private String current = "# Samples: 1M of event 'cycles'\n"; //$NON-NLS-1$
+        private int pos = 0;
+
+        public SyntheticReportReader(int dsos, int symbolsPerDso) {
+            this.dsos = dsos;
+            this.symbolsPerDso = symbolsPerDso;
+            this.percent = 100f / (dsos * symbolsPerDso);
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            if (pos == current.length()) {
+                line++;
+                if (line >= dsos * symbolsPerDso) {
+                    return -1;
+                }
+                char sep = (char) 1;
+                current = percent + "%" + sep + "10" + sep + "cmd" + sep //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                        + "lib" + (line / symbolsPerDso) + ".so" + sep //$NON-NLS-1$ //$NON-NLS-2$
+                        + "[.] sym" + (line % symbolsPerDso) + "\n"; //$NON-NLS-1$ //$NON-NLS-2$
+                pos = 0;
+            }
+            int n = Math.min(len, current.length() - pos);
+            current.getChars(pos, pos + n, cbuf, off);
+            pos += n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
 }
@@ -0,0 +1,342 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.perf;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * On-disk cache of 'perf annotate' output.
+ *
+ * Entries are stored under the plug-in state location, in a directory
+ * named after the hash of the perf data file path, and keyed by the hash of
+ * the dso and symbol names. The directory records the size and modification
+ * time of the perf data file, so that opening the cache does not read the
+ * file. Its contents are only hashed when the cache is first filled, and
+ * when the file was touched without changing size, to tell whether the
+ * entries still apply. Reopening the same perf data file therefore does not
+ * need to run 'perf annotate' again.
+ *
+ * The cache of all perf data files is bounded by {@link #MAX_CACHE_SIZE}:
+ * whenever a cache is opened, the least recently used entries are evicted
+ * until the total size of the entries fits again.
+ */
+public class AnnotationCache {
+
+    private static final String CACHE_DIR = "annotate-cache"; //$NON-NLS-1$
+    private static final String HASH_ALGORITHM = "SHA-1"; //$NON-NLS-1$
+    /** name of the file recording which perf data file the entries belong to */
+    static final String STAMP = "stamp"; //$NON-NLS-1$
+    /** upper bound of the total size of the entries of all perf data files */
+    static final long MAX_CACHE_SIZE = 64L * 1024 * 1024;
+
+    private final File dir;
+    private final File perfData;
+    private final long size;
+    private final long lastModified;
+    /** whether the entries of the directory are known to belong to the perf data file */
+    private boolean valid;
+    /** hash of the contents of the perf data file, computed when first needed */
+    private String dataHash;
+
+    AnnotationCache(File dir, File perfData) {
+        this.dir = dir;
+        this.perfData = perfData;
+        this.size = perfData.length();
+        this.lastModified = perfData.lastModified();
+    }
+
+    /**
+     * Get the cache for the given perf data file.
+     *
+     * @param perfDataLoc location of the perf data file
+     * @return the cache, or <code>null</code> if the perf data file is not
+     *         available locally or no state location exists.
+     */
+    public static AnnotationCache forPerfData(String perfDataLoc) {
+        if (perfDataLoc == null || PerfPlugin.getDefault() == null) {
+            return null;
+        }
+        File perfData = new File(perfDataLoc).getAbsoluteFile();
+        if (!perfData.isFile()) {
+            return null;
+        }
+        try {
+            IPath stateLoc = PerfPlugin.getDefault().getStateLocation();
+            File root = stateLoc.append(CACHE_DIR).toFile();
+            evict(root, MAX_CACHE_SIZE);
+            File dir = new File(root, toHex(newDigest().digest(perfData.getPath().getBytes(StandardCharsets.UTF_8))));
+            if (!dir.isDirectory() && !dir.mkdirs()) {
+                return null;
+            }
+            return new AnnotationCache(dir, perfData);
+        } catch (IllegalStateException e) {
+            PerfCore.logException(e);
+            return null;
+        }
+    }
+
+    /**
+     * Get the cached annotation for a symbol.
+     *
+     * @param dso name of the dso containing the symbol
+     * @param symbol name of the symbol
+     * @return the 'perf annotate' output, or <code>null</code> if it has not
+     *         been cached.
+     */
+    public String get(String dso, String symbol) {
+        if (!validate(false)) {
+            return null;
+        }
+        File entry = getEntry(dso, symbol);
+        if (!entry.isFile()) {
+            return null;
+        }
+        try {
+            String annotation = new String(Files.readAllBytes(entry.toPath()), StandardCharsets.UTF_8);
+            // the modification time of entries tells which were used last
+            entry.setLastModified(System.currentTimeMillis());
+            return annotation;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Store the annotation of a symbol.
+     *
+     * @param dso name of the dso containing the symbol
+     * @param symbol name of the symbol
+     * @param annotation the 'perf annotate' output
+     */
+    public void put(String dso, String symbol, String annotation) {
+        if (!validate(true)) {
+            return;
+        }
+        File entry = getEntry(dso, symbol);
+        File tmp = null;
+        try {
+            // write to a temporary file first so readers never see partial entries
+            tmp = File.createTempFile(entry.getName(), null, dir);
+            Files.write(tmp.toPath(), annotation.getBytes(StandardCharsets.UTF_8));
+            Files.move(tmp.toPath(), entry.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            tmp = null;
+        } catch (IOException e) {
+            PerfCore.logException(e);
+        } finally {
+            if (tmp != null) {
+                tmp.delete();
+            }
+        }
+    }
+
+    /**
+     * Make sure the entries of the directory belong to the perf data file as
+     * it was when the cache was opened, deleting them otherwise.
+     *
+     * @param create whether to start a new set of entries if they do not
+     *            belong to the perf data file. This hashes the contents of
+     *            the file, so it is only done before storing an entry.
+     * @return <code>false</code> if the entries cannot be used.
+     */
+    private synchronized boolean validate(boolean create) {
+        if (valid) {
+            return true;
+        }
+        File stamp = new File(dir, STAMP);
+        try {
+            Stamp recorded = Stamp.read(stamp);
+            if (recorded != null && recorded.size == size) {
+                if (recorded.lastModified == lastModified) {
+                    valid = true;
+                    return true;
+                }
+                // the file may have been touched without being changed: compare the contents then
+                if (recorded.hash.equals(getDataHash())) {
+                    new Stamp(size, lastModified, getDataHash()).write(stamp);
+                    valid = true;
+                    return true;
+                }
+            }
+            if (recorded != null) {
+                clear();
+            }
+            if (!create) {
+                return false;
+            }
+            new Stamp(size, lastModified, getDataHash()).write(stamp);
+            valid = true;
+            return true;
+        } catch (IOException e) {
+            PerfCore.logException(e);
+            return false;
+        }
+    }
+
+    private String getDataHash() throws IOException {
+        if (dataHash == null) {
+            dataHash = hash(perfData);
+        }
+        return dataHash;
+    }
+
+    private void clear() {
+        File[] entries = dir.listFiles();
+        if (entries != null) {
+            for (File f : entries) {
+                f.delete();
+            }
+        }
+    }
+
+    private File getEntry(String dso, String symbol) {
+        MessageDigest md = newDigest();
+        md.update(dso.getBytes(StandardCharsets.UTF_8));
+        md.update((byte) 0);
+        md.update(symbol.getBytes(StandardCharsets.UTF_8));
+        return new File(dir, toHex(md.digest()));
+    }
+
+    /**
+     * Delete the least recently used entries until the total size of the
+     * entries of all perf data files is at most the given size.
+     *
+     * @param root the directory holding the cache of every perf data file
+     * @param maxSize the maximum total size of the entries, in bytes
+     */
+    static synchronized void evict(File root, long maxSize) {
+        File[] dataDirs = root.listFiles(File::isDirectory);
+        if (dataDirs == null) {
+            return;
+        }
+        List<File> entries = new ArrayList<>();
+        long total = 0;
+        for (File dataDir : dataDirs) {
+            File[] files = dataDir.listFiles(f -> f.isFile() && !f.getName().equals(STAMP));
+            if (files != null) {
+                for (File f : files) {
+                    entries.add(f);
+                    total += f.length();
+                }
+            }
+        }
+        if (total <= maxSize) {
+            return;
+        }
+        entries.sort(Comparator.comparingLong(File::lastModified));
+        for (File f : entries) {
+            if (total <= maxSize) {
+                break;
+            }
+            long length = f.length();
+            if (f.delete()) {
+                total -= length;
+            }
+        }
+        for (File dataDir : dataDirs) {
+            String[] names = dataDir.list();
+            // drop the directories left with their stamp only
+            if (names != null && names.length == 1 && names[0].equals(STAMP)) {
+                new File(dataDir, STAMP).delete();
+            }
+            // only succeeds on directories left empty
+            dataDir.delete();
+        }
+    }
+
+    private static String hash(File file) throws IOException {
+        MessageDigest md = newDigest();
+        byte[] buf = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            int n;
+            while ((n = in.read(buf)) != -1) {
+                md.update(buf, 0, n);
+            }
+        }
+        return toHex(md.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-1
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b)); //$NON-NLS-1$
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Size, modification time and content hash of the perf data file the
+     * entries of a directory belong to.
+     */
+    private static final class Stamp {
+        private final long size;
+        private final long lastModified;
+        private final String hash;
+
+        Stamp(long size, long lastModified, String hash) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.hash = hash;
+        }
+
+        /**
+         * @return the stamp, or <code>null</code> if there is none or it
+         *         cannot be read.
+         */
+        static Stamp read(File file) {
+            if (!file.isFile()) {
+                return null;
+            }
+            try (DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+                return new Stamp(in.readLong(), in.readLong(), in.readUTF());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        void write(File file) throws IOException {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(file.toPath())))) {
+                out.writeLong(size);
+                out.writeLong(lastModified);
+                out.writeUTF(hash);
+            }
+        }
+    }
+}
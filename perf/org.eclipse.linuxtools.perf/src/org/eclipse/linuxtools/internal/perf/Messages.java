@@ -19,6 +19,8 @@ public class Messages extends NLS {
     private static final String BUNDLE_NAME = "org.eclipse.linuxtools.internal.perf.messages"; //$NON-NLS-1$
     public static String MsgProxyError;
     public static String MsgNoProjectError;
+    public static String MsgPerfDataUnsupported;
+    public static String MsgPerfDataTruncated;
     static {
         // initialize resource bundle
         NLS.initializeMessages(BUNDLE_NAME, Messages.class);
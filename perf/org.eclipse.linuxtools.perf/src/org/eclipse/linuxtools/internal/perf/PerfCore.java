@@ -13,15 +13,24 @@
 package org.eclipse.linuxtools.internal.perf;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.PrintStream;
+import java.io.StringReader;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -370,6 +379,14 @@ public class PerfCore {
 
         TreeParent invisibleRoot = PerfPlugin.getDefault().clearModelRoot();
 
+        if (monitor != null && monitor.isCanceled()) {
+            return;
+        }
+
+        if (reportNative(config, workingDir, monitor, perfDataLoc, print, invisibleRoot, project)) {
+            return;
+        }
+
         PerfVersion perfVersion = getPerfVersion(config);
         boolean oldPerfVersion = false;
 
@@ -415,6 +432,54 @@ public class PerfCore {
                 invisibleRoot, oldPerfVersion, input, error, project);
     }
 
+    /**
+     * Build the tree model by reading a local perf data file directly,
+     * without running 'perf report', if enabled in the configuration.
+     * @return true if the model was built, false if 'perf report' should be
+     * used instead.
+     */
+    private static boolean reportNative(ILaunchConfiguration config,
+            IPath workingDir, IProgressMonitor monitor, String perfDataLoc,
+            PrintStream print, TreeParent invisibleRoot, IProject project) {
+        boolean nativeReader = PerfPlugin.ATTR_NativeDataReader_default;
+        boolean sourceLineNumbers = PerfPlugin.ATTR_SourceLineNumbers_default;
+        try {
+            nativeReader = config.getAttribute(PerfPlugin.ATTR_NativeDataReader, PerfPlugin.ATTR_NativeDataReader_default);
+            sourceLineNumbers = config.getAttribute(PerfPlugin.ATTR_SourceLineNumbers, PerfPlugin.ATTR_SourceLineNumbers_default);
+        } catch (CoreException e) {
+            return false;
+        }
+        String dataLoc = (workingDir == null) ? perfDataLoc
+                : workingDir.toOSString() + PerfPlugin.PERF_DEFAULT_DATA;
+        // remote projects still go through perf report
+        if (!nativeReader || dataLoc == null || !new File(dataLoc).isFile()
+                || (project != null && project.getLocation() == null)) {
+            return false;
+        }
+
+        try {
+            PerfDataReader.read(dataLoc, invisibleRoot, sourceLineNumbers, monitor);
+        } catch (IOException e) {
+            logException(e);
+            invisibleRoot.clear();
+            return false;
+        }
+        PerfPlugin.getDefault().setPerfProfileData(new Path(dataLoc));
+        if (workingDir != null) {
+            PerfPlugin.getDefault().setWorkingDir(workingDir);
+        } else if (project != null) {
+            PerfPlugin.getDefault().setWorkingDir(project.getLocation());
+        }
+        if (print != null) {
+            if (invisibleRoot.hasChildren()) {
+                print.println("Profile data loaded into Perf Profile View."); //$NON-NLS-1$
+            } else {
+                print.println("No profile data generated to be displayed."); //$NON-NLS-1$
+            }
+        }
+        return true;
+    }
+
     /**
      * Parse and build a tree model from the report of a perf data file
      * @param config launch configuration
@@ -447,7 +512,6 @@ public class PerfCore {
         String items[];
         float percent;
 
-        Process p = null;
         double samples;
         String comm,dso,symbol;
         boolean kernelFlag;
@@ -475,7 +539,7 @@ public class PerfCore {
                             event = event.substring(1, event.length() -1);
                         }
                         currentEvent = new PMEvent(event);
-                        invisibleRoot.addChild(currentEvent);
+                        invisibleRoot.addChild(currentEvent, false);
                         currentCommand = null;
                         currentDso = null;
                     } else if (line.contains("Samples:")) { //"samples" was used instead of events in an older version, some incompatibilities may arise. //$NON-NLS-1$
@@ -500,7 +564,7 @@ public class PerfCore {
                         currentCommand = (PMCommand) currentEvent.getChild(comm);
                         if(currentCommand == null) {
                             currentCommand = new PMCommand(comm);
-                            currentEvent.addChild(currentCommand);
+                            currentEvent.addChild(currentCommand, false);
                         }
                     }
 
@@ -509,7 +573,7 @@ public class PerfCore {
                         currentDso = (PMDso) currentCommand.getChild(dso);
                         if (currentDso == null) {
                             currentDso = new PMDso(dso,kernelFlag);
-                            currentCommand.addChild(currentDso);
+                            currentCommand.addChild(currentDso, false);
                         }
                     }
 
@@ -522,7 +586,7 @@ public class PerfCore {
                      */
                     currentFile = currentDso.getFile(PerfPlugin.STRINGS_UnfiledSymbols);
                     currentSym = new PMSymbol(symbol, percent, samples);
-                    currentFile.addChild(currentSym);
+                    currentFile.addChild(currentSym, false);
                 }
             }
         } catch (IOException e) {
@@ -530,6 +594,9 @@ public class PerfCore {
         }
         spitStream(error,"Perf Report", print); //$NON-NLS-1$
 
+        // Children were added without updating percentages, sum them up once
+        invisibleRoot.calculatePercentages();
+
         boolean SourceLineNumbers = PerfPlugin.ATTR_SourceLineNumbers_default;
         boolean Kernel_SourceLineNumbers = PerfPlugin.ATTR_Kernel_SourceLineNumbers_default;
         try {
@@ -547,68 +614,83 @@ public class PerfCore {
         boolean hasProfileData = invisibleRoot.getChildren().length != 0;
 
         if (SourceLineNumbers) {
-            for (TreeParent ev : invisibleRoot.getChildren()) {
-                if (!(ev instanceof PMEvent)) continue;
-                for (TreeParent cmd : ev.getChildren()) {
-                    if (!(cmd instanceof PMCommand)) continue;
-                    for (TreeParent d : cmd.getChildren()) {
-                        if (!(d instanceof PMDso)) continue;
-                        currentDso = (PMDso)d;
-                        if ((!Kernel_SourceLineNumbers) && currentDso.isKernelDso()) continue;
-                        for (TreeParent s : currentDso.getFile(PerfPlugin.STRINGS_UnfiledSymbols).getChildren()) {
-                            if (!(s instanceof PMSymbol)) continue;
-
-                            if (monitor != null && monitor.isCanceled()) {
-                                return;
-                            }
-                            currentSym = (PMSymbol)s;
-                            String[] annotateCmd;
-                            if (workingDir == null) {
-                                annotateCmd = getAnnotateString(config, currentDso.getName(), currentSym.getName().substring(4), perfDataLoc, oldPerfVersion);
-                            } else {
-                                String perfDefaultDataLoc = workingDir + "/" + PerfPlugin.PERF_DEFAULT_DATA; //$NON-NLS-1$
-                                annotateCmd = getAnnotateString(config, currentDso.getName(), currentSym.getName().substring(4), perfDefaultDataLoc, oldPerfVersion);
-                            }
+            int annotateJobs = PerfPlugin.ATTR_AnnotateJobs_default;
+            try {
+                annotateJobs = Math.max(1, config.getAttribute(PerfPlugin.ATTR_AnnotateJobs, PerfPlugin.ATTR_AnnotateJobs_default));
+            } catch (CoreException e) {
+                // keep the default
+            }
+            String annotateDataLoc = (workingDir == null) ? perfDataLoc
+                    : workingDir + "/" + PerfPlugin.PERF_DEFAULT_DATA; //$NON-NLS-1$
+            AnnotationCache cache = AnnotationCache.forPerfData(annotateDataLoc);
 
-                            try {
-                                if(project==null) {
-                                    p = Runtime.getRuntime().exec(annotateCmd);
-                                } else {
-                                    StringBuilder sb = new StringBuilder();
-                                    ArrayList<String> al = new ArrayList<>();
-                                    /*
-                                     *  Wrap the whole Perf annotate line as a single argument of sh command
-                                     *   so that any IO redirection will take effect. Change to working directory before run perf annotate.
-                                     *  It results on a command string as 'sh', '-c', 'cd <workindir> && perf annotate <args> < /dev/null'
-                                     */
-                                    al.add("sh"); //$NON-NLS-1$
-                                    al.add("-c"); //$NON-NLS-1$
-                                    if(workingDir != null) {
-                                        sb.append("cd " + workingDir.toOSString() + " && "); //$NON-NLS-1$ //$NON-NLS-2$
-                                    }
-                                    for(int i=0; i<annotateCmd.length; i++) {
-                                        sb.append(annotateCmd[i]);
-                                        sb.append(" "); //$NON-NLS-1$
-                                    }
-                                    al.add(sb.toString());
-                                    p = RuntimeProcessFactory.getFactory().exec(al.toArray(new String[]{}), project);
-                                }
-                                input = new BufferedReader(new InputStreamReader(p.getInputStream()));
-                                error = new BufferedReader(new InputStreamReader(p.getErrorStream()));
-                            } catch (IOException e) {
-                                logException(e);
+            /*
+             * Run 'perf annotate' for every symbol on a bounded pool. Workers
+             * only produce the annotation text, the model is updated from this
+             * thread alone, in the order the symbols appear in the report.
+             */
+            Map<PMDso, List<Future<String[]>>> annotations = new LinkedHashMap<>();
+            Map<Future<String[]>, PMSymbol> symbols = new HashMap<>();
+            Set<Process> processes = ConcurrentHashMap.newKeySet();
+            ExecutorService pool = Executors.newFixedThreadPool(annotateJobs);
+            try {
+                for (TreeParent ev : invisibleRoot.getChildren()) {
+                    if (!(ev instanceof PMEvent)) continue;
+                    for (TreeParent cmd : ev.getChildren()) {
+                        if (!(cmd instanceof PMCommand)) continue;
+                        for (TreeParent d : cmd.getChildren()) {
+                            if (!(d instanceof PMDso)) continue;
+                            currentDso = (PMDso)d;
+                            if ((!Kernel_SourceLineNumbers) && currentDso.isKernelDso()) continue;
+                            List<Future<String[]>> dsoAnnotations = new ArrayList<>();
+                            for (TreeParent s : currentDso.getFile(PerfPlugin.STRINGS_UnfiledSymbols).getChildren()) {
+                                if (!(s instanceof PMSymbol)) continue;
+                                currentSym = (PMSymbol)s;
+                                final String dsoName = currentDso.getName();
+                                final String symName = currentSym.getName().substring(4);
+                                final String[] annotateCmd = getAnnotateString(config, dsoName, symName, annotateDataLoc, oldPerfVersion);
+                                Future<String[]> f = pool.submit(() -> annotate(annotateCmd, workingDir, project, cache, processes, dsoName, symName));
+                                dsoAnnotations.add(f);
+                                symbols.put(f, currentSym);
                             }
-
-                            PerfCore.parseAnnotation(monitor, input, workingDir, currentDso, currentSym);
+                            annotations.put(currentDso, dsoAnnotations);
                         }
+                    }
+                }
 
-                        if (currentDso.getFile(PerfPlugin.STRINGS_UnfiledSymbols).getChildren().length == 0) {
-                            currentDso.removeChild(currentDso.getFile(PerfPlugin.STRINGS_UnfiledSymbols));
+                for (PMDso dsoNode : annotations.keySet()) {
+                    for (Future<String[]> f : annotations.get(dsoNode)) {
+                        if (monitor != null && monitor.isCanceled()) {
+                            return;
+                        }
+                        String[] result;
+                        try {
+                            result = f.get();
+                        } catch (ExecutionException e) {
+                            logException(e);
+                            continue;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
                         }
-                        spitStream(error,"Perf Annotate", print); //$NON-NLS-1$
+                        PerfCore.parseAnnotation(monitor, new BufferedReader(new StringReader(result[0])),
+                                workingDir, dsoNode, symbols.get(f), false);
+                        spitStream(new BufferedReader(new StringReader(result[1])), "Perf Annotate", print); //$NON-NLS-1$
                     }
+
+                    if (dsoNode.getFile(PerfPlugin.STRINGS_UnfiledSymbols).getChildren().length == 0) {
+                        dsoNode.removeChild(dsoNode.getFile(PerfPlugin.STRINGS_UnfiledSymbols), false);
+                    }
+                }
+            } finally {
+                pool.shutdownNow();
+                // Stop the commands still running if the job was cancelled
+                for (Process p : processes) {
+                    p.destroy();
                 }
             }
+            // Symbols were moved between files without updating percentages
+            invisibleRoot.calculatePercentages();
         }
 
         if (print != null) {
@@ -620,6 +702,75 @@ public class PerfCore {
         }
     }
 
+    /**
+     * Run 'perf annotate' for a single symbol, or fetch its output from
+     * the annotation cache.
+     * @param annotateCmd the annotate command
+     * @param workingDir working directory configuration
+     * @param project project, or null to run locally
+     * @param cache annotation cache, or null if caching is not possible
+     * @param processes running commands, to be destroyed if the job is cancelled
+     * @param dso dso name
+     * @param symbol symbol name
+     * @return the standard output and standard error of the command
+     * @throws IOException if the command could not be run
+     * @throws InterruptedException if the job was cancelled
+     */
+    static String[] annotate(String[] annotateCmd, IPath workingDir, IProject project,
+            AnnotationCache cache, Set<Process> processes, String dso, String symbol)
+            throws IOException, InterruptedException {
+        if (cache != null) {
+            String cached = cache.get(dso, symbol);
+            if (cached != null) {
+                return new String[] { cached, "" }; //$NON-NLS-1$
+            }
+        }
+
+        Process p;
+        if(project==null) {
+            p = Runtime.getRuntime().exec(annotateCmd);
+        } else {
+            StringBuilder sb = new StringBuilder();
+            ArrayList<String> al = new ArrayList<>();
+            /*
+             *  Wrap the whole Perf annotate line as a single argument of sh command
+             *   so that any IO redirection will take effect. Change to working directory before run perf annotate.
+             *  It results on a command string as 'sh', '-c', 'cd <workindir> && perf annotate <args> < /dev/null'
+             */
+            al.add("sh"); //$NON-NLS-1$
+            al.add("-c"); //$NON-NLS-1$
+            if(workingDir != null) {
+                sb.append("cd " + workingDir.toOSString() + " && "); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            for(int i=0; i<annotateCmd.length; i++) {
+                sb.append(annotateCmd[i]);
+                sb.append(" "); //$NON-NLS-1$
+            }
+            al.add(sb.toString());
+            p = RuntimeProcessFactory.getFactory().exec(al.toArray(new String[]{}), project);
+        }
+
+        processes.add(p);
+        try {
+            // The pool was shut down before the process was recorded
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException();
+            }
+            String out = spitStream(new BufferedReader(new InputStreamReader(p.getInputStream())), null, null);
+            String err = spitStream(new BufferedReader(new InputStreamReader(p.getErrorStream())), null, null);
+            // Only a complete annotation may be reused
+            if (p.waitFor() == 0 && cache != null && !out.isEmpty()) {
+                cache.put(dso, symbol, out);
+            }
+            return new String[] { out, err };
+        } catch (InterruptedException e) {
+            p.destroy();
+            throw e;
+        } finally {
+            processes.remove(p);
+        }
+    }
+
     /**
      * Parse annotation file for a dso given a symbol
      * @param monitor monitor
@@ -631,6 +782,12 @@ public class PerfCore {
     public static void parseAnnotation(IProgressMonitor monitor,
             BufferedReader input, IPath workingDir, PMDso currentDso,
             PMSymbol currentSym) {
+        parseAnnotation(monitor, input, workingDir, currentDso, currentSym, true);
+    }
+
+    private static void parseAnnotation(IProgressMonitor monitor,
+            BufferedReader input, IPath workingDir, PMDso currentDso,
+            PMSymbol currentSym, boolean recalculate) {
 
         if (monitor != null && monitor.isCanceled()) {
             return;
@@ -691,13 +848,13 @@ public class PerfCore {
                         currentSym.addPercent(lineNum, percent);
                         // Symbol currently in 'Unfiled Symbols' but we now know the actual parent
                         if (currentSym.getParent().getName().equals(PerfPlugin.STRINGS_UnfiledSymbols)) {
-                            currentSym.getParent().removeChild(currentSym);
-                            currentDso.getFile(items[0]).addChild(currentSym);
+                            currentSym.getParent().removeChild(currentSym, recalculate);
+                            currentDso.getFile(items[0]).addChild(currentSym, recalculate);
                             // Symbol has 2 (or more) parents
                         } else if (!((PMFile)currentSym.getParent()).getPath().equals(items[0])) {
                             currentSym.markConflict();
-                            currentSym.getParent().removeChild(currentSym);
-                            currentDso.getFile(PerfPlugin.STRINGS_MultipleFilesForSymbol).addChild(currentSym);
+                            currentSym.getParent().removeChild(currentSym, recalculate);
+                            currentDso.getFile(PerfPlugin.STRINGS_MultipleFilesForSymbol).addChild(currentSym, recalculate);
                         }
                     }
                 }
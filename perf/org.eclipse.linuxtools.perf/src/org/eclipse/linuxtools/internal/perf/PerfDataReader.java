@@ -0,0 +1,762 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.perf;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.eclipse.cdt.core.IAddress;
+import org.eclipse.cdt.core.IBinaryParser.IBinaryObject;
+import org.eclipse.cdt.core.IBinaryParser.ISymbol;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.linuxtools.binutils.utils.STSymbolManager;
+import org.eclipse.linuxtools.internal.perf.model.PMCommand;
+import org.eclipse.linuxtools.internal.perf.model.PMDso;
+import org.eclipse.linuxtools.internal.perf.model.PMEvent;
+import org.eclipse.linuxtools.internal.perf.model.PMFile;
+import org.eclipse.linuxtools.internal.perf.model.PMSymbol;
+import org.eclipse.linuxtools.internal.perf.model.TreeParent;
+
+/**
+ * Reader for the perf.data file format that builds the report model
+ * without running 'perf report'.
+ *
+ * The file header, the attribute section and the event descriptions are
+ * decoded, then the data section is memory mapped and scanned for
+ * PERF_RECORD_COMM, PERF_RECORD_FORK, PERF_RECORD_MMAP(2) and
+ * PERF_RECORD_SAMPLE records. Sample addresses are resolved to symbols of
+ * the mapped binaries through {@link STSymbolManager}, so only these
+ * binaries need to be available locally.
+ */
+public class PerfDataReader {
+
+    // "PERFILE2" read as a little endian 64 bit value
+    private static final long MAGIC = 0x32454c4946524550L;
+    // "PERFFILE", the version 1 format whose byte order is guessed from the header
+    private static final long MAGIC_V1 = 0x454c494646524550L;
+    private static final long MAX_ATTR_SIZE = 4096;
+    private static final int FILE_HEADER_SIZE = 104;
+    private static final int FILE_SECTION_SIZE = 16;
+    private static final int FEATURE_BITS = 256;
+    private static final int HEADER_EVENT_DESC = 12;
+
+    private static final int PERF_RECORD_MMAP = 1;
+    private static final int PERF_RECORD_COMM = 3;
+    private static final int PERF_RECORD_FORK = 7;
+    private static final int PERF_RECORD_SAMPLE = 9;
+    private static final int PERF_RECORD_MMAP2 = 10;
+    private static final int PERF_RECORD_HEADER_SIZE = 8;
+
+    private static final long PERF_SAMPLE_IP = 1L << 0;
+    private static final long PERF_SAMPLE_TID = 1L << 1;
+    private static final long PERF_SAMPLE_TIME = 1L << 2;
+    private static final long PERF_SAMPLE_ADDR = 1L << 3;
+    private static final long PERF_SAMPLE_ID = 1L << 6;
+    private static final long PERF_SAMPLE_CPU = 1L << 7;
+    private static final long PERF_SAMPLE_PERIOD = 1L << 8;
+    private static final long PERF_SAMPLE_STREAM_ID = 1L << 9;
+    private static final long PERF_SAMPLE_IDENTIFIER = 1L << 16;
+
+    private static final long ATTR_FLAG_FREQ = 1L << 10;
+    private static final long ATTR_FLAG_SAMPLE_ID_ALL = 1L << 18;
+
+    private static final int CPUMODE_MASK = 7;
+    private static final int CPUMODE_KERNEL = 1;
+    private static final int CPUMODE_GUEST_KERNEL = 4;
+
+    private static final int PERF_TYPE_HARDWARE = 0;
+    private static final int PERF_TYPE_SOFTWARE = 1;
+    private static final String[] HARDWARE_EVENTS = { "cycles", "instructions", //$NON-NLS-1$ //$NON-NLS-2$
+            "cache-references", "cache-misses", "branch-instructions", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            "branch-misses", "bus-cycles", "stalled-cycles-frontend", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            "stalled-cycles-backend", "ref-cycles" }; //$NON-NLS-1$ //$NON-NLS-2$
+    private static final String[] SOFTWARE_EVENTS = { "cpu-clock", "task-clock", //$NON-NLS-1$ //$NON-NLS-2$
+            "page-faults", "context-switches", "cpu-migrations", "minor-faults", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+            "major-faults", "alignment-faults", "emulation-faults" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+    private static final String KERNEL_DSO = "[kernel.kallsyms]"; //$NON-NLS-1$
+    private static final String UNKNOWN_DSO = "[unknown]"; //$NON-NLS-1$
+    private static final int KERNEL_PID = -1;
+
+    // Size of the window of the data section mapped at once
+    private static final long MAP_WINDOW = 256L * 1024 * 1024;
+
+    private static class Attr {
+        private int type;
+        private long config;
+        private long samplePeriod;
+        private long sampleType;
+        private long flags;
+        private String name;
+        private long totalPeriod;
+        // comm -> dso -> symbol -> [period, samples]
+        private final Map<String, Map<Dso, Map<String, long[]>>> hits = new HashMap<>();
+    }
+
+    private static class Mapping {
+        private final long time;
+        private final long start;
+        private final long len;
+        private final long pgoff;
+        private final Dso dso;
+
+        private Mapping(long time, long start, long len, long pgoff, Dso dso) {
+            this.time = time;
+            this.start = start;
+            this.len = len;
+            this.pgoff = pgoff;
+            this.dso = dso;
+        }
+    }
+
+    /**
+     * A COMM, FORK or MMAP record. These are collected in a first pass and
+     * replayed in time order, because the records of different CPUs are not
+     * ordered in the file.
+     */
+    private static class Sideband {
+        private int type;
+        private int misc;
+        private long time;
+        private int pid;
+        private int ppid;
+        private int tid;
+        private int ptid;
+        private long start;
+        private long len;
+        private long pgoff;
+        private String name;
+    }
+
+    private interface RecordHandler {
+        void handle(ByteBuffer buf, int type, int misc, int off, int size);
+    }
+
+    private static class Dso {
+        private final String path;
+        private final String name;
+        private final boolean kernel;
+        private boolean loaded;
+        private IBinaryObject binary;
+        private boolean executable;
+        // address -> symbol name, and symbol name -> source file
+        private final Map<Long, String> symbols = new HashMap<>();
+        private final Map<String, String> files = new HashMap<>();
+
+        private Dso(String path, boolean kernel) {
+            this.path = path;
+            this.kernel = kernel;
+            if (path.startsWith(KERNEL_DSO)) {
+                name = KERNEL_DSO;
+            } else {
+                name = path.substring(path.lastIndexOf('/') + 1);
+            }
+        }
+    }
+
+    private final FileChannel channel;
+    private final boolean resolveFiles;
+    private ByteOrder order = ByteOrder.LITTLE_ENDIAN;
+    private final List<Attr> attrs = new ArrayList<>();
+    private final Map<Long, Attr> attrsById = new HashMap<>();
+    // index of the id among the fields of a sample, the same for all the events, or -1 if there is none
+    private int sampleIdPos = -1;
+    private long dataOffset;
+    private long dataEnd;
+    // size of the sample_id fields trailing non-sample records, and offset of the time among them
+    private int sampleIdSize;
+    private int sampleIdTimeOffset = -1;
+    private final List<Sideband> sideband = new ArrayList<>();
+    // tid -> time -> comm
+    private final Map<Integer, TreeMap<Long, String>> comms = new HashMap<>();
+    // pid -> start address -> mappings at this address, by time
+    private final Map<Integer, TreeMap<Long, List<Mapping>>> mappings = new HashMap<>();
+    private final Map<String, Dso> dsos = new HashMap<>();
+
+    private PerfDataReader(FileChannel channel, boolean resolveFiles) {
+        this.channel = channel;
+        this.resolveFiles = resolveFiles;
+    }
+
+    /**
+     * Read a perf.data file and add its content to the given model.
+     *
+     * @param perfDataLoc location of the perf data file
+     * @param invisibleRoot root of the model
+     * @param resolveFiles whether symbols should be filed under their source
+     * file rather than under 'Unfiled Symbols'
+     * @param monitor progress monitor, may be null
+     * @throws IOException if the file cannot be read or is not in a supported
+     * format.
+     */
+    public static void read(String perfDataLoc, TreeParent invisibleRoot,
+            boolean resolveFiles, IProgressMonitor monitor) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(perfDataLoc, "r"); //$NON-NLS-1$
+                FileChannel channel = file.getChannel()) {
+            PerfDataReader reader = new PerfDataReader(channel, resolveFiles);
+            reader.readHeader();
+            if (!reader.scan(reader::collectSideband, monitor)) {
+                return;
+            }
+            reader.applySideband();
+            if (!reader.scan(reader::handleSample, monitor)) {
+                return;
+            }
+            reader.buildModel(invisibleRoot);
+        }
+    }
+
+    private ByteBuffer readAt(long pos, int len) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(len).order(order);
+        while (buf.hasRemaining()) {
+            if (channel.read(buf, pos + buf.position()) < 0) {
+                throw new IOException(Messages.MsgPerfDataTruncated);
+            }
+        }
+        buf.flip();
+        return buf;
+    }
+
+    /**
+     * Decode the file header, the attributes and the event descriptions.
+     */
+    private void readHeader() throws IOException {
+        ByteBuffer header = readAt(0, FILE_HEADER_SIZE);
+        long magic = header.getLong(0);
+        if (magic == Long.reverseBytes(MAGIC)) {
+            order = ByteOrder.BIG_ENDIAN;
+            header.order(order);
+        } else if (magic == MAGIC_V1) {
+            if (Long.compareUnsigned(header.getLong(16), MAX_ATTR_SIZE) > 0) {
+                order = ByteOrder.BIG_ENDIAN;
+                header.order(order);
+            }
+        } else if (magic != MAGIC) {
+            throw new IOException(Messages.MsgPerfDataUnsupported);
+        }
+        long attrSize = header.getLong(16);
+        long attrsOffset = header.getLong(24);
+        long attrsSize = header.getLong(32);
+        dataOffset = header.getLong(40);
+        long dataSize = header.getLong(48);
+        if (dataSize == 0) {
+            // perf record was interrupted before it could update the header
+            dataSize = channel.size() - dataOffset;
+        }
+        dataEnd = dataOffset + dataSize;
+
+        readAttrs(attrSize, attrsOffset, attrsSize);
+        readEventDescriptions(header, dataEnd);
+
+        Attr attr = attrs.get(0);
+        if ((attr.flags & ATTR_FLAG_SAMPLE_ID_ALL) != 0) {
+            long sampleType = attr.sampleType;
+            if ((sampleType & PERF_SAMPLE_TID) != 0) {
+                sampleIdSize += 8;
+            }
+            if ((sampleType & PERF_SAMPLE_TIME) != 0) {
+                sampleIdTimeOffset = sampleIdSize;
+                sampleIdSize += 8;
+            }
+            for (long bit : new long[] { PERF_SAMPLE_ID, PERF_SAMPLE_STREAM_ID,
+                    PERF_SAMPLE_CPU, PERF_SAMPLE_IDENTIFIER }) {
+                if ((sampleType & bit) != 0) {
+                    sampleIdSize += 8;
+                }
+            }
+        }
+    }
+
+    /**
+     * Scan the records of the data section, mapping it window by window.
+     * @return false if the monitor was canceled.
+     */
+    private boolean scan(RecordHandler handler, IProgressMonitor monitor) throws IOException {
+        long pos = dataOffset;
+        long bufStart = pos;
+        MappedByteBuffer buf = null;
+        int count = 0;
+        while (pos + PERF_RECORD_HEADER_SIZE <= dataEnd) {
+            if (buf == null || pos + PERF_RECORD_HEADER_SIZE > bufStart + buf.limit()) {
+                bufStart = pos;
+                buf = map(pos, dataEnd);
+            }
+            int off = (int) (pos - bufStart);
+            int type = buf.getInt(off);
+            int misc = buf.getShort(off + 4) & 0xffff;
+            int size = buf.getShort(off + 6) & 0xffff;
+            if (size < PERF_RECORD_HEADER_SIZE || pos + size > dataEnd) {
+                throw new IOException(Messages.MsgPerfDataTruncated);
+            }
+            if (pos + size > bufStart + buf.limit()) {
+                // record straddles the mapped window
+                bufStart = pos;
+                buf = map(pos, dataEnd);
+                off = 0;
+            }
+            handler.handle(buf, type, misc, off, size);
+            pos += size;
+            if (++count % 100000 == 0 && monitor != null && monitor.isCanceled()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private MappedByteBuffer map(long pos, long end) throws IOException {
+        MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, pos,
+                Math.min(MAP_WINDOW, end - pos));
+        buf.order(order);
+        return buf;
+    }
+
+    private void readAttrs(long attrSize, long attrsOffset, long attrsSize) throws IOException {
+        if (attrSize <= FILE_SECTION_SIZE || attrsSize % attrSize != 0) {
+            throw new IOException(Messages.MsgPerfDataUnsupported);
+        }
+        ByteBuffer buf = readAt(attrsOffset, (int) attrsSize);
+        for (int off = 0; off < attrsSize; off += attrSize) {
+            Attr attr = new Attr();
+            attr.type = buf.getInt(off);
+            attr.config = buf.getLong(off + 8);
+            attr.samplePeriod = buf.getLong(off + 16);
+            attr.sampleType = buf.getLong(off + 24);
+            attr.flags = buf.getLong(off + 40);
+            attr.name = defaultEventName(attr);
+            attrs.add(attr);
+
+            // perf_file_section of sample ids follows the attribute
+            int idsOff = (int) (off + attrSize - FILE_SECTION_SIZE);
+            long idsOffset = buf.getLong(idsOff);
+            long idsSize = buf.getLong(idsOff + 8);
+            if (idsSize > 0) {
+                ByteBuffer ids = readAt(idsOffset, (int) idsSize);
+                while (ids.remaining() >= 8) {
+                    attrsById.put(ids.getLong(), attr);
+                }
+            }
+        }
+        if (attrs.isEmpty()) {
+            throw new IOException(Messages.MsgPerfDataUnsupported);
+        }
+        // as perf does, the event of a sample is found from its id, which
+        // must be at the same position whatever the sample type of the event
+        sampleIdPos = idPosition(attrs.get(0).sampleType);
+        for (Attr attr : attrs) {
+            if (idPosition(attr.sampleType) != sampleIdPos) {
+                throw new IOException(Messages.MsgPerfDataUnsupported);
+            }
+        }
+    }
+
+    private static int idPosition(long sampleType) {
+        if ((sampleType & PERF_SAMPLE_IDENTIFIER) != 0) {
+            return 0;
+        }
+        if ((sampleType & PERF_SAMPLE_ID) == 0) {
+            return -1;
+        }
+        int pos = 0;
+        for (long bit : new long[] { PERF_SAMPLE_IP, PERF_SAMPLE_TID, PERF_SAMPLE_TIME, PERF_SAMPLE_ADDR }) {
+            if ((sampleType & bit) != 0) {
+                pos++;
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Use the event names recorded in the HEADER_EVENT_DESC feature section
+     * when it is present.
+     */
+    private void readEventDescriptions(ByteBuffer header, long featuresOffset) throws IOException {
+        int section = 0;
+        for (int bit = 0; bit < HEADER_EVENT_DESC; bit++) {
+            if (isFeatureSet(header, bit)) {
+                section++;
+            }
+        }
+        if (!isFeatureSet(header, HEADER_EVENT_DESC)) {
+            return;
+        }
+        ByteBuffer sec = readAt(featuresOffset + (long) section * FILE_SECTION_SIZE, FILE_SECTION_SIZE);
+        long offset = sec.getLong();
+        long size = sec.getLong();
+        ByteBuffer desc = readAt(offset, (int) size);
+        int nr = desc.getInt();
+        int attrSize = desc.getInt();
+        for (int i = 0; i < nr && i < attrs.size(); i++) {
+            desc.position(desc.position() + attrSize);
+            int nrIds = desc.getInt();
+            String name = readString(desc);
+            desc.position(desc.position() + nrIds * 8);
+            if (!name.isEmpty()) {
+                attrs.get(i).name = name;
+            }
+        }
+    }
+
+    private static boolean isFeatureSet(ByteBuffer header, int bit) {
+        if (bit >= FEATURE_BITS) {
+            return false;
+        }
+        long word = header.getLong(FILE_HEADER_SIZE - 32 + (bit / 64) * 8);
+        return (word & (1L << (bit % 64))) != 0;
+    }
+
+    /**
+     * Read a perf_header_string, a length followed by a NUL padded string.
+     */
+    private static String readString(ByteBuffer buf) {
+        int len = buf.getInt();
+        byte[] bytes = new byte[len];
+        buf.get(bytes);
+        return cString(bytes, 0, len);
+    }
+
+    private static String cString(byte[] bytes, int off, int max) {
+        int len = 0;
+        while (len < max && bytes[off + len] != 0) {
+            len++;
+        }
+        return new String(bytes, off, len, StandardCharsets.UTF_8);
+    }
+
+    private static String cString(ByteBuffer buf, int off, int max) {
+        byte[] bytes = new byte[max];
+        for (int i = 0; i < max; i++) {
+            bytes[i] = buf.get(off + i);
+        }
+        return cString(bytes, 0, max);
+    }
+
+    private static String defaultEventName(Attr attr) {
+        if (attr.type == PERF_TYPE_HARDWARE && attr.config >= 0 && attr.config < HARDWARE_EVENTS.length) {
+            return HARDWARE_EVENTS[(int) attr.config];
+        } else if (attr.type == PERF_TYPE_SOFTWARE && attr.config >= 0 && attr.config < SOFTWARE_EVENTS.length) {
+            return SOFTWARE_EVENTS[(int) attr.config];
+        }
+        return String.format("r%x", attr.config); //$NON-NLS-1$
+    }
+
+    private void collectSideband(ByteBuffer buf, int type, int misc, int off, int size) {
+        if (type != PERF_RECORD_COMM && type != PERF_RECORD_FORK
+                && type != PERF_RECORD_MMAP && type != PERF_RECORD_MMAP2) {
+            return;
+        }
+        int body = off + PERF_RECORD_HEADER_SIZE;
+        int bodySize = size - PERF_RECORD_HEADER_SIZE;
+        Sideband sb = new Sideband();
+        sb.type = type;
+        sb.misc = misc;
+        sb.pid = buf.getInt(body);
+        if (sampleIdTimeOffset >= 0) {
+            sb.time = buf.getLong(off + size - sampleIdSize + sampleIdTimeOffset);
+        }
+        switch (type) {
+        case PERF_RECORD_COMM:
+            sb.tid = buf.getInt(body + 4);
+            sb.name = cString(buf, body + 8, bodySize - 8);
+            break;
+        case PERF_RECORD_FORK:
+            sb.ppid = buf.getInt(body + 4);
+            sb.tid = buf.getInt(body + 8);
+            sb.ptid = buf.getInt(body + 12);
+            sb.time = buf.getLong(body + 16);
+            break;
+        default:
+            sb.start = buf.getLong(body + 8);
+            sb.len = buf.getLong(body + 16);
+            sb.pgoff = buf.getLong(body + 24);
+            // MMAP2 has maj, min, ino, ino_generation, prot and flags before the file name
+            int nameOff = type == PERF_RECORD_MMAP ? 32 : 64;
+            sb.name = cString(buf, body + nameOff, bodySize - nameOff);
+            break;
+        }
+        sideband.add(sb);
+    }
+
+    private void applySideband() {
+        // stable sort, records with the same time keep their file order
+        sideband.sort((a, b) -> Long.compareUnsigned(a.time, b.time));
+        for (Sideband sb : sideband) {
+            switch (sb.type) {
+            case PERF_RECORD_COMM:
+                comms.computeIfAbsent(sb.tid, t -> new TreeMap<>(Long::compareUnsigned)).put(sb.time, sb.name);
+                break;
+            case PERF_RECORD_FORK:
+                String comm = getComm(sb.ptid, sb.time);
+                if (comm != null) {
+                    comms.computeIfAbsent(sb.tid, t -> new TreeMap<>(Long::compareUnsigned)).putIfAbsent(sb.time, comm);
+                }
+                TreeMap<Long, List<Mapping>> parentMaps = mappings.get(sb.ppid);
+                if (sb.pid != sb.ppid && parentMaps != null) {
+                    // a new process starts with the mappings of its parent
+                    TreeMap<Long, List<Mapping>> maps = new TreeMap<>(Long::compareUnsigned);
+                    for (Entry<Long, List<Mapping>> e : parentMaps.entrySet()) {
+                        for (Mapping m : e.getValue()) {
+                            if (Long.compareUnsigned(m.time, sb.time) <= 0) {
+                                maps.computeIfAbsent(e.getKey(), k -> new ArrayList<>()).add(m);
+                            }
+                        }
+                    }
+                    mappings.put(sb.pid, maps);
+                }
+                break;
+            default:
+                int cpumode = sb.misc & CPUMODE_MASK;
+                boolean kernel = sb.pid == KERNEL_PID || cpumode == CPUMODE_KERNEL || cpumode == CPUMODE_GUEST_KERNEL;
+                Dso dso = dsos.computeIfAbsent(sb.name, f -> new Dso(f, kernel));
+                mappings.computeIfAbsent(kernel ? KERNEL_PID : sb.pid, p -> new TreeMap<>(Long::compareUnsigned))
+                        .computeIfAbsent(sb.start, k -> new ArrayList<>())
+                        .add(new Mapping(sb.time, sb.start, sb.len, sb.pgoff, dso));
+                break;
+            }
+        }
+        sideband.clear();
+    }
+
+    /**
+     * @return the name of the thread at the given time, or null if unknown.
+     */
+    private String getComm(int tid, long time) {
+        TreeMap<Long, String> names = comms.get(tid);
+        if (names == null) {
+            return null;
+        }
+        Entry<Long, String> e = names.floorEntry(time);
+        return e != null ? e.getValue() : names.firstEntry().getValue();
+    }
+
+    private void handleSample(ByteBuffer buf, int type, int misc, int off, int size) {
+        if (type != PERF_RECORD_SAMPLE) {
+            return;
+        }
+        int p = off + PERF_RECORD_HEADER_SIZE;
+        Attr attr = null;
+        if (sampleIdPos >= 0) {
+            attr = attrsById.get(buf.getLong(p + 8 * sampleIdPos));
+        }
+        if (attr == null) {
+            attr = attrs.get(0);
+        }
+        long sampleType = attr.sampleType;
+        long ip = 0;
+        int pid = 0;
+        int tid = 0;
+        long time = 0;
+        long period = -1;
+        if ((sampleType & PERF_SAMPLE_IDENTIFIER) != 0) {
+            p += 8;
+        }
+        if ((sampleType & PERF_SAMPLE_IP) != 0) {
+            ip = buf.getLong(p);
+            p += 8;
+        }
+        if ((sampleType & PERF_SAMPLE_TID) != 0) {
+            pid = buf.getInt(p);
+            tid = buf.getInt(p + 4);
+            p += 8;
+        }
+        if ((sampleType & PERF_SAMPLE_TIME) != 0) {
+            time = buf.getLong(p);
+            p += 8;
+        }
+        if ((sampleType & PERF_SAMPLE_ADDR) != 0) {
+            p += 8;
+        }
+        if ((sampleType & PERF_SAMPLE_ID) != 0) {
+            p += 8;
+        }
+        if ((sampleType & PERF_SAMPLE_STREAM_ID) != 0) {
+            p += 8;
+        }
+        if ((sampleType & PERF_SAMPLE_CPU) != 0) {
+            p += 8;
+        }
+        if ((sampleType & PERF_SAMPLE_PERIOD) != 0) {
+            period = buf.getLong(p);
+        }
+
+        if (period == -1) {
+            period = (attr.flags & ATTR_FLAG_FREQ) == 0 ? attr.samplePeriod : 1;
+        }
+
+        int cpumode = misc & CPUMODE_MASK;
+        boolean kernel = cpumode == CPUMODE_KERNEL || cpumode == CPUMODE_GUEST_KERNEL;
+        Mapping map = findMapping(kernel ? KERNEL_PID : pid, ip, time);
+        String comm = getComm(tid, time);
+        if (comm == null) {
+            comm = getComm(pid, time);
+        }
+        if (comm == null) {
+            comm = ":" + pid; //$NON-NLS-1$
+        }
+        Dso dso = map != null ? map.dso : dsos.computeIfAbsent(UNKNOWN_DSO, f -> new Dso(f, kernel));
+        String symbol = (kernel ? "[k] " : "[.] ") + resolveSymbol(map, ip); //$NON-NLS-1$ //$NON-NLS-2$
+
+        long[] hit = attr.hits.computeIfAbsent(comm, c -> new HashMap<>())
+                .computeIfAbsent(dso, d -> new HashMap<>())
+                .computeIfAbsent(symbol, s -> new long[2]);
+        hit[0] += period;
+        hit[1]++;
+        attr.totalPeriod += period;
+    }
+
+    private Mapping findMapping(int pid, long ip, long time) {
+        TreeMap<Long, List<Mapping>> maps = mappings.get(pid);
+        if (maps == null) {
+            return null;
+        }
+        Entry<Long, List<Mapping>> e = maps.floorEntry(ip);
+        if (e == null) {
+            return null;
+        }
+        // the latest mapping at this address made before the sample
+        Mapping map = e.getValue().get(0);
+        for (Mapping m : e.getValue()) {
+            if (Long.compareUnsigned(m.time, time) <= 0) {
+                map = m;
+            }
+        }
+        if (Long.compareUnsigned(ip - map.start, map.len) >= 0) {
+            return null;
+        }
+        return map;
+    }
+
+    private String resolveSymbol(Mapping map, long ip) {
+        String unresolved = String.format("0x%016x", ip); //$NON-NLS-1$
+        if (map == null || map.dso.kernel) {
+            return unresolved;
+        }
+        Dso dso = map.dso;
+        if (!dso.loaded) {
+            loadDso(dso);
+        }
+        if (dso.binary == null) {
+            return unresolved;
+        }
+        // Executables are linked at fixed addresses, shared objects and
+        // position independent executables are resolved by file offset.
+        long addr = dso.executable ? ip : ip - map.start + map.pgoff;
+        String name = dso.symbols.get(addr);
+        if (name == null) {
+            IAddress address = dso.binary.getAddressFactory().createAddress(BigInteger.valueOf(addr));
+            ISymbol sym = dso.binary.getSymbol(address);
+            if (sym == null) {
+                name = unresolved;
+            } else {
+                name = STSymbolManager.sharedInstance.demangle(sym, null);
+                if (resolveFiles && !dso.files.containsKey(name)) {
+                    dso.files.put(name, STSymbolManager.sharedInstance.getFilename(sym, null));
+                }
+            }
+            dso.symbols.put(addr, name);
+        }
+        return name;
+    }
+
+    private static void loadDso(Dso dso) {
+        dso.loaded = true;
+        dso.binary = STSymbolManager.sharedInstance.getBinaryObject(dso.path);
+        if (dso.binary == null) {
+            return;
+        }
+        // e_type is ET_EXEC (2) for executables linked at a fixed address
+        try (RandomAccessFile f = new RandomAccessFile(dso.path, "r")) { //$NON-NLS-1$
+            byte[] ident = new byte[18];
+            f.readFully(ident);
+            int type = ident[5] == 2 ? ((ident[16] & 0xff) << 8) | (ident[17] & 0xff)
+                    : ((ident[17] & 0xff) << 8) | (ident[16] & 0xff);
+            dso.executable = type == 2;
+        } catch (IOException e) {
+            dso.executable = false;
+        }
+    }
+
+    private static class Row {
+        private final String comm;
+        private final Dso dso;
+        private final String symbol;
+        private final long period;
+        private final long samples;
+
+        private Row(String comm, Dso dso, String symbol, long[] hit) {
+            this.comm = comm;
+            this.dso = dso;
+            this.symbol = symbol;
+            this.period = hit[0];
+            this.samples = hit[1];
+        }
+    }
+
+    /**
+     * Add the collected samples to the model, in the same order as the
+     * rows of 'perf report', sorted by decreasing period.
+     */
+    private void buildModel(TreeParent invisibleRoot) {
+        for (Attr attr : attrs) {
+            if (attr.totalPeriod == 0) {
+                continue;
+            }
+            List<Row> rows = new ArrayList<>();
+            for (Entry<String, Map<Dso, Map<String, long[]>>> c : attr.hits.entrySet()) {
+                for (Entry<Dso, Map<String, long[]>> d : c.getValue().entrySet()) {
+                    for (Entry<String, long[]> s : d.getValue().entrySet()) {
+                        rows.add(new Row(c.getKey(), d.getKey(), s.getKey(), s.getValue()));
+                    }
+                }
+            }
+            rows.sort((a, b) -> Long.compare(b.period, a.period));
+
+            PMEvent event = new PMEvent(attr.name);
+            invisibleRoot.addChild(event, false);
+            for (Row row : rows) {
+                PMCommand command = (PMCommand) event.getChild(row.comm);
+                if (command == null) {
+                    command = new PMCommand(row.comm);
+                    event.addChild(command, false);
+                }
+                PMDso dso = (PMDso) command.getChild(row.dso.name);
+                if (dso == null) {
+                    dso = new PMDso(row.dso.name, row.dso.kernel);
+                    if (!row.dso.kernel) {
+                        dso.setPath(row.dso.path);
+                    }
+                    command.addChild(dso, false);
+                }
+                String fileName = row.dso.files.get(row.symbol.substring(4));
+                if (fileName == null || fileName.isEmpty() || fileName.startsWith("??")) { //$NON-NLS-1$
+                    fileName = PerfPlugin.STRINGS_UnfiledSymbols;
+                }
+                PMFile file = dso.getFile(fileName);
+                float percent = (float) (row.period * 100.0 / attr.totalPeriod);
+                file.addChild(new PMSymbol(row.symbol, percent, row.samples), false);
+            }
+        }
+        invisibleRoot.calculatePercentages();
+    }
+}
@@ -79,6 +79,10 @@ public class PerfPlugin extends AbstractUIPlugin {
     public static final boolean ATTR_ShowStat_default = false;
     public static final String ATTR_StatRunCount = "org.eclipse.linuxtools.internal.perf.attr.StatRunCount"; //$NON-NLS-1$
     public static final int ATTR_StatRunCount_default = 1;
+    public static final String ATTR_AnnotateJobs = "org.eclipse.linuxtools.internal.perf.attr.AnnotateJobs"; //$NON-NLS-1$
+    public static final int ATTR_AnnotateJobs_default = Runtime.getRuntime().availableProcessors();
+    public static final String ATTR_NativeDataReader = "org.eclipse.linuxtools.internal.perf.attr.NativeDataReader"; //$NON-NLS-1$
+    public static final boolean ATTR_NativeDataReader_default = false;
 
     //Perf Events tab attribs.
     public static final String ATTR_DefaultEvent = "org.eclipse.linuxtools.internal.perf.attr.DefaultEvent"; //$NON-NLS-1$
@@ -13,12 +13,16 @@
 package org.eclipse.linuxtools.internal.perf.model;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class TreeParent {
     private String name;
     private TreeParent parent;
     private List<TreeParent> children;
+    // Index of children by name, holding the first child added with a given name
+    private Map<String, TreeParent> childrenByName;
     private float percent = -1;
     private double samples = -1;
 
@@ -26,6 +30,7 @@ public class TreeParent {
         this.name = name;
         this.percent = percent;
         children = new ArrayList<>();
+        childrenByName = new HashMap<>();
     }
 
     public TreeParent(String name, float percent, double samples) {
@@ -104,27 +109,64 @@ public class TreeParent {
     public TreeParent(String name) {
         this.name = name;
         children = new ArrayList<>();
+        childrenByName = new HashMap<>();
     }
 
     public void addChild(TreeParent child) {
+        addChild(child, true);
+    }
+
+    /**
+     * Add a child to this element.
+     *
+     * When building large models, pass <code>false</code> for
+     * <code>recalculate</code> and call {@link #calculatePercentages()}
+     * once on the root after all children have been added, to avoid
+     * re-summing every sibling on each insertion.
+     *
+     * @param child the child to add
+     * @param recalculate whether percentages should be updated immediately
+     */
+    public void addChild(TreeParent child, boolean recalculate) {
         children.add(child);
+        childrenByName.putIfAbsent(child.getName(), child);
         child.setParent(this);
-        recalculatePercentage();
+        if (recalculate) {
+            recalculatePercentage();
+        }
     }
 
     public TreeParent getChild(String name) {
-        //check if it exists
-        for(TreeParent t : children) {
-            if (t.equals(name))
-                return t;
-        }
-        return null;
+        return childrenByName.get(name);
     }
 
     public void removeChild(TreeParent child) {
+        removeChild(child, true);
+    }
+
+    /**
+     * Remove a child from this element.
+     *
+     * @param child the child to remove
+     * @param recalculate whether percentages should be updated immediately
+     * @see #addChild(TreeParent, boolean)
+     */
+    public void removeChild(TreeParent child, boolean recalculate) {
         children.remove(child);
+        if (childrenByName.get(child.getName()) == child) {
+            childrenByName.remove(child.getName());
+            // another child may share the same name
+            for (TreeParent t : children) {
+                if (t.equals(child.getName())) {
+                    childrenByName.put(t.getName(), t);
+                    break;
+                }
+            }
+        }
         child.setParent(null);
-        recalculatePercentage();
+        if (recalculate) {
+            recalculatePercentage();
+        }
     }
 
     public TreeParent [] getChildren() {
@@ -137,13 +179,31 @@ public class TreeParent {
 
     public void clear() {
         children.clear();
+        childrenByName.clear();
+    }
+
+    /**
+     * Recompute the percentages of every element under (and including)
+     * this one in a single bottom-up pass. This is the counterpart of
+     * adding or removing children without recalculation.
+     */
+    public void calculatePercentages() {
+        for (TreeParent c : children) {
+            c.calculatePercentages();
+        }
+        if (getPercent() != -1 && (this instanceof PMDso || this instanceof PMFile)) {
+            percent = 0;
+            for (TreeParent c : children) {
+                percent += c.getPercent();
+            }
+        }
     }
 
     private void recalculatePercentage() {
         if (getPercent() != -1 && (this instanceof PMDso || this instanceof PMFile)){
             percent = 0;
             // Re-sum its children percentages
-            for (TreeParent c : getChildren()) {
+            for (TreeParent c : children) {
                 percent += c.getPercent();
             }
             // Tell its parent to re-sum too.
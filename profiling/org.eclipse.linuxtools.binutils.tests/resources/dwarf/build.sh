@@ -0,0 +1,26 @@
+#!/bin/sh
+# Builds the test binaries of the line table reader, and records the source
+# line addr2line reports for each address of their code, and of the bytes
+# around it.
+set -e
+cd "$(dirname "$0")"
+build() {
+    name=$1
+    shift
+    (cd src && gcc -O2 -nostdlib -static -e main -fno-asynchronous-unwind-tables \
+        -fdebug-prefix-map="$PWD"=/work -Wl,--build-id=none \
+        -Wl,-z,max-page-size=0x1000 -Wl,-z,noseparate-code \
+        "$@" lines.c util/cube.c -o ../"$name")
+    set -- $(readelf -SW "$name" | sed -n 's/.*\] \.text *[A-Z]* *\([0-9a-f]*\) [0-9a-f]* \([0-9a-f]*\) .*/\1 \2/p')
+    start=$(printf '%d' 0x"$1")
+    end=$((start + 0x$2))
+    addr2line -a -e "$name" $(seq $((start - 2)) $((end + 1)) | xargs printf '0x%x\n') \
+        | sed 's/ (discriminator [0-9]*)//' | paste -d ' ' - - > "$name.addr2line"
+}
+build lines-dwarf2-64 -gdwarf-2
+build lines-dwarf3-32 -gdwarf-3 -m32
+build lines-dwarf4-64 -gdwarf-4
+build lines-dwarf4-64-zlib -gdwarf-4 -gz=zlib
+build lines-dwarf5-32 -gdwarf-5 -m32
+build lines-dwarf5-64 -gdwarf-5
+(cd src && gcc -O2 -c -gdwarf-4 -fdebug-prefix-map="$PWD"=/work lines.c -o ../lines.o)
@@ -0,0 +1,20 @@
+#include "util/square.h"
+
+int cube(int x);
+
+int values[8];
+
+static int add(int a, int b)
+{
+    return a + b;
+}
+
+int main(void)
+{
+    int sum = 0;
+    for (int i = 0; i < 8; i++) {
+        sum = add(sum, square(values[i]));
+        sum += cube(values[i]);
+    }
+    return sum;
+}
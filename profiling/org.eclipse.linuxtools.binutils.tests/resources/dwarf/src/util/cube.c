@@ -0,0 +1,5 @@
+int cube(int x)
+{
+    int c = x * x;
+    return c * x;
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.binutils.utils.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import org.eclipse.cdt.core.IAddress;
+import org.eclipse.cdt.core.IBinaryParser.IBinaryObject;
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.linuxtools.binutils.utils.STSymbolManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class STSymbolManagerTest {
+
+    /** The address of main in the 64 bits test binaries, which starts at line 13 */
+    private static final long MAIN_64 = 0x4000f0;
+    /** The address of main in the 32 bits test binaries */
+    private static final long MAIN_32 = 0x80480a0;
+
+    private File file;
+    private IBinaryObject program;
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("lines", ".bin"); //$NON-NLS-1$ //$NON-NLS-2$
+        program = Mockito.mock(IBinaryObject.class);
+        Mockito.when(program.getPath()).thenReturn(new Path(file.getAbsolutePath()));
+    }
+
+    @After
+    public void tearDown() {
+        STSymbolManager.sharedInstance.reset();
+        file.delete();
+    }
+
+    private static IAddress address(long value) {
+        IAddress address = Mockito.mock(IAddress.class);
+        Mockito.when(address.getValue()).thenReturn(BigInteger.valueOf(value));
+        return address;
+    }
+
+    private void copy(String name) throws IOException {
+        File resource = new File(FileLocator.toFileURL(getClass().getResource("/resources/dwarf/" + name)).getPath()); //$NON-NLS-1$
+        long lastModified = file.lastModified();
+        Files.copy(resource.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        // the time stamps of the file system may be too coarse to tell both copies apart
+        file.setLastModified(lastModified + 2000);
+    }
+
+    @Test
+    public void testGetLineNumber() throws IOException {
+        copy("lines-dwarf4-64"); //$NON-NLS-1$
+        STSymbolManager manager = STSymbolManager.sharedInstance;
+        assertEquals(13, manager.getLineNumber(program, address(MAIN_64), null));
+        assertEquals("/work/lines.c", manager.getFileName(program, address(MAIN_64), null)); //$NON-NLS-1$
+    }
+
+    @Test
+    public void testRebuiltBinary() throws IOException {
+        copy("lines-dwarf4-64"); //$NON-NLS-1$
+        STSymbolManager manager = STSymbolManager.sharedInstance;
+        assertEquals(13, manager.getLineNumber(program, address(MAIN_64), null));
+
+        // the line table of the previous binary is not used anymore
+        copy("lines-dwarf5-32"); //$NON-NLS-1$
+        assertEquals(-1, manager.getLineNumber(program, address(MAIN_64), null));
+        assertEquals(13, manager.getLineNumber(program, address(MAIN_32), null));
+    }
+}
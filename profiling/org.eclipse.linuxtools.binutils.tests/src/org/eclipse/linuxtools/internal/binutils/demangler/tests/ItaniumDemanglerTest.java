@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.binutils.demangler.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.linuxtools.internal.binutils.demangler.ItaniumDemangler;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Compares the demangled names with the output of c++filt (GNU Binutils 2.40).
+ * Symbols the demangler does not support, or which are not valid, must not be
+ * demangled at all, so that they are given to c++filt instead.
+ */
+@RunWith(Parameterized.class)
+public class ItaniumDemanglerTest {
+
+    @Parameters(name = "{0}")
+    public static Object[][] getSymbols() {
+        return new Object[][] {
+                // functions and builtin types
+                { "_Z3foov", "foo()" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_Z3barPKcRi", "bar(char const*, int&)" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_Z1fyoln", "f(unsigned long long, unsigned __int128, long, __int128)" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_Z1fPVKc", "f(char const volatile*)" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_Z1fDn", "f(decltype(nullptr))" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_ZL6helperv", "helper()" }, //$NON-NLS-1$ //$NON-NLS-2$
+                // nested names
+                { "_ZN3foo3barEv", "foo::bar()" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_ZN2ns5Outer5Inner6methodEd", "ns::Outer::Inner::method(double)" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_ZNVK3foo3getEv", "foo::get() const volatile" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_ZN12_GLOBAL__N_14funcEv", "(anonymous namespace)::func()" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_ZN3foo3barE", "foo::bar" }, //$NON-NLS-1$ //$NON-NLS-2$
+                // constructors, destructors and operators
+                { "_ZN3fooC2ERKS_", "foo::foo(foo const&)" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_ZN3fooD0Ev", "foo::~foo()" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_ZN3fooaSERKS_", "foo::operator=(foo const&)" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_ZN3fooclEv", "foo::operator()()" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_ZN3fooixEm", "foo::operator[](unsigned long)" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_ZNK3foocviEv", "foo::operator int() const" }, //$NON-NLS-1$ //$NON-NLS-2$
+                // substitutions
+                { "_ZN3foo3bazES_S_", "foo::baz(foo, foo)" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_Z1fRK3fooPS0_", "f(foo const&, foo const*)" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_ZNSaIcEC1Ev", "std::allocator<char>::allocator()" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_ZNSoD2Ev", "std::basic_ostream<char, std::char_traits<char> >::~basic_ostream()" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_ZNSt7__cxx1112basic_stringIcSt11char_traitsIcESaIcEEC1EPKcRKS3_", //$NON-NLS-1$
+                        "std::__cxx11::basic_string<char, std::char_traits<char>, std::allocator<char> >::basic_string(char const*, std::allocator<char> const&)" }, //$NON-NLS-1$
+                { "_ZNSt3mapIiSsSt4lessIiESaISt4pairIKiSsEEEixERS3_", //$NON-NLS-1$
+                        "std::map<int, std::basic_string<char, std::char_traits<char>, std::allocator<char> >, std::less<int>, std::allocator<std::pair<int const, std::basic_string<char, std::char_traits<char>, std::allocator<char> > > > >::operator[](int const&)" }, //$NON-NLS-1$
+                // template arguments
+                { "_ZNSt6vectorIiSaIiEE9push_backERKi", //$NON-NLS-1$
+                        "std::vector<int, std::allocator<int> >::push_back(int const&)" }, //$NON-NLS-1$
+                { "_Z3maxIiET_S0_S0_", "int max<int>(int, int)" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_Z1fILi3EEvv", "void f<3>()" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_Z1fILb1EEvv", "void f<true>()" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_Z1fIN3foo3barEEvT_", "void f<foo::bar>(foo::bar)" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_ZN5Outer5InnerIiE3getIdEET_v", "double Outer::Inner<int>::get<double>()" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_ZStlsISt11char_traitsIcEERSt13basic_ostreamIcT_ES5_PKc", //$NON-NLS-1$
+                        "std::basic_ostream<char, std::char_traits<char> >& std::operator<< <std::char_traits<char> >(std::basic_ostream<char, std::char_traits<char> >&, char const*)" }, //$NON-NLS-1$
+                // references to references
+                { "_ZSt4moveIRiEONSt16remove_referenceIT_E4typeEOS2_", //$NON-NLS-1$
+                        "std::remove_reference<int&>::type&& std::move<int&>(int&)" }, //$NON-NLS-1$
+                { "_Z1fIOiEvOT_", "void f<int&&>(int&&)" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_Z1fIOiEvRT_", "void f<int&&>(int&)" }, //$NON-NLS-1$ //$NON-NLS-2$
+                // special names and clones
+                { "_ZTV3foo", "vtable for foo" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_ZTS3foo", "typeinfo name for foo" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_ZThn8_N3foo3barEv", "non-virtual thunk to foo::bar()" }, //$NON-NLS-1$ //$NON-NLS-2$
+                { "_Z1fv.isra.0.cold", "f() [clone .isra.0] [clone .cold]" }, //$NON-NLS-1$ //$NON-NLS-2$
+                // constructs left to c++filt
+                { "_Z1fIJidEEvDpT_", null }, //$NON-NLS-1$
+                { "_Z1fPFviE", null }, //$NON-NLS-1$
+                { "_Z1fA10_i", null }, //$NON-NLS-1$
+                { "_ZZ4mainE1x", null }, //$NON-NLS-1$
+                { "_ZGVZ4mainE1x", null }, //$NON-NLS-1$
+                // symbols which are not valid
+                { "_Z", null }, //$NON-NLS-1$
+                { "_Z3fo", null }, //$NON-NLS-1$
+                { "_ZN3foo", null }, //$NON-NLS-1$
+                { "_ZN3foo3barEvX", null }, //$NON-NLS-1$
+                { "_Z1fS_", null }, //$NON-NLS-1$
+                { "_Z1fS5_", null }, //$NON-NLS-1$
+                { "_Z1fT_", null }, //$NON-NLS-1$
+                { "notmangled", null }, //$NON-NLS-1$
+        };
+    }
+
+    @Parameter(0)
+    public String symbol;
+
+    @Parameter(1)
+    public String expected;
+
+    @Test
+    public void testDemangle() {
+        assertEquals(expected, ItaniumDemangler.demangle(symbol));
+    }
+}
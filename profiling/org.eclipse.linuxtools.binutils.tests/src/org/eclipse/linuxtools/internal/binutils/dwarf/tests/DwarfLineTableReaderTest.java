@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.binutils.dwarf.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.linuxtools.internal.binutils.dwarf.DwarfLineTable;
+import org.eclipse.linuxtools.internal.binutils.dwarf.DwarfLineTableReader;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Compares the line tables read from the binaries of <code>resources/dwarf</code>
+ * with the output of addr2line for every address of their code, recorded by
+ * <code>resources/dwarf/build.sh</code>.
+ */
+@RunWith(Parameterized.class)
+public class DwarfLineTableReaderTest {
+
+    /** An address and the <code>file:line</code> addr2line reports for it */
+    private static final Pattern ADDR2LINE = Pattern.compile("(0x[0-9a-f]+) (.*):(\\d+|\\?)"); //$NON-NLS-1$
+
+    @Parameters(name = "{0}")
+    public static Object[] getBinaries() {
+        return new Object[] { "lines-dwarf2-64", "lines-dwarf3-32", "lines-dwarf4-64", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                "lines-dwarf4-64-zlib", "lines-dwarf5-32", "lines-dwarf5-64" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    @Parameter
+    public String binary;
+
+    static File getResource(String name) throws IOException {
+        return new File(FileLocator.toFileURL(DwarfLineTableReaderTest.class.getResource("/resources/dwarf/" + name)) //$NON-NLS-1$
+                .getPath());
+    }
+
+    @Test
+    public void testMatchesAddr2line() throws IOException {
+        DwarfLineTable table = DwarfLineTableReader.read(getResource(binary));
+        assertFalse(table.isEmpty());
+        assertTrue(table.isComplete());
+
+        List<String> expected = Files.readAllLines(getResource(binary + ".addr2line").toPath(), //$NON-NLS-1$
+                StandardCharsets.UTF_8);
+        int resolved = 0;
+        for (String line : expected) {
+            Matcher m = ADDR2LINE.matcher(line);
+            assertTrue(line, m.matches());
+            long address = Long.decode(m.group(1));
+            String file = m.group(2);
+            int lineNumber = m.group(3).equals("?") ? 0 : Integer.parseInt(m.group(3)); //$NON-NLS-1$
+            if (lineNumber > 0) {
+                assertEquals(line, file, table.getFileName(address));
+                assertEquals(line, lineNumber, table.getLineNumber(address));
+                resolved++;
+            } else {
+                // addr2line may still name the file from the symbol table
+                assertFalse(line, table.contains(address));
+                assertEquals(line, -1, table.getLineNumber(address));
+            }
+        }
+        // the code of both units, including the inlined header
+        assertTrue(resolved > 50);
+        assertTrue(expected.stream().anyMatch(l -> l.endsWith("/work/util/square.h:3"))); //$NON-NLS-1$
+        assertTrue(expected.stream().anyMatch(l -> l.contains("/work/util/cube.c:"))); //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.binutils.dwarf.tests;
+
+import static org.eclipse.linuxtools.internal.binutils.dwarf.tests.DwarfLineTableReaderTest.getResource;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.eclipse.linuxtools.internal.binutils.dwarf.DwarfLineTable;
+import org.eclipse.linuxtools.internal.binutils.dwarf.DwarfLineTableReader;
+import org.eclipse.linuxtools.internal.binutils.dwarf.ElfSections;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ElfSectionsTest {
+
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("elf", ".bin"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    public void testHeaders() throws IOException {
+        ElfSections elf = ElfSections.read(getResource("lines-dwarf4-64")); //$NON-NLS-1$
+        assertTrue(elf.is64());
+        assertFalse(elf.isRelocatable());
+        assertTrue(elf.hasSection(".debug_line")); //$NON-NLS-1$
+        assertFalse(elf.hasSection(".debug_nothing")); //$NON-NLS-1$
+        assertNull(elf.getSection(".debug_nothing")); //$NON-NLS-1$
+        // sections without content in the file
+        assertFalse(elf.hasSection(".bss")); //$NON-NLS-1$
+
+        elf = ElfSections.read(getResource("lines-dwarf5-32")); //$NON-NLS-1$
+        assertFalse(elf.is64());
+        assertFalse(elf.isRelocatable());
+
+        elf = ElfSections.read(getResource("lines.o")); //$NON-NLS-1$
+        assertTrue(elf.is64());
+        assertTrue(elf.isRelocatable());
+    }
+
+    @Test
+    public void testCompressedSection() throws IOException {
+        ByteBuffer plain = ElfSections.read(getResource("lines-dwarf4-64")).getSection(".debug_line"); //$NON-NLS-1$ //$NON-NLS-2$
+        ByteBuffer inflated = ElfSections.read(getResource("lines-dwarf4-64-zlib")).getSection(".debug_line"); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals(ByteOrder.LITTLE_ENDIAN, inflated.order());
+        assertEquals(plain, inflated);
+    }
+
+    @Test
+    public void testNotElf() throws IOException {
+        Files.write(file.toPath(), "#!/bin/sh\necho not an ELF file\n".getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+        assertNull(ElfSections.read(file));
+        assertSame(DwarfLineTable.EMPTY, DwarfLineTableReader.read(file));
+    }
+
+    @Test
+    public void testObjectFile() throws IOException {
+        // the addresses of object files are not relocated yet
+        assertSame(DwarfLineTable.EMPTY, DwarfLineTableReader.read(getResource("lines.o"))); //$NON-NLS-1$
+    }
+
+    @Test(expected = IOException.class)
+    public void testTruncated() throws IOException {
+        byte[] bytes = Files.readAllBytes(getResource("lines-dwarf4-64").toPath()); //$NON-NLS-1$
+        // the section headers are at the end of the file
+        Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length / 2));
+        assertNotNull(ElfSections.read(file));
+    }
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.binutils.utils;
+
+/**
+ * Snapshot of the counters of the demangling done by {@link STSymbolManager}.
+ * @since 6.0
+ */
+public class STDemangleStatistics {
+
+    private final long hits;
+    private final long misses;
+    private final long javaDemangled;
+    private final long cppfiltDemangled;
+    private final long cppfiltRoundTrips;
+    private final long cppfiltNanos;
+    private final int cacheSize;
+
+    /**
+     * Constructor
+     * @param hits the number of names found in the cache
+     * @param misses the number of names which were not in the cache
+     * @param javaDemangled the number of names demangled without c++filt
+     * @param cppfiltDemangled the number of names sent to c++filt
+     * @param cppfiltRoundTrips the number of requests sent to c++filt
+     * @param cppfiltNanos the time spent waiting for c++filt
+     * @param cacheSize the number of names currently in the cache
+     */
+    public STDemangleStatistics(long hits, long misses, long javaDemangled, long cppfiltDemangled,
+            long cppfiltRoundTrips, long cppfiltNanos, int cacheSize) {
+        this.hits = hits;
+        this.misses = misses;
+        this.javaDemangled = javaDemangled;
+        this.cppfiltDemangled = cppfiltDemangled;
+        this.cppfiltRoundTrips = cppfiltRoundTrips;
+        this.cppfiltNanos = cppfiltNanos;
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * @return the number of names found in the cache
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of names which were not in the cache
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return the ratio of names found in the cache, between 0 and 1
+     */
+    public double getHitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * @return the number of names demangled without c++filt
+     */
+    public long getJavaDemangled() {
+        return javaDemangled;
+    }
+
+    /**
+     * @return the number of names sent to c++filt
+     */
+    public long getCppFiltDemangled() {
+        return cppfiltDemangled;
+    }
+
+    /**
+     * @return the number of requests sent to c++filt, each one for up to a batch of names
+     */
+    public long getCppFiltRoundTrips() {
+        return cppfiltRoundTrips;
+    }
+
+    /**
+     * @return the average time in milliseconds of a request to c++filt
+     */
+    public double getCppFiltAverageMillis() {
+        return cppfiltRoundTrips == 0 ? 0 : cppfiltNanos / 1e6 / cppfiltRoundTrips;
+    }
+
+    /**
+     * @return the number of names currently in the cache
+     */
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    @Override
+    public String toString() {
+        return "STDemangleStatistics [hits=" + hits + ", misses=" + misses + ", javaDemangled=" + javaDemangled //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                + ", cppfiltDemangled=" + cppfiltDemangled + ", cppfiltRoundTrips=" + cppfiltRoundTrips //$NON-NLS-1$ //$NON-NLS-2$
+                + ", cppfiltAverageMillis=" + getCppFiltAverageMillis() + ", cacheSize=" + cacheSize + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+}
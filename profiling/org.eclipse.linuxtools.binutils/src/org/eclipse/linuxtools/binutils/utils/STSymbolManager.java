@@ -14,13 +14,20 @@
  *******************************************************************************/
 package org.eclipse.linuxtools.binutils.utils;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.IAddress;
@@ -53,10 +60,16 @@ import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.linuxtools.internal.Activator;
+import org.eclipse.linuxtools.internal.binutils.demangler.DemangledNameCache;
+import org.eclipse.linuxtools.internal.binutils.demangler.ItaniumDemangler;
+import org.eclipse.linuxtools.internal.binutils.dwarf.DwarfLineTable;
+import org.eclipse.linuxtools.internal.binutils.dwarf.DwarfLineTableReader;
+import org.eclipse.linuxtools.internal.binutils.preferences.BinutilsPreferencePage;
 
 /**
  * This class Is a utility on top of c++filt and addr2line. It allows an easy conversion between address and source
- * location, and between mangled and demangled symbols.
+ * location, and between mangled and demangled symbols. Source locations are looked up in the DWARF line tables of the
+ * binary, read in-process, and addr2line is only used for the addresses these tables do not describe.
  */
 public class STSymbolManager {
 
@@ -65,6 +78,27 @@ public class STSymbolManager {
      */
     private final static long AUTO_DISPOSE_TIMEOUT = 30000;
 
+    /**
+     * Maximum number of binaries whose line tables are kept in memory.
+     */
+    private final static int MAX_LINE_TABLES = 16;
+
+    /**
+     * Offsets tried after the given address when it matches no source line, like addr2line does.
+     */
+    private final static int[] NEAREST_LINE_OFFSETS = { 0, 4, 12, 24, 40, 60 };
+
+    /**
+     * Maximum number of demangled names kept in memory.
+     */
+    private final static int DEMANGLE_CACHE_SIZE = 65536;
+
+    /**
+     * Maximum number of names sent to c++filt in one request. The names are sent on a single line, separated by tabs,
+     * which c++filt copies as is.
+     */
+    private final static int DEMANGLE_BATCH_SIZE = 256;
+
     /**
      * Singleton instance
      */
@@ -80,10 +114,64 @@ public class STSymbolManager {
         private long startTime;
     }
 
+    /**
+     * Line table of a binary, read once by the first thread which needs it. The modification time and size of the
+     * binary are recorded, so that the table is read again when the binary is rebuilt.
+     */
+    private final static class LazyLineTable {
+        private final File file;
+        private final long lastModified;
+        private final long length;
+        private volatile DwarfLineTable table;
+
+        private LazyLineTable(File file, long lastModified, long length) {
+            this.file = file;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        private boolean isStale(File file, long lastModified, long length) {
+            return !Objects.equals(this.file, file) || this.lastModified != lastModified
+                    || this.length != length;
+        }
+
+        private DwarfLineTable get() {
+            DwarfLineTable result = table;
+            if (result == null) {
+                synchronized (this) {
+                    result = table;
+                    if (result == null) {
+                        result = readLineTable(file);
+                        table = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
     /** Map of all living instance of addr2line */
     private final HashMap<IBinaryObject, AutoDisposeAddr2line> addr2lines = new HashMap<>();
     /** Map of all living instance of cppfilt */
     private final HashMap<String, AutoDisposeCPPFilt> cppfilts = new HashMap<>();
+    /** Demangled names, by CPU and mangled name */
+    private final DemangledNameCache demangledNames = new DemangledNameCache(DEMANGLE_CACHE_SIZE);
+    private final LongAdder demangleHits = new LongAdder();
+    private final LongAdder demangleMisses = new LongAdder();
+    private final LongAdder javaDemangled = new LongAdder();
+    private final LongAdder cppfiltDemangled = new LongAdder();
+    private final LongAdder cppfiltRoundTrips = new LongAdder();
+    private final LongAdder cppfiltNanos = new LongAdder();
+    /** Line tables of the most recently used binaries */
+    private final Map<IBinaryObject, LazyLineTable> lineTables = new LinkedHashMap<IBinaryObject, LazyLineTable>(
+            MAX_LINE_TABLES, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Entry<IBinaryObject, LazyLineTable> eldest) {
+            return size() > MAX_LINE_TABLES;
+        }
+    };
 
     /**
      * Constructor
@@ -127,8 +215,18 @@ public class STSymbolManager {
         while (iter2.hasNext()) {
             Entry<String, AutoDisposeCPPFilt> entry = iter2.next();
             AutoDisposeCPPFilt adcppf = entry.getValue();
-            adcppf.cppfilt.dispose();
-            adcppf.cppfilt = null;
+            if (adcppf.cppfilt != null) {
+                // wait for the request in progress, if any
+                synchronized (adcppf.cppfilt) {
+                    adcppf.cppfilt.dispose();
+                }
+                adcppf.cppfilt = null;
+            }
+        }
+
+        demangledNames.clear();
+        synchronized (lineTables) {
+            lineTables.clear();
         }
     }
 
@@ -158,7 +256,9 @@ public class STSymbolManager {
             long diff = currentTime - adcppf.startTime;
             if (diff > AUTO_DISPOSE_TIMEOUT) {
                 if (adcppf.cppfilt != null) {
-                    adcppf.cppfilt.dispose();
+                    synchronized (adcppf.cppfilt) {
+                        adcppf.cppfilt.dispose();
+                    }
                     adcppf.cppfilt = null;
                 }
                 iter2.remove();
@@ -172,7 +272,7 @@ public class STSymbolManager {
      * @param project The project to be
      * @return The demangled symbol.
      */
-    public synchronized String demangle(ISymbol symbol, IProject project) {
+    public String demangle(ISymbol symbol, IProject project) {
         String cpu = symbol.getBinaryObject().getCPU();
         String symbolName = symbol.getName();
         return demangleImpl(symbolName, cpu, project);
@@ -185,11 +285,58 @@ public class STSymbolManager {
      * @param project
      * @return The demangled symbol.
      */
-    public synchronized String demangle(IBinaryObject program, String symbolName, IProject project) {
+    public String demangle(IBinaryObject program, String symbolName, IProject project) {
         String cpu = program.getCPU();
         return demangleImpl(symbolName, cpu, project);
     }
 
+    /**
+     * Demangle the given symbols. The symbols which were not demangled yet are sent to c++filt in batches, unless
+     * they can be demangled without it.
+     * @param program
+     * @param symbolNames
+     * @param project
+     * @return The demangled symbol of each given symbol.
+     * @since 6.0
+     */
+    public Map<String, String> demangle(IBinaryObject program, Collection<String> symbolNames, IProject project) {
+        String cpu = program.getCPU();
+        boolean useJavaDemangler = useJavaDemangler();
+        Map<String, String> result = new HashMap<>();
+        List<String> pending = new ArrayList<>();
+        for (String symbolName : symbolNames) {
+            if (result.containsKey(symbolName)) {
+                continue;
+            }
+            String demangled = demangleWithoutCppFilt(symbolName, cpu, useJavaDemangler);
+            if (demangled == null) {
+                pending.add(symbolName);
+                demangled = symbolName;
+            }
+            result.put(symbolName, demangled);
+        }
+        for (int i = 0; i < pending.size(); i += DEMANGLE_BATCH_SIZE) {
+            List<String> batch = pending.subList(i, Math.min(i + DEMANGLE_BATCH_SIZE, pending.size()));
+            String[] demangled = demangleWithCppFilt(batch, cpu, project);
+            if (demangled == null) {
+                break;
+            }
+            for (int j = 0; j < demangled.length; j++) {
+                result.put(batch.get(j), demangled[j]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the counters of the demangling done so far
+     * @since 6.0
+     */
+    public STDemangleStatistics getDemangleStatistics() {
+        return new STDemangleStatistics(demangleHits.sum(), demangleMisses.sum(), javaDemangled.sum(),
+                cppfiltDemangled.sum(), cppfiltRoundTrips.sum(), cppfiltNanos.sum(), demangledNames.size());
+    }
+
     /**
      * Demangle the given symbol
      * @param symbolName
@@ -198,16 +345,92 @@ public class STSymbolManager {
      * @param symbol
      * @return
      */
-    private synchronized String demangleImpl(String symbolName, String cpu, IProject project) {
+    private String demangleImpl(String symbolName, String cpu, IProject project) {
+        String demangled = demangleWithoutCppFilt(symbolName, cpu, useJavaDemangler());
+        if (demangled != null) {
+            return demangled;
+        }
+        String[] result = demangleWithCppFilt(Collections.singletonList(symbolName), cpu, project);
+        return result == null ? symbolName : result[0];
+    }
+
+    /**
+     * Demangle the given symbol using the cache, or the java demangler.
+     * @param symbolName
+     * @param cpu
+     * @param useJavaDemangler
+     * @return the demangled symbol, or null if it has to be sent to c++filt
+     */
+    private String demangleWithoutCppFilt(String symbolName, String cpu, boolean useJavaDemangler) {
+        if (!symbolName.startsWith("_Z") && !symbolName.startsWith("_G")) { //$NON-NLS-1$ //$NON-NLS-2$
+            return symbolName;
+        }
+        String demangled = demangledNames.get(cpu, symbolName);
+        if (demangled != null) {
+            demangleHits.increment();
+            return demangled;
+        }
+        demangleMisses.increment();
+        if (useJavaDemangler) {
+            demangled = ItaniumDemangler.demangle(symbolName);
+            if (demangled != null) {
+                javaDemangled.increment();
+                demangledNames.put(cpu, symbolName, demangled);
+            }
+        }
+        return demangled;
+    }
+
+    /**
+     * The java demangler produces the same names as c++filt when c++filt is run without options.
+     * @return true if the symbols can be demangled without c++filt
+     */
+    private static boolean useJavaDemangler() {
+        String args = Activator.getDefault().getPreferenceStore()
+                .getString(BinutilsPreferencePage.PREFKEY_CPPFILT_ARGS);
+        return args == null || args.trim().isEmpty();
+    }
+
+    /**
+     * Demangle the given symbols with c++filt, in one request, and add them to the cache.
+     * @param symbolNames
+     * @param cpu
+     * @param project
+     * @return the demangled symbols, or null if c++filt is not available
+     */
+    private String[] demangleWithCppFilt(List<String> symbolNames, String cpu, IProject project) {
         CPPFilt cppfilt = getCppFilt(cpu, project);
-        if (cppfilt != null && (symbolName.startsWith("_Z") || symbolName.startsWith("_G"))) { //$NON-NLS-1$ //$NON-NLS-2$
-            try {
-                symbolName = cppfilt.getFunction(symbolName);
-            } catch (IOException e) {
-                // TODO: log the error ?
+        if (cppfilt == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        String[] result;
+        try {
+            synchronized (cppfilt) {
+                result = cppfilt.getFunction(String.join("\t", symbolNames)).split("\t", -1); //$NON-NLS-1$ //$NON-NLS-2$
+                if (result.length != symbolNames.size()) {
+                    // c++filt did not keep the separators, fall back to one request per name
+                    result = new String[symbolNames.size()];
+                    for (int i = 0; i < result.length; i++) {
+                        result[i] = cppfilt.getFunction(symbolNames.get(i));
+                    }
+                    cppfiltRoundTrips.add(result.length);
+                }
             }
+        } catch (IOException e) {
+            // the names are left mangled
+            Status s = new Status(IStatus.WARNING, Activator.PLUGIN_ID, e.getMessage(), e);
+            Activator.getDefault().getLog().log(s);
+            return null;
+        } finally {
+            cppfiltRoundTrips.increment();
+            cppfiltNanos.add(System.nanoTime() - start);
+        }
+        cppfiltDemangled.add(result.length);
+        for (int i = 0; i < result.length; i++) {
+            demangledNames.put(cpu, symbolNames.get(i), result[i]);
         }
-        return symbolName;
+        return result;
     }
 
     /**
@@ -216,7 +439,24 @@ public class STSymbolManager {
      * @param project
      * @return the line number of the given address
      */
-    public synchronized int getLineNumber(IBinaryObject program, IAddress address, IProject project) {
+    public int getLineNumber(IBinaryObject program, IAddress address, IProject project) {
+        DwarfLineTable table = getLineTable(program);
+        if (!table.isEmpty()) {
+            long value = address.getValue().longValue();
+            for (int offset : NEAREST_LINE_OFFSETS) {
+                int line = table.getLineNumber(value + offset);
+                if (line > 0) {
+                    return line;
+                }
+            }
+            if (table.isComplete()) {
+                return -1;
+            }
+        }
+        return getLineNumberWithAddr2line(program, address, project);
+    }
+
+    private synchronized int getLineNumberWithAddr2line(IBinaryObject program, IAddress address, IProject project) {
         Addr2line addr2line = getAddr2line(program, project);
         if (addr2line == null) {
             return -1;
@@ -248,7 +488,16 @@ public class STSymbolManager {
      * @param project
      * @return the file name of the given address
      */
-    public synchronized String getFileName(IBinaryObject program, IAddress address, IProject project) {
+    public String getFileName(IBinaryObject program, IAddress address, IProject project) {
+        String fileName = getLineTable(program).getFileName(address.getValue().longValue());
+        if (fileName != null) {
+            return fileName;
+        }
+        // addr2line may still find the file in the symbol table
+        return getFileNameWithAddr2line(program, address, project);
+    }
+
+    private synchronized String getFileNameWithAddr2line(IBinaryObject program, IAddress address, IProject project) {
         Addr2line addr2line = getAddr2line(program, project);
         if (addr2line == null) {
             return null;
@@ -330,6 +579,43 @@ public class STSymbolManager {
         return adAddr2line.addr2line;
     }
 
+    /**
+     * Gets the line table of the given program. Note that the tables of the most recently used programs are kept in
+     * memory, until the program is modified, and that the table is read outside of the lock of this manager.
+     * @param program
+     * @return the line table of the given program, which is empty if it has no debug information
+     */
+    private DwarfLineTable getLineTable(IBinaryObject program) {
+        IPath path = program.getPath();
+        File file = path == null ? null : path.toFile();
+        // a missing file has a modification time and a size of 0
+        long lastModified = file == null ? 0 : file.lastModified();
+        long length = file == null ? 0 : file.length();
+        LazyLineTable lineTable;
+        synchronized (lineTables) {
+            lineTable = lineTables.get(program);
+            if (lineTable == null || lineTable.isStale(file, lastModified, length)) {
+                lineTable = new LazyLineTable(file, lastModified, length);
+                lineTables.put(program, lineTable);
+            }
+        }
+        return lineTable.get();
+    }
+
+    private static DwarfLineTable readLineTable(File file) {
+        if (file == null) {
+            return DwarfLineTable.EMPTY;
+        }
+        try {
+            return DwarfLineTableReader.read(file);
+        } catch (IOException e) {
+            // logged once, as the empty table is kept until the program is modified
+            Status s = new Status(IStatus.WARNING, Activator.PLUGIN_ID, e.getMessage(), e);
+            Activator.getDefault().getLog().log(s);
+            return DwarfLineTable.EMPTY;
+        }
+    }
+
     /**
      * Gets the strings support for the given program.
      * @param program
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.binutils.demangler;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of demangled names, keyed by CPU and mangled name. The cache is
+ * split in segments, each evicting its least recently used names, so that
+ * threads demangling different names seldom wait for each other.
+ */
+public class DemangledNameCache {
+
+    private static final int SEGMENTS = 16;
+
+    private static final class Key {
+        private final String cpu;
+        private final String name;
+        private final int hash;
+
+        private Key(String cpu, String name) {
+            this.cpu = cpu;
+            this.name = name;
+            this.hash = 31 * (cpu == null ? 0 : cpu.hashCode()) + name.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return name.equals(other.name) && (cpu == null ? other.cpu == null : cpu.equals(other.cpu));
+        }
+    }
+
+    private static final class Segment extends LinkedHashMap<Key, String> {
+        private static final long serialVersionUID = 1L;
+        private final int capacity;
+
+        private Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    /**
+     * Constructor
+     * @param capacity the maximum number of names kept in the cache
+     */
+    public DemangledNameCache(int capacity) {
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(Math.max(1, capacity / SEGMENTS));
+        }
+    }
+
+    private Segment segment(Key key) {
+        int h = key.hash ^ (key.hash >>> 16);
+        return segments[h & (SEGMENTS - 1)];
+    }
+
+    /**
+     * @param cpu the CPU of the binary
+     * @param name a mangled name
+     * @return the demangled name, or null if it is not in the cache
+     */
+    public String get(String cpu, String name) {
+        Key key = new Key(cpu, name);
+        Segment segment = segment(key);
+        synchronized (segment) {
+            return segment.get(key);
+        }
+    }
+
+    /**
+     * @param cpu the CPU of the binary
+     * @param name a mangled name
+     * @param demangled the demangled name
+     */
+    public void put(String cpu, String name, String demangled) {
+        Key key = new Key(cpu, name);
+        Segment segment = segment(key);
+        synchronized (segment) {
+            segment.put(key, demangled);
+        }
+    }
+
+    /**
+     * @return the number of names in the cache
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes all the names from the cache.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+}
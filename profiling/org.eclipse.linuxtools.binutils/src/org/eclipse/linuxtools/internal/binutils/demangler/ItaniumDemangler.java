@@ -0,0 +1,712 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.binutils.demangler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Demangler of the common C++ symbols of the Itanium ABI, used by GCC and Clang,
+ * producing the same text as <code>c++filt</code>. Symbols using constructs this
+ * demangler does not know, such as function types, local names or expressions,
+ * are not demangled, so that they can be given to <code>c++filt</code> instead.
+ */
+public class ItaniumDemangler {
+
+    private static final Map<String, String> OPERATORS = new HashMap<>();
+    static {
+        String[] operators = { "nw", " new", "na", " new[]", "dl", " delete", "da", " delete[]", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$
+                "ps", "+", "ng", "-", "ad", "&", "de", "*", "co", "~", "pl", "+", "mi", "-", "ml", "*", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$ //$NON-NLS-13$ //$NON-NLS-14$ //$NON-NLS-15$ //$NON-NLS-16$
+                "dv", "/", "rm", "%", "an", "&", "or", "|", "eo", "^", "aS", "=", "pL", "+=", "mI", "-=", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$ //$NON-NLS-13$ //$NON-NLS-14$ //$NON-NLS-15$ //$NON-NLS-16$
+                "mL", "*=", "dV", "/=", "rM", "%=", "aN", "&=", "oR", "|=", "eO", "^=", "ls", "<<", "rs", ">>", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$ //$NON-NLS-13$ //$NON-NLS-14$ //$NON-NLS-15$ //$NON-NLS-16$
+                "lS", "<<=", "rS", ">>=", "eq", "==", "ne", "!=", "lt", "<", "gt", ">", "le", "<=", "ge", ">=", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$ //$NON-NLS-13$ //$NON-NLS-14$ //$NON-NLS-15$ //$NON-NLS-16$
+                "ss", "<=>", "nt", "!", "aa", "&&", "oo", "||", "pp", "++", "mm", "--", "cm", ",", "pm", "->*", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$ //$NON-NLS-13$ //$NON-NLS-14$ //$NON-NLS-15$ //$NON-NLS-16$
+                "pt", "->", "cl", "()", "ix", "[]", "qu", "?", "aw", " co_await" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$
+        for (int i = 0; i < operators.length; i += 2) {
+            OPERATORS.put(operators[i], "operator" + operators[i + 1]); //$NON-NLS-1$
+        }
+    }
+
+    /** Thrown when the symbol uses a construct this demangler does not know. */
+    private static final class UnsupportedSymbolException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private static final UnsupportedSymbolException INSTANCE = new UnsupportedSymbolException();
+
+        private UnsupportedSymbolException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /** A (possibly qualified) name, and its last component for constructors and destructors. */
+    private static final class Name {
+        private final String text;
+        private final String last;
+        private boolean template;
+        private boolean ctorDtorConversion;
+        private String qualifiers = ""; //$NON-NLS-1$
+
+        private Name(String text, String last) {
+            this.text = text;
+            this.last = last;
+        }
+    }
+
+    private final String symbol;
+    private int pos;
+    private final List<Name> substitutions = new ArrayList<>();
+    private List<String> templateArgs;
+    private int typeDepth;
+
+    private ItaniumDemangler(String symbol) {
+        this.symbol = symbol;
+    }
+
+    /**
+     * Demangles the given symbol.
+     * @param symbol a mangled symbol, such as <code>_ZN3foo3barEv</code>
+     * @return the demangled symbol, or null if it is not a C++ symbol or uses a
+     *         construct this demangler does not know
+     */
+    public static String demangle(String symbol) {
+        if (symbol == null || !symbol.startsWith("_Z")) { //$NON-NLS-1$
+            return null;
+        }
+        try {
+            return new ItaniumDemangler(symbol).parse();
+        } catch (UnsupportedSymbolException | StringIndexOutOfBoundsException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String parse() {
+        pos = 2;
+        String result;
+        if (peek() == 'T' || peek() == 'G') {
+            result = specialName();
+        } else {
+            result = encoding();
+        }
+        result += cloneSuffixes();
+        if (pos != symbol.length()) {
+            throw UnsupportedSymbolException.INSTANCE;
+        }
+        return result;
+    }
+
+    private char peek() {
+        return pos < symbol.length() ? symbol.charAt(pos) : 0;
+    }
+
+    private char peek(int offset) {
+        return pos + offset < symbol.length() ? symbol.charAt(pos + offset) : 0;
+    }
+
+    private void expect(char c) {
+        if (peek() != c) {
+            throw UnsupportedSymbolException.INSTANCE;
+        }
+        pos++;
+    }
+
+    private boolean atEnd() {
+        return pos == symbol.length() || peek() == '.';
+    }
+
+    private String specialName() {
+        String prefix;
+        if (peek() == 'G') {
+            if (peek(1) == 'V') {
+                pos += 2;
+                return "guard variable for " + name().text; //$NON-NLS-1$
+            } else if (peek(1) == 'T' && peek(2) == 't') {
+                pos += 3;
+                return "transaction clone for " + encoding(); //$NON-NLS-1$
+            }
+            throw UnsupportedSymbolException.INSTANCE;
+        }
+        switch (peek(1)) {
+        case 'h':
+            pos += 2;
+            callOffset();
+            return "non-virtual thunk to " + encoding(); //$NON-NLS-1$
+        case 'v':
+            pos += 2;
+            callOffset();
+            callOffset();
+            return "virtual thunk to " + encoding(); //$NON-NLS-1$
+        case 'V':
+            prefix = "vtable for "; //$NON-NLS-1$
+            break;
+        case 'T':
+            prefix = "VTT for "; //$NON-NLS-1$
+            break;
+        case 'I':
+            prefix = "typeinfo for "; //$NON-NLS-1$
+            break;
+        case 'S':
+            prefix = "typeinfo name for "; //$NON-NLS-1$
+            break;
+        default:
+            throw UnsupportedSymbolException.INSTANCE;
+        }
+        pos += 2;
+        return prefix + type();
+    }
+
+    private void callOffset() {
+        if (peek() == 'n') {
+            pos++;
+        }
+        if (!Character.isDigit(peek())) {
+            throw UnsupportedSymbolException.INSTANCE;
+        }
+        while (Character.isDigit(peek())) {
+            pos++;
+        }
+        expect('_');
+    }
+
+    private String encoding() {
+        Name name = name();
+        if (atEnd()) {
+            if (!name.qualifiers.isEmpty()) {
+                throw UnsupportedSymbolException.INSTANCE;
+            }
+            return name.text;
+        }
+        String returnType = ""; //$NON-NLS-1$
+        if (name.template && !name.ctorDtorConversion) {
+            returnType = type() + ' ';
+        }
+        return returnType + name.text + '(' + parameters() + ')' + name.qualifiers;
+    }
+
+    private String parameters() {
+        if (peek() == 'v' && atEnd(1)) {
+            pos++;
+            return ""; //$NON-NLS-1$
+        }
+        StringBuilder params = new StringBuilder();
+        while (!atEnd()) {
+            if (params.length() > 0) {
+                params.append(", "); //$NON-NLS-1$
+            }
+            if (peek() == 'z') {
+                pos++;
+                params.append("..."); //$NON-NLS-1$
+            } else {
+                params.append(type());
+            }
+        }
+        return params.toString();
+    }
+
+    private boolean atEnd(int offset) {
+        return pos + offset == symbol.length() || peek(offset) == '.';
+    }
+
+    private String cloneSuffixes() {
+        StringBuilder suffixes = new StringBuilder();
+        while (peek() == '.') {
+            int start = pos;
+            pos++;
+            char c = peek();
+            if ((c >= 'a' && c <= 'z') || c == '_') {
+                while ((peek() >= 'a' && peek() <= 'z') || peek() == '_') {
+                    pos++;
+                }
+            } else if (!Character.isDigit(c)) {
+                throw UnsupportedSymbolException.INSTANCE;
+            } else {
+                pos--;
+            }
+            while (peek() == '.' && Character.isDigit(peek(1))) {
+                pos++;
+                while (Character.isDigit(peek())) {
+                    pos++;
+                }
+            }
+            suffixes.append(" [clone ").append(symbol, start, pos).append(']'); //$NON-NLS-1$
+        }
+        return suffixes.toString();
+    }
+
+    private Name name() {
+        char c = peek();
+        if (c == 'N') {
+            return nestedName();
+        }
+        Name name;
+        if (c == 'S' && peek(1) == 't') {
+            pos += 2;
+            Name unqualified = unqualifiedName(null);
+            name = new Name("std::" + unqualified.text, unqualified.last); //$NON-NLS-1$
+        } else if (c == 'S') {
+            name = substitution();
+            if (peek() != 'I') {
+                throw UnsupportedSymbolException.INSTANCE;
+            }
+            return templateName(name, false);
+        } else {
+            name = unqualifiedName(null);
+            if (name.ctorDtorConversion) {
+                throw UnsupportedSymbolException.INSTANCE;
+            }
+        }
+        if (peek() == 'I') {
+            return templateName(name, true);
+        }
+        return name;
+    }
+
+    private Name templateName(Name name, boolean substitutable) {
+        if (substitutable) {
+            substitutions.add(name);
+        }
+        List<String> args = new ArrayList<>();
+        Name template = new Name(name.text + templateArgs(name.text, args), name.last);
+        template.template = true;
+        if (typeDepth == 0) {
+            templateArgs = args;
+        }
+        return template;
+    }
+
+    private Name nestedName() {
+        expect('N');
+        String qualifiers = cvQualifiers();
+        if (peek() == 'R') {
+            pos++;
+            qualifiers += " &"; //$NON-NLS-1$
+        } else if (peek() == 'O') {
+            pos++;
+            qualifiers += " &&"; //$NON-NLS-1$
+        }
+        String prefix = null;
+        String last = null;
+        boolean template = false;
+        boolean ctorDtorConversion = false;
+        while (peek() != 'E') {
+            char c = peek();
+            boolean substitutable = true;
+            if (c == 'S' && peek(1) == 't' && prefix == null) {
+                pos += 2;
+                Name unqualified = unqualifiedName(null);
+                prefix = "std::" + unqualified.text; //$NON-NLS-1$
+                last = unqualified.last;
+                template = false;
+            } else if (c == 'S' && prefix == null) {
+                Name substitution = substitution();
+                prefix = substitution.text;
+                last = substitution.last;
+                template = false;
+                substitutable = false;
+            } else if (c == 'I' && prefix != null && !template) {
+                List<String> args = new ArrayList<>();
+                prefix += templateArgs(prefix, args);
+                if (typeDepth == 0) {
+                    templateArgs = args;
+                }
+                template = true;
+            } else {
+                Name unqualified = unqualifiedName(last);
+                prefix = prefix == null ? unqualified.text : prefix + "::" + unqualified.text; //$NON-NLS-1$
+                last = unqualified.last;
+                template = false;
+                ctorDtorConversion = unqualified.ctorDtorConversion;
+            }
+            if (peek() != 'E' && substitutable) {
+                substitutions.add(new Name(prefix, last));
+            }
+        }
+        pos++;
+        if (prefix == null) {
+            throw UnsupportedSymbolException.INSTANCE;
+        }
+        Name name = new Name(prefix, last);
+        name.template = template;
+        name.ctorDtorConversion = ctorDtorConversion;
+        name.qualifiers = qualifiers;
+        return name;
+    }
+
+    private Name unqualifiedName(String enclosing) {
+        char c = peek();
+        Name name;
+        if (c == 'L') {
+            // internal linkage
+            pos++;
+            c = peek();
+        }
+        if (Character.isDigit(c)) {
+            String source = sourceName();
+            if (source.startsWith("_GLOBAL__N")) { //$NON-NLS-1$
+                source = "(anonymous namespace)"; //$NON-NLS-1$
+            }
+            name = new Name(source, source);
+        } else if (c == 'C' && peek(1) >= '1' && peek(1) <= '5' && enclosing != null) {
+            pos += 2;
+            name = new Name(enclosing, enclosing);
+            name.ctorDtorConversion = true;
+        } else if (c == 'D' && "01245".indexOf(peek(1)) >= 0 && enclosing != null) { //$NON-NLS-1$
+            pos += 2;
+            name = new Name('~' + enclosing, '~' + enclosing);
+            name.ctorDtorConversion = true;
+        } else if (c == 'c' && peek(1) == 'v') {
+            pos += 2;
+            typeDepth++;
+            String type = type();
+            typeDepth--;
+            name = new Name("operator " + type, null); //$NON-NLS-1$
+            name.ctorDtorConversion = true;
+        } else if (c >= 'a' && c <= 'z') {
+            String operator = OPERATORS.get(symbol.substring(pos, Math.min(pos + 2, symbol.length())));
+            if (operator == null) {
+                throw UnsupportedSymbolException.INSTANCE;
+            }
+            pos += 2;
+            name = new Name(operator, operator);
+        } else {
+            throw UnsupportedSymbolException.INSTANCE;
+        }
+        if (peek() == 'B') {
+            StringBuilder tagged = new StringBuilder(name.text);
+            while (peek() == 'B') {
+                pos++;
+                tagged.append("[abi:").append(sourceName()).append(']'); //$NON-NLS-1$
+            }
+            Name taggedName = new Name(tagged.toString(), name.last);
+            taggedName.ctorDtorConversion = name.ctorDtorConversion;
+            return taggedName;
+        }
+        return name;
+    }
+
+    private String sourceName() {
+        int start = pos;
+        while (Character.isDigit(peek())) {
+            pos++;
+        }
+        int length = Integer.parseInt(symbol.substring(start, pos));
+        if (length <= 0 || pos + length > symbol.length()) {
+            throw UnsupportedSymbolException.INSTANCE;
+        }
+        pos += length;
+        return symbol.substring(pos - length, pos);
+    }
+
+    private String cvQualifiers() {
+        String qualifiers = ""; //$NON-NLS-1$
+        if (peek() == 'r') {
+            pos++;
+            qualifiers = " restrict"; //$NON-NLS-1$
+        }
+        if (peek() == 'V') {
+            pos++;
+            qualifiers = " volatile" + qualifiers; //$NON-NLS-1$
+        }
+        if (peek() == 'K') {
+            pos++;
+            qualifiers = " const" + qualifiers; //$NON-NLS-1$
+        }
+        return qualifiers;
+    }
+
+    private String templateArgs(String template, List<String> args) {
+        expect('I');
+        // keep operator< from being read as operator<<
+        StringBuilder text = new StringBuilder(template.endsWith("<") ? " <" : "<"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        while (peek() != 'E') {
+            String arg = peek() == 'L' ? literal() : typeArg();
+            if (!args.isEmpty()) {
+                text.append(", "); //$NON-NLS-1$
+            }
+            args.add(arg);
+            text.append(arg);
+        }
+        pos++;
+        if (text.charAt(text.length() - 1) == '>') {
+            text.append(' ');
+        }
+        return text.append('>').toString();
+    }
+
+    private String typeArg() {
+        typeDepth++;
+        try {
+            return type();
+        } finally {
+            typeDepth--;
+        }
+    }
+
+    private String literal() {
+        expect('L');
+        char type = peek();
+        pos++;
+        boolean negative = peek() == 'n';
+        if (negative) {
+            pos++;
+        }
+        int start = pos;
+        while (Character.isDigit(peek())) {
+            pos++;
+        }
+        if (start == pos) {
+            throw UnsupportedSymbolException.INSTANCE;
+        }
+        String value = (negative ? "-" : "") + symbol.substring(start, pos); //$NON-NLS-1$ //$NON-NLS-2$
+        expect('E');
+        switch (type) {
+        case 'i':
+            return value;
+        case 'j':
+            return value + 'u';
+        case 'l':
+            return value + 'l';
+        case 'm':
+            return value + "ul"; //$NON-NLS-1$
+        case 'b':
+            if ("0".equals(value)) { //$NON-NLS-1$
+                return "false"; //$NON-NLS-1$
+            } else if ("1".equals(value)) { //$NON-NLS-1$
+                return "true"; //$NON-NLS-1$
+            }
+            throw UnsupportedSymbolException.INSTANCE;
+        default:
+            throw UnsupportedSymbolException.INSTANCE;
+        }
+    }
+
+    private Name substitution() {
+        expect('S');
+        char c = peek();
+        if (c == 'a') {
+            pos++;
+            return new Name("std::allocator", "allocator"); //$NON-NLS-1$ //$NON-NLS-2$
+        } else if (c == 'b') {
+            pos++;
+            return new Name("std::basic_string", "basic_string"); //$NON-NLS-1$ //$NON-NLS-2$
+        } else if (c == 's') {
+            pos++;
+            return new Name("std::basic_string<char, std::char_traits<char>, std::allocator<char> >", //$NON-NLS-1$
+                    "basic_string"); //$NON-NLS-1$
+        } else if (c == 'i') {
+            pos++;
+            return new Name("std::basic_istream<char, std::char_traits<char> >", "basic_istream"); //$NON-NLS-1$ //$NON-NLS-2$
+        } else if (c == 'o') {
+            pos++;
+            return new Name("std::basic_ostream<char, std::char_traits<char> >", "basic_ostream"); //$NON-NLS-1$ //$NON-NLS-2$
+        } else if (c == 'd') {
+            pos++;
+            return new Name("std::basic_iostream<char, std::char_traits<char> >", "basic_iostream"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        int index = 0;
+        if (c != '_') {
+            int start = pos;
+            while (Character.isDigit(peek()) || (peek() >= 'A' && peek() <= 'Z')) {
+                pos++;
+            }
+            if (start == pos) {
+                throw UnsupportedSymbolException.INSTANCE;
+            }
+            index = Integer.parseInt(symbol.substring(start, pos), 36) + 1;
+        }
+        expect('_');
+        if (index >= substitutions.size()) {
+            throw UnsupportedSymbolException.INSTANCE;
+        }
+        return substitutions.get(index);
+    }
+
+    private String type() {
+        char c = peek();
+        String builtin = builtinType(c);
+        if (builtin != null) {
+            pos++;
+            return builtin;
+        }
+        String type;
+        switch (c) {
+        case 'r':
+        case 'V':
+        case 'K':
+            String qualifiers = cvQualifiers();
+            type = type() + qualifiers;
+            break;
+        case 'P':
+            pos++;
+            type = type() + '*';
+            break;
+        case 'R':
+            pos++;
+            type = reference(type(), false);
+            break;
+        case 'O':
+            pos++;
+            type = reference(type(), true);
+            break;
+        case 'D':
+            type = extendedBuiltinType(peek(1));
+            pos += 2;
+            return type;
+        case 'T':
+            type = templateParam();
+            break;
+        case 'S':
+            if (peek(1) == 't') {
+                type = className();
+                break;
+            }
+            Name substitution = substitution();
+            if (peek() != 'I') {
+                return substitution.text;
+            }
+            type = substitution.text + templateArgs(substitution.text, new ArrayList<>());
+            break;
+        case 'N':
+        case 'L':
+        case '0':
+        case '1':
+        case '2':
+        case '3':
+        case '4':
+        case '5':
+        case '6':
+        case '7':
+        case '8':
+        case '9':
+            type = className();
+            break;
+        default:
+            throw UnsupportedSymbolException.INSTANCE;
+        }
+        substitutions.add(new Name(type, null));
+        return type;
+    }
+
+    /**
+     * References to references, found when a template parameter is a reference,
+     * collapse to an rvalue reference if both are, and to a reference otherwise.
+     */
+    private static String reference(String type, boolean rvalue) {
+        if (type.endsWith("&&")) { //$NON-NLS-1$
+            return rvalue ? type : type.substring(0, type.length() - 1);
+        }
+        if (type.endsWith("&")) { //$NON-NLS-1$
+            return type;
+        }
+        return type + (rvalue ? "&&" : "&"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private String className() {
+        typeDepth++;
+        try {
+            Name name = name();
+            if (!name.qualifiers.isEmpty() || name.ctorDtorConversion) {
+                throw UnsupportedSymbolException.INSTANCE;
+            }
+            return name.text;
+        } finally {
+            typeDepth--;
+        }
+    }
+
+    private String templateParam() {
+        expect('T');
+        int index = 0;
+        if (peek() != '_') {
+            int start = pos;
+            while (Character.isDigit(peek())) {
+                pos++;
+            }
+            if (start == pos) {
+                throw UnsupportedSymbolException.INSTANCE;
+            }
+            index = Integer.parseInt(symbol.substring(start, pos)) + 1;
+        }
+        expect('_');
+        if (templateArgs == null || index >= templateArgs.size() || peek() == 'I') {
+            throw UnsupportedSymbolException.INSTANCE;
+        }
+        return templateArgs.get(index);
+    }
+
+    private static String builtinType(char c) {
+        switch (c) {
+        case 'v':
+            return "void"; //$NON-NLS-1$
+        case 'w':
+            return "wchar_t"; //$NON-NLS-1$
+        case 'b':
+            return "bool"; //$NON-NLS-1$
+        case 'c':
+            return "char"; //$NON-NLS-1$
+        case 'a':
+            return "signed char"; //$NON-NLS-1$
+        case 'h':
+            return "unsigned char"; //$NON-NLS-1$
+        case 's':
+            return "short"; //$NON-NLS-1$
+        case 't':
+            return "unsigned short"; //$NON-NLS-1$
+        case 'i':
+            return "int"; //$NON-NLS-1$
+        case 'j':
+            return "unsigned int"; //$NON-NLS-1$
+        case 'l':
+            return "long"; //$NON-NLS-1$
+        case 'm':
+            return "unsigned long"; //$NON-NLS-1$
+        case 'x':
+            return "long long"; //$NON-NLS-1$
+        case 'y':
+            return "unsigned long long"; //$NON-NLS-1$
+        case 'n':
+            return "__int128"; //$NON-NLS-1$
+        case 'o':
+            return "unsigned __int128"; //$NON-NLS-1$
+        case 'f':
+            return "float"; //$NON-NLS-1$
+        case 'd':
+            return "double"; //$NON-NLS-1$
+        case 'e':
+            return "long double"; //$NON-NLS-1$
+        case 'g':
+            return "__float128"; //$NON-NLS-1$
+        default:
+            return null;
+        }
+    }
+
+    private static String extendedBuiltinType(char c) {
+        switch (c) {
+        case 'n':
+            return "decltype(nullptr)"; //$NON-NLS-1$
+        case 'i':
+            return "char32_t"; //$NON-NLS-1$
+        case 's':
+            return "char16_t"; //$NON-NLS-1$
+        case 'u':
+            return "char8_t"; //$NON-NLS-1$
+        case 'a':
+            return "auto"; //$NON-NLS-1$
+        case 'c':
+            return "decltype(auto)"; //$NON-NLS-1$
+        default:
+            throw UnsupportedSymbolException.INSTANCE;
+        }
+    }
+}
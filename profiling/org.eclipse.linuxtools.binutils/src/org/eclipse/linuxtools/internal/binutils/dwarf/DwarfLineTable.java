@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.binutils.dwarf;
+
+/**
+ * Immutable index of the DWARF line tables of a binary, sorted by address. Each
+ * entry gives the source location of the instructions from its address up to
+ * the address of the next entry; the entries ending a sequence have no
+ * location. As the index is never modified once built, it can be queried
+ * concurrently without any lock.
+ */
+public class DwarfLineTable {
+
+    /** Index of a binary without line information */
+    public static final DwarfLineTable EMPTY = new DwarfLineTable(new long[0], new int[0], new int[0],
+            new String[0], false);
+
+    /** File index of the entries which end a sequence */
+    static final int NO_FILE = -1;
+
+    /** File index of the entries whose file is not declared */
+    static final int UNKNOWN_FILE = -2;
+
+    private final long[] addresses;
+    private final int[] lines;
+    private final int[] files;
+    private final String[] fileNames;
+    private final boolean complete;
+
+    /**
+     * Constructor
+     * @param addresses the addresses of the entries, in increasing (unsigned) order
+     * @param lines the line of each entry
+     * @param files the index in <code>fileNames</code> of the file of each entry
+     * @param fileNames the file names
+     * @param complete false if some line tables of the binary could not be read
+     */
+    DwarfLineTable(long[] addresses, int[] lines, int[] files, String[] fileNames, boolean complete) {
+        this.addresses = addresses;
+        this.lines = lines;
+        this.files = files;
+        this.fileNames = fileNames;
+        this.complete = complete;
+    }
+
+    /**
+     * @return true if the binary has no line information that could be read
+     */
+    public boolean isEmpty() {
+        return addresses.length == 0;
+    }
+
+    /**
+     * @return true if all the line tables of the binary were read, so that an
+     *         address which is not found has no line information at all
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * @return the number of entries of the index
+     */
+    public int size() {
+        return addresses.length;
+    }
+
+    /**
+     * @param address an address in the binary
+     * @return the index of the entry describing the given address, or -1 if no
+     *         line table describes it
+     */
+    private int find(long address) {
+        int low = 0;
+        int high = addresses.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (Long.compareUnsigned(addresses[mid], address) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (high < 0 || files[high] == NO_FILE) {
+            return -1;
+        }
+        return high;
+    }
+
+    /**
+     * @param address an address in the binary
+     * @return true if a line table describes the given address
+     */
+    public boolean contains(long address) {
+        return find(address) >= 0;
+    }
+
+    /**
+     * @param address an address in the binary
+     * @return the line of the given address, 0 if it matches no source line,
+     *         or -1 if no line table describes it
+     */
+    public int getLineNumber(long address) {
+        int i = find(address);
+        return i < 0 ? -1 : lines[i];
+    }
+
+    /**
+     * @param address an address in the binary
+     * @return the file of the given address, or null if it is unknown
+     */
+    public String getFileName(long address) {
+        int i = find(address);
+        return i < 0 || files[i] < 0 ? null : fileNames[files[i]];
+    }
+}
@@ -0,0 +1,832 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.binutils.dwarf;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the <code>.debug_line</code> section of an ELF file (DWARF 2 to 5) and
+ * builds a {@link DwarfLineTable}. The compilation directories, needed to
+ * resolve relative file names like <code>addr2line</code> does, are read from
+ * the first entry of each unit of the <code>.debug_info</code> section.
+ */
+public class DwarfLineTableReader {
+
+    // attributes
+    private static final int DW_AT_stmt_list = 0x10;
+    private static final int DW_AT_comp_dir = 0x1b;
+
+    // forms
+    private static final int DW_FORM_addr = 0x01;
+    private static final int DW_FORM_block2 = 0x03;
+    private static final int DW_FORM_block4 = 0x04;
+    private static final int DW_FORM_data2 = 0x05;
+    private static final int DW_FORM_data4 = 0x06;
+    private static final int DW_FORM_data8 = 0x07;
+    private static final int DW_FORM_string = 0x08;
+    private static final int DW_FORM_block = 0x09;
+    private static final int DW_FORM_block1 = 0x0a;
+    private static final int DW_FORM_data1 = 0x0b;
+    private static final int DW_FORM_flag = 0x0c;
+    private static final int DW_FORM_sdata = 0x0d;
+    private static final int DW_FORM_strp = 0x0e;
+    private static final int DW_FORM_udata = 0x0f;
+    private static final int DW_FORM_ref_addr = 0x10;
+    private static final int DW_FORM_ref1 = 0x11;
+    private static final int DW_FORM_ref2 = 0x12;
+    private static final int DW_FORM_ref4 = 0x13;
+    private static final int DW_FORM_ref8 = 0x14;
+    private static final int DW_FORM_ref_udata = 0x15;
+    private static final int DW_FORM_indirect = 0x16;
+    private static final int DW_FORM_sec_offset = 0x17;
+    private static final int DW_FORM_exprloc = 0x18;
+    private static final int DW_FORM_flag_present = 0x19;
+    private static final int DW_FORM_strx = 0x1a;
+    private static final int DW_FORM_addrx = 0x1b;
+    private static final int DW_FORM_ref_sup4 = 0x1c;
+    private static final int DW_FORM_strp_sup = 0x1d;
+    private static final int DW_FORM_data16 = 0x1e;
+    private static final int DW_FORM_line_strp = 0x1f;
+    private static final int DW_FORM_ref_sig8 = 0x20;
+    private static final int DW_FORM_implicit_const = 0x21;
+    private static final int DW_FORM_loclistx = 0x22;
+    private static final int DW_FORM_rnglistx = 0x23;
+    private static final int DW_FORM_ref_sup8 = 0x24;
+    private static final int DW_FORM_strx1 = 0x25;
+    private static final int DW_FORM_strx2 = 0x26;
+    private static final int DW_FORM_strx3 = 0x27;
+    private static final int DW_FORM_strx4 = 0x28;
+    private static final int DW_FORM_addrx1 = 0x29;
+    private static final int DW_FORM_addrx2 = 0x2a;
+    private static final int DW_FORM_addrx3 = 0x2b;
+    private static final int DW_FORM_addrx4 = 0x2c;
+
+    // unit types
+    private static final int DW_UT_compile = 0x01;
+    private static final int DW_UT_partial = 0x03;
+
+    // line number content types
+    private static final int DW_LNCT_path = 0x1;
+    private static final int DW_LNCT_directory_index = 0x2;
+
+    // standard opcodes
+    private static final int DW_LNS_copy = 1;
+    private static final int DW_LNS_advance_pc = 2;
+    private static final int DW_LNS_advance_line = 3;
+    private static final int DW_LNS_set_file = 4;
+    private static final int DW_LNS_const_add_pc = 8;
+    private static final int DW_LNS_fixed_advance_pc = 9;
+
+    // extended opcodes
+    private static final int DW_LNE_end_sequence = 1;
+    private static final int DW_LNE_set_address = 2;
+    private static final int DW_LNE_define_file = 3;
+
+    /** Thrown when a unit uses a construct this reader does not know. */
+    private static final class UnsupportedUnitException extends Exception {
+        private static final long serialVersionUID = 1L;
+    }
+
+    private final ElfSections elf;
+    private ByteBuffer str;
+    private ByteBuffer lineStr;
+    private int addressSize;
+    private boolean complete = true;
+
+    // rows of all the sequences, in the order of the line tables
+    private long[] rowAddresses = new long[1024];
+    private int[] rowLines = new int[1024];
+    private int[] rowFiles = new int[1024];
+    private int rowCount;
+    private int committedRows;
+    // each sequence is the range [start, end] of its rows, the last row ending it
+    private final List<int[]> sequences = new ArrayList<>();
+
+    // files of the current line table, as indexes in the global table
+    private int[] unitFiles = new int[64];
+    private int fileCount;
+
+    private final Map<String, Integer> fileIndexes = new HashMap<>();
+    private final List<String> fileNames = new ArrayList<>();
+
+    private DwarfLineTableReader(ElfSections elf) {
+        this.elf = elf;
+        this.addressSize = elf.is64() ? 8 : 4;
+    }
+
+    /**
+     * Reads the line tables of the given binary.
+     * @param file an ELF file
+     * @return the line tables of the binary, which are empty if the file is not
+     *         a linked ELF file or has no debug information
+     * @throws IOException if the file cannot be read
+     */
+    public static DwarfLineTable read(File file) throws IOException {
+        ElfSections elf = ElfSections.read(file);
+        // the debug sections of object files still need to be relocated
+        if (elf == null || elf.isRelocatable() || !elf.hasSection(".debug_line")) { //$NON-NLS-1$
+            return DwarfLineTable.EMPTY;
+        }
+        return new DwarfLineTableReader(elf).read();
+    }
+
+    private DwarfLineTable read() throws IOException {
+        ByteBuffer line = elf.getSection(".debug_line"); //$NON-NLS-1$
+        str = elf.getSection(".debug_str"); //$NON-NLS-1$
+        lineStr = elf.getSection(".debug_line_str"); //$NON-NLS-1$
+        Map<Long, String> compDirs = readCompilationDirectories();
+        int offset = 0;
+        int end;
+        while ((end = unitEnd(line, offset)) > offset) {
+            try {
+                readLineTable(line, offset, end, compDirs.get((long) offset));
+            } catch (UnsupportedUnitException | BufferUnderflowException | IndexOutOfBoundsException
+                    | IllegalArgumentException e) {
+                // keep the sequences read before the error
+                complete = false;
+                rowCount = committedRows;
+            } finally {
+                line.limit(line.capacity());
+            }
+            offset = end;
+        }
+        if (offset < line.limit()) {
+            // the following units cannot be found without a valid length
+            complete = false;
+        }
+        return buildTable();
+    }
+
+    /**
+     * @param section a <code>.debug_info</code> or <code>.debug_line</code> section
+     * @param offset the offset of a unit
+     * @return the offset following the unit, or -1 if its length is invalid
+     */
+    private static int unitEnd(ByteBuffer section, int offset) {
+        if (offset > section.limit() - 4) {
+            return -1;
+        }
+        long length = section.getInt(offset) & 0xffffffffL;
+        int start = offset + 4;
+        if (length == 0xffffffffL) {
+            if (offset > section.limit() - 12) {
+                return -1;
+            }
+            length = section.getLong(start);
+            start += 8;
+        } else if (length >= 0xfffffff0L) {
+            return -1;
+        }
+        if (length <= 0 || length > section.limit() - start) {
+            return -1;
+        }
+        return start + (int) length;
+    }
+
+    /**
+     * @return the compilation directory of each unit of the
+     *         <code>.debug_info</code> section, by offset of its line table
+     */
+    private Map<Long, String> readCompilationDirectories() throws IOException {
+        Map<Long, String> compDirs = new HashMap<>();
+        ByteBuffer info = elf.getSection(".debug_info"); //$NON-NLS-1$
+        ByteBuffer abbrev = elf.getSection(".debug_abbrev"); //$NON-NLS-1$
+        if (info == null || abbrev == null) {
+            return compDirs;
+        }
+        int offset = 0;
+        int end;
+        while ((end = unitEnd(info, offset)) > offset) {
+            info.position(offset);
+            boolean dwarf64 = info.getInt() == 0xffffffff;
+            if (dwarf64) {
+                info.getLong();
+            }
+            info.limit(end);
+            try {
+                readCompilationDirectory(info, abbrev, dwarf64, compDirs);
+            } catch (UnsupportedUnitException | BufferUnderflowException | IndexOutOfBoundsException
+                    | IllegalArgumentException e) {
+                // units without a usable directory keep relative file names
+            } finally {
+                info.limit(info.capacity());
+            }
+            offset = end;
+        }
+        return compDirs;
+    }
+
+    private void readCompilationDirectory(ByteBuffer info, ByteBuffer abbrev, boolean dwarf64,
+            Map<Long, String> compDirs) throws UnsupportedUnitException {
+        int version = info.getShort() & 0xffff;
+        long abbrevOffset;
+        int unitAddressSize;
+        if (version >= 5) {
+            int unitType = info.get();
+            unitAddressSize = info.get();
+            abbrevOffset = readOffset(info, dwarf64);
+            if (unitType != DW_UT_compile && unitType != DW_UT_partial) {
+                return;
+            }
+        } else if (version >= 2) {
+            abbrevOffset = readOffset(info, dwarf64);
+            unitAddressSize = info.get();
+        } else {
+            return;
+        }
+        long code = readULEB128(info);
+        if (code == 0 || abbrevOffset < 0 || abbrevOffset >= abbrev.limit()) {
+            return;
+        }
+        abbrev.position((int) abbrevOffset);
+        // look for the abbreviation of the first entry
+        while (true) {
+            long entryCode = readULEB128(abbrev);
+            if (entryCode == 0) {
+                return;
+            }
+            readULEB128(abbrev); // tag
+            abbrev.get(); // children
+            if (entryCode == code) {
+                break;
+            }
+            // skip the attributes of another entry
+            long attribute;
+            long form;
+            do {
+                attribute = readULEB128(abbrev);
+                form = skipAttributeSpec(abbrev);
+            } while (attribute != 0 || form != 0);
+        }
+        Long stmtList = null;
+        String compDir = null;
+        while (true) {
+            int attribute = (int) readULEB128(abbrev);
+            int form = (int) readULEB128(abbrev);
+            if (attribute == 0 && form == 0) {
+                break;
+            }
+            if (form == DW_FORM_implicit_const) {
+                readSLEB128(abbrev);
+                continue;
+            }
+            if (form == DW_FORM_indirect) {
+                form = (int) readULEB128(info);
+            }
+            if (attribute == DW_AT_stmt_list && (form == DW_FORM_data4 || form == DW_FORM_sec_offset
+                    || form == DW_FORM_data8)) {
+                stmtList = form == DW_FORM_data4 ? Long.valueOf(info.getInt() & 0xffffffffL)
+                        : form == DW_FORM_data8 ? Long.valueOf(info.getLong())
+                                : Long.valueOf(readOffset(info, dwarf64));
+            } else if (attribute == DW_AT_comp_dir && (form == DW_FORM_string || form == DW_FORM_strp
+                    || form == DW_FORM_line_strp)) {
+                compDir = readString(info, form, dwarf64);
+            } else {
+                skipForm(info, form, version, unitAddressSize, dwarf64);
+            }
+        }
+        if (stmtList != null && compDir != null) {
+            compDirs.put(stmtList, compDir);
+        }
+    }
+
+    /**
+     * Skips the form of an attribute specification.
+     * @return the form
+     */
+    private static long skipAttributeSpec(ByteBuffer abbrev) {
+        long form = readULEB128(abbrev);
+        if (form == DW_FORM_implicit_const) {
+            readSLEB128(abbrev);
+        }
+        return form;
+    }
+
+    private static void skipForm(ByteBuffer buffer, int form, int version, int unitAddressSize,
+            boolean dwarf64) throws UnsupportedUnitException {
+        int offsetSize = dwarf64 ? 8 : 4;
+        switch (form) {
+        case DW_FORM_flag_present:
+        case DW_FORM_implicit_const:
+            break;
+        case DW_FORM_addr:
+            skip(buffer, unitAddressSize);
+            break;
+        case DW_FORM_data1:
+        case DW_FORM_ref1:
+        case DW_FORM_flag:
+        case DW_FORM_strx1:
+        case DW_FORM_addrx1:
+            skip(buffer, 1);
+            break;
+        case DW_FORM_data2:
+        case DW_FORM_ref2:
+        case DW_FORM_strx2:
+        case DW_FORM_addrx2:
+            skip(buffer, 2);
+            break;
+        case DW_FORM_strx3:
+        case DW_FORM_addrx3:
+            skip(buffer, 3);
+            break;
+        case DW_FORM_data4:
+        case DW_FORM_ref4:
+        case DW_FORM_ref_sup4:
+        case DW_FORM_strx4:
+        case DW_FORM_addrx4:
+            skip(buffer, 4);
+            break;
+        case DW_FORM_data8:
+        case DW_FORM_ref8:
+        case DW_FORM_ref_sig8:
+        case DW_FORM_ref_sup8:
+            skip(buffer, 8);
+            break;
+        case DW_FORM_data16:
+            skip(buffer, 16);
+            break;
+        case DW_FORM_strp:
+        case DW_FORM_sec_offset:
+        case DW_FORM_strp_sup:
+        case DW_FORM_line_strp:
+            skip(buffer, offsetSize);
+            break;
+        case DW_FORM_ref_addr:
+            skip(buffer, version <= 2 ? unitAddressSize : offsetSize);
+            break;
+        case DW_FORM_sdata:
+            readSLEB128(buffer);
+            break;
+        case DW_FORM_udata:
+        case DW_FORM_ref_udata:
+        case DW_FORM_strx:
+        case DW_FORM_addrx:
+        case DW_FORM_loclistx:
+        case DW_FORM_rnglistx:
+            readULEB128(buffer);
+            break;
+        case DW_FORM_string:
+            while (buffer.get() != 0) {
+                // skip the string
+            }
+            break;
+        case DW_FORM_block1:
+            skip(buffer, buffer.get() & 0xff);
+            break;
+        case DW_FORM_block2:
+            skip(buffer, buffer.getShort() & 0xffff);
+            break;
+        case DW_FORM_block4:
+            skip(buffer, buffer.getInt());
+            break;
+        case DW_FORM_block:
+        case DW_FORM_exprloc:
+            skip(buffer, (int) readULEB128(buffer));
+            break;
+        case DW_FORM_indirect:
+            skipForm(buffer, (int) readULEB128(buffer), version, unitAddressSize, dwarf64);
+            break;
+        default:
+            throw new UnsupportedUnitException();
+        }
+    }
+
+    /**
+     * Reads the line table at the given offset and records its rows.
+     * @param line the <code>.debug_line</code> section
+     * @param offset the offset of the line table
+     * @param end the offset following the line table
+     * @param compDir the compilation directory of the unit, if known
+     */
+    private void readLineTable(ByteBuffer line, int offset, int end, String compDir)
+            throws UnsupportedUnitException {
+        line.position(offset);
+        boolean dwarf64 = line.getInt() == 0xffffffff;
+        if (dwarf64) {
+            line.getLong();
+        }
+        line.limit(end);
+        int version = line.getShort() & 0xffff;
+        if (version < 2 || version > 5) {
+            throw new UnsupportedUnitException();
+        }
+        addressSize = elf.is64() ? 8 : 4;
+        if (version >= 5) {
+            addressSize = line.get();
+            line.get(); // segment selector size
+        }
+        long headerLength = readOffset(line, dwarf64);
+        int program = line.position() + (int) headerLength;
+        int minInstructionLength = line.get() & 0xff;
+        if (version >= 4) {
+            line.get(); // maximum operations per instruction, only used by VLIW
+        }
+        boolean defaultIsStmt = line.get() != 0;
+        int lineBase = line.get();
+        int lineRange = line.get() & 0xff;
+        int opcodeBase = line.get() & 0xff;
+        if (lineRange == 0) {
+            throw new UnsupportedUnitException();
+        }
+        int[] opcodeLengths = new int[opcodeBase];
+        for (int i = 1; i < opcodeBase; i++) {
+            opcodeLengths[i] = line.get() & 0xff;
+        }
+
+        // file names, as indexes in the global table
+        List<String> directories = new ArrayList<>();
+        fileCount = 0;
+        if (version >= 5) {
+            for (String[] entry : readEntries(line, dwarf64)) {
+                directories.add(entry[0]);
+            }
+            // the first directory is the compilation directory
+            String baseDir = directories.isEmpty() ? compDir : directories.get(0);
+            for (String[] entry : readEntries(line, dwarf64)) {
+                int dir = entry[1] == null ? 0 : Integer.parseInt(entry[1]);
+                String dirName = dir < directories.size() ? directories.get(dir) : null;
+                addFile(internFile(baseDir, dirName, entry[0]));
+            }
+        } else {
+            // directory 0 is the compilation directory
+            directories.add(compDir);
+            for (String dir = readCString(line); !dir.isEmpty(); dir = readCString(line)) {
+                directories.add(dir);
+            }
+            for (String name = readCString(line); !name.isEmpty(); name = readCString(line)) {
+                addFile(internFile(directories, name, readULEB128(line)));
+                readULEB128(line); // modification time
+                readULEB128(line); // length
+            }
+        }
+        int fileBase = version >= 5 ? 0 : 1;
+
+        // line number program
+        line.position(program);
+        long address = 0;
+        long file = 1;
+        long lineNumber = 1;
+        int sequenceStart = rowCount;
+        boolean valid = true;
+        while (line.position() < end) {
+            int opcode = line.get() & 0xff;
+            if (opcode >= opcodeBase) {
+                int adjusted = opcode - opcodeBase;
+                address += (long) (adjusted / lineRange) * minInstructionLength;
+                lineNumber += lineBase + (adjusted % lineRange);
+                valid &= addRow(address, lineNumber, file - fileBase, sequenceStart);
+            } else if (opcode == 0) {
+                int extendedLength = (int) readULEB128(line);
+                if (extendedLength == 0) {
+                    continue;
+                }
+                int next = line.position() + extendedLength;
+                int extended = line.get() & 0xff;
+                switch (extended) {
+                case DW_LNE_end_sequence:
+                    addEndRow(address, sequenceStart, valid);
+                    sequenceStart = rowCount;
+                    valid = true;
+                    address = 0;
+                    file = 1;
+                    lineNumber = 1;
+                    break;
+                case DW_LNE_set_address:
+                    address = readAddress(line, extendedLength - 1);
+                    break;
+                case DW_LNE_define_file:
+                    String name = readCString(line);
+                    addFile(internFile(directories, name, readULEB128(line)));
+                    break;
+                default:
+                    // the discriminators and vendor extensions are not needed
+                    break;
+                }
+                line.position(next);
+            } else {
+                switch (opcode) {
+                case DW_LNS_copy:
+                    valid &= addRow(address, lineNumber, file - fileBase, sequenceStart);
+                    break;
+                case DW_LNS_advance_pc:
+                    address += readULEB128(line) * minInstructionLength;
+                    break;
+                case DW_LNS_advance_line:
+                    lineNumber += readSLEB128(line);
+                    break;
+                case DW_LNS_set_file:
+                    file = readULEB128(line);
+                    break;
+                case DW_LNS_const_add_pc:
+                    address += (long) ((255 - opcodeBase) / lineRange) * minInstructionLength;
+                    break;
+                case DW_LNS_fixed_advance_pc:
+                    address += line.getShort() & 0xffff;
+                    break;
+                default:
+                    // skip the operands of the other opcodes, which do not
+                    // change the address, file or line
+                    for (int i = 0; i < opcodeLengths[opcode]; i++) {
+                        readULEB128(line);
+                    }
+                    break;
+                }
+            }
+        }
+        // drop the rows of an unterminated sequence
+        rowCount = committedRows;
+    }
+
+    private void addFile(int fileIndex) {
+        if (fileCount == unitFiles.length) {
+            unitFiles = Arrays.copyOf(unitFiles, fileCount * 2);
+        }
+        unitFiles[fileCount++] = fileIndex;
+    }
+
+    /**
+     * Reads the directory or file name entries of a DWARF 5 line table header.
+     * @return the path and the directory index of each entry
+     */
+    private List<String[]> readEntries(ByteBuffer line, boolean dwarf64) throws UnsupportedUnitException {
+        int formatCount = line.get() & 0xff;
+        int[] contentTypes = new int[formatCount];
+        int[] forms = new int[formatCount];
+        for (int i = 0; i < formatCount; i++) {
+            contentTypes[i] = (int) readULEB128(line);
+            forms[i] = (int) readULEB128(line);
+        }
+        long count = readULEB128(line);
+        List<String[]> entries = new ArrayList<>();
+        for (long n = 0; n < count; n++) {
+            String[] entry = new String[2];
+            for (int i = 0; i < formatCount; i++) {
+                if (contentTypes[i] == DW_LNCT_path) {
+                    entry[0] = readString(line, forms[i], dwarf64);
+                } else if (contentTypes[i] == DW_LNCT_directory_index) {
+                    entry[1] = Long.toString(readUnsigned(line, forms[i]));
+                } else {
+                    skipForm(line, forms[i], 5, addressSize, dwarf64);
+                }
+            }
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    private static long readUnsigned(ByteBuffer buffer, int form) throws UnsupportedUnitException {
+        switch (form) {
+        case DW_FORM_data1:
+            return buffer.get() & 0xff;
+        case DW_FORM_data2:
+            return buffer.getShort() & 0xffff;
+        case DW_FORM_data4:
+            return buffer.getInt() & 0xffffffffL;
+        case DW_FORM_data8:
+            return buffer.getLong();
+        case DW_FORM_udata:
+            return readULEB128(buffer);
+        default:
+            throw new UnsupportedUnitException();
+        }
+    }
+
+    private String readString(ByteBuffer buffer, int form, boolean dwarf64) throws UnsupportedUnitException {
+        switch (form) {
+        case DW_FORM_string:
+            return readCString(buffer);
+        case DW_FORM_strp:
+            return stringAt(str, readOffset(buffer, dwarf64));
+        case DW_FORM_line_strp:
+            return stringAt(lineStr, readOffset(buffer, dwarf64));
+        default:
+            throw new UnsupportedUnitException();
+        }
+    }
+
+    private static String stringAt(ByteBuffer section, long offset) throws UnsupportedUnitException {
+        if (section == null || offset < 0 || offset >= section.limit()) {
+            throw new UnsupportedUnitException();
+        }
+        return ElfSections.cString(section, (int) offset);
+    }
+
+    private int internFile(List<String> directories, String name, long dir) {
+        String dirName = dir < directories.size() ? directories.get((int) dir) : null;
+        return internFile(directories.get(0), dirName, name);
+    }
+
+    /**
+     * Resolves a file name like <code>addr2line</code> does, and gets its index
+     * in the global table of file names.
+     */
+    private int internFile(String compDir, String dir, String name) {
+        String path = name;
+        if (!isAbsolute(path) && dir != null) {
+            path = join(dir, path);
+        }
+        if (!isAbsolute(path) && compDir != null && !compDir.equals(dir)) {
+            path = join(compDir, path);
+        }
+        Integer index = fileIndexes.get(path);
+        if (index == null) {
+            index = fileNames.size();
+            fileNames.add(path);
+            fileIndexes.put(path, index);
+        }
+        return index;
+    }
+
+    private static boolean isAbsolute(String path) {
+        return path.startsWith("/") || (path.length() > 2 && path.charAt(1) == ':'); //$NON-NLS-1$
+    }
+
+    private static String join(String dir, String name) {
+        if (dir.isEmpty()) {
+            return name;
+        }
+        return dir.endsWith("/") ? dir + name : dir + '/' + name; //$NON-NLS-1$
+    }
+
+    /**
+     * Records a row of the current sequence.
+     * @return false if the rows of the sequence are not in increasing order
+     */
+    private boolean addRow(long address, long lineNumber, long file, int sequenceStart) {
+        int fileIndex = file >= 0 && file < fileCount ? unitFiles[(int) file] : DwarfLineTable.UNKNOWN_FILE;
+        int line = (int) Math.max(0, Math.min(lineNumber, Integer.MAX_VALUE));
+        if (rowCount > sequenceStart) {
+            long previous = rowAddresses[rowCount - 1];
+            int order = Long.compareUnsigned(address, previous);
+            if (order < 0) {
+                return false;
+            }
+            if (order == 0) {
+                // the last row of an address wins
+                rowLines[rowCount - 1] = line;
+                rowFiles[rowCount - 1] = fileIndex;
+                return true;
+            }
+            if (rowLines[rowCount - 1] == line && rowFiles[rowCount - 1] == fileIndex) {
+                // the previous row already covers this address
+                return true;
+            }
+        }
+        appendRow(address, line, fileIndex);
+        return true;
+    }
+
+    private void addEndRow(long address, int sequenceStart, boolean valid) {
+        if (!valid) {
+            complete = false;
+            rowCount = sequenceStart;
+            return;
+        }
+        if (rowCount == sequenceStart || Long.compareUnsigned(address, rowAddresses[sequenceStart]) <= 0) {
+            // empty sequence
+            rowCount = sequenceStart;
+            return;
+        }
+        appendRow(address, 0, DwarfLineTable.NO_FILE);
+        sequences.add(new int[] { sequenceStart, rowCount - 1 });
+        committedRows = rowCount;
+    }
+
+    private void appendRow(long address, int line, int file) {
+        if (rowCount == rowAddresses.length) {
+            int capacity = rowCount * 2;
+            rowAddresses = Arrays.copyOf(rowAddresses, capacity);
+            rowLines = Arrays.copyOf(rowLines, capacity);
+            rowFiles = Arrays.copyOf(rowFiles, capacity);
+        }
+        rowAddresses[rowCount] = address;
+        rowLines[rowCount] = line;
+        rowFiles[rowCount] = file;
+        rowCount++;
+    }
+
+    /**
+     * Sorts the sequences by address and merges their rows into the index.
+     * Sequences of code removed by the linker, which are left at address 0 or
+     * at a tombstone address, are dropped, as well as the sequences overlapping
+     * a previous one.
+     */
+    private DwarfLineTable buildTable() {
+        long tombstone = elf.is64() ? -1L : 0xffffffffL;
+        List<int[]> kept = new ArrayList<>(sequences.size());
+        for (int[] sequence : sequences) {
+            long start = rowAddresses[sequence[0]];
+            if (start == 0 || start == tombstone || start == tombstone - 1) {
+                continue;
+            }
+            kept.add(sequence);
+        }
+        kept.sort((a, b) -> Long.compareUnsigned(rowAddresses[a[0]], rowAddresses[b[0]]));
+        long[] addresses = new long[rowCount];
+        int[] lines = new int[rowCount];
+        int[] files = new int[rowCount];
+        int size = 0;
+        long lastEnd = 0;
+        for (int[] sequence : kept) {
+            if (size > 0 && Long.compareUnsigned(rowAddresses[sequence[0]], lastEnd) < 0) {
+                continue;
+            }
+            if (size > 0 && addresses[size - 1] == rowAddresses[sequence[0]]) {
+                // the sequence starts where the previous one ends
+                size--;
+            }
+            int length = sequence[1] - sequence[0] + 1;
+            System.arraycopy(rowAddresses, sequence[0], addresses, size, length);
+            System.arraycopy(rowLines, sequence[0], lines, size, length);
+            System.arraycopy(rowFiles, sequence[0], files, size, length);
+            size += length;
+            lastEnd = rowAddresses[sequence[1]];
+        }
+        if (size == 0 && complete) {
+            return DwarfLineTable.EMPTY;
+        }
+        return new DwarfLineTable(Arrays.copyOf(addresses, size), Arrays.copyOf(lines, size),
+                Arrays.copyOf(files, size), fileNames.toArray(new String[0]), complete);
+    }
+
+    private static void skip(ByteBuffer buffer, int n) {
+        buffer.position(buffer.position() + n);
+    }
+
+    private static long readOffset(ByteBuffer buffer, boolean dwarf64) {
+        return dwarf64 ? buffer.getLong() : buffer.getInt() & 0xffffffffL;
+    }
+
+    private static long readAddress(ByteBuffer buffer, int size) throws UnsupportedUnitException {
+        switch (size) {
+        case 8:
+            return buffer.getLong();
+        case 4:
+            return buffer.getInt() & 0xffffffffL;
+        case 2:
+            return buffer.getShort() & 0xffff;
+        default:
+            throw new UnsupportedUnitException();
+        }
+    }
+
+    private static String readCString(ByteBuffer buffer) {
+        int start = buffer.position();
+        String s = ElfSections.cString(buffer, start);
+        int end = start;
+        while (buffer.get(end) != 0) {
+            end++;
+        }
+        buffer.position(end + 1);
+        return s;
+    }
+
+    private static long readULEB128(ByteBuffer buffer) {
+        long result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            if (shift < 64) {
+                result |= (long) (b & 0x7f) << shift;
+            }
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return result;
+    }
+
+    private static long readSLEB128(ByteBuffer buffer) {
+        long result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            if (shift < 64) {
+                result |= (long) (b & 0x7f) << shift;
+            }
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        if (shift < 64 && (b & 0x40) != 0) {
+            result |= -1L << shift;
+        }
+        return result;
+    }
+}
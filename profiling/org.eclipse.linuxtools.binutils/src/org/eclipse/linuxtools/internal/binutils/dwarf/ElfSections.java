@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.binutils.dwarf;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Minimal reader of the sections of an ELF file. Only the section headers are
+ * decoded; the content of a section is mapped in memory on demand, and
+ * inflated if it was compressed by the linker.
+ */
+public class ElfSections {
+
+    private static final int ELFCLASS64 = 2;
+    private static final int ELFDATA2MSB = 2;
+    private static final int ET_REL = 1;
+    private static final int SHT_NOBITS = 8;
+    private static final long SHF_COMPRESSED = 0x800;
+    private static final int ELFCOMPRESS_ZLIB = 1;
+
+    private static final class Section {
+        private long offset;
+        private long size;
+        private long flags;
+        private int type;
+    }
+
+    private final File file;
+    private final boolean is64;
+    private final ByteOrder order;
+    private final boolean relocatable;
+    private final Map<String, Section> sections = new HashMap<>();
+
+    private ElfSections(File file, boolean is64, ByteOrder order, boolean relocatable) {
+        this.file = file;
+        this.is64 = is64;
+        this.order = order;
+        this.relocatable = relocatable;
+    }
+
+    /**
+     * Reads the section headers of the given file.
+     * @param file an ELF file
+     * @return the sections of the file, or null if it is not an ELF file
+     * @throws IOException if the file cannot be read
+     */
+    public static ElfSections read(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r"); //$NON-NLS-1$
+                FileChannel channel = raf.getChannel()) {
+            ByteBuffer ident = ByteBuffer.allocate(64);
+            channel.read(ident, 0);
+            ident.flip();
+            if (ident.remaining() < 52 || ident.get(0) != 0x7f || ident.get(1) != 'E' || ident.get(2) != 'L'
+                    || ident.get(3) != 'F') {
+                return null;
+            }
+            boolean is64 = ident.get(4) == ELFCLASS64;
+            ByteOrder order = ident.get(5) == ELFDATA2MSB ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+            ident.order(order);
+            ElfSections elf = new ElfSections(file, is64, order, ident.getShort(0x10) == ET_REL);
+            long shoff = is64 ? ident.getLong(0x28) : ident.getInt(0x20) & 0xffffffffL;
+            int shentsize = ident.getShort(is64 ? 0x3a : 0x2e) & 0xffff;
+            int shnum = ident.getShort(is64 ? 0x3c : 0x30) & 0xffff;
+            int shstrndx = ident.getShort(is64 ? 0x3e : 0x32) & 0xffff;
+            if (shoff == 0 || shentsize == 0) {
+                return elf;
+            }
+            // large section counts and indexes are stored in the first section
+            ByteBuffer first = elf.map(channel, shoff, shentsize);
+            if (shnum == 0) {
+                shnum = (int) (is64 ? first.getLong(0x20) : first.getInt(0x14) & 0xffffffffL);
+            }
+            if (shstrndx == 0xffff) {
+                shstrndx = first.getInt(is64 ? 0x28 : 0x18);
+            }
+            if (shstrndx <= 0 || shstrndx >= shnum) {
+                return elf;
+            }
+            ByteBuffer headers = elf.map(channel, shoff, (long) shnum * shentsize);
+            Section[] all = new Section[shnum];
+            int[] names = new int[shnum];
+            for (int i = 0; i < shnum; i++) {
+                int base = i * shentsize;
+                Section section = new Section();
+                names[i] = headers.getInt(base);
+                section.type = headers.getInt(base + 4);
+                if (is64) {
+                    section.flags = headers.getLong(base + 0x08);
+                    section.offset = headers.getLong(base + 0x18);
+                    section.size = headers.getLong(base + 0x20);
+                } else {
+                    section.flags = headers.getInt(base + 0x08) & 0xffffffffL;
+                    section.offset = headers.getInt(base + 0x10) & 0xffffffffL;
+                    section.size = headers.getInt(base + 0x14) & 0xffffffffL;
+                }
+                all[i] = section;
+            }
+            ByteBuffer strtab = elf.map(channel, all[shstrndx].offset, all[shstrndx].size);
+            for (int i = 0; i < shnum; i++) {
+                if (names[i] >= 0 && names[i] < strtab.limit()) {
+                    elf.sections.putIfAbsent(cString(strtab, names[i]), all[i]);
+                }
+            }
+            return elf;
+        }
+    }
+
+    /**
+     * @return true if the file is a 64 bits ELF file
+     */
+    public boolean is64() {
+        return is64;
+    }
+
+    /**
+     * @return true if the file is an object file, whose code is not yet
+     *         placed at its final address
+     */
+    public boolean isRelocatable() {
+        return relocatable;
+    }
+
+    /**
+     * @param name the name of a section, such as <code>.debug_line</code>
+     * @return true if the file has a section with the given name
+     */
+    public boolean hasSection(String name) {
+        Section section = sections.get(name);
+        return section != null && section.type != SHT_NOBITS && section.size > 0;
+    }
+
+    /**
+     * Gets the content of the given section, in the byte order of the file.
+     * @param name the name of a section, such as <code>.debug_line</code>
+     * @return the content of the section, or null if the file has no such section
+     * @throws IOException if the section cannot be read
+     */
+    public ByteBuffer getSection(String name) throws IOException {
+        if (!hasSection(name)) {
+            return null;
+        }
+        Section section = sections.get(name);
+        ByteBuffer data;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r"); //$NON-NLS-1$
+                FileChannel channel = raf.getChannel()) {
+            data = map(channel, section.offset, section.size);
+        }
+        if ((section.flags & SHF_COMPRESSED) != 0) {
+            data = inflate(data);
+        }
+        return data;
+    }
+
+    private ByteBuffer map(FileChannel channel, long offset, long size) throws IOException {
+        if (offset < 0 || size < 0 || size > Integer.MAX_VALUE || offset + size > channel.size()) {
+            throw new IOException("Truncated ELF file: " + file); //$NON-NLS-1$
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, offset, size).order(order);
+    }
+
+    private ByteBuffer inflate(ByteBuffer data) throws IOException {
+        int type = data.getInt(0);
+        long size = is64 ? data.getLong(8) : data.getInt(4) & 0xffffffffL;
+        int header = is64 ? 24 : 12;
+        if (type != ELFCOMPRESS_ZLIB || size > Integer.MAX_VALUE) {
+            throw new IOException("Unsupported compressed section in " + file); //$NON-NLS-1$
+        }
+        byte[] input = new byte[data.limit() - header];
+        data.position(header);
+        data.get(input);
+        byte[] output = new byte[(int) size];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            int length = 0;
+            while (length < output.length && !inflater.finished()) {
+                int n = inflater.inflate(output, length, output.length - length);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += n;
+            }
+            if (length != output.length) {
+                throw new IOException("Truncated compressed section in " + file); //$NON-NLS-1$
+            }
+        } catch (DataFormatException e) {
+            throw new IOException(e);
+        } finally {
+            inflater.end();
+        }
+        return ByteBuffer.wrap(output).order(order);
+    }
+
+    /**
+     * Reads a null terminated string.
+     * @param buffer a buffer
+     * @param offset the offset of the string in the buffer
+     * @return the string
+     */
+    static String cString(ByteBuffer buffer, int offset) {
+        int end = offset;
+        int limit = buffer.limit();
+        while (end < limit && buffer.get(end) != 0) {
+            end++;
+        }
+        byte[] bytes = new byte[end - offset];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -18,6 +18,11 @@ import org.eclipse.linuxtools.systemtap.graphing.core.tests.aggregates.CountAggr
 import org.eclipse.linuxtools.systemtap.graphing.core.tests.aggregates.MaxAggregateTest;
 import org.eclipse.linuxtools.systemtap.graphing.core.tests.aggregates.MinAggregateTest;
 import org.eclipse.linuxtools.systemtap.graphing.core.tests.aggregates.SumAggregateTest;
+import org.eclipse.linuxtools.systemtap.graphing.core.tests.datasets.ParseBufferTest;
+import org.eclipse.linuxtools.systemtap.graphing.core.tests.datasets.ParsePlanTest;
+import org.eclipse.linuxtools.systemtap.graphing.core.tests.datasets.SnapshotTest;
+import org.eclipse.linuxtools.systemtap.graphing.core.tests.datasets.column.ColumnDataSetTest;
+import org.eclipse.linuxtools.systemtap.graphing.core.tests.datasets.column.FilteredColumnDataSetTest;
 import org.eclipse.linuxtools.systemtap.graphing.core.tests.datasets.row.FilteredRowDataSetTest;
 import org.eclipse.linuxtools.systemtap.graphing.core.tests.datasets.row.RowDataSetTest;
 import org.eclipse.linuxtools.systemtap.graphing.core.tests.datasets.row.RowEntryTest;
@@ -28,9 +33,11 @@ import org.eclipse.linuxtools.systemtap.graphing.core.tests.datasets.table.Table
 import org.eclipse.linuxtools.systemtap.graphing.core.tests.datasets.table.TableParserTest;
 import org.eclipse.linuxtools.systemtap.graphing.core.tests.filters.MatchFilterTest;
 import org.eclipse.linuxtools.systemtap.graphing.core.tests.filters.RangeFilterTest;
+import org.eclipse.linuxtools.systemtap.graphing.core.tests.filters.RowSelectionTest;
 import org.eclipse.linuxtools.systemtap.graphing.core.tests.filters.SortFilterTest;
 import org.eclipse.linuxtools.systemtap.graphing.core.tests.filters.UniqueFilterTest;
 import org.eclipse.linuxtools.systemtap.graphing.core.tests.structures.ChartStreamDaemonTest;
+import org.eclipse.linuxtools.systemtap.graphing.core.tests.structures.DownsamplerTest;
 import org.eclipse.linuxtools.systemtap.graphing.core.tests.structures.NumberTypeTest;
 import org.eclipse.linuxtools.systemtap.graphing.core.tests.structures.UpdateManagerTest;
 import org.junit.runner.RunWith;
@@ -45,6 +52,13 @@ import org.junit.runners.Suite;
         SumAggregateTest.class,
 
         // DataSets
+        ParseBufferTest.class,
+        ParsePlanTest.class,
+        SnapshotTest.class,
+
+        // DataSets.Column
+        ColumnDataSetTest.class,
+        FilteredColumnDataSetTest.class,
 
         // DataSets.Row
         FilteredRowDataSetTest.class,
@@ -58,11 +72,11 @@ import org.junit.runners.Suite;
         TableParserTest.class,
 
         // Filters
-        MatchFilterTest.class, RangeFilterTest.class, SortFilterTest.class,
-        UniqueFilterTest.class,
+        MatchFilterTest.class, RangeFilterTest.class, RowSelectionTest.class,
+        SortFilterTest.class, UniqueFilterTest.class,
 
         // Structures
-        ChartStreamDaemonTest.class, NumberTypeTest.class,
+        ChartStreamDaemonTest.class, DownsamplerTest.class, NumberTypeTest.class,
         UpdateManagerTest.class })
 public class AllTests {
 }
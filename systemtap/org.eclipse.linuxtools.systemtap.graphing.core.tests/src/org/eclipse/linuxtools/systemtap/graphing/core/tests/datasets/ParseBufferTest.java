@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.graphing.core.tests.datasets;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.ParseBuffer;
+import org.junit.Test;
+
+public class ParseBufferTest {
+
+    @Test
+    public void testAppendConsume() {
+        ParseBuffer buffer = new ParseBuffer(8);
+        buffer.append("abcdef");
+        buffer.consume(4);
+        // moves the remaining characters to the start of the array
+        buffer.append(new StringBuilder("ghij"));
+        assertEquals(6, buffer.length());
+        assertEquals("efghij", buffer.toString());
+        assertEquals('g', buffer.charAt(2));
+        assertEquals("fgh", buffer.subSequence(1, 4));
+
+        // grows
+        buffer.append("klmnopqrstuvwxyz");
+        assertEquals("efghijklmnopqrstuvwxyz", buffer.toString());
+        buffer.consume(buffer.length());
+        assertEquals(0, buffer.length());
+        assertEquals("", buffer.toString());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testConsumeTooMuch() {
+        ParseBuffer buffer = new ParseBuffer();
+        buffer.append("abc");
+        buffer.consume(4);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testCharAtOutOfBounds() {
+        ParseBuffer buffer = new ParseBuffer();
+        buffer.append("abc");
+        buffer.consume(1);
+        buffer.charAt(2);
+    }
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.graphing.core.tests.datasets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.Matcher;
+
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataEntry;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataSetParser;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.ParseBuffer;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.ParsePlan;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.column.ColumnDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.row.LineParser;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.row.RowParser;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.table.TableParser;
+import org.junit.Test;
+
+public class ParsePlanTest {
+
+    private static final int ROWS = 5000;
+
+    @Test
+    public void testGroups() {
+        ParsePlan plan = new ParsePlan(new String[] {"\\d+", " \\((\\w)\\) ", "(?:-)?\\d+\\.?\\d*", " ", "\\w+", "\\n"});
+        assertEquals(3, plan.getColumnCount());
+
+        String input = "12 (x) -3.5 foo\n";
+        Matcher m = plan.getPattern().matcher(input);
+        assertTrue(m.find());
+        Object[] row = plan.getRow(m);
+        assertEquals("12", row[0]);
+        assertEquals("-3.5", row[1]);
+        assertEquals("foo", row[2]);
+    }
+
+    @Test
+    public void testBufferMatchesBuilder() {
+        RowParser parser = new RowParser(new String[] {"\\d+", ", ", "\\d+", "\\n"});
+        IDataSetParser legacy = s -> parser.parse(s);
+        ParseBuffer buffer = new ParseBuffer(16);
+        ParseBuffer legacyBuffer = new ParseBuffer(16);
+        for (int i = 0; i < 100; i++) {
+            String line = i + ", " + (i * i) + "\n";
+            buffer.append(line);
+            legacyBuffer.append(line);
+            IDataEntry entry = parser.parseNext(buffer);
+            IDataEntry legacyEntry = legacy.parseNext(legacyBuffer);
+            assertEquals(String.valueOf(i * i), entry.getRow(0)[1]);
+            assertEquals(entry.getRow(0)[1], legacyEntry.getRow(0)[1]);
+            assertEquals(0, buffer.length());
+            assertEquals(0, legacyBuffer.length());
+        }
+    }
+
+    /**
+     * Checks that rows parsed straight into a column data set hold the same
+     * values as rows parsed into entries, integers included.
+     */
+    @Test
+    public void testParseIntoColumns() {
+        String[] regEx = new String[] {"-?\\d+", ", ", "\\w+", "(, \\w+)?", "\\n"};
+        String[] lines = new String[] {"12, read\n", "-3, write, x\n", "007, read\n", "4, 5\n"};
+        RowParser parser = new RowParser(regEx);
+        ColumnDataSet direct = new ColumnDataSet(new String[] {"a", "b"});
+        ColumnDataSet entries = new ColumnDataSet(new String[] {"a", "b"});
+        ParseBuffer buffer = new ParseBuffer();
+        ParseBuffer entryBuffer = new ParseBuffer();
+        for (String line : lines) {
+            buffer.append(line);
+            entryBuffer.append(line);
+            assertTrue(parser.parseNext(buffer, direct));
+            entries.append(parser.parseNext(entryBuffer));
+            assertEquals(0, buffer.length());
+        }
+        assertFalse(parser.parseNext(buffer, direct));
+
+        assertEquals(lines.length, direct.getRowCount());
+        for (int i = 0; i < lines.length; i++) {
+            assertArrayEquals(entries.getRow(i), direct.getRow(i));
+        }
+        assertEquals(Long.valueOf(-3), direct.getRow(1)[0]);
+        assertEquals("007", direct.getRow(2)[0]);
+        assertEquals("5", direct.getRow(3)[1]);
+
+        LineParser lineParser = new LineParser("^(\\d+), (\\w+)$");
+        ColumnDataSet lineData = new ColumnDataSet(new String[] {"a", "b"});
+        buffer.append("42, read\n");
+        assertTrue(lineParser.parseNext(buffer, lineData));
+        assertEquals(0, buffer.length());
+        assertArrayEquals(new Object[] {Long.valueOf(42), "read"}, lineData.getRow(0));
+    }
+
+    /**
+     * Parses typical SystemTap output one line at a time with the row parser,
+     * and a block at a time with the table parser.
+     */
+    @Test
+    public void testParseOutput() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < ROWS; i++) {
+            text.append(i).append(", ").append(i % 977).append(", read\n");
+        }
+        String input = text.toString();
+        String[] regEx = new String[] {"\\d+", ", ", "\\d+", ", ", "\\w+", "\\n"};
+
+        RowParser rowParser = new RowParser(regEx);
+        ParseBuffer buffer = new ParseBuffer();
+        int lineStart = 0;
+        for (int i = 0; i < ROWS; i++) {
+            int lineEnd = input.indexOf('\n', lineStart);
+            buffer.append(input.substring(lineStart, lineEnd + 1));
+            lineStart = lineEnd + 1;
+            Object[] row = rowParser.parseNext(buffer).getRow(0);
+            assertEquals(String.valueOf(i), row[0]);
+            assertEquals(String.valueOf(i % 977), row[1]);
+            assertEquals("read", row[2]);
+            assertEquals(0, buffer.length());
+        }
+
+        TableParser tableParser = new TableParser(regEx, "\n\n");
+        String table = input.substring(0, input.indexOf("\n1000, ") + 1) + '\n';
+        buffer = new ParseBuffer();
+        for (int i = 0; i < 10; i++) {
+            buffer.append(table);
+            IDataEntry entry = tableParser.parseNext(buffer);
+            // the newline of the last row starts the delimiter, so that row is left out
+            assertEquals(999, entry.getRowCount());
+            assertEquals("998", entry.getRow(998)[0]);
+            assertEquals("21", entry.getRow(998)[1]);
+            assertEquals(0, buffer.length());
+        }
+    }
+}
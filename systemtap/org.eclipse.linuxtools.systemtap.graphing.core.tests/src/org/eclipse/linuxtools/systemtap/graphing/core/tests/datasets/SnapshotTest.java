@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.graphing.core.tests.datasets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.Snapshot;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.SnapshotWriter;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.row.FilteredRowDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.row.RowDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.row.RowEntry;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.table.TableDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.table.TableEntry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SnapshotTest {
+
+    private static final int ROWS = 3 * SnapshotWriter.CHUNK_ROWS + 17;
+    private static final String[] TITLES = {"count", "time", "name"};
+
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("snapshot", ".set");
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    public void testWriteRead() throws IOException {
+        try (SnapshotWriter writer = new SnapshotWriter(file, RowDataSet.ID, TITLES)) {
+            for (int i = 0; i < 10000; i++) {
+                writer.append(new Object[] {Long.valueOf(i), Double.valueOf(i / 2.0), i % 3 == 0 ? null : "n" + (i % 7)});
+            }
+        }
+
+        assertTrue(Snapshot.isSnapshot(file));
+        Snapshot snapshot = Snapshot.open(file);
+        assertEquals(RowDataSet.ID, snapshot.getID());
+        assertArrayEquals(TITLES, snapshot.getTitles());
+        assertEquals(10000, snapshot.getRowCount());
+        assertEquals(3, snapshot.getChunkCount());
+
+        int c = snapshot.findChunk(9998);
+        assertEquals(2, c);
+        Object[] row = snapshot.getChunk(c)[9998 - snapshot.getChunkStart(c)];
+        assertEquals(Long.valueOf(9998), row[0]);
+        assertEquals(Double.valueOf(4999), row[1]);
+        assertEquals("n2", row[2]);
+        assertNull(snapshot.getChunk(0)[0][2]);
+    }
+
+    @Test
+    public void testMixedTypes() throws IOException {
+        try (SnapshotWriter writer = new SnapshotWriter(file, RowDataSet.ID, TITLES)) {
+            writer.append(new Object[] {Integer.valueOf(1), Long.valueOf(2), "a"});
+            writer.append(new Object[] {Double.valueOf(1.5), "3", Long.valueOf(4)});
+        }
+        Object[][] rows = Snapshot.open(file).getChunk(0);
+        // the column keeps the type of its values, or falls back to strings
+        assertEquals(Long.valueOf(2), rows[0][1]);
+        assertEquals(Long.valueOf(3), rows[1][1]);
+        assertEquals("4", rows[1][2]);
+        // integers mixed with decimals are not read back as decimals
+        assertEquals("1", rows[0][0]);
+        assertEquals("1.5", rows[1][0]);
+    }
+
+    @Test
+    public void testNumericStrings() throws IOException {
+        try (SnapshotWriter writer = new SnapshotWriter(file, RowDataSet.ID, TITLES)) {
+            writer.append(new Object[] {"1", "2.5", "007"});
+            writer.append(new Object[] {"-3", "8.25", "1.50"});
+        }
+        Object[][] rows = Snapshot.open(file).getChunk(0);
+        // strings of numbers are stored as numbers
+        assertEquals(Long.valueOf(1), rows[0][0]);
+        assertEquals(Long.valueOf(-3), rows[1][0]);
+        assertEquals(Double.valueOf(2.5), rows[0][1]);
+        assertEquals(Double.valueOf(8.25), rows[1][1]);
+        // unless they would not be read back unchanged
+        assertEquals("007", rows[0][2]);
+        assertEquals("1.50", rows[1][2]);
+    }
+
+    @Test
+    public void testUnclosed() throws IOException {
+        SnapshotWriter writer = new SnapshotWriter(file, RowDataSet.ID, TITLES);
+        try {
+            for (int i = 0; i < SnapshotWriter.CHUNK_ROWS + 10; i++) {
+                writer.append(new Object[] {Long.valueOf(i), Long.valueOf(i), "x"});
+            }
+            // only the full chunk was written
+            assertEquals(SnapshotWriter.CHUNK_ROWS, Snapshot.open(file).getRowCount());
+            writer.flush();
+            assertEquals(SnapshotWriter.CHUNK_ROWS + 10, Snapshot.open(file).getRowCount());
+        } finally {
+            writer.close();
+        }
+        assertEquals(SnapshotWriter.CHUNK_ROWS + 10, Snapshot.open(file).getRowCount());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testClose() throws IOException {
+        try (SnapshotWriter writer = new SnapshotWriter(file, RowDataSet.ID, TITLES)) {
+            writer.append(new Object[] {Long.valueOf(1), Long.valueOf(2), "a"});
+        }
+        Snapshot snapshot = Snapshot.open(file);
+        assertEquals(1, snapshot.getChunk(0).length);
+        snapshot.close();
+        snapshot.getChunk(0);
+    }
+
+    @Test
+    public void testReplaceOpenSnapshot() {
+        RowDataSet data = new RowDataSet(TITLES);
+        for (int i = 0; i < 5000; i++) {
+            data.append(entry(Long.valueOf(i), "t" + i, "n"));
+        }
+        assertTrue(data.writeToFile(file));
+        RowDataSet read = new RowDataSet(TITLES);
+        assertTrue(read.readFromFile(file));
+
+        // the rows of the snapshot are still read from the replaced file
+        RowDataSet other = new RowDataSet(TITLES);
+        other.append(entry(Long.valueOf(-1), "t", "n"));
+        assertTrue(other.writeToFile(file));
+        assertEquals(5000, read.getRowCount());
+        assertEquals(Long.valueOf(4999), read.getRow(4999)[0]);
+
+        RowDataSet reread = new RowDataSet(TITLES);
+        assertTrue(reread.readFromFile(file));
+        assertEquals(1, reread.getRowCount());
+        // no temporary file is left
+        assertEquals(0, file.getParentFile().listFiles(
+                (dir, name) -> name.startsWith("." + file.getName())).length);
+    }
+
+    @Test
+    public void testNotSnapshot() throws IOException {
+        try (FileWriter writer = new FileWriter(file)) {
+            writer.write(RowDataSet.ID + "\n"); //$NON-NLS-1$
+        }
+        assertFalse(Snapshot.isSnapshot(file));
+    }
+
+    @Test(expected = IOException.class)
+    public void testOpenInvalid() throws IOException {
+        try (FileWriter writer = new FileWriter(file)) {
+            writer.write("STAPSNAP"); //$NON-NLS-1$
+        }
+        Snapshot.open(file);
+    }
+
+    @Test
+    public void testRowDataSet() {
+        RowDataSet data = new RowDataSet(TITLES);
+        for (int i = 0; i < 5000; i++) {
+            data.append(entry(Long.valueOf(i), "t" + i, "n"));
+        }
+        assertTrue(data.writeToFile(file));
+
+        FilteredRowDataSet read = new FilteredRowDataSet(TITLES);
+        assertTrue(read.readFromFile(file));
+        assertEquals(5000, read.getRowCount());
+        assertArrayEquals(data.getRow(4321), read.getRow(4321));
+        assertSame(read.getEntry(4321), read.getEntry(4321));
+
+        read.append(entry(Long.valueOf(-1), "t", "n"));
+        assertEquals(5001, read.getRowCount());
+        assertEquals(Long.valueOf(-1), read.getRow(5000)[0]);
+        assertTrue(read.remove(0));
+        assertEquals(Long.valueOf(1), read.getRow(0)[0]);
+        assertEquals(5000, read.getRowCount());
+    }
+
+    @Test
+    public void testTableDataSet() {
+        TableDataSet data = new TableDataSet(TITLES);
+        for (int i = 0; i < 3; i++) {
+            TableEntry entry = new TableEntry();
+            for (int j = 0; j <= i; j++) {
+                entry.add(new Object[] {Long.valueOf(j), "a", "b"});
+            }
+            data.append(entry);
+        }
+        assertTrue(data.writeToFile(file));
+
+        TableDataSet read = new TableDataSet(TITLES);
+        assertTrue(read.readFromFile(file));
+        assertEquals(3, read.getEntryCount());
+        assertEquals(3, read.getRowCount());
+        assertEquals(Long.valueOf(2), read.getRow(2)[0]);
+        assertEquals(2, read.getEntry(1).getRowCount());
+    }
+
+    /**
+     * Writes and reopens a data set spanning several chunks, the last one
+     * being partly filled.
+     */
+    @Test
+    public void testManyChunks() {
+        RowDataSet data = new RowDataSet(TITLES);
+        for (int i = 0; i < ROWS; i++) {
+            data.append(entry(Long.valueOf(i), Double.valueOf(i * 0.5), "name" + (i % 100)));
+        }
+        assertTrue(data.writeToFile(file));
+
+        RowDataSet read = new RowDataSet(TITLES);
+        assertTrue(read.readFromFile(file));
+        assertEquals(ROWS, read.getRowCount());
+        Object[] counts = read.getColumn(0);
+        Object[] times = read.getColumn(1);
+        Object[] names = read.getColumn(2);
+        for (int i = 0; i < ROWS; i++) {
+            assertEquals(Long.valueOf(i), counts[i]);
+            assertEquals(Double.valueOf(i * 0.5), times[i]);
+            assertEquals("name" + (i % 100), names[i]);
+        }
+    }
+
+    private static RowEntry entry(Object... values) {
+        RowEntry entry = new RowEntry();
+        entry.putRow(0, values);
+        return entry;
+    }
+}
@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.graphing.core.tests.datasets.column;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataEntry;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.column.ColumnDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.column.ColumnView;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.row.RowEntry;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ColumnDataSetTest {
+
+    @Before
+    public void setUp() {
+        data = new ColumnDataSet(new String[] {"a", "b", "c"});
+        data.setData(entry("1", "2", "x"));
+        data.setData(entry("4", "5.5", "y"));
+    }
+
+    @Test
+    public void testAppend() {
+        assertEquals(2, data.getEntryCount());
+        data.append(entry("7", "8", "x"));
+        assertEquals(3, data.getEntryCount());
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testAppendMismatch() {
+        data.append(entry("1", "2"));
+    }
+
+    @Test
+    public void testTypes() {
+        assertEquals(Long.valueOf(1), data.getRow(0)[0]);
+        assertEquals(Double.valueOf(2), data.getRow(0)[1]);
+        assertEquals(Double.valueOf(5.5), data.getRow(1)[1]);
+        assertEquals("y", data.getRow(1)[2]);
+
+        // a value which is not a number turns the column into strings
+        data.append(entry("z", "1", "x"));
+        assertEquals("1", data.getRow(0)[0]);
+        assertEquals("z", data.getRow(2)[0]);
+    }
+
+    @Test
+    public void testLargeIntegers() {
+        ColumnDataSet set = new ColumnDataSet(new String[] {"n"});
+        set.append(entry("9223372036854775807"));
+        set.append(entry("-9223372036854775808"));
+        assertEquals(Long.valueOf(Long.MAX_VALUE), set.getRow(0)[0]);
+        assertEquals(Long.valueOf(Long.MIN_VALUE), set.getRow(1)[0]);
+
+        // a value which does not fit in a long turns the column into doubles
+        set.append(entry("9223372036854775808"));
+        assertEquals(9223372036854775808.0, set.getColumnView(0, 0, 3).getDouble(2), 0);
+        assertEquals("9223372036854775808", set.getRow(2)[0]);
+    }
+
+    @Test
+    public void testNumberText() {
+        ColumnDataSet set = new ColumnDataSet(new String[] {"n", "d"});
+        set.append(entry("007", "1.50"));
+        set.append(entry("7", "1.5"));
+        // the text is kept when it is not the one of the number
+        assertEquals("007", set.getRow(0)[0]);
+        assertEquals("1.50", set.getRow(0)[1]);
+        assertEquals(Long.valueOf(7), set.getRow(1)[0]);
+        assertEquals(Double.valueOf(1.5), set.getRow(1)[1]);
+
+        ColumnView view = set.getColumnView(0, 0, 2);
+        assertTrue(view.isNumeric());
+        assertEquals(7, view.getLong(0));
+
+        // and when the column turns into strings
+        set.append(entry("x", "y"));
+        assertEquals("007", set.getRow(0)[0]);
+        assertEquals("1.50", set.getRow(0)[1]);
+        assertEquals("7", set.getRow(1)[0]);
+
+        assertTrue(set.remove(0));
+        assertEquals("7", set.getRow(0)[0]);
+    }
+
+    @Test
+    public void testGetColumn() {
+        assertNull(data.getColumn(-3));
+        assertNull(data.getColumn(10));
+        assertNull(data.getColumn(1, 3, 1));
+        assertNull(data.getColumn(1, 0, 20));
+
+        Object[] col = data.getColumn(2);
+        assertArrayEquals(new Object[] {"x", "y"}, col);
+
+        col = data.getColumn(IDataSet.COL_ROW_NUM);
+        assertEquals(2, col.length);
+        assertEquals("1", col[0].toString());
+        assertEquals("2", col[1].toString());
+    }
+
+    @Test
+    public void testGetRow() {
+        assertNull(data.getRow(-3));
+        assertNull(data.getRow(10));
+        assertEquals(3, data.getRow(1).length);
+        assertEquals(-1, new ColumnDataSet(null).getColCount());
+    }
+
+    @Test
+    public void testRemove() {
+        assertFalse(data.remove(null));
+        assertFalse(data.remove(new RowEntry()));
+        assertFalse(data.remove(-1));
+        assertFalse(data.remove(10));
+
+        IDataEntry entry = data.getEntry(1);
+        assertTrue(data.remove(entry));
+        assertEquals(1, data.getEntryCount());
+        assertFalse(data.remove(entry));
+
+        data.append(entry("4", "5", "y"));
+        data.append(entry("7", "8", "z"));
+        assertTrue(data.remove(1));
+        assertEquals(2, data.getEntryCount());
+        assertEquals("z", data.getRow(1)[2]);
+        assertTrue(data.remove(0));
+        assertEquals("z", data.getRow(0)[2]);
+    }
+
+    @Test
+    public void testGetModificationCount() {
+        long count = data.getModificationCount();
+        data.append(entry("7", "8", "x"));
+        assertEquals(count, data.getModificationCount());
+        assertTrue(data.remove(1));
+        assertTrue(count != data.getModificationCount());
+
+        ColumnDataSet set = new ColumnDataSet(new String[] {"n"}, 2);
+        set.append(entry("1"));
+        set.append(entry("2"));
+        count = set.getModificationCount();
+        // dropping the oldest row to make room is told apart by the append count
+        set.append(entry("3"));
+        assertEquals(count, set.getModificationCount());
+        assertEquals(3, set.getAppendCount());
+        assertEquals(2, set.getRowCount());
+        assertTrue(set.remove(0));
+        assertTrue(count != set.getModificationCount());
+        assertEquals(3, set.getAppendCount());
+    }
+
+    @Test
+    public void testCapacity() {
+        ColumnDataSet set = new ColumnDataSet(new String[] {"n", "name"}, 10000);
+        for (int i = 0; i < 100000; i++) {
+            set.append(entry(String.valueOf(i), "probe" + (i % 3)));
+        }
+        assertEquals(10000, set.getRowCount());
+        assertEquals(Long.valueOf(90000), set.getRow(0)[0]);
+        assertEquals(Long.valueOf(99999), set.getRow(9999)[0]);
+        assertEquals("probe0", set.getRow(0)[1]);
+        // row numbers keep counting the dropped rows
+        assertEquals(Integer.valueOf(90001), set.getColumn(IDataSet.COL_ROW_NUM)[0]);
+    }
+
+    @Test
+    public void testCapacityReleasesStrings() {
+        ColumnDataSet set = new ColumnDataSet(new String[] {"n", "name"}, 10000);
+        for (int i = 0; i < 200000; i++) {
+            set.append(entry(String.valueOf(i), "probe" + i));
+        }
+        // the strings of the dropped rows do not pile up
+        assertTrue(set.getDictionarySize(1) < 40000);
+        assertEquals(0, set.getDictionarySize(0));
+        assertEquals("probe190000", set.getRow(0)[1]);
+        assertEquals("probe199999", set.getRow(9999)[1]);
+    }
+
+    @Test
+    public void testColumnView() {
+        ColumnDataSet set = new ColumnDataSet(new String[] {"n"});
+        for (int i = 0; i < 10000; i++) {
+            set.append(entry(String.valueOf(i)));
+        }
+        assertNull(set.getColumnView(1, 0, 1));
+        assertNull(set.getColumnView(0, 0, 10001));
+
+        ColumnView view = set.getColumnView(0, 4000, 5000);
+        assertTrue(view.isNumeric());
+        assertEquals(1000, view.size());
+        assertEquals(4000, view.getLong(0));
+        assertEquals(4999.0, view.getDouble(999), 0);
+        assertEquals(Long.valueOf(4500), view.get(500));
+    }
+
+    @Test
+    public void testWriteReadFile() throws IOException {
+        File file = File.createTempFile("columns", ".set");
+        try {
+            assertTrue(data.writeToFile(file));
+            ColumnDataSet read = new ColumnDataSet(data.getTitles());
+            assertTrue(read.readFromFile(file));
+            assertEquals(2, read.getRowCount());
+            assertArrayEquals(data.getRow(1), read.getRow(1));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testGetID() {
+        assertEquals(ColumnDataSet.ID, data.getID());
+    }
+
+    private static RowEntry entry(String... values) {
+        RowEntry entry = new RowEntry();
+        entry.putRow(0, values);
+        return entry;
+    }
+
+    private ColumnDataSet data;
+}
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.graphing.core.tests.datasets.column;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.column.ColumnDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.column.FilteredColumnDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.row.RowEntry;
+import org.eclipse.linuxtools.systemtap.graphing.core.filters.IDataSetFilter;
+import org.eclipse.linuxtools.systemtap.graphing.core.filters.MatchFilter;
+import org.eclipse.linuxtools.systemtap.graphing.core.filters.RangeFilter;
+import org.eclipse.linuxtools.systemtap.graphing.core.filters.SortFilter;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FilteredColumnDataSetTest {
+
+    @Before
+    public void setUp() {
+        data = new ColumnDataSet(new String[] {"a", "b", "c"});
+        fdata = new FilteredColumnDataSet(data);
+        data.append(entry("1", "2", "read"));
+        data.append(entry("4", "5", "write"));
+    }
+
+    @Test
+    public void testAppend() {
+        fdata.append(entry("7", "8", "read"));
+        assertEquals(3, data.getRowCount());
+        assertEquals(3, fdata.getRowCount());
+        assertTrue(fdata.remove(0));
+        assertEquals(2, data.getRowCount());
+    }
+
+    @Test
+    public void testNoFilter() {
+        assertArrayEquals(data.getRow(1), fdata.getRow(1));
+        assertArrayEquals(data.getColumn(IDataSet.COL_ROW_NUM), fdata.getColumn(IDataSet.COL_ROW_NUM));
+        assertNotNull(fdata.getColumnView(0, 0, 2));
+
+        long count = fdata.getModificationCount();
+        long appends = fdata.getAppendCount();
+        data.append(entry("7", "8", "read"));
+        assertEquals(count, fdata.getModificationCount());
+        assertEquals(appends + 1, fdata.getAppendCount());
+    }
+
+    @Test
+    public void testAddFilter() {
+        fdata.addFilter(new MatchFilter(2, "read", MatchFilter.KEEP_MATCHING));
+        assertEquals(1, fdata.getRowCount());
+        assertEquals(Long.valueOf(1), fdata.getRow(0)[0]);
+        assertNull(fdata.getRow(1));
+        assertNull(fdata.getColumnView(0, 0, 1));
+
+        long count = fdata.getModificationCount();
+        data.append(entry("7", "8", "read"));
+        data.append(entry("9", "10", "write"));
+        assertEquals(count, fdata.getModificationCount());
+        assertEquals(2, fdata.getRowCount());
+        assertArrayEquals(new Object[] {Long.valueOf(1), Long.valueOf(7)}, fdata.getColumn(0));
+        assertArrayEquals(new Object[] {Integer.valueOf(1), Integer.valueOf(2)}, fdata.getColumn(IDataSet.COL_ROW_NUM));
+
+        fdata.clearFilters();
+        assertEquals(4, fdata.getRowCount());
+        assertTrue(count != fdata.getModificationCount());
+    }
+
+    @Test
+    public void testSortFilter() {
+        data.append(entry("3", "1", "read"));
+        fdata.addFilter(new SortFilter(0, SortFilter.DESCENDING));
+        assertArrayEquals(new Object[] {Long.valueOf(4), Long.valueOf(3), Long.valueOf(1)}, fdata.getColumn(0));
+
+        // the whole selection may change when rows are appended to a sorted data set
+        long count = fdata.getModificationCount();
+        data.append(entry("9", "1", "read"));
+        assertTrue(count != fdata.getModificationCount());
+        assertEquals(Long.valueOf(9), fdata.getRow(0)[0]);
+
+        count = fdata.getModificationCount();
+        data.remove(0);
+        assertTrue(count != fdata.getModificationCount());
+        assertEquals(3, fdata.getRowCount());
+    }
+
+    @Test
+    public void testCapacity() {
+        ColumnDataSet capped = new ColumnDataSet(new String[] {"n", "name"}, 1000);
+        FilteredColumnDataSet filtered = new FilteredColumnDataSet(capped);
+        filtered.addFilter(new MatchFilter(1, "probe0", MatchFilter.KEEP_MATCHING));
+        for (int i = 0; i < 10000; i++) {
+            capped.append(entry(String.valueOf(i), "probe" + (i % 4)));
+            if (i % 700 == 0) {
+                filtered.getRowCount();
+            }
+        }
+        long count = filtered.getModificationCount();
+        assertEquals(1000, filtered.getCapacity());
+        assertEquals(250, filtered.getRowCount());
+        assertEquals(Long.valueOf(9000), filtered.getRow(0)[0]);
+        assertEquals(Long.valueOf(9996), filtered.getRow(249)[0]);
+        // rows dropped because of the capacity are not modifications
+        assertEquals(2500, filtered.getAppendCount());
+        assertEquals(Integer.valueOf(2251), filtered.getColumn(IDataSet.COL_ROW_NUM)[0]);
+
+        capped.append(entry("10000", "probe0"));
+        assertEquals(count, filtered.getModificationCount());
+        assertEquals(250, filtered.getRowCount());
+        assertEquals(Long.valueOf(10000), filtered.getRow(249)[0]);
+    }
+
+    /**
+     * Checks that chained filters, which only filter the rows appended since the
+     * last read, select the same rows as filtering all the rows again.
+     */
+    @Test
+    public void testFilterAppendedRows() {
+        ColumnDataSet large = new ColumnDataSet(new String[] {"a", "b", "c"}, ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            large.append(entry(String.valueOf(i), String.valueOf(i % 977), i % 3 == 0 ? "write" : "read"));
+        }
+        IDataSetFilter[] filters = new IDataSetFilter[] {
+                new RangeFilter(1, 100, 800, RangeFilter.INSIDE_BOUNDS | RangeFilter.INCLUSIVE),
+                new MatchFilter(2, "read", MatchFilter.KEEP_MATCHING),
+                new RangeFilter(0, 1000, null, 0)
+        };
+        FilteredColumnDataSet selected = new FilteredColumnDataSet(large);
+        FilteredColumnDataSet copied = new FilteredColumnDataSet(large);
+        for (IDataSetFilter filter : filters) {
+            selected.addFilter(filter);
+            // hide the selection API so that every read filters all the rows
+            copied.addFilter(new IDataSetFilter() {
+                @Override
+                public List<Object>[] filter(List<Object>[] d) {
+                    return filter.filter(d);
+                }
+                @Override
+                public String getID() {
+                    return filter.getID();
+                }
+                @Override
+                public String getInfo() {
+                    return filter.getInfo();
+                }
+                @Override
+                public int getColumn() {
+                    return filter.getColumn();
+                }
+            });
+        }
+        assertSameRows(copied, selected);
+
+        for (int i = ROWS; i < ROWS + APPENDS * 100; i += 100) {
+            for (int j = i; j < i + 100; j++) {
+                large.append(entry(String.valueOf(j), String.valueOf(j % 977), j % 3 == 0 ? "write" : "read"));
+            }
+            assertSameRows(copied, selected);
+        }
+    }
+
+    @Test
+    public void testWriteReadFile() throws IOException {
+        fdata.addFilter(new MatchFilter(2, "write", MatchFilter.KEEP_MATCHING));
+        File file = File.createTempFile("columns", ".set");
+        try {
+            assertTrue(fdata.writeToFile(file));
+            FilteredColumnDataSet read = new FilteredColumnDataSet(data.getTitles());
+            assertTrue(read.readFromFile(file));
+            assertEquals(1, read.getRowCount());
+            assertArrayEquals(fdata.getRow(0), read.getRow(0));
+        } finally {
+            file.delete();
+        }
+    }
+
+    private static void assertSameRows(IDataSet expected, IDataSet actual) {
+        assertEquals(expected.getRowCount(), actual.getRowCount());
+        for (int i = 0; i < expected.getRowCount(); i++) {
+            assertArrayEquals(expected.getRow(i), actual.getRow(i));
+        }
+    }
+
+    private static RowEntry entry(String... values) {
+        RowEntry entry = new RowEntry();
+        entry.putRow(0, values);
+        return entry;
+    }
+
+    private static final int ROWS = 5000;
+    private static final int APPENDS = 10;
+
+    private ColumnDataSet data;
+    private FilteredColumnDataSet fdata;
+}
@@ -13,18 +13,22 @@
 
 package org.eclipse.linuxtools.systemtap.graphing.core.tests.datasets.row;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.List;
+
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataEntry;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataSet;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.row.FilteredRowDataSet;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.row.RowDataSet;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.row.RowEntry;
 import org.eclipse.linuxtools.systemtap.graphing.core.filters.IDataSetFilter;
+import org.eclipse.linuxtools.systemtap.graphing.core.filters.MatchFilter;
 import org.eclipse.linuxtools.systemtap.graphing.core.filters.RangeFilter;
 import org.eclipse.linuxtools.systemtap.graphing.core.filters.SortFilter;
 import org.junit.Before;
@@ -287,6 +291,121 @@ public class FilteredRowDataSetTest  {
         assertEquals(2, filters.length);
     }
 
+    @Test
+    public void testAppendAfterFilter() {
+        fdata.addFilter(new RangeFilter(0, 2, 20, RangeFilter.INSIDE_BOUNDS));
+        assertEquals(1, fdata.getRowCount());
+        IDataEntry first = fdata.getEntry(0);
+
+        for (int i = 5; i < 30; i++) {
+            data.append(row(i, i % 3, "x"));
+            if (i % 4 == 0) {
+                // rows appended since the last read are filtered on their own
+                assertEquals(Math.min(i, 19) - 3, fdata.getRowCount());
+            }
+        }
+        assertEquals(16, fdata.getRowCount());
+        assertSame(first, fdata.getEntry(0));
+        assertEquals(19, ((Integer) fdata.getRow(15)[0]).intValue());
+
+        // a removed row is noticed even though rows were appended afterwards
+        data.remove(0);
+        data.remove(1);
+        data.append(row(10, 0, "x"));
+        assertEquals(16, fdata.getRowCount());
+        assertEquals(10, ((Integer) fdata.getRow(15)[0]).intValue());
+    }
+
+    @Test
+    public void testGetModificationCount() {
+        long count = fdata.getModificationCount();
+        data.append(row("7", "8", "9"));
+        assertEquals(count, fdata.getModificationCount());
+
+        fdata.addFilter(new RangeFilter(0, 2, null, 0));
+        count = fdata.getModificationCount();
+        data.append(row("10", "11", "12"));
+        assertEquals(count, fdata.getModificationCount());
+        assertEquals(3, fdata.getRowCount());
+
+        // the whole selection may change when rows are appended to a sorted data set
+        fdata.addFilter(new SortFilter(0, SortFilter.DESCENDING));
+        count = fdata.getModificationCount();
+        data.append(row("5", "5", "5"));
+        assertTrue(count != fdata.getModificationCount());
+
+        count = fdata.getModificationCount();
+        data.remove(0);
+        assertTrue(count != fdata.getModificationCount());
+    }
+
+    /**
+     * Checks that chained filters, which only filter the rows appended since the
+     * last read, select the same rows as filtering all the rows again.
+     */
+    @Test
+    public void testFilterAppendedRows() {
+        RowDataSet large = new RowDataSet(new String[] {"a", "b", "c"});
+        for (int i = 0; i < ROWS; i++) {
+            large.append(row(i, i % 977, i % 3 == 0 ? "write" : "read"));
+        }
+        IDataSetFilter[] filters = new IDataSetFilter[] {
+                new RangeFilter(1, 100, 800, RangeFilter.INSIDE_BOUNDS | RangeFilter.INCLUSIVE),
+                new MatchFilter(2, "read", MatchFilter.KEEP_MATCHING),
+                new RangeFilter(0, 1000, null, 0)
+        };
+        FilteredRowDataSet selected = new FilteredRowDataSet(large);
+        FilteredRowDataSet copied = new FilteredRowDataSet(large);
+        for (IDataSetFilter filter : filters) {
+            selected.addFilter(filter);
+            // hide the selection API so that every read filters all the rows
+            copied.addFilter(new IDataSetFilter() {
+                @Override
+                public List<Object>[] filter(List<Object>[] d) {
+                    return filter.filter(d);
+                }
+                @Override
+                public String getID() {
+                    return filter.getID();
+                }
+                @Override
+                public String getInfo() {
+                    return filter.getInfo();
+                }
+                @Override
+                public int getColumn() {
+                    return filter.getColumn();
+                }
+            });
+        }
+        assertSameRows(copied, selected);
+
+        for (int i = ROWS; i < ROWS + APPENDS * 100; i += 100) {
+            for (int j = i; j < i + 100; j++) {
+                large.append(row(j, j % 977, j % 3 == 0 ? "write" : "read"));
+            }
+            assertSameRows(copied, selected);
+        }
+        // the first row above 1000 whose "b" is in [100, 800] and "c" is "read"
+        assertEquals(Integer.valueOf(1078), selected.getRow(0)[0]);
+    }
+
+    private static void assertSameRows(IDataSet expected, IDataSet actual) {
+        assertEquals(expected.getRowCount(), actual.getRowCount());
+        for (int i = 0; i < expected.getRowCount(); i++) {
+            assertArrayEquals(expected.getRow(i), actual.getRow(i));
+        }
+    }
+
+    private static RowEntry row(Object... values) {
+        RowEntry entry = new RowEntry();
+        entry.putRow(0, values);
+        return entry;
+    }
+
+    private static final int ROWS = 5000;
+    private static final int APPENDS = 10;
+
     private RowDataSet data;
     private FilteredRowDataSet fdata;
     private RowEntry entry0;
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.graphing.core.tests.filters;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.linuxtools.systemtap.graphing.core.filters.IRowSelectionFilter;
+import org.eclipse.linuxtools.systemtap.graphing.core.filters.MatchFilter;
+import org.eclipse.linuxtools.systemtap.graphing.core.filters.RangeFilter;
+import org.eclipse.linuxtools.systemtap.graphing.core.filters.RowSelection;
+import org.eclipse.linuxtools.systemtap.graphing.core.filters.SortFilter;
+import org.eclipse.linuxtools.systemtap.graphing.core.tests.MockDataSet;
+import org.junit.Test;
+
+public class RowSelectionTest {
+
+    @Test
+    public void testRange() {
+        RowSelection rows = RowSelection.range(3, 7);
+        assertEquals(4, rows.size());
+        assertArrayEquals(new int[] {3, 4, 5, 6}, rows.toArray());
+        assertEquals(0, RowSelection.range(2, 2).size());
+    }
+
+    @Test
+    public void testAdd() {
+        RowSelection rows = new RowSelection(1);
+        for (int i = 0; i < 100; i++) {
+            rows.add(99 - i);
+        }
+        assertEquals(100, rows.size());
+        assertEquals(99, rows.get(0));
+        assertEquals(0, rows.get(99));
+
+        RowSelection more = RowSelection.range(0, 3);
+        more.addAll(RowSelection.range(0, 2), 10);
+        assertArrayEquals(new int[] {0, 1, 2, 10, 11}, more.toArray());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        RowSelection.range(0, 2).get(2);
+    }
+
+    @Test
+    public void testApply() {
+        ArrayList<Object>[] data = MockDataSet.buildArray(2, 5, 5);
+        RowSelection rows = new RowSelection();
+        rows.add(4);
+        rows.add(1);
+        List<Object>[] data2 = rows.apply(data);
+        assertEquals(2, data2.length);
+        assertEquals(2, data2[0].size());
+        assertEquals("4", data2[0].get(0));
+        assertEquals("1", data2[0].get(1));
+        assertEquals("0", data2[1].get(0));
+        assertEquals("2", data2[1].get(1));
+        assertEquals(5, data[0].size());
+    }
+
+    @Test
+    public void testRowLocal() {
+        assertTrue(new RangeFilter(0, 1, 2, RangeFilter.INSIDE_BOUNDS).isRowLocal());
+        assertTrue(new MatchFilter(0, "1", MatchFilter.KEEP_MATCHING).isRowLocal());
+        assertFalse(new SortFilter(0, SortFilter.ASCENDING).isRowLocal());
+    }
+
+    @Test
+    public void testChainedSelect() {
+        ArrayList<Object>[] data = MockDataSet.buildArray(3, 30, 7);
+        IRowSelectionFilter[] filters = new IRowSelectionFilter[] {
+                new RangeFilter(0, 1, 5, RangeFilter.INSIDE_BOUNDS | RangeFilter.INCLUSIVE),
+                new MatchFilter(1, "3", MatchFilter.REMOVE_MATCHING),
+                new SortFilter(2, SortFilter.DESCENDING)
+        };
+
+        List<Object>[] copied = data;
+        RowSelection rows = RowSelection.range(0, data[0].size());
+        for (IRowSelectionFilter filter : filters) {
+            copied = filter.filter(copied);
+            rows = filter.select(data, rows);
+        }
+
+        List<Object>[] selected = rows.apply(data);
+        for (int i = 0; i < data.length; i++) {
+            assertEquals(copied[i], selected[i]);
+        }
+        assertEquals(30, data[0].size());
+    }
+
+    @Test
+    public void testSelectAppended() {
+        ArrayList<Object>[] data = MockDataSet.buildArray(2, 20, 6);
+        RangeFilter filter = new RangeFilter(0, 2, 4, RangeFilter.INSIDE_BOUNDS | RangeFilter.INCLUSIVE);
+
+        // selecting the first rows then the others gives the selection of all the rows
+        RowSelection rows = filter.select(data, RowSelection.range(0, 12));
+        rows.addAll(filter.select(data, RowSelection.range(12, 20)), 0);
+        assertArrayEquals(filter.select(data, RowSelection.range(0, 20)).toArray(), rows.toArray());
+
+        assertNull(new RangeFilter(2, 2, 4, 0).select(data, rows));
+    }
+}
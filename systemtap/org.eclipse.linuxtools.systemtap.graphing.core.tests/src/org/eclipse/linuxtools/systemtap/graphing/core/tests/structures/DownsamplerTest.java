@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.graphing.core.tests.structures;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.linuxtools.systemtap.graphing.core.structures.Downsampler;
+import org.junit.Test;
+
+public class DownsamplerTest {
+
+    private static final int POINTS = 100000;
+
+    @Test
+    public void testFewPoints() {
+        double[] x = {0, 1, 2, 3};
+        double[] y = {5, 1, 7, 2};
+        assertEquals(4, Downsampler.largestTriangleThreeBuckets(x, y, 4, 10).length);
+        assertEquals(3, Downsampler.largestTriangleThreeBuckets(x, y, 3, 3).length);
+        assertEquals(4, Downsampler.minMax(y, 4, 4).length);
+        assertEquals(0, Downsampler.minMax(y, 0, 4).length);
+    }
+
+    @Test
+    public void testLargestTriangleThreeBuckets() {
+        int length = 1000;
+        double[] x = new double[length];
+        double[] y = new double[length];
+        for (int i = 0; i < length; i++) {
+            x[i] = i;
+            y[i] = i == 500 ? 1000 : Math.sin(i / 50.0);
+        }
+
+        int[] kept = Downsampler.largestTriangleThreeBuckets(x, y, length, 100);
+        assertEquals(100, kept.length);
+        assertEquals(0, kept[0]);
+        assertEquals(length - 1, kept[kept.length - 1]);
+        assertIncreasing(kept);
+        // the spike is the point which stands out most in its bucket
+        assertTrue(Arrays.binarySearch(kept, 500) >= 0);
+    }
+
+    @Test
+    public void testMinMax() {
+        int length = 1000;
+        double[] y = new double[length];
+        for (int i = 0; i < length; i++) {
+            y[i] = i % 10;
+        }
+        y[123] = -5;
+        y[877] = 50;
+
+        int[] kept = Downsampler.minMax(y, length, 20);
+        assertEquals(20, kept.length);
+        assertIncreasing(kept);
+        assertTrue(Arrays.binarySearch(kept, 123) >= 0);
+        assertTrue(Arrays.binarySearch(kept, 877) >= 0);
+    }
+
+    /**
+     * Downsamples a long series to the width of a screen.
+     */
+    @Test
+    public void testLongSeries() {
+        double[] x = new double[POINTS];
+        double[] y = new double[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            x[i] = i;
+            y[i] = (i * 7919L) % 1000;
+        }
+        y[POINTS / 3] = 5000;
+
+        int[] kept = Downsampler.largestTriangleThreeBuckets(x, y, POINTS, 4000);
+        assertEquals(4000, kept.length);
+        assertEquals(0, kept[0]);
+        assertEquals(POINTS - 1, kept[kept.length - 1]);
+        assertIncreasing(kept);
+        assertTrue(Arrays.binarySearch(kept, POINTS / 3) >= 0);
+
+        kept = Downsampler.minMax(y, POINTS, 4000);
+        assertEquals(4000, kept.length);
+        assertIncreasing(kept);
+        assertTrue(Arrays.binarySearch(kept, POINTS / 3) >= 0);
+        // the smallest and largest values of each bucket of 50 points
+        for (int i = 0; i < kept.length; i += 2) {
+            double[] bucket = Arrays.copyOfRange(y, i * 25, i * 25 + 50);
+            Arrays.sort(bucket);
+            assertEquals(bucket[0], Math.min(y[kept[i]], y[kept[i + 1]]), 0);
+            assertEquals(bucket[49], Math.max(y[kept[i]], y[kept[i + 1]]), 0);
+        }
+    }
+
+    private static void assertIncreasing(int[] kept) {
+        for (int i = 1; i < kept.length; i++) {
+            assertTrue(kept[i - 1] < kept[i]);
+        }
+    }
+}
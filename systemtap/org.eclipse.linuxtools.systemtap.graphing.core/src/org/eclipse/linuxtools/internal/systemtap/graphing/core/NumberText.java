@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.internal.systemtap.graphing.core;
+
+/**
+ * Recognizes the numbers among the strings produced by the data set parsers,
+ * so that they can be stored as primitives.
+ */
+public final class NumberText {
+
+    /** digits of the longest integer which always fits in a long */
+    private static final int SAFE_LONG_DIGITS = 18;
+
+    private NumberText() {
+    }
+
+    /**
+     * @return Whether the string is an integer which fits in a long.
+     */
+    public static boolean isLong(String s) {
+        int start = s.startsWith("-") ? 1 : 0; //$NON-NLS-1$
+        int length = s.length() - start;
+        if (length == 0 || length > SAFE_LONG_DIGITS + 1) {
+            return false;
+        }
+        for (int i = start; i < s.length(); i++) {
+            if (!isDigit(s.charAt(i))) {
+                return false;
+            }
+        }
+        if (length <= SAFE_LONG_DIGITS) {
+            return true;
+        }
+        try {
+            Long.parseLong(s);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return Whether the string is a decimal number, with an optional
+     *         fraction and exponent.
+     */
+    public static boolean isDouble(String s) {
+        int i = s.startsWith("-") ? 1 : 0; //$NON-NLS-1$
+        int digits = 0;
+        for (; i < s.length() && isDigit(s.charAt(i)); i++) {
+            digits++;
+        }
+        if (i < s.length() && s.charAt(i) == '.') {
+            for (i++; i < s.length() && isDigit(s.charAt(i)); i++) {
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i < s.length() && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            i++;
+            if (i < s.length() && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+                i++;
+            }
+            int exponent = i;
+            while (i < s.length() && isDigit(s.charAt(i))) {
+                i++;
+            }
+            if (i == exponent) {
+                return false;
+            }
+        }
+        return i == s.length();
+    }
+
+    /**
+     * @return Whether the string is an integer written the way
+     *         {@link Long#toString(long)} writes it, so that storing it as a
+     *         long does not change its text ("007" or "-0" are not).
+     */
+    public static boolean isExactLong(String s) {
+        return isLong(s) && Long.toString(Long.parseLong(s)).equals(s);
+    }
+
+    /**
+     * @return Whether the string is a number written the way
+     *         {@link Double#toString(double)} writes it, so that storing it as
+     *         a double does not change its text ("1.50" or "1e3" are not).
+     */
+    public static boolean isExactDouble(String s) {
+        return isDouble(s) && Double.toString(Double.parseDouble(s)).equals(s);
+    }
+
+    /**
+     * @return Whether the characters of a range are an integer of at most
+     *         18 digits written the way
+     *         {@link Long#toString(long)} writes it. Longer integers are not
+     *         recognized, but {@link #isExactLong(String)} recognizes them.
+     */
+    public static boolean isExactLong(CharSequence s, int start, int end) {
+        int first = start < end && s.charAt(start) == '-' ? start + 1 : start;
+        int length = end - first;
+        if (length == 0 || length > SAFE_LONG_DIGITS) {
+            return false;
+        }
+        // no leading zero, nor "-0"
+        if (s.charAt(first) == '0' && (length > 1 || first > start)) {
+            return false;
+        }
+        for (int i = first; i < end; i++) {
+            if (!isDigit(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The value of a range of characters recognized by
+     *         {@link #isExactLong(CharSequence, int, int)}.
+     */
+    public static long parseLong(CharSequence s, int start, int end) {
+        boolean negative = s.charAt(start) == '-';
+        long value = 0;
+        for (int i = negative ? start + 1 : start; i < end; i++) {
+            value = value * 10 + (s.charAt(i) - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -22,4 +22,28 @@ public interface IAdapter {
     int getSeriesCount();
     Object[][] getData();
     Object[][] getData(int start, int end);
+
+    /**
+     * Returns a count of the changes made to the records other than appending
+     * records. While the count stays the same, records keep their index and
+     * values, so a reader only has to read the records appended since.
+     *
+     * @return The count, or -1 if changes are not tracked and all the records
+     *         have to be read again.
+     * @since 2.2
+     */
+    default long getModificationCount() {
+        return -1;
+    }
+
+    /**
+     * Returns the number of records appended, including those dropped since
+     * to make room for them.
+     *
+     * @return The count, or -1 if it is not tracked.
+     * @since 2.2
+     */
+    default long getAppendCount() {
+        return -1;
+    }
 }
@@ -85,7 +85,7 @@ public class ScrollAdapter implements IAdapter {
         Object[][] o = new Object[Math.min(end-start,getRecordCount())][ySeries.length+1];
 
         Object[] x = data.getHistoricalData(key, xSeries, start, end);
-        Object[][] y = new Object[ySeries.length][data.getEntryCount()];
+        Object[][] y = new Object[ySeries.length][];
 
         for(int i=0; i<ySeries.length; i++)
             y[i] = data.getHistoricalData(key, ySeries[i], start, end);
@@ -99,6 +99,22 @@ public class ScrollAdapter implements IAdapter {
         return o;
     }
 
+    /**
+     * @since 2.2
+     */
+    @Override
+    public long getModificationCount() {
+        return data.getModificationCount();
+    }
+
+    /**
+     * @since 2.2
+     */
+    @Override
+    public long getAppendCount() {
+        return data.getAppendCount();
+    }
+
     private IHistoricalDataSet data;
     private int xSeries;
     private int[] ySeries;
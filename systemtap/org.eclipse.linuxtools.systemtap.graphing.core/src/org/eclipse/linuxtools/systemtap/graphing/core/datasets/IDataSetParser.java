@@ -15,4 +15,21 @@ package org.eclipse.linuxtools.systemtap.graphing.core.datasets;
 
 public interface IDataSetParser {
     IDataEntry parse(StringBuilder entry);
+
+    /**
+     * Parses the entry at the head of the buffer and consumes the characters
+     * it was parsed from. By default the buffer is copied and passed to
+     * {@link #parse(StringBuilder)}, which must delete the parsed characters
+     * from the head of the builder.
+     * @param buffer The text to parse.
+     * @return The parsed entry, or <code>null</code> if the buffer does not
+     * hold a complete entry yet.
+     * @since 2.2
+     */
+    default IDataEntry parseNext(ParseBuffer buffer) {
+        StringBuilder s = new StringBuilder(buffer);
+        IDataEntry entry = parse(s);
+        buffer.consume(buffer.length() - s.length());
+        return entry;
+    }
 }
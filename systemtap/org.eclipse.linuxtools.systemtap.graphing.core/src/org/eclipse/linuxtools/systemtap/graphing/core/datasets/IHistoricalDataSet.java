@@ -20,4 +20,30 @@ public interface IHistoricalDataSet extends IDataSet {
     int getEntryCount();
     IDataEntry getEntry(int entry);
     boolean remove(int entry);
+
+    /**
+     * Returns a count of the changes made to the data set other than appending
+     * rows. While the count stays the same, rows keep their index and values,
+     * so a reader only has to read the rows appended since. Data sets which
+     * report {@link #getAppendCount()} do not count the oldest rows they drop
+     * to make room for appended ones.
+     *
+     * @return The count, or -1 if the data set does not keep track of its changes.
+     * @since 2.2
+     */
+    default long getModificationCount() {
+        return -1;
+    }
+
+    /**
+     * Returns the number of rows appended to the data set, including those
+     * dropped since. While the modification count stays the same, the rows
+     * appended since a previous call are the last ones of the data set.
+     *
+     * @return The count, or -1 if the data set does not keep track of it.
+     * @since 2.2
+     */
+    default long getAppendCount() {
+        return -1;
+    }
 }
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.graphing.core.datasets;
+
+/**
+ * Buffer of characters waiting to be parsed by an {@link IDataSetParser}.
+ * Text is appended at the tail and consumed from the head. Consuming only
+ * moves the head, and the remaining characters are moved back to the start
+ * of the array when the tail reaches its end, so removing a parsed entry
+ * does not move the rest of the text as <code>StringBuilder.delete(0, n)</code>
+ * does.
+ *
+ * @since 2.2
+ */
+public class ParseBuffer implements CharSequence {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private char[] buffer;
+    private int head;
+    private int length;
+
+    public ParseBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity The initial capacity.
+     */
+    public ParseBuffer(int capacity) {
+        buffer = new char[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Appends text at the tail of the buffer.
+     * @param s The text to append.
+     * @return This buffer.
+     */
+    public ParseBuffer append(CharSequence s) {
+        int n = s.length();
+        makeRoom(n);
+        int tail = head + length;
+        if (s instanceof String) {
+            ((String) s).getChars(0, n, buffer, tail);
+        } else {
+            for (int i = 0; i < n; i++) {
+                buffer[tail + i] = s.charAt(i);
+            }
+        }
+        length += n;
+        return this;
+    }
+
+    /**
+     * Removes characters from the head of the buffer.
+     * @param n The number of characters to remove.
+     */
+    public void consume(int n) {
+        if (n < 0 || n > length) {
+            throw new IndexOutOfBoundsException(String.valueOf(n));
+        }
+        length -= n;
+        head = length == 0 ? 0 : head + n;
+    }
+
+    /**
+     * Removes all the characters of the buffer.
+     */
+    public void clear() {
+        head = 0;
+        length = 0;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return buffer[head + index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException(start + ", " + end); //$NON-NLS-1$
+        }
+        return new String(buffer, head + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, head, length);
+    }
+
+    private void makeRoom(int n) {
+        if (head + length + n <= buffer.length) {
+            return;
+        }
+        // keep at least half of the array free after moving the characters,
+        // so that they are moved a constant number of times on average
+        char[] chars = buffer;
+        if (2 * (length + n) > buffer.length) {
+            chars = new char[Math.max(2 * (length + n), 2 * buffer.length)];
+        }
+        System.arraycopy(buffer, head, chars, 0, length);
+        buffer = chars;
+        head = 0;
+    }
+}
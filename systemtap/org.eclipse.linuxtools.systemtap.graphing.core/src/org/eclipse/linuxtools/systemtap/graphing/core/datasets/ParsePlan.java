@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.graphing.core.datasets;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The compiled form of the regular expressions of a row or table parser.
+ * The expressions alternate between a value and a separator; they are
+ * combined into a single pattern and the group holding each value is
+ * computed once, when the plan is created.
+ *
+ * @since 2.2
+ */
+public class ParsePlan {
+
+    private final Pattern pattern;
+    /** group of the combined pattern matching each column */
+    private final int[] groups;
+
+    /**
+     * @param regEx The expressions, alternating between a value and a separator.
+     */
+    public ParsePlan(String[] regEx) {
+        StringBuilder wholeRegExpr = new StringBuilder();
+        groups = new int[regEx.length >> 1];
+        int group = 1;
+        for (int i = 0; i < regEx.length; i++) {
+            wholeRegExpr.append('(').append(regEx[i]).append(')');
+            if (0 == (i & 1) && (i >> 1) < groups.length) {
+                groups[i >> 1] = group;
+            }
+            group += 1 + Pattern.compile(regEx[i]).matcher("").groupCount(); //$NON-NLS-1$
+        }
+        pattern = Pattern.compile(wholeRegExpr.toString());
+    }
+
+    /**
+     * @return The combined pattern.
+     */
+    public Pattern getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @return The number of values in a row.
+     */
+    public int getColumnCount() {
+        return groups.length;
+    }
+
+    /**
+     * @return The group of the combined pattern holding each value of a row.
+     */
+    public int[] getGroups() {
+        return groups.clone();
+    }
+
+    /**
+     * @param m A matcher of the combined pattern which found a row.
+     * @return The values of the row.
+     */
+    public Object[] getRow(Matcher m) {
+        Object[] data = new Object[groups.length];
+        for (int i = 0; i < groups.length; i++) {
+            data[i] = m.group(groups[i]);
+        }
+        return data;
+    }
+}
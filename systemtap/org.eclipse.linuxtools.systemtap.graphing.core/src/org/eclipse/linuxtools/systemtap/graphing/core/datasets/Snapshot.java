@@ -0,0 +1,374 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.graphing.core.datasets;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.linuxtools.internal.systemtap.graphing.core.Localization;
+
+/**
+ * A data set file written by a {@link SnapshotWriter}. The file is memory
+ * mapped when it is opened and only the header and the index of the chunks
+ * are read: the rows of a chunk are read from the mapping when the chunk is
+ * asked for, so opening a large file is fast and only the parts of it which
+ * are used are loaded.
+ *
+ * A snapshot should be closed once its rows are no longer read. The file
+ * it was opened from must not be written while it is open, otherwise reading
+ * the mapping fails: data sets replace the file instead, see
+ * {@link SnapshotWriter#replace(File, String, String[])}.
+ *
+ * @since 2.2
+ */
+public final class Snapshot implements Closeable {
+
+    /** the largest region of the file mapped by one buffer */
+    private static final long MAX_SEGMENT = 1L << 30;
+
+    private final String id;
+    private final String[] titles;
+    /** offset of each chunk in the file */
+    private final long[] offsets;
+    private final int[] flags;
+    /** first row of each chunk, then the number of rows */
+    private final int[] starts;
+    /** the mapping of the chunks, or <code>null</code> once closed */
+    private MappedByteBuffer[] segments;
+    /** offset in the file of each segment */
+    private final long[] segmentOffsets;
+    /** segment of each chunk */
+    private final int[] chunkSegments;
+
+    private Snapshot(String id, String[] titles, long[] offsets, int[] rows, int[] flags,
+            long dataEnd, FileChannel channel) throws IOException {
+        this.id = id;
+        this.titles = titles;
+        this.offsets = offsets;
+        this.flags = flags;
+        starts = new int[rows.length + 1];
+        for (int c = 0; c < rows.length; c++) {
+            starts[c + 1] = starts[c] + rows[c];
+        }
+
+        // split the chunks in segments small enough to be mapped
+        List<MappedByteBuffer> mapped = new ArrayList<>();
+        List<Long> mappedOffsets = new ArrayList<>();
+        chunkSegments = new int[offsets.length];
+        int first = 0;
+        while (first < offsets.length) {
+            int last = first;
+            while (last + 1 < offsets.length && end(last + 1, dataEnd) - offsets[first] <= MAX_SEGMENT) {
+                last++;
+            }
+            long size = end(last, dataEnd) - offsets[first];
+            mapped.add(channel.map(FileChannel.MapMode.READ_ONLY, offsets[first], size));
+            mappedOffsets.add(Long.valueOf(offsets[first]));
+            for (int c = first; c <= last; c++) {
+                chunkSegments[c] = mapped.size() - 1;
+            }
+            first = last + 1;
+        }
+        segments = mapped.toArray(new MappedByteBuffer[mapped.size()]);
+        segmentOffsets = new long[segments.length];
+        for (int i = 0; i < segmentOffsets.length; i++) {
+            segmentOffsets[i] = mappedOffsets.get(i).longValue();
+        }
+    }
+
+    /**
+     * @return The offset in the file after the last byte of a chunk, the
+     *         chunks being written one after the other.
+     */
+    private long end(int chunk, long dataEnd) {
+        return chunk + 1 < offsets.length ? offsets[chunk + 1] : dataEnd;
+    }
+
+    /**
+     * @param file A file.
+     * @return <code>true</code> if the file starts like a snapshot.
+     */
+    public static boolean isSnapshot(File file) {
+        byte[] magic = new byte[SnapshotWriter.MAGIC.length];
+        try (InputStream in = new FileInputStream(file)) {
+            int n = 0;
+            while (n < magic.length) {
+                int read = in.read(magic, n, magic.length - n);
+                if (read < 0) {
+                    return false;
+                }
+                n += read;
+            }
+        } catch (IOException e) {
+            return false;
+        }
+        return Arrays.equals(magic, SnapshotWriter.MAGIC);
+    }
+
+    /**
+     * Opens a snapshot. If the file has no index because its writer was not
+     * closed, the complete chunks are found by reading their headers.
+     * @param file The file to open.
+     * @return The snapshot.
+     * @throws IOException If the file could not be read or is not a snapshot.
+     */
+    public static Snapshot open(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+                DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            byte[] magic = new byte[SnapshotWriter.MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(magic, SnapshotWriter.MAGIC) || in.readInt() != SnapshotWriter.VERSION) {
+                throw invalid(file);
+            }
+            String id = in.readUTF();
+            String[] titles = new String[in.readInt()];
+            long headerSize = magic.length + 8 + utfLength(id);
+            for (int i = 0; i < titles.length; i++) {
+                titles[i] = in.readUTF();
+                headerSize += utfLength(titles[i]);
+            }
+
+            long dataEnd;
+            long[] offsets;
+            int[] rows;
+            int[] flags;
+            long size = channel.size();
+            ByteBuffer trailer = ByteBuffer.allocate(SnapshotWriter.TRAILER_SIZE);
+            if (size - headerSize >= SnapshotWriter.TRAILER_SIZE) {
+                readFully(channel, trailer, size - SnapshotWriter.TRAILER_SIZE);
+            }
+            byte[] indexMagic = Arrays.copyOfRange(trailer.array(), 12, SnapshotWriter.TRAILER_SIZE);
+            if (Arrays.equals(indexMagic, SnapshotWriter.INDEX_MAGIC)) {
+                long indexOffset = trailer.getLong(0);
+                int count = trailer.getInt(8);
+                if (indexOffset < headerSize || count < 0 || indexOffset + 16L * count > size) {
+                    throw invalid(file);
+                }
+                dataEnd = indexOffset;
+                ByteBuffer index = ByteBuffer.allocate(16 * count);
+                readFully(channel, index, indexOffset);
+                offsets = new long[count];
+                rows = new int[count];
+                flags = new int[count];
+                for (int c = 0; c < count; c++) {
+                    offsets[c] = index.getLong(16 * c);
+                    rows[c] = index.getInt(16 * c + 8);
+                    flags[c] = index.getInt(16 * c + 12);
+                }
+            } else {
+                List<long[]> chunks = scan(channel, headerSize);
+                dataEnd = headerSize;
+                if (!chunks.isEmpty()) {
+                    long[] last = chunks.get(chunks.size() - 1);
+                    dataEnd = last[0] + SnapshotWriter.CHUNK_HEADER_SIZE + last[3];
+                }
+                offsets = new long[chunks.size()];
+                rows = new int[chunks.size()];
+                flags = new int[chunks.size()];
+                for (int c = 0; c < offsets.length; c++) {
+                    offsets[c] = chunks.get(c)[0];
+                    rows[c] = (int) chunks.get(c)[1];
+                    flags[c] = (int) chunks.get(c)[2];
+                }
+            }
+            return new Snapshot(id, titles, offsets, rows, flags, dataEnd, channel);
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw invalid(file);
+        }
+    }
+
+    /**
+     * Finds the complete chunks of a file which has no index.
+     */
+    private static List<long[]> scan(FileChannel channel, long offset) throws IOException {
+        List<long[]> chunks = new ArrayList<>();
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(SnapshotWriter.CHUNK_HEADER_SIZE);
+        while (offset + SnapshotWriter.CHUNK_HEADER_SIZE <= size) {
+            header.clear();
+            readFully(channel, header, offset);
+            int rows = header.getInt(0);
+            long end = offset + SnapshotWriter.CHUNK_HEADER_SIZE + header.getInt(8);
+            if (rows < 0 || end > size) {
+                break;
+            }
+            chunks.add(new long[] {offset, rows, header.getInt(4), header.getInt(8)});
+            offset = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * @return The number of bytes written by <code>DataOutput.writeUTF</code>.
+     */
+    private static int utfLength(String s) {
+        int length = 2;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            length += c >= 0x0001 && c <= 0x007F ? 1 : c <= 0x07FF ? 2 : 3;
+        }
+        return length;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long offset) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException();
+            }
+        }
+    }
+
+    private static IOException invalid(File file) {
+        return new IOException(Localization.getString("Snapshot.InvalidFile") + file); //$NON-NLS-1$
+    }
+
+    /**
+     * @return The ID of the data set which was written.
+     */
+    public String getID() {
+        return id;
+    }
+
+    /**
+     * @return The titles of the columns.
+     */
+    public String[] getTitles() {
+        return Arrays.copyOf(titles, titles.length);
+    }
+
+    /**
+     * @return The number of rows of all the chunks.
+     */
+    public int getRowCount() {
+        return starts[starts.length - 1];
+    }
+
+    public int getChunkCount() {
+        return offsets.length;
+    }
+
+    /**
+     * @param chunk A chunk.
+     * @return The index of the first row of the chunk.
+     */
+    public int getChunkStart(int chunk) {
+        return starts[chunk];
+    }
+
+    /**
+     * @param chunk A chunk.
+     * @return The number of rows of the chunk.
+     */
+    public int getChunkRowCount(int chunk) {
+        return starts[chunk + 1] - starts[chunk];
+    }
+
+    /**
+     * @param chunk A chunk.
+     * @return <code>true</code> if the chunk is the last of a block of rows,
+     *         which was ended with {@link SnapshotWriter#endBlock()}.
+     */
+    public boolean isEndOfBlock(int chunk) {
+        return (flags[chunk] & SnapshotWriter.FLAG_END_OF_BLOCK) != 0;
+    }
+
+    /**
+     * @param row The index of a row.
+     * @return The chunk holding the row.
+     */
+    public int findChunk(int row) {
+        if (row < 0 || row >= getRowCount()) {
+            throw new IndexOutOfBoundsException(String.valueOf(row));
+        }
+        int c = Arrays.binarySearch(starts, row);
+        if (c < 0) {
+            return -c - 2;
+        }
+        // skip empty chunks starting at the same row
+        while (starts[c + 1] == row) {
+            c++;
+        }
+        return c;
+    }
+
+    /**
+     * Reads the rows of a chunk. Integers are read as <code>Long</code>,
+     * other numbers as <code>Double</code> and other values as <code>String</code>.
+     * @param chunk A chunk.
+     * @return The rows of the chunk.
+     */
+    public Object[][] getChunk(int chunk) {
+        MappedByteBuffer[] mapped;
+        synchronized (this) {
+            mapped = segments;
+        }
+        if (mapped == null) {
+            throw new IllegalStateException(Localization.getString("Snapshot.Closed")); //$NON-NLS-1$
+        }
+        ByteBuffer buffer = mapped[chunkSegments[chunk]].duplicate();
+        buffer.position((int) (offsets[chunk] - segmentOffsets[chunkSegments[chunk]]) + SnapshotWriter.CHUNK_HEADER_SIZE);
+
+        Object[][] rows = new Object[getChunkRowCount(chunk)][titles.length];
+        for (int col = 0; col < titles.length; col++) {
+            byte type = buffer.get();
+            switch (type) {
+            case SnapshotWriter.TYPE_LONG:
+                for (Object[] row : rows) {
+                    row[col] = Long.valueOf(buffer.getLong());
+                }
+                break;
+            case SnapshotWriter.TYPE_DOUBLE:
+                for (Object[] row : rows) {
+                    row[col] = Double.valueOf(buffer.getDouble());
+                }
+                break;
+            default:
+                String[] dictionary = new String[buffer.getInt()];
+                for (int i = 0; i < dictionary.length; i++) {
+                    byte[] bytes = new byte[buffer.getInt()];
+                    buffer.get(bytes);
+                    dictionary[i] = new String(bytes, StandardCharsets.UTF_8);
+                }
+                for (Object[] row : rows) {
+                    int code = buffer.getInt();
+                    row[col] = code < 0 ? null : dictionary[code];
+                }
+                break;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Releases the mapping of the file, after which the rows can no longer be
+     * read. Java cannot unmap a file explicitly, so the memory is given back
+     * once the mapping is garbage collected.
+     */
+    @Override
+    public synchronized void close() {
+        segments = null;
+    }
+}
@@ -0,0 +1,336 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.graphing.core.datasets;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.linuxtools.internal.systemtap.graphing.core.NumberText;
+
+/**
+ * Writes the rows of a data set to a {@link Snapshot} file as they are
+ * appended. Rows are written in chunks of {@link #CHUNK_ROWS} rows, each
+ * column of a chunk being stored as longs, doubles or dictionary-encoded
+ * strings, and an index of the chunks is written when the writer is closed.
+ * A file which was not closed, for example while a script is still running,
+ * can still be read up to its last complete chunk.
+ *
+ * A writer created with {@link #replace(File, String, String[])} writes to a
+ * temporary file instead, which replaces the file when the writer is closed,
+ * so that a {@link Snapshot} of the file which is still open keeps reading
+ * the previous contents.
+ *
+ * @since 2.2
+ */
+public class SnapshotWriter implements Closeable {
+
+    /** The maximum number of rows of a chunk. */
+    public static final int CHUNK_ROWS = 4096;
+
+    static final byte[] MAGIC = "STAPSNAP".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+    static final byte[] INDEX_MAGIC = "STAPINDX".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+    static final int VERSION = 1;
+    /** rows, flags and length of a chunk */
+    static final int CHUNK_HEADER_SIZE = 12;
+    /** offset and count of the chunks of the index, then {@link #INDEX_MAGIC} */
+    static final int TRAILER_SIZE = 20;
+    /** the chunk ends a block of rows, e.g. a table entry */
+    static final int FLAG_END_OF_BLOCK = 1;
+
+    static final byte TYPE_LONG = 0;
+    static final byte TYPE_DOUBLE = 1;
+    static final byte TYPE_STRING = 2;
+
+    private final File file;
+    /** the file replaced by {@link #file} when closed, or <code>null</code> */
+    private final File target;
+    private final DataOutputStream out;
+    private final int columns;
+    private final List<Object[]> rows = new ArrayList<>();
+    private final ByteArrayOutputStream chunkBytes = new ByteArrayOutputStream();
+    private final DataOutputStream chunk = new DataOutputStream(chunkBytes);
+    private final List<long[]> index = new ArrayList<>();
+    private long position;
+    private boolean closed;
+    private boolean failed;
+
+    /**
+     * Creates the file and writes its header.
+     * @param file The file to write.
+     * @param id The ID of the data set, see {@link IDataSet#getID()}.
+     * @param titles The titles of the columns.
+     * @throws IOException If the file could not be written.
+     */
+    public SnapshotWriter(File file, String id, String[] titles) throws IOException {
+        this(file, null, id, titles);
+    }
+
+    private SnapshotWriter(File file, File target, String id, String[] titles) throws IOException {
+        this.file = file;
+        this.target = target;
+        columns = titles.length;
+        out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        try {
+            out.write(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(id);
+            out.writeInt(titles.length);
+            for (String title : titles) {
+                out.writeUTF(title);
+            }
+        } catch (IOException e) {
+            out.close();
+            if (target != null) {
+                file.delete();
+            }
+            throw e;
+        }
+        position = out.size();
+    }
+
+    /**
+     * Creates a writer which replaces a file when it is closed, unless the
+     * rows could not all be written.
+     * @param file The file to replace.
+     * @param id The ID of the data set, see {@link IDataSet#getID()}.
+     * @param titles The titles of the columns.
+     * @return The writer.
+     * @throws IOException If the temporary file could not be written.
+     */
+    public static SnapshotWriter replace(File file, String id, String[] titles) throws IOException {
+        File temp = File.createTempFile('.' + file.getName() + '.', ".tmp", //$NON-NLS-1$
+                file.getAbsoluteFile().getParentFile());
+        return new SnapshotWriter(temp, file, id, titles);
+    }
+
+    /**
+     * Appends a row, writing a chunk when enough rows were appended.
+     * @param row The values of the row, one per column.
+     * @throws IOException If the file could not be written.
+     */
+    public void append(Object[] row) throws IOException {
+        if (row.length != columns) {
+            throw new IllegalArgumentException(row.length + " != " + columns); //$NON-NLS-1$
+        }
+        rows.add(row.clone());
+        if (rows.size() == CHUNK_ROWS) {
+            writeChunk(0);
+        }
+    }
+
+    /**
+     * Appends all the rows of an entry.
+     * @param entry The entry to append.
+     * @throws IOException If the file could not be written.
+     */
+    public void append(IDataEntry entry) throws IOException {
+        for (int i = 0; i < entry.getRowCount(); i++) {
+            append(entry.getRow(i));
+        }
+    }
+
+    /**
+     * Writes the pending rows as a chunk ending a block, so that they are
+     * read back as one entry of an {@link IBlockDataSet}.
+     * @throws IOException If the file could not be written.
+     */
+    public void endBlock() throws IOException {
+        writeChunk(FLAG_END_OF_BLOCK);
+    }
+
+    /**
+     * Writes the pending rows, if any, so that they can be read while the
+     * writer is still open.
+     * @throws IOException If the file could not be written.
+     */
+    public void flush() throws IOException {
+        if (!rows.isEmpty()) {
+            writeChunk(0);
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes the pending rows and the index of the chunks, then closes the
+     * file, and replaces the target file with it if there is one.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            try {
+                if (!rows.isEmpty()) {
+                    writeChunk(0);
+                }
+                long indexPosition = position;
+                for (long[] c : index) {
+                    out.writeLong(c[0]);
+                    out.writeInt((int) c[1]);
+                    out.writeInt((int) c[2]);
+                }
+                out.writeLong(indexPosition);
+                out.writeInt(index.size());
+                out.write(INDEX_MAGIC);
+            } finally {
+                out.close();
+            }
+            if (target != null && !failed) {
+                moveToTarget();
+            }
+        } catch (IOException e) {
+            failed = true;
+            throw e;
+        } finally {
+            if (target != null && failed) {
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * Renames the written file to the target file. The mapping of a snapshot
+     * of the target stays valid, as it keeps referring to the replaced file.
+     */
+    private void moveToTarget() throws IOException {
+        try {
+            Files.move(file.toPath(), target.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(file.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void writeChunk(int flags) throws IOException {
+        try {
+            chunkBytes.reset();
+            for (int col = 0; col < columns; col++) {
+                writeColumn(col);
+            }
+            out.writeInt(rows.size());
+            out.writeInt(flags);
+            out.writeInt(chunkBytes.size());
+            chunkBytes.writeTo(out);
+            index.add(new long[] {position, rows.size(), flags});
+            position += CHUNK_HEADER_SIZE + chunkBytes.size();
+            rows.clear();
+            out.flush();
+        } catch (IOException e) {
+            failed = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the values of a column of the pending rows, as longs if they
+     * are all integers, as doubles if they are all decimals, otherwise as
+     * strings. Like numbers, strings are stored as longs or doubles, unless
+     * their text would not be read back unchanged. A column mixing integers
+     * and decimals is stored as strings, so that integers are not read back
+     * as decimals.
+     */
+    private void writeColumn(int col) throws IOException {
+        boolean longs = false;
+        boolean doubles = false;
+        boolean strings = false;
+        for (Object[] row : rows) {
+            Object value = row[col];
+            if (value instanceof Long || value instanceof Integer
+                    || value instanceof Short || value instanceof Byte
+                    || value instanceof String && NumberText.isExactLong((String) value)) {
+                longs = true;
+            } else if (value instanceof Double || value instanceof Float
+                    || value instanceof String && NumberText.isExactDouble((String) value)) {
+                doubles = true;
+            } else {
+                strings = true;
+            }
+            if (strings || longs && doubles) {
+                break;
+            }
+        }
+        byte type = strings || longs && doubles ? TYPE_STRING : doubles ? TYPE_DOUBLE : TYPE_LONG;
+
+        chunk.writeByte(type);
+        switch (type) {
+        case TYPE_LONG:
+            for (Object[] row : rows) {
+                Object value = row[col];
+                chunk.writeLong(value instanceof String ? Long.parseLong((String) value)
+                        : ((Number) value).longValue());
+            }
+            break;
+        case TYPE_DOUBLE:
+            for (Object[] row : rows) {
+                Object value = row[col];
+                chunk.writeDouble(value instanceof String ? Double.parseDouble((String) value)
+                        : ((Number) value).doubleValue());
+            }
+            break;
+        default:
+            writeStrings(col);
+            break;
+        }
+    }
+
+    /**
+     * Writes the distinct strings of a column, then the index of the string
+     * of each row, or -1 for <code>null</code>.
+     */
+    private void writeStrings(int col) throws IOException {
+        Map<String, Integer> codes = new HashMap<>();
+        List<String> dictionary = new ArrayList<>();
+        int[] rowCodes = new int[rows.size()];
+        for (int i = 0; i < rowCodes.length; i++) {
+            Object value = rows.get(i)[col];
+            if (value == null) {
+                rowCodes[i] = -1;
+                continue;
+            }
+            String s = value.toString();
+            Integer code = codes.get(s);
+            if (code == null) {
+                code = Integer.valueOf(dictionary.size());
+                codes.put(s, code);
+                dictionary.add(s);
+            }
+            rowCodes[i] = code.intValue();
+        }
+
+        chunk.writeInt(dictionary.size());
+        for (String s : dictionary) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            chunk.writeInt(bytes.length);
+            chunk.write(bytes);
+        }
+        for (int code : rowCodes) {
+            chunk.writeInt(code);
+        }
+    }
+}
@@ -0,0 +1,371 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.graphing.core.datasets.column;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.linuxtools.internal.systemtap.graphing.core.NumberText;
+
+/**
+ * The values of one column of a {@link ColumnDataSet}, stored in fixed size
+ * chunks of primitives. A column holds integers until a value which is not
+ * an integer is added, then doubles, and falls back to dictionary-encoded
+ * strings for values which are not numbers. Existing values are converted
+ * when the type of the column changes.
+ *
+ * Numbers whose text is not the one of the stored value, like "007" or
+ * "1.50", also keep their text, which is returned instead of the number.
+ *
+ * Rows are addressed by their absolute index in the data set, so dropping
+ * the oldest chunks does not move the others.
+ */
+final class Column {
+
+    static final int CHUNK_SHIFT = 12;
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    /** code of a null string */
+    private static final int NULL_CODE = -1;
+
+    enum Type {
+        LONG, DOUBLE, STRING
+    }
+
+    private Type type = Type.LONG;
+    private List<long[]> longChunks = new ArrayList<>();
+    private List<double[]> doubleChunks;
+    private List<int[]> codeChunks;
+    private List<String> dictionary;
+    private Map<String, Integer> codes;
+    /** codes of the text of the numbers which keep it, created when needed */
+    private List<int[]> textChunks;
+    /** chunk index of the first chunk of the lists */
+    private int firstChunk;
+
+    Type getType() {
+        return type;
+    }
+
+    /**
+     * Stores a value, changing the type of the column if needed.
+     */
+    void set(long row, Object value) {
+        String text = value instanceof String ? (String) value : null;
+        while (true) {
+            switch (type) {
+            case LONG:
+                if (value instanceof Long || value instanceof Integer
+                        || value instanceof Short || value instanceof Byte) {
+                    longChunk(row)[index(row)] = ((Number) value).longValue();
+                    setText(row, NULL_CODE);
+                    return;
+                }
+                if (text != null && NumberText.isLong(text)) {
+                    longChunk(row)[index(row)] = Long.parseLong(text);
+                    setText(row, NumberText.isExactLong(text) ? NULL_CODE : encode(text));
+                    return;
+                }
+                if (value instanceof Number || text != null && NumberText.isDouble(text)) {
+                    toDoubles();
+                } else {
+                    toStrings();
+                }
+                break;
+            case DOUBLE:
+                if (value instanceof Number) {
+                    doubleChunk(row)[index(row)] = ((Number) value).doubleValue();
+                    setText(row, NULL_CODE);
+                    return;
+                }
+                if (text != null && NumberText.isDouble(text)) {
+                    doubleChunk(row)[index(row)] = Double.parseDouble(text);
+                    setText(row, NumberText.isExactDouble(text) ? NULL_CODE : encode(text));
+                    return;
+                }
+                toStrings();
+                break;
+            default:
+                codeChunk(row)[index(row)] = encode(value == null ? null : value.toString());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stores the text of a range of characters, or <code>null</code> if the
+     * range starts before 0. The integers of an integer column are read
+     * straight from the characters, without creating a string for them.
+     */
+    void set(long row, CharSequence s, int start, int end) {
+        if (type == Type.LONG && start >= 0 && NumberText.isExactLong(s, start, end)) {
+            longChunk(row)[index(row)] = NumberText.parseLong(s, start, end);
+            setText(row, NULL_CODE);
+            return;
+        }
+        set(row, start < 0 ? null : s.subSequence(start, end).toString());
+    }
+
+    /**
+     * @return The value of a row, as a <code>Long</code>, a <code>Double</code>
+     *         or a <code>String</code> depending on the type of the column, or
+     *         the text of a number which kept it.
+     */
+    Object get(long row) {
+        int text = getText(row);
+        if (text != NULL_CODE) {
+            return decode(text);
+        }
+        switch (type) {
+        case LONG:
+            return Long.valueOf(longChunks.get(chunk(row))[index(row)]);
+        case DOUBLE:
+            return Double.valueOf(doubleChunks.get(chunk(row))[index(row)]);
+        default:
+            return decode(codeChunks.get(chunk(row))[index(row)]);
+        }
+    }
+
+    long getLong(long row) {
+        switch (type) {
+        case LONG:
+            return longChunks.get(chunk(row))[index(row)];
+        case DOUBLE:
+            return (long) doubleChunks.get(chunk(row))[index(row)];
+        default:
+            String s = decode(codeChunks.get(chunk(row))[index(row)]);
+            if (s == null) {
+                throw new NumberFormatException();
+            }
+            return Long.parseLong(s);
+        }
+    }
+
+    double getDouble(long row) {
+        switch (type) {
+        case LONG:
+            return longChunks.get(chunk(row))[index(row)];
+        case DOUBLE:
+            return doubleChunks.get(chunk(row))[index(row)];
+        default:
+            String s = decode(codeChunks.get(chunk(row))[index(row)]);
+            if (s == null) {
+                throw new NumberFormatException();
+            }
+            return Double.parseDouble(s);
+        }
+    }
+
+    /**
+     * Copies the value of a row to another one, without changing its type.
+     */
+    void copy(long from, long to) {
+        switch (type) {
+        case LONG:
+            longChunk(to)[index(to)] = longChunks.get(chunk(from))[index(from)];
+            setText(to, getText(from));
+            break;
+        case DOUBLE:
+            doubleChunk(to)[index(to)] = doubleChunks.get(chunk(from))[index(from)];
+            setText(to, getText(from));
+            break;
+        default:
+            codeChunk(to)[index(to)] = codeChunks.get(chunk(from))[index(from)];
+            break;
+        }
+    }
+
+    /**
+     * Drops the chunks holding only rows before the given one. The strings
+     * only used by dropped chunks are dropped from the dictionary once it
+     * holds more strings than twice the rows left, so that it does not grow
+     * with the rows a capped data set no longer holds.
+     */
+    void dropBefore(long row) {
+        int count = Math.min((int) (row >>> CHUNK_SHIFT) - firstChunk, chunks().size());
+        if (count > 0) {
+            chunks().subList(0, count).clear();
+            if (textChunks != null) {
+                textChunks.subList(0, Math.min(count, textChunks.size())).clear();
+            }
+            firstChunk += count;
+            if (dictionary != null && dictionary.size() > 2L * Math.max(chunks().size(), 1) * CHUNK_SIZE) {
+                compactDictionary();
+            }
+        }
+    }
+
+    /**
+     * @return The number of strings in the dictionary.
+     */
+    int getDictionarySize() {
+        return dictionary == null ? 0 : dictionary.size();
+    }
+
+    private List<?> chunks() {
+        switch (type) {
+        case LONG:
+            return longChunks;
+        case DOUBLE:
+            return doubleChunks;
+        default:
+            return codeChunks;
+        }
+    }
+
+    private void toDoubles() {
+        doubleChunks = new ArrayList<>(longChunks.size());
+        for (long[] longs : longChunks) {
+            double[] doubles = new double[CHUNK_SIZE];
+            for (int i = 0; i < CHUNK_SIZE; i++) {
+                doubles[i] = longs[i];
+            }
+            doubleChunks.add(doubles);
+        }
+        longChunks = null;
+        type = Type.DOUBLE;
+    }
+
+    private void toStrings() {
+        codeChunks = new ArrayList<>(chunks().size());
+        for (int c = 0; c < chunks().size(); c++) {
+            int[] texts = textChunks != null && c < textChunks.size() ? textChunks.get(c) : null;
+            int[] chunk = new int[CHUNK_SIZE];
+            for (int i = 0; i < CHUNK_SIZE; i++) {
+                if (texts != null && texts[i] != NULL_CODE) {
+                    chunk[i] = texts[i];
+                } else {
+                    chunk[i] = encode(type == Type.LONG ? Long.toString(longChunks.get(c)[i])
+                            : Double.toString(doubleChunks.get(c)[i]));
+                }
+            }
+            codeChunks.add(chunk);
+        }
+        longChunks = null;
+        doubleChunks = null;
+        textChunks = null;
+        type = Type.STRING;
+    }
+
+    private int getText(long row) {
+        if (textChunks == null || chunk(row) >= textChunks.size()) {
+            return NULL_CODE;
+        }
+        return textChunks.get(chunk(row))[index(row)];
+    }
+
+    private void setText(long row, int code) {
+        if (code == NULL_CODE && getText(row) == NULL_CODE) {
+            return;
+        }
+        if (textChunks == null) {
+            textChunks = new ArrayList<>();
+        }
+        int c = chunk(row);
+        while (textChunks.size() <= c) {
+            int[] chunk = new int[CHUNK_SIZE];
+            Arrays.fill(chunk, NULL_CODE);
+            textChunks.add(chunk);
+        }
+        textChunks.get(c)[index(row)] = code;
+    }
+
+    private int encode(String s) {
+        if (s == null) {
+            return NULL_CODE;
+        }
+        if (dictionary == null) {
+            dictionary = new ArrayList<>();
+            codes = new HashMap<>();
+        }
+        Integer code = codes.get(s);
+        if (code == null) {
+            code = Integer.valueOf(dictionary.size());
+            dictionary.add(s);
+            codes.put(s, code);
+        }
+        return code.intValue();
+    }
+
+    /**
+     * Encodes again the strings of the chunks left, dropping the others.
+     */
+    private void compactDictionary() {
+        List<String> strings = dictionary;
+        int[] recoded = new int[strings.size()];
+        Arrays.fill(recoded, NULL_CODE);
+        dictionary = null;
+        codes = null;
+        recode(codeChunks, strings, recoded);
+        recode(textChunks, strings, recoded);
+    }
+
+    private void recode(List<int[]> chunks, List<String> strings, int[] recoded) {
+        if (chunks == null) {
+            return;
+        }
+        for (int[] chunk : chunks) {
+            for (int i = 0; i < CHUNK_SIZE; i++) {
+                int code = chunk[i];
+                if (code != NULL_CODE) {
+                    if (recoded[code] == NULL_CODE) {
+                        recoded[code] = encode(strings.get(code));
+                    }
+                    chunk[i] = recoded[code];
+                }
+            }
+        }
+    }
+
+    private String decode(int code) {
+        return code == NULL_CODE ? null : dictionary.get(code);
+    }
+
+    private long[] longChunk(long row) {
+        int c = chunk(row);
+        while (longChunks.size() <= c) {
+            longChunks.add(new long[CHUNK_SIZE]);
+        }
+        return longChunks.get(c);
+    }
+
+    private double[] doubleChunk(long row) {
+        int c = chunk(row);
+        while (doubleChunks.size() <= c) {
+            doubleChunks.add(new double[CHUNK_SIZE]);
+        }
+        return doubleChunks.get(c);
+    }
+
+    private int[] codeChunk(long row) {
+        int c = chunk(row);
+        while (codeChunks.size() <= c) {
+            int[] chunk = new int[CHUNK_SIZE];
+            Arrays.fill(chunk, NULL_CODE);
+            codeChunks.add(chunk);
+        }
+        return codeChunks.get(c);
+    }
+
+    private int chunk(long row) {
+        return (int) (row >>> CHUNK_SHIFT) - firstChunk;
+    }
+
+    private static int index(long row) {
+        return (int) row & CHUNK_MASK;
+    }
+}
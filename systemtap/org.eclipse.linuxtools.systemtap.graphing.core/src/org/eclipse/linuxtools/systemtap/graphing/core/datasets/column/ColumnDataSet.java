@@ -0,0 +1,385 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.graphing.core.datasets.column;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.regex.MatchResult;
+
+import org.eclipse.linuxtools.internal.systemtap.graphing.core.Localization;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataEntry;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IHistoricalDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.Snapshot;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.SnapshotWriter;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.row.RowEntry;
+
+/**
+ * A data set holding the same rows as a
+ * {@link org.eclipse.linuxtools.systemtap.graphing.core.datasets.row.RowDataSet},
+ * stored by column. Numeric columns are kept in chunks of <code>long</code>
+ * or <code>double</code> and other columns are dictionary-encoded, so the
+ * history of a long running script does not hold one object per value.
+ * Values are returned as <code>Long</code>, <code>Double</code> or
+ * <code>String</code>.
+ *
+ * With a capacity, the data set keeps only the most recent rows: appending a
+ * row beyond the capacity drops the oldest one. Such drops are not counted as
+ * modifications, readers tell them apart with {@link #getAppendCount()}.
+ *
+ * @since 2.2
+ */
+public class ColumnDataSet implements IHistoricalDataSet {
+
+    public static final String ID = "org.eclipse.linuxtools.systemtap.graphing.core.datasets.columndataset"; //$NON-NLS-1$
+
+    private final String[] titles;
+    private final Column[] columns;
+    private final int capacity;
+    /** absolute index of the first row */
+    private long first;
+    /** absolute index after the last row */
+    private long end;
+    /** rows appended, including those dropped since */
+    private long appended;
+    /** rows removed, not counting those dropped because of the capacity */
+    private long modifications;
+
+    public ColumnDataSet(String[] titles) {
+        this(titles, 0);
+    }
+
+    /**
+     * @param titles The titles of the columns.
+     * @param capacity The maximum number of rows to keep, or 0 to keep them all.
+     */
+    public ColumnDataSet(String[] titles, int capacity) {
+        this.titles = titles == null ? null : Arrays.copyOf(titles, titles.length);
+        this.capacity = capacity;
+        columns = new Column[getColCount() < 0 ? 0 : getColCount()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new Column();
+        }
+    }
+
+    /**
+     * @return The maximum number of rows kept, or 0 if all are kept.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of strings a column holds for its rows. The strings
+     * of the rows dropped because of the capacity are eventually released.
+     * @param col The column.
+     * @return The number of strings.
+     */
+    public int getDictionarySize(int col) {
+        return columns[col].getDictionarySize();
+    }
+
+    //IDataSet Methods
+    @Override
+    public void setData(IDataEntry entry) {
+        append(entry);
+    }
+
+    @Override
+    public void append(IDataEntry entry) {
+        Object[] row = entry.getRow(0);
+        if(row == null || row.length != this.getColCount())
+            throw new ArrayIndexOutOfBoundsException(Localization.getString("RowDataSet.ArraySizeMismatch") + (row == null ? 0 : row.length) + " != " + this.getColCount()); //$NON-NLS-1$ //$NON-NLS-2$
+
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].set(end, row[i]);
+        }
+        endRow();
+    }
+
+    /**
+     * Appends a row made of the text matched by some groups of a match.
+     * Integers are read straight from the text into their columns, without
+     * creating a string for them.
+     * @param text The text the match was found in.
+     * @param match The match.
+     * @param groups The group holding the value of each column.
+     */
+    public void append(CharSequence text, MatchResult match, int[] groups) {
+        if(groups.length != this.getColCount())
+            throw new ArrayIndexOutOfBoundsException(Localization.getString("RowDataSet.ArraySizeMismatch") + groups.length + " != " + this.getColCount()); //$NON-NLS-1$ //$NON-NLS-2$
+
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].set(end, text, match.start(groups[i]), match.end(groups[i]));
+        }
+        endRow();
+    }
+
+    @Override
+    public String[] getTitles() {
+        return titles;
+    }
+
+    @Override
+    public Object[] getColumn(int col) {
+        return getColumn(col, 0, getRowCount());
+    }
+
+    @Override
+    public Object[] getColumn(int col, int start, int end) {
+        return getHistoricalData(null, col, start, end);
+    }
+
+    @Override
+    public Object[] getRow(int row) {
+        if(row < 0 || row >= getRowCount()) {
+            return null;
+        }
+        Object[] values = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            values[i] = columns[i].get(first + row);
+        }
+        return values;
+    }
+
+    @Override
+    public int getRowCount() {
+        return getEntryCount();
+    }
+
+    @Override
+    public int getColCount() {
+        if(null == titles) {
+            return -1;
+        }
+        return titles.length;
+    }
+
+    /**
+     * Reads a file written by {@link #writeToFile(File)}, or a text file with
+     * one comma separated row per line.
+     */
+    @Override
+    public boolean readFromFile(File file) {
+        if(Snapshot.isSnapshot(file)) {
+            return readFromSnapshot(file);
+        }
+        try (FileReader fr = new FileReader(file);
+            BufferedReader br = new BufferedReader(fr)){
+            br.readLine();    //Skip the ID
+            br.readLine();    //Skip the Titles
+            String line;
+            RowEntry entry;
+            while(null != (line = br.readLine())) {
+                entry = new RowEntry();
+                entry.putRow(0, line.split(", ")); //$NON-NLS-1$
+                append(entry);
+            }
+            return true;
+        } catch(IOException|ArrayIndexOutOfBoundsException e) {
+        }
+        return false;
+    }
+
+    private boolean readFromSnapshot(File file) {
+        try (Snapshot snapshot = Snapshot.open(file)) {
+            if(snapshot.getTitles().length != getColCount()) {
+                return false;
+            }
+            RowEntry entry = new RowEntry();
+            for(int c=0; c<snapshot.getChunkCount(); c++) {
+                for(Object[] row : snapshot.getChunk(c)) {
+                    entry.putRow(0, row);
+                    append(entry);
+                }
+            }
+            return true;
+        } catch(IOException e) {
+        }
+        return false;
+    }
+
+    /**
+     * Writes the rows as a {@link Snapshot}.
+     */
+    @Override
+    public boolean writeToFile(File file) {
+        try (SnapshotWriter writer = SnapshotWriter.replace(file, ID, titles)) {
+            Object[] values = new Object[columns.length];
+            for (long row = first; row < end; row++) {
+                for (int i = 0; i < columns.length; i++) {
+                    values[i] = columns[i].get(row);
+                }
+                writer.append(values);
+            }
+            return true;
+        } catch (IOException e) {
+        }
+        return false;
+    }
+
+    @Override
+    public String getID() {
+        return ID;
+    }
+    //End IDataSet Methods
+
+    //IHistoricalDataSet Methods
+    @Override
+    public Object[] getHistoricalData(String key, int col) {
+        return getHistoricalData(key, col, 0, getRowCount());
+    }
+
+    /**
+     * Row numbers ({@link #COL_ROW_NUM}) count the rows dropped because of
+     * the capacity, so they do not change as the oldest rows are dropped.
+     */
+    @Override
+    public Object[] getHistoricalData(String key, int col, int start, int end) {
+        if(start > end || start < 0 || end > getRowCount() || col < COL_ROW_NUM || col >= this.getColCount()) {
+            return null;
+        }
+
+        if(COL_ROW_NUM == col) {
+            Integer[] rows = new Integer[end-start];
+            for(int i=0;i<rows.length; i++) {
+                rows[i] = Integer.valueOf((int) (first+start+i+1));
+            }
+            return rows;
+        }
+
+        Object[] d = new Object[end-start];
+        for(int i=0; i<d.length; i++) {
+            d[i] = columns[col].get(first+start+i);
+        }
+        return d;
+    }
+
+    /**
+     * Returns the given rows of a column without copying them.
+     * @param col The column.
+     * @param start The first row.
+     * @param end The row after the last one.
+     * @return The view, or <code>null</code> if the range is invalid.
+     */
+    public ColumnView getColumnView(int col, int start, int end) {
+        if(start > end || start < 0 || end > getRowCount() || col < 0 || col >= this.getColCount()) {
+            return null;
+        }
+        return new ColumnView(columns[col], first + start, end - start);
+    }
+
+    @Override
+    public int getEntryCount() {
+        return (int) (end - first);
+    }
+
+    @Override
+    public boolean remove(IDataEntry entry) {
+        Object[] values = entry == null ? null : entry.getRow(0);
+        if (values == null || values.length != columns.length) {
+            return false;
+        }
+        for (int row = 0; row < getRowCount(); row++) {
+            if (rowEquals(first + row, values)) {
+                return remove(row);
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(int entry) {
+        if(entry < 0 || entry >= getEntryCount()) {
+            return false;
+        }
+        if (entry == 0) {
+            dropFirst();
+            modifications++;
+            return true;
+        }
+        for (Column column : columns) {
+            for (long row = first + entry + 1; row < end; row++) {
+                column.copy(row, row - 1);
+            }
+        }
+        end--;
+        modifications++;
+        return true;
+    }
+
+    @Override
+    public IDataEntry getEntry(int entry) {
+        Object[] row = getRow(entry);
+        if(null == row) {
+            return null;
+        }
+        RowEntry e = new RowEntry();
+        e.putRow(0, row);
+        return e;
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modifications;
+    }
+
+    @Override
+    public long getAppendCount() {
+        return appended;
+    }
+    //End IHistoricalDataSet Methods
+
+    /**
+     * @return The absolute index of the first row, counting the rows dropped
+     *         because of the capacity or removed from the top.
+     */
+    long getFirstRow() {
+        return first;
+    }
+
+    /**
+     * @return The value of a column at an absolute row index.
+     */
+    Object getValue(int col, long row) {
+        return columns[col].get(row);
+    }
+
+    private void endRow() {
+        end++;
+        appended++;
+        if (capacity > 0 && end - first > capacity) {
+            dropFirst();
+        }
+    }
+
+    private void dropFirst() {
+        first++;
+        for (Column column : columns) {
+            column.dropBefore(first);
+        }
+    }
+
+    private boolean rowEquals(long row, Object[] values) {
+        for (int i = 0; i < columns.length; i++) {
+            Object value = columns[i].get(row);
+            if (!String.valueOf(value).equals(String.valueOf(values[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.graphing.core.datasets.column;
+
+/**
+ * A range of rows of one column of a {@link ColumnDataSet}, read in place
+ * without copying the values. A view is valid until rows are removed from
+ * the data set, including the oldest rows dropped when its capacity is
+ * reached; rows appended after the view was created are not part of it.
+ *
+ * @since 2.2
+ */
+public final class ColumnView {
+
+    private final Column column;
+    private final long start;
+    private final int size;
+
+    ColumnView(Column column, long start, int size) {
+        this.column = column;
+        this.start = start;
+        this.size = size;
+    }
+
+    /**
+     * @return The number of rows of the view.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Whether the values of the column are numbers.
+     */
+    public boolean isNumeric() {
+        return column.getType() != Column.Type.STRING;
+    }
+
+    /**
+     * @param i The row, relative to the start of the view.
+     * @return The value, as a <code>Long</code>, a <code>Double</code> or a
+     *         <code>String</code>.
+     */
+    public Object get(int i) {
+        return column.get(row(i));
+    }
+
+    /**
+     * @param i The row, relative to the start of the view.
+     * @return The value as an integer.
+     * @throws NumberFormatException if the value is not a number.
+     */
+    public long getLong(int i) {
+        return column.getLong(row(i));
+    }
+
+    /**
+     * @param i The row, relative to the start of the view.
+     * @return The value as a floating point number.
+     * @throws NumberFormatException if the value is not a number.
+     */
+    public double getDouble(int i) {
+        return column.getDouble(row(i));
+    }
+
+    private long row(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException(String.valueOf(i));
+        }
+        return start + i;
+    }
+}
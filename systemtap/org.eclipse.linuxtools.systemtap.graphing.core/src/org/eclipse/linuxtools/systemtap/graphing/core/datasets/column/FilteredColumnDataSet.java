@@ -0,0 +1,384 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.graphing.core.datasets.column;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.MatchResult;
+
+import org.eclipse.linuxtools.internal.systemtap.graphing.core.GraphingCorePlugin;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataEntry;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IFilteredDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.SnapshotWriter;
+import org.eclipse.linuxtools.systemtap.graphing.core.filters.IDataSetFilter;
+import org.eclipse.linuxtools.systemtap.graphing.core.filters.IRowSelectionFilter;
+import org.eclipse.linuxtools.systemtap.graphing.core.filters.RowSelection;
+
+/**
+ * The rows of a {@link ColumnDataSet} which pass a list of filters. When all
+ * the filters are {@link IRowSelectionFilter}s, the selected rows are kept as
+ * indices into the original data set rather than copied, and when rows were
+ * only appended and the filters are row-local, only the appended rows are
+ * filtered. Rows the original data set drops because of its capacity are
+ * dropped from the selection too.
+ *
+ * @since 2.2
+ */
+public class FilteredColumnDataSet extends ColumnDataSet implements IFilteredDataSet {
+    public FilteredColumnDataSet(ColumnDataSet data) {
+        super(data.getTitles());
+        original = data;
+        filters = new ArrayList<>();
+        filtersChanged = true;
+    }
+
+    public FilteredColumnDataSet(String[] titles) {
+        this(new ColumnDataSet(titles));
+    }
+
+    /**
+     * @param titles The titles of the columns.
+     * @param capacity The maximum number of rows the original data set keeps,
+     *            or 0 to keep them all.
+     */
+    public FilteredColumnDataSet(String[] titles, int capacity) {
+        this(new ColumnDataSet(titles, capacity));
+    }
+
+    @Override
+    public int getCapacity() {
+        return original.getCapacity();
+    }
+
+    //Overwrite methods to insure data is removed from the original DataSet
+    @Override
+    public void append(IDataEntry entry) {
+        original.append(entry);
+    }
+
+    @Override
+    public void append(CharSequence text, MatchResult match, int[] groups) {
+        original.append(text, match, groups);
+    }
+
+    @Override
+    public boolean remove(IDataEntry entry) {
+        return original.remove(entry);
+    }
+
+    @Override
+    public boolean remove(int entry) {
+        return original.remove(entry);
+    }
+
+    @Override
+    public boolean readFromFile(File file) {
+        return original.readFromFile(file);
+    }
+    //End overwrite methods to insure data is removed from the original DataSet
+
+    //Overwrite to ensure the data returned has all the filters applied
+    @Override
+    public Object[] getRow(int row) {
+        rebuildDataSet();
+        if (isUnfiltered()) {
+            return original.getRow(row);
+        }
+        if (row < 0 || row >= getRowCount()) {
+            return null;
+        }
+        if (selected == null) {
+            return rows.get(row);
+        }
+        Object[] values = new Object[getColCount()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = original.getValue(i, selected[selectedStart + row]);
+        }
+        return values;
+    }
+
+    @Override
+    public int getEntryCount() {
+        rebuildDataSet();
+        if (isUnfiltered()) {
+            return original.getEntryCount();
+        }
+        return selected == null ? rows.size() : selectedEnd - selectedStart;
+    }
+
+    /**
+     * Row numbers ({@link #COL_ROW_NUM}) count the filtered rows, including
+     * those dropped because of the capacity of the original data set.
+     */
+    @Override
+    public Object[] getHistoricalData(String key, int col, int start, int end) {
+        rebuildDataSet();
+        if (isUnfiltered()) {
+            return original.getHistoricalData(key, col, start, end);
+        }
+        if (start > end || start < 0 || end > getRowCount() || col < COL_ROW_NUM || col >= this.getColCount()) {
+            return null;
+        }
+
+        Object[] d = new Object[end-start];
+        if (COL_ROW_NUM == col) {
+            long dropped = appended - getRowCount();
+            for (int i=0; i<d.length; i++) {
+                d[i] = Integer.valueOf((int) (dropped+start+i+1));
+            }
+        } else if (selected == null) {
+            for (int i=0; i<d.length; i++) {
+                d[i] = rows.get(start+i)[col];
+            }
+        } else {
+            for (int i=0; i<d.length; i++) {
+                d[i] = original.getValue(col, selected[selectedStart+start+i]);
+            }
+        }
+        return d;
+    }
+
+    /**
+     * Returns the given rows of a column without copying them, when no filter
+     * applies.
+     * @return The view, or <code>null</code> if filters apply or the range
+     *         is invalid.
+     */
+    @Override
+    public ColumnView getColumnView(int col, int start, int end) {
+        rebuildDataSet();
+        return isUnfiltered() ? original.getColumnView(col, start, end) : null;
+    }
+
+    /**
+     * Changes whenever the filters are applied to all the rows again.
+     */
+    @Override
+    public long getModificationCount() {
+        rebuildDataSet();
+        return modifications;
+    }
+
+    @Override
+    public long getAppendCount() {
+        rebuildDataSet();
+        return appended;
+    }
+    //End overwrite to ensure the data returned has all the filters applied
+
+    /**
+     * Writes the filtered rows as a {@link org.eclipse.linuxtools.systemtap.graphing.core.datasets.Snapshot}.
+     */
+    @Override
+    public boolean writeToFile(File file) {
+        rebuildDataSet();
+        if (isUnfiltered()) {
+            return original.writeToFile(file);
+        }
+        try (SnapshotWriter writer = SnapshotWriter.replace(file, ID, getTitles())) {
+            for (int row = 0; row < getRowCount(); row++) {
+                writer.append(getRow(row));
+            }
+            return true;
+        } catch (IOException e) {
+        }
+        return false;
+    }
+
+    //IFilteredDataSet Methods
+    @Override
+    public void addFilter(IDataSetFilter filter) {
+        filters.add(filter);
+        filtersChanged = true;
+    }
+
+    @Override
+    public boolean removeFilter(IDataSetFilter filter) {
+        if(filters.remove(filter)) {
+            filtersChanged = true;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void clearFilters() {
+        filters.clear();
+        filtersChanged = true;
+    }
+
+    @Override
+    public IDataSetFilter[] getFilters() {
+        IDataSetFilter[] f = new IDataSetFilter[filters.size()];
+        filters.toArray(f);
+        return f;
+    }
+    //End IFilteredDataSet Methods
+
+    /**
+     * Applies the filters to the rows of the original data set if they
+     * changed. When rows were only appended and all the filters are
+     * row-local {@link IRowSelectionFilter}s, only the appended rows are
+     * filtered.
+     */
+    private void rebuildDataSet() {
+        long originalAppends = original.getAppendCount();
+        boolean unmodified = !filtersChanged && original.getModificationCount() == originalModifications;
+
+        if (unmodified && originalAppends == appendsRead) {
+            return;
+        }
+
+        int count = original.getRowCount();
+        if (filters.isEmpty()) {
+            //Without filters the rows are those of the original data set.
+            if (unmodified && isUnfiltered()) {
+                appended += originalAppends - appendsRead;
+            } else {
+                modifications++;
+                selected = null;
+                rows = null;
+                appended = count;
+            }
+        } else if (unmodified && selected != null && isRowLocal()) {
+            long added = originalAppends - appendsRead;
+            addSelectedRows(added < count ? count - (int) added : 0, count);
+            dropSelectedBefore(original.getFirstRow());
+        } else {
+            modifications++;
+            if (isRowSelection()) {
+                rows = null;
+                selected = new long[Math.max(count, 16)];
+                selectedStart = 0;
+                selectedEnd = 0;
+                appended = 0;
+                addSelectedRows(0, count);
+            } else {
+                selected = null;
+                List<Object>[] filterData = getFilterData(0, count);
+                for (int i=0; i<filters.size(); i++) {
+                    filterData = filters.get(i).filter(filterData);
+                }
+                setFilteredData(filterData);
+                appended = rows.size();
+            }
+        }
+        appendsRead = originalAppends;
+        originalModifications = original.getModificationCount();
+        filtersChanged = false;
+    }
+
+    private boolean isUnfiltered() {
+        return selected == null && rows == null;
+    }
+
+    private boolean isRowSelection() {
+        for (IDataSetFilter filter : filters) {
+            if (!(filter instanceof IRowSelectionFilter)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isRowLocal() {
+        for (IDataSetFilter filter : filters) {
+            if (!(filter instanceof IRowSelectionFilter) || !((IRowSelectionFilter) filter).isRowLocal()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Filters the given rows of the original data set and adds the absolute
+     * indices of those selected.
+     */
+    private void addSelectedRows(int start, int end) {
+        List<Object>[] filterData = getFilterData(start, end);
+        RowSelection selection = RowSelection.range(0, end - start);
+        for (int i=0; i<filters.size() && selection != null; i++) {
+            selection = ((IRowSelectionFilter) filters.get(i)).select(filterData, selection);
+        }
+        if (selection == null) {
+            return;
+        }
+        long first = original.getFirstRow() + start;
+        for (int i=0; i<selection.size(); i++) {
+            if (selectedEnd == selected.length) {
+                growSelection();
+            }
+            selected[selectedEnd++] = first + selection.get(i);
+            appended++;
+        }
+    }
+
+    private void dropSelectedBefore(long row) {
+        while (selectedStart < selectedEnd && selected[selectedStart] < row) {
+            selectedStart++;
+        }
+    }
+
+    /**
+     * Makes room for more indices, reusing the room of the dropped ones when
+     * they are at least half of them.
+     */
+    private void growSelection() {
+        int size = selectedEnd - selectedStart;
+        long[] indices = selectedStart >= selected.length / 2 ? selected : Arrays.copyOf(selected, selected.length * 2);
+        System.arraycopy(selected, selectedStart, indices, 0, size);
+        selected = indices;
+        selectedStart = 0;
+        selectedEnd = size;
+    }
+
+    private ArrayList<Object>[] getFilterData(int start, int end) {
+        ArrayList<Object>[] data = GraphingCorePlugin.createArrayList(original.getColCount());
+        for (int i=0; i<data.length; i++) {
+            data[i] = new ArrayList<>(Arrays.asList(original.getHistoricalData(null, i, start, end)));
+        }
+        return data;
+    }
+
+    private void setFilteredData(List<?>[] data) {
+        rows = new ArrayList<>();
+        int count = data.length == 0 ? 0 : data[0].size();
+        for (int j,i=0; i<count; i++) {
+            Object[] row = new Object[data.length];
+            for (j=0; j<data.length; j++) {
+                row[j] = data[j].get(i);
+            }
+            rows.add(row);
+        }
+    }
+
+    private final ColumnDataSet original;
+    private final List<IDataSetFilter> filters;
+
+    private boolean filtersChanged;
+    /** absolute indices of the selected rows of the original data set, when all the filters select rows */
+    private long[] selected;
+    private int selectedStart;
+    private int selectedEnd;
+    /** the filtered rows, when a filter does not select rows */
+    private List<Object[]> rows;
+    private long appendsRead;
+    private long originalModifications;
+    private long modifications;
+    /** filtered rows appended, including those dropped since */
+    private long appended;
+}
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.graphing.core.datasets.column;
+
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataSetParser;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.ParseBuffer;
+
+/**
+ * A parser which can append the rows it parses straight to a
+ * {@link ColumnDataSet}, so that the integers of a row are stored without
+ * creating a string or an entry for them.
+ *
+ * @since 2.2
+ */
+public interface IColumnParser extends IDataSetParser {
+
+    /**
+     * Parses the row at the head of the buffer, appends it to the data set
+     * and consumes the characters it was parsed from, like
+     * {@link #parseNext(ParseBuffer)}.
+     * @param buffer The text to parse.
+     * @param set The data set to append the row to.
+     * @return Whether a row was parsed.
+     */
+    boolean parseNext(ParseBuffer buffer, ColumnDataSet set);
+}
@@ -13,6 +13,7 @@
 
 package org.eclipse.linuxtools.systemtap.graphing.core.datasets.row;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -20,6 +21,8 @@ import org.eclipse.linuxtools.internal.systemtap.graphing.core.GraphingCorePlugi
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataEntry;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IFilteredDataSet;
 import org.eclipse.linuxtools.systemtap.graphing.core.filters.IDataSetFilter;
+import org.eclipse.linuxtools.systemtap.graphing.core.filters.IRowSelectionFilter;
+import org.eclipse.linuxtools.systemtap.graphing.core.filters.RowSelection;
 
 public class FilteredRowDataSet extends RowDataSet implements IFilteredDataSet {
     public FilteredRowDataSet(RowDataSet data) {
@@ -28,7 +31,7 @@ public class FilteredRowDataSet extends RowDataSet implements IFilteredDataSet {
         this.data = data.data;
         filters = new ArrayList<>();
 
-        filtersChanged = false;
+        filtersChanged = true;
         topData = null;
         dataCount = data.getRowCount();
     }
@@ -52,6 +55,11 @@ public class FilteredRowDataSet extends RowDataSet implements IFilteredDataSet {
     public boolean remove(int entry) {
         return original.remove(entry);
     }
+
+    @Override
+    public boolean readFromFile(File file) {
+        return original.readFromFile(file);
+    }
     //End overwrite methods to insure data is removed from the original DataSet
 
      //Overwrite to ensure the data returned has all the filters applied
@@ -84,6 +92,16 @@ public class FilteredRowDataSet extends RowDataSet implements IFilteredDataSet {
         rebuildDataSet();
         return super.getEntry(entry);
     }
+
+    /**
+     * Changes whenever the filters are applied to all the rows again.
+     * @since 2.2
+     */
+    @Override
+    public long getModificationCount() {
+        rebuildDataSet();
+        return modifications;
+    }
      //End overwrite to ensure the data returned has all the filters applied
 
     //IFilteredDataSet Methods
@@ -95,8 +113,11 @@ public class FilteredRowDataSet extends RowDataSet implements IFilteredDataSet {
 
     @Override
     public boolean removeFilter(IDataSetFilter filter) {
-        filtersChanged = filters.remove(filter);
-        return filtersChanged;
+        if(filters.remove(filter)) {
+            filtersChanged = true;
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -113,29 +134,94 @@ public class FilteredRowDataSet extends RowDataSet implements IFilteredDataSet {
     }
     //End IFilteredDataSet Methods
 
+    /**
+     * Applies the filters to the rows of the original data set if they
+     * changed. When rows were only appended and all the filters are
+     * row-local {@link IRowSelectionFilter}s, only the appended rows are
+     * filtered.
+     */
     private void rebuildDataSet() {
-        IDataEntry top = original.getEntry(original.getEntryCount()-1);
+        int count = original.getRowCount();
+        IDataEntry top = original.getEntry(count-1);
+        boolean unmodified = !filtersChanged && original.getModificationCount() == originalModifications;
+
+        if(unmodified && dataCount == count && topData == top) {
+            return;
+        }
+
+        if(filters.isEmpty()) {
+            //Without filters the entries are those of the original data set.
+            if(!unmodified || this.data != original.data) {
+                modifications++;
+            }
+            this.data = original.data;
+        } else if(unmodified && dataCount < count && original.getEntry(dataCount-1) == topData && isRowLocal()) {
+            addSelectedEntries(select(getFilterData(dataCount, count)), dataCount);
+        } else {
+            modifications++;
+            if(isRowSelection()) {
+                this.data = new ArrayList<>();
+                addSelectedEntries(select(getFilterData(0, count)), 0);
+            } else {
+                List<Object>[] filterData = getFilterData(0, count);
+                for(int i=0; i<filters.size(); i++) {
+                    filterData = filters.get(i).filter(filterData);
+                }
+                setFilteredData(filterData);
+            }
+        }
+        dataCount = count;
+        topData = top;
+        originalModifications = original.getModificationCount();
+        filtersChanged = false;
+    }
 
-        if(filtersChanged || dataCount != original.getRowCount() || topData != top) {
-            dataCount = original.getRowCount();
-            topData = top;
+    private boolean isRowSelection() {
+        for(IDataSetFilter filter : filters) {
+            if(!(filter instanceof IRowSelectionFilter)) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-            List<Object>[] filterData = getFilterData();
-            for(int i=0; i<filters.size(); i++) {
-                filterData = filters.get(i).filter(filterData);
+    private boolean isRowLocal() {
+        for(IDataSetFilter filter : filters) {
+            if(!(filter instanceof IRowSelectionFilter) || !((IRowSelectionFilter) filter).isRowLocal()) {
+                return false;
             }
-            setFilteredData(filterData);
+        }
+        return true;
+    }
+
+    private RowSelection select(List<Object>[] filterData) {
+        RowSelection rows = RowSelection.range(0, filterData.length == 0 ? 0 : filterData[0].size());
+        for(int i=0; i<filters.size() && rows != null; i++) {
+            rows = ((IRowSelectionFilter) filters.get(i)).select(filterData, rows);
+        }
+        return rows;
+    }
+
+    /**
+     * Adds the selected entries of the original data set, without copying them.
+     */
+    private void addSelectedEntries(RowSelection rows, int offset) {
+        if(rows == null) {
+            return;
+        }
+        for(int i=0; i<rows.size(); i++) {
+            this.data.add(original.getEntry(offset + rows.get(i)));
         }
     }
 
-    private ArrayList<Object>[] getFilterData() {
+    private ArrayList<Object>[] getFilterData(int start, int end) {
         ArrayList<Object>[] data = GraphingCorePlugin.createArrayList(original.getColCount());
         for(int i=0; i<data.length; i++) {
-            data[i] = new ArrayList<>();
+            data[i] = new ArrayList<>(end - start);
         }
 
         Object[] row;
-        for(int j,i=0; i<original.getRowCount(); i++) {
+        for(int j,i=start; i<end; i++) {
             row = original.getRow(i);
             for(j=0; j<data.length; j++) {
                 data[j].add(row[j]);
@@ -167,4 +253,6 @@ public class FilteredRowDataSet extends RowDataSet implements IFilteredDataSet {
     private boolean filtersChanged;
     private int dataCount;
     private Object topData;
+    private long originalModifications;
+    private long modifications;
 }
@@ -17,7 +17,9 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataEntry;
-import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataSetParser;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.ParseBuffer;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.column.ColumnDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.column.IColumnParser;
 
 /**
  * A DataSetParser for parsing a string, line-by-line, with a preconstructed
@@ -27,9 +29,13 @@ import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataSetParser;
  * @since 1.1
  *
  */
-public class LineParser implements IDataSetParser {
+public class LineParser implements IColumnParser {
     public LineParser(String regEx) {
         wholePattern = Pattern.compile(regEx, Pattern.MULTILINE);
+        groups = new int[wholePattern.matcher("").groupCount()]; //$NON-NLS-1$
+        for(int i = 0; i < groups.length; i++) {
+            groups[i] = i+1;
+        }
     }
 
     @Override
@@ -56,5 +62,20 @@ public class LineParser implements IDataSetParser {
         return e;
     }
 
+    /**
+     * @since 2.2
+     */
+    @Override
+    public boolean parseNext(ParseBuffer s, ColumnDataSet set) {
+        Matcher wholeMatcher = wholePattern.matcher(s);
+        if(!wholeMatcher.find()) {
+            return false;
+        }
+        set.append(s, wholeMatcher, groups);
+        s.consume(s.length());
+        return true;
+    }
+
     private Pattern wholePattern;
+    private final int[] groups;
 }
@@ -15,10 +15,8 @@ package org.eclipse.linuxtools.systemtap.graphing.core.datasets.row;
 
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
-import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -26,6 +24,8 @@ import java.util.List;
 import org.eclipse.linuxtools.internal.systemtap.graphing.core.Localization;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataEntry;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IHistoricalDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.Snapshot;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.SnapshotWriter;
 
 
 
@@ -89,8 +89,16 @@ public class RowDataSet implements IHistoricalDataSet {
         return titles.length;
     }
 
+    /**
+     * Reads a file written by {@link #writeToFile(File)}, or a text file with
+     * one comma separated row per line. The rows of a snapshot are only read
+     * from the file when they are used.
+     */
     @Override
     public boolean readFromFile(File file) {
+        if(Snapshot.isSnapshot(file)) {
+            return readFromSnapshot(file);
+        }
         try (FileReader fr = new FileReader(file);
             BufferedReader br = new BufferedReader(fr)){
             br.readLine();    //Skip the ID
@@ -108,33 +116,42 @@ public class RowDataSet implements IHistoricalDataSet {
         return false;
     }
 
-    @Override
-    public boolean writeToFile(File file) {
+    private boolean readFromSnapshot(File file) {
         try {
-            file.createNewFile();
-            try (FileOutputStream fos = new FileOutputStream(file);
-                    PrintStream ps = new PrintStream(fos)) {
-
-                String line = ""; //$NON-NLS-1$
-                Object[] dataRow;
-
-                // ID
-                ps.print(ID + "\n"); //$NON-NLS-1$
-
-                // Labels
-                int i, j;
-                for (i = 0; i < titles.length; i++)
-                    line += titles[i] + ", "; //$NON-NLS-1$
-                ps.print(line + "\n"); //$NON-NLS-1$
-
-                // Data
-                for (i = 0; i < getRowCount(); i++) {
-                    dataRow = getRow(i);
-                    line = ""; //$NON-NLS-1$
-                    for (j = 0; j < dataRow.length; j++)
-                        line += dataRow[j].toString() + ", "; //$NON-NLS-1$
-                    ps.print(line + "\n"); //$NON-NLS-1$
+            Snapshot snapshot = Snapshot.open(file);
+            if(snapshot.getTitles().length != getColCount()) {
+                snapshot.close();
+                return false;
+            }
+            if(data.isEmpty()) {
+                // the list closes the snapshot once it no longer reads it
+                data = new SnapshotEntryList(snapshot);
+                modifications++;
+                return true;
+            }
+            try {
+                for(int c=0; c<snapshot.getChunkCount(); c++) {
+                    for(Object[] row : snapshot.getChunk(c)) {
+                        append(new RowEntry(row));
+                    }
                 }
+            } finally {
+                snapshot.close();
+            }
+            return true;
+        } catch(IOException e) {
+        }
+        return false;
+    }
+
+    /**
+     * Writes the rows as a {@link Snapshot}.
+     */
+    @Override
+    public boolean writeToFile(File file) {
+        try (SnapshotWriter writer = SnapshotWriter.replace(file, getID(), titles)) {
+            for(int i=0; i<getRowCount(); i++) {
+                writer.append(getRow(i));
             }
             return true;
         } catch (IOException e) {
@@ -183,7 +200,11 @@ public class RowDataSet implements IHistoricalDataSet {
 
     @Override
     public boolean remove(IDataEntry entry) {
-        return data.remove(entry);
+        if(data.remove(entry)) {
+            modifications++;
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -191,6 +212,7 @@ public class RowDataSet implements IHistoricalDataSet {
         if(entry < 0 || entry >= data.size()) {
             return false;
         }
+        modifications++;
         return (null != data.remove(entry));
     }
 
@@ -202,9 +224,17 @@ public class RowDataSet implements IHistoricalDataSet {
             return data.get(entry);
         }
     }
+    /**
+     * @since 2.2
+     */
+    @Override
+    public long getModificationCount() {
+        return modifications;
+    }
     //End IHistoricalDataSet Methods
 
     protected List<IDataEntry> data;
+    private long modifications;
     private String[] titles;
     public static final String ID = "org.eclipse.linuxtools.systemtap.graphing.core.datasets.rowdataset"; //$NON-NLS-1$
 }
@@ -22,6 +22,13 @@ public class RowEntry implements IDataEntry {
         data = null;
     }
 
+    /**
+     * Creates an entry holding the given row, without copying it.
+     */
+    RowEntry(Object[] data) {
+        this.data = data;
+    }
+
     @Override
     public int getRowCount() {
         if(null != data)
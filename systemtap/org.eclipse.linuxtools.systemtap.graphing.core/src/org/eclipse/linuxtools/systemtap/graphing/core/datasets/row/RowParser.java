@@ -13,63 +13,93 @@
 
 package org.eclipse.linuxtools.systemtap.graphing.core.datasets.row;
 
-import java.util.Arrays;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataEntry;
-import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataSetParser;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.ParseBuffer;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.ParsePlan;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.column.ColumnDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.column.IColumnParser;
 
-
-
-public class RowParser implements IDataSetParser {
+/**
+ * Parses one row at a time. The matcher is reused between calls, so an
+ * instance must not be shared between threads.
+ */
+public class RowParser implements IColumnParser {
     public RowParser(String[] regEx) {
-        this.regEx = Arrays.copyOf(regEx, regEx.length);
-        buildPattern();
+        plan = new ParsePlan(regEx);
+        groups = plan.getGroups();
     }
 
-    private void buildPattern() {
-        StringBuilder wholeRegExpr = new StringBuilder();
-        for(int i=0; i<regEx.length; i++) {
-            wholeRegExpr.append('(' + regEx[i] + ')');
+    @Override
+    public IDataEntry parse(StringBuilder s) {
+        if(null == s) {
+            return null;
         }
-        wholePattern = Pattern.compile(wholeRegExpr.toString());
+
+        RowEntry e = null;
+        Matcher wholeMatcher = matcher(s);
+
+        if(wholeMatcher.find()) {
+            e = new RowEntry(plan.getRow(wholeMatcher));
+            s.delete(0, wholeMatcher.end());
+        }
+
+        return e;
     }
 
+    /**
+     * @since 2.2
+     */
     @Override
-    public IDataEntry parse(StringBuilder s) {
+    public IDataEntry parseNext(ParseBuffer s) {
         if(null == s) {
             return null;
         }
 
         RowEntry e = null;
-        Matcher wholeMatcher = wholePattern.matcher(s);
+        Matcher wholeMatcher = matcher(s);
 
         if(wholeMatcher.find()) {
-            e = new RowEntry();
-            Object[] data = new Object[regEx.length>>1];
-
-            int group=0, j;
-
-            for(int i=0; i<regEx.length; i++) {
-                group++;
-                for(j=0; j<regEx[i].length(); j++) {
-                    if(regEx[i].charAt(j) == ')') {
-                        group++;
-                    }
-                }
-
-                if(0 == (i&1)) {
-                    data[i>>1] = wholeMatcher.group(group);
-                }
-            }
-            e.putRow(0, data);
-            s.delete(0, wholeMatcher.end());
+            e = new RowEntry(plan.getRow(wholeMatcher));
+            s.consume(wholeMatcher.end());
         }
 
         return e;
     }
 
-    private String[] regEx;
-    private Pattern wholePattern;
+    /**
+     * @since 2.2
+     */
+    @Override
+    public boolean parseNext(ParseBuffer s, ColumnDataSet set) {
+        Matcher wholeMatcher = matcher(s);
+        if(!wholeMatcher.find()) {
+            return false;
+        }
+        set.append(s, wholeMatcher, groups);
+        s.consume(wholeMatcher.end());
+        return true;
+    }
+
+    /**
+     * @return The compiled expressions of this parser.
+     * @since 2.2
+     */
+    public ParsePlan getPlan() {
+        return plan;
+    }
+
+    private Matcher matcher(CharSequence s) {
+        if(null == wholeMatcher) {
+            wholeMatcher = plan.getPattern().matcher(s);
+        } else {
+            wholeMatcher.reset(s);
+        }
+        return wholeMatcher;
+    }
+
+    private final ParsePlan plan;
+    private final int[] groups;
+    private Matcher wholeMatcher;
 }
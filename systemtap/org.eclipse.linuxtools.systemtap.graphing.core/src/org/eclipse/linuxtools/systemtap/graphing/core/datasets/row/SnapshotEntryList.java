@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.graphing.core.datasets.row;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataEntry;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.Snapshot;
+
+/**
+ * The entries of a {@link RowDataSet} read from a {@link Snapshot}. The rows
+ * of a chunk are only read when one of them is asked for, and the entries of
+ * the most recently used chunks are kept so that asking for the same row
+ * again returns the same entry. Entries appended after the snapshot are kept
+ * in a list, and removing entries first reads all of them in that list.
+ */
+final class SnapshotEntryList extends AbstractList<IDataEntry> implements RandomAccess {
+
+    private static final int CACHED_CHUNKS = 16;
+
+    private Snapshot snapshot;
+    private final List<IDataEntry> entries = new ArrayList<>();
+    private final Map<Integer, IDataEntry[]> chunks = new LinkedHashMap<Integer, IDataEntry[]>(CACHED_CHUNKS, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, IDataEntry[]> eldest) {
+            return size() > CACHED_CHUNKS;
+        }
+    };
+
+    SnapshotEntryList(Snapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    private int snapshotSize() {
+        return snapshot == null ? 0 : snapshot.getRowCount();
+    }
+
+    @Override
+    public synchronized IDataEntry get(int index) {
+        int n = snapshotSize();
+        if (index >= n) {
+            return entries.get(index - n);
+        }
+        int c = snapshot.findChunk(index);
+        IDataEntry[] chunk = chunks.get(Integer.valueOf(c));
+        if (chunk == null) {
+            Object[][] rows = snapshot.getChunk(c);
+            chunk = new IDataEntry[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                chunk[i] = new RowEntry(rows[i]);
+            }
+            chunks.put(Integer.valueOf(c), chunk);
+        }
+        return chunk[index - snapshot.getChunkStart(c)];
+    }
+
+    @Override
+    public synchronized int size() {
+        return snapshotSize() + entries.size();
+    }
+
+    @Override
+    public synchronized boolean add(IDataEntry entry) {
+        return entries.add(entry);
+    }
+
+    @Override
+    public synchronized IDataEntry remove(int index) {
+        readAll();
+        return entries.remove(index);
+    }
+
+    @Override
+    public synchronized void clear() {
+        if (snapshot != null) {
+            snapshot.close();
+        }
+        snapshot = null;
+        chunks.clear();
+        entries.clear();
+    }
+
+    /**
+     * Moves all the entries of the snapshot to the list.
+     */
+    private void readAll() {
+        if (snapshot == null) {
+            return;
+        }
+        List<IDataEntry> all = new ArrayList<>(size());
+        for (int i = 0; i < snapshotSize(); i++) {
+            all.add(get(i));
+        }
+        all.addAll(entries);
+        entries.clear();
+        entries.addAll(all);
+        snapshot.close();
+        snapshot = null;
+        chunks.clear();
+    }
+}
@@ -20,6 +20,8 @@ import org.eclipse.linuxtools.internal.systemtap.graphing.core.GraphingCorePlugi
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataEntry;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IFilteredDataSet;
 import org.eclipse.linuxtools.systemtap.graphing.core.filters.IDataSetFilter;
+import org.eclipse.linuxtools.systemtap.graphing.core.filters.IRowSelectionFilter;
+import org.eclipse.linuxtools.systemtap.graphing.core.filters.RowSelection;
 
 
 
@@ -107,8 +109,11 @@ public class FilteredTableDataSet extends TableDataSet implements IFilteredDataS
 
     @Override
     public boolean removeFilter(IDataSetFilter filter) {
-        filtersChanged = filters.remove(filter);
-        return filtersChanged;
+        if(filters.remove(filter)) {
+            filtersChanged = true;
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -132,13 +137,31 @@ public class FilteredTableDataSet extends TableDataSet implements IFilteredDataS
             dataCount = original.getRowCount();
             topData = top;
             historical = false;
+            filtersChanged = false;
+
+            List<Object>[] filterData = getFilterData();
+            if(isRowSelection()) {
+                RowSelection rows = RowSelection.range(0, dataCount);
+                for(int i=0; i<filters.size() && rows != null; i++) {
+                    rows = ((IRowSelectionFilter) filters.get(i)).select(filterData, rows);
+                }
+                setSelectedData(rows);
+            } else {
+                for(int i=0; i<filters.size(); i++) {
+                    filterData = filters.get(i).filter(filterData);
+                }
+                setFilteredData(filterData);
+            }
+        }
+    }
 
-             List<Object>[] filterData = getFilterData();
-            for(int i=0; i<filters.size(); i++) {
-                filterData = filters.get(i).filter(filterData);
+    private boolean isRowSelection() {
+        for(IDataSetFilter filter : filters) {
+            if(!(filter instanceof IRowSelectionFilter)) {
+                return false;
             }
-            setFilteredData(filterData);
         }
+        return true;
     }
 
     private ArrayList<Object>[] getFilterData() {
@@ -172,6 +195,23 @@ public class FilteredTableDataSet extends TableDataSet implements IFilteredDataS
         this.data.add(entry);
     }
 
+    /**
+     * Builds the filtered table from the selected rows of the original one,
+     * without copying them.
+     */
+    private void setSelectedData(RowSelection rows) {
+        this.data = new ArrayList<>();
+
+        TableEntry entry = new TableEntry();
+        if(rows != null) {
+            IDataEntry table = original.getEntry(original.getEntryCount()-1);
+            for(int i=0; i<rows.size(); i++) {
+                entry.add(table.getRow(rows.get(i)));
+            }
+        }
+        this.data.add(entry);
+    }
+
     private TableDataSet original;
     private List<IDataSetFilter> filters;
 
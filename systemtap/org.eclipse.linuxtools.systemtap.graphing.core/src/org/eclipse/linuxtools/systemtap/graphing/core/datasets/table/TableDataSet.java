@@ -15,10 +15,8 @@ package org.eclipse.linuxtools.systemtap.graphing.core.datasets.table;
 
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
-import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -26,6 +24,8 @@ import java.util.List;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IBlockDataSet;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataEntry;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IHistoricalDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.Snapshot;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.SnapshotWriter;
 
 
 
@@ -50,8 +50,15 @@ public class TableDataSet implements IHistoricalDataSet, IBlockDataSet {
         return ID;
     }
 
+    /**
+     * Reads a file written by {@link #writeToFile(File)}, or a text file with
+     * one comma separated row per line and an empty line after each entry.
+     */
     @Override
     public boolean readFromFile(File file) {
+        if(Snapshot.isSnapshot(file)) {
+            return readFromSnapshot(file);
+        }
         try (FileReader fr = new FileReader(file);
             BufferedReader br = new BufferedReader(fr)){
 
@@ -73,39 +80,39 @@ public class TableDataSet implements IHistoricalDataSet, IBlockDataSet {
         return false;
     }
 
-    @Override
-    public boolean writeToFile(File file) {
-        try {
-            file.createNewFile();
-            try (FileOutputStream fos = new FileOutputStream(file);
-                    PrintStream ps = new PrintStream(fos)) {
-                StringBuilder b = new StringBuilder();
-
-                // ID
-                b.append(ID + "\n"); //$NON-NLS-1$
-
-                // Labels
-                int i, j, k;
-                for (i = 0; i < titles.length; i++) {
-                    b.append(titles[i] + ", "); //$NON-NLS-1$
+    /**
+     * Reads each block of rows of a snapshot as an entry. Rows after the
+     * last block, written while the entry was incomplete, are ignored.
+     */
+    private boolean readFromSnapshot(File file) {
+        try (Snapshot snapshot = Snapshot.open(file)) {
+            if(snapshot.getTitles().length != getColCount()) {
+                return false;
+            }
+            TableEntry entry = new TableEntry();
+            for(int c=0; c<snapshot.getChunkCount(); c++) {
+                for(Object[] row : snapshot.getChunk(c)) {
+                    entry.add(row);
                 }
-                b.append("\n"); //$NON-NLS-1$
-
-                // Data
-                TableEntry e;
-                Object[] o;
-                for (i = 0; i < data.size(); i++) {
-                    e = data.get(i);
-                    for (j = 0; j < e.getRowCount(); j++) {
-                        o = e.getRow(j);
-                        for (k = 0; k < o.length; k++) {
-                            b.append(o[k].toString() + ", "); //$NON-NLS-1$
-                        }
-                        b.append("\n"); //$NON-NLS-1$
-                    }
-                    b.append("\n"); //$NON-NLS-1$
+                if(snapshot.isEndOfBlock(c)) {
+                    append(entry);
+                    entry = new TableEntry();
                 }
-                ps.print(b.toString());
+            }
+            return true;
+        } catch(IOException e) {}
+        return false;
+    }
+
+    /**
+     * Writes the entries as a {@link Snapshot}, each entry being a block of rows.
+     */
+    @Override
+    public boolean writeToFile(File file) {
+        try (SnapshotWriter writer = SnapshotWriter.replace(file, getID(), titles)) {
+            for(TableEntry e : data) {
+                writer.append(e);
+                writer.endBlock();
             }
             return true;
         } catch (IOException e) {
@@ -13,73 +13,87 @@
 
 package org.eclipse.linuxtools.systemtap.graphing.core.datasets.table;
 
-import java.util.Arrays;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataEntry;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataSetParser;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.ParseBuffer;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.ParsePlan;
 
+/**
+ * Parses one table at a time, the end of a table being marked by the
+ * delimiter. The matchers are reused between calls, so an instance must
+ * not be shared between threads.
+ */
 public class TableParser implements IDataSetParser {
     public TableParser(String[] regEx, String delimiter) {
-        this.regEx = Arrays.copyOf(regEx, regEx.length);
-        this.delimiter = delimiter;
-        buildPattern();
+        plan = new ParsePlan(regEx);
+        delimPattern = Pattern.compile(delimiter);
     }
 
-    private void buildPattern() {
-        StringBuilder wholeRegExpr = new StringBuilder();
-        for(int i=0; i<regEx.length; i++) {
-            wholeRegExpr.append('(' + regEx[i] + ')');
+    @Override
+    public IDataEntry parse(StringBuilder s) {
+        if(null == s) {
+            return null;
         }
-        wholePattern = Pattern.compile(wholeRegExpr.toString());
-        delimPattern = Pattern.compile(delimiter);
+
+        TableEntry e = parseTable(s);
+        if(null != e) {
+            s.delete(0, delimMatcher.end());
+        }
+        return e;
     }
 
+    /**
+     * @since 2.2
+     */
     @Override
-    public IDataEntry parse(StringBuilder s) {
+    public IDataEntry parseNext(ParseBuffer s) {
         if(null == s) {
             return null;
         }
 
-        TableEntry e = null;
+        TableEntry e = parseTable(s);
+        if(null != e) {
+            s.consume(delimMatcher.end());
+        }
+        return e;
+    }
+
+    /**
+     * @return The compiled expressions of this parser.
+     * @since 2.2
+     */
+    public ParsePlan getPlan() {
+        return plan;
+    }
 
-        Matcher wholeMatcher = wholePattern.matcher(s);
-        Matcher delimMatcher = delimPattern.matcher(s);
+    private TableEntry parseTable(CharSequence s) {
+        if(null == wholeMatcher) {
+            wholeMatcher = plan.getPattern().matcher(s);
+            delimMatcher = delimPattern.matcher(s);
+        } else {
+            wholeMatcher.reset(s);
+            delimMatcher.reset(s);
+        }
 
-        Object[] data;
-        int end = 0;
+        TableEntry e = null;
         if(delimMatcher.find()) {
             e = new TableEntry();
-            end = delimMatcher.start();
+            int end = delimMatcher.start();
 
-            int group, j;
             while(wholeMatcher.find() && wholeMatcher.end() < end) {
-                group = 0;
-                data = new Object[regEx.length>>1];
-                for(int i=0; i<regEx.length; i++) {
-                    group++;
-                    for(j=0; j<regEx[i].length(); j++) {
-                        if(regEx[i].charAt(j) == ')') {
-                            group++;
-                        }
-                    }
-
-                    if(0 == (i&1)) {
-                        data[i>>1] = wholeMatcher.group(group);
-                    }
-                }
-                e.add(data);
+                e.add(plan.getRow(wholeMatcher));
             }
-            s.delete(0, delimMatcher.end());
         }
 
         return e;
     }
 
-    private String[] regEx;
-    private String delimiter;
+    private final ParsePlan plan;
+    private final Pattern delimPattern;
 
-    private Pattern wholePattern;
-    private Pattern delimPattern;
-}
\ No newline at end of file
+    private Matcher wholeMatcher;
+    private Matcher delimMatcher;
+}
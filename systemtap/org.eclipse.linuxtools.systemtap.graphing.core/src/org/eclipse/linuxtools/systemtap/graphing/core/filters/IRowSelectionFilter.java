@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.graphing.core.filters;
+
+import java.util.List;
+
+/**
+ * A filter which selects rows of the data by index instead of returning a
+ * filtered copy of it, so that filters can be chained without copying the
+ * data between them.
+ *
+ * @since 2.2
+ */
+public interface IRowSelectionFilter extends IDataSetFilter {
+    /**
+     * Selects rows of the data.
+     *
+     * @param data The columns of the data. They are not modified.
+     * @param rows The rows to consider, in order. They are not modified.
+     *
+     * @return The selected rows, in the order they are to be shown, or
+     *         <code>null</code> if the column of the filter is not in the data.
+     */
+    RowSelection select(List<Object>[] data, RowSelection rows);
+
+    /**
+     * @return <code>true</code> if whether a row is selected depends only on
+     *         that row and the selected rows keep their order. For such
+     *         filters, the selection of appended rows can be added to the
+     *         previous selection instead of filtering all the rows again.
+     */
+    boolean isRowLocal();
+
+    /**
+     * Copies the rows selected among all the complete rows of the data.
+     */
+    @Override
+    default List<Object>[] filter(List<Object>[] data) {
+        int count = data == null || data.length == 0 ? 0 : Integer.MAX_VALUE;
+        for(int i=0; i<count && i<data.length; i++) {
+            count = Math.min(count, data[i].size());
+        }
+        RowSelection rows = select(data, RowSelection.range(0, count));
+        return rows == null ? null : rows.apply(data);
+    }
+}
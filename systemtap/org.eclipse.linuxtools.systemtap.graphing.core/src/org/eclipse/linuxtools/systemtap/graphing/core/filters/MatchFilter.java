@@ -17,11 +17,10 @@ import java.text.MessageFormat;
 import java.util.List;
 
 import org.eclipse.linuxtools.internal.systemtap.graphing.core.Localization;
-import org.eclipse.linuxtools.systemtap.structures.Copier;
 
 
 
-public class MatchFilter implements IDataSetFilter {
+public class MatchFilter implements IRowSelectionFilter {
     public MatchFilter(int column, Object value, int style) {
         this.column = column;
         this.value = value;
@@ -29,29 +28,39 @@ public class MatchFilter implements IDataSetFilter {
     }
 
     /**
-     * Apply the MatchFilter to the passed dataset.
+     * Select the rows of the passed dataset which are kept by the MatchFilter.
      *
      * @param data The dataset to filter.
+     * @param rows The rows to consider.
      *
-     * @return The filtered dataset.
+     * @return The selected rows.
+     * @since 2.2
      */
     @Override
-    public List<Object>[] filter(List<Object>[] data) {
+    public RowSelection select(List<Object>[] data, RowSelection rows) {
         if(column < 0 || column >= data.length) {
             return null;
         }
 
-        List<Object>[] newData = Copier.copy(data);
-        boolean equals;
-        for(int j, i=newData[column].size()-1; i>=0; i--) {
-            equals = newData[column].get(i).toString().equals(value.toString());    //TODO: Find better equivilance method
-            if((equals && REMOVE_MATCHING == (style & 1)) || (!equals && KEEP_MATCHING == (style & 1))) {
-                for(j=0; j<newData.length; j++) {
-                    newData[j].remove(i);
-                }
+        List<Object> values = data[column];
+        String match = value.toString();
+        boolean keepMatching = KEEP_MATCHING == (style & 1);
+        RowSelection selected = new RowSelection(rows.size());
+        for(int row, i=0; i<rows.size(); i++) {
+            row = rows.get(i);
+            if(values.get(row).toString().equals(match) == keepMatching) {    //TODO: Find better equivilance method
+                selected.add(row);
             }
         }
-        return newData;
+        return selected;
+    }
+
+    /**
+     * @since 2.2
+     */
+    @Override
+    public boolean isRowLocal() {
+        return true;
     }
 
     @Override
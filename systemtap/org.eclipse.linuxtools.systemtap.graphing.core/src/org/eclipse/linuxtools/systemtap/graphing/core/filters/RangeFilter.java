@@ -18,11 +18,10 @@ import java.util.List;
 
 import org.eclipse.linuxtools.internal.systemtap.graphing.core.Localization;
 import org.eclipse.linuxtools.systemtap.graphing.core.structures.NumberType;
-import org.eclipse.linuxtools.systemtap.structures.Copier;
 
 
 
-public class RangeFilter implements IDataSetFilter {
+public class RangeFilter implements IRowSelectionFilter {
     /**
      * Create a new Range Filter for a table of data.
      * @param column The index of the table's column to apply the filter to.
@@ -43,27 +42,37 @@ public class RangeFilter implements IDataSetFilter {
     }
 
     /**
-     * Apply the RangeFilter to the passed dataset.
+     * Select the rows of the passed dataset which are in the range.
      *
      * @param data The dataset to filter.
+     * @param rows The rows to consider.
      *
-     * @return The filtered dataset.
+     * @return The selected rows.
+     * @since 2.2
      */
     @Override
-    public List<Object>[] filter(List<Object>[] data) {
+    public RowSelection select(List<Object>[] data, RowSelection rows) {
         if(column < 0 || column >= data.length) {
             return null;
         }
 
-        List<Object>[] newData = Copier.copy(data);
-        for(int j,i=newData[column].size()-1; i>=0; i--) {
-            if(!inBounds(NumberType.obj2num(newData[column].get(i)))) {
-                for(j=0; j<newData.length; j++) {
-                    newData[j].remove(i);
-                }
+        List<Object> values = data[column];
+        RowSelection selected = new RowSelection(rows.size());
+        for(int row, i=0; i<rows.size(); i++) {
+            row = rows.get(i);
+            if(inBounds(NumberType.obj2num(values.get(row)))) {
+                selected.add(row);
             }
         }
-        return newData;
+        return selected;
+    }
+
+    /**
+     * @since 2.2
+     */
+    @Override
+    public boolean isRowLocal() {
+        return true;
     }
 
     @Override
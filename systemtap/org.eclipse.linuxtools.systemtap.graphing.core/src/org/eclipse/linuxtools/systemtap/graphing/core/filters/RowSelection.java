@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.graphing.core.filters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.linuxtools.internal.systemtap.graphing.core.GraphingCorePlugin;
+
+/**
+ * Indices of rows of the data being filtered, in the order they are to be
+ * shown. {@link IRowSelectionFilter}s narrow or reorder a selection instead
+ * of copying the data, so a chain of filters only copies the rows it keeps.
+ *
+ * @since 2.2
+ */
+public final class RowSelection {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] rows;
+    private int size;
+
+    public RowSelection() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity The number of rows the selection can hold before growing.
+     */
+    public RowSelection(int capacity) {
+        rows = new int[Math.max(capacity, 1)];
+    }
+
+    /**
+     * @param start The first row.
+     * @param end The row after the last one.
+     * @return A selection of the rows from <code>start</code> to
+     *         <code>end - 1</code>, in order.
+     */
+    public static RowSelection range(int start, int end) {
+        RowSelection selection = new RowSelection(end - start);
+        for (int row = start; row < end; row++) {
+            selection.rows[selection.size++] = row;
+        }
+        return selection;
+    }
+
+    /**
+     * @return The number of selected rows.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param i The position in the selection.
+     * @return The index of the row at that position.
+     */
+    public int get(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException(String.valueOf(i));
+        }
+        return rows[i];
+    }
+
+    /**
+     * Adds a row at the end of the selection.
+     * @param row The index of the row.
+     */
+    public void add(int row) {
+        if (size == rows.length) {
+            rows = Arrays.copyOf(rows, 2 * rows.length);
+        }
+        rows[size++] = row;
+    }
+
+    /**
+     * Adds the rows of another selection at the end of this one.
+     * @param selection The rows to add.
+     * @param offset The number added to each of their indices.
+     */
+    public void addAll(RowSelection selection, int offset) {
+        if (size + selection.size > rows.length) {
+            rows = Arrays.copyOf(rows, Math.max(size + selection.size, 2 * rows.length));
+        }
+        for (int i = 0; i < selection.size; i++) {
+            rows[size++] = selection.rows[i] + offset;
+        }
+    }
+
+    /**
+     * @return The indices of the selected rows.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(rows, size);
+    }
+
+    /**
+     * Copies the selected rows of the data.
+     * @param data The columns of the data.
+     * @return New columns holding the selected rows, in the order of the selection.
+     */
+    public List<Object>[] apply(List<Object>[] data) {
+        ArrayList<Object>[] newData = GraphingCorePlugin.createArrayList(data.length);
+        for (int j = 0; j < data.length; j++) {
+            newData[j] = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                newData[j].add(data[j].get(rows[i]));
+            }
+        }
+        return newData;
+    }
+}
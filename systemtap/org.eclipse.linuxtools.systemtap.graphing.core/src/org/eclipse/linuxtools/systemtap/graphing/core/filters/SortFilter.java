@@ -13,58 +13,64 @@
 
 package org.eclipse.linuxtools.systemtap.graphing.core.filters;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.linuxtools.internal.systemtap.graphing.core.Localization;
 import org.eclipse.linuxtools.systemtap.graphing.core.structures.NumberType;
-import org.eclipse.linuxtools.systemtap.structures.Copier;
 import org.eclipse.linuxtools.systemtap.structures.IndexedObject;
-import org.eclipse.linuxtools.systemtap.structures.Sort;
 
 
 
-public class SortFilter implements IDataSetFilter {
+public class SortFilter implements IRowSelectionFilter {
     public SortFilter(int column, int ordering) {
         this.column = column;
         this.style = (ordering==ASCENDING ? ASCENDING : DESCENDING);
     }
 
     /**
-     * Apply the RangeFilter to the passed dataset.
+     * Sort the selected rows of the passed dataset.
      *
      * @param data The dataset to filter.
+     * @param rows The rows to sort.
      *
-     * @return The filtered dataset.
+     * @return The rows, in sorted order.
+     * @since 2.2
      */
     @Override
-    public List<Object>[] filter(List<Object>[] data) {
+    public RowSelection select(List<Object>[] data, RowSelection rows) {
         if(column < 0 || column >= data.length)
             return null;
 
-        List<Object>[] newData = Copier.copy(data);
-        IndexedObject[] items = new IndexedObject[newData[0].size()];
+        List<Object> values = data[column];
+        IndexedObject[] items = new IndexedObject[rows.size()];
 
         try {
-            for(int i=0; i<newData[column].size(); i++)
-                items[i] = new IndexedObject(i, NumberType.cleanObj2Num(newData[column].get(i)));
+            for(int i=0; i<items.length; i++)
+                items[i] = new IndexedObject(rows.get(i), NumberType.cleanObj2Num(values.get(rows.get(i))));
         } catch(NumberFormatException nfe) {
-            for(int i=0; i<newData[column].size(); i++)
-                items[i] = new IndexedObject(i, newData[column].get(i));
+            for(int i=0; i<items.length; i++)
+                items[i] = new IndexedObject(rows.get(i), values.get(rows.get(i)));
         }
 
-        Sort.quicksort(items, 0, items.length-1);
-
-        for(int j, i=0; i<newData.length; i++) {
-            for(j=0; j<items.length; j++) {
-                if(DESCENDING == style)
-                    newData[i].add(newData[i].get(items[items.length-j-1].index));
-                else
-                    newData[i].add(newData[i].get(items[j].index));
-            }
-            for(j=0; j<items.length; j++)
-                newData[i].remove(0);
+        Arrays.sort(items);
+
+        RowSelection sorted = new RowSelection(items.length);
+        for(int j=0; j<items.length; j++) {
+            if(DESCENDING == style)
+                sorted.add(items[items.length-j-1].index);
+            else
+                sorted.add(items[j].index);
         }
-        return newData;
+        return sorted;
+    }
+
+    /**
+     * @since 2.2
+     */
+    @Override
+    public boolean isRowLocal() {
+        return false;
     }
 
     @Override
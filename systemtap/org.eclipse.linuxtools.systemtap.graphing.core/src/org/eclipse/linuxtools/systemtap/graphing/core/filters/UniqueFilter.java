@@ -14,7 +14,9 @@
 package org.eclipse.linuxtools.systemtap.graphing.core.filters;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.linuxtools.internal.systemtap.graphing.core.GraphingCorePlugin;
 import org.eclipse.linuxtools.internal.systemtap.graphing.core.Localization;
@@ -25,7 +27,6 @@ import org.eclipse.linuxtools.systemtap.graphing.core.aggregates.MaxAggregate;
 import org.eclipse.linuxtools.systemtap.graphing.core.aggregates.MinAggregate;
 import org.eclipse.linuxtools.systemtap.graphing.core.aggregates.SumAggregate;
 import org.eclipse.linuxtools.systemtap.graphing.core.structures.NumberType;
-import org.eclipse.linuxtools.systemtap.structures.Copier;
 
 
 public class UniqueFilter implements IDataSetFilter {
@@ -47,33 +48,43 @@ public class UniqueFilter implements IDataSetFilter {
             return null;
         }
 
-        List<Object>[] newData = Copier.copy(data);
-        ArrayList<Object>[] aggregates = GraphingCorePlugin.createArrayList(newData.length);
-        for(int i=0; i<aggregates.length;i++) {
-            aggregates[i] = new ArrayList<>();
+        // Group the rows by value in a single pass. Each group is reported
+        // at the position of its last row, and its rows are aggregated
+        // starting with the one before the last, back to the first, then the last.
+        int count = data[0].size();
+        String[] keys = new String[count];
+        Map<String, List<Integer>> groups = new HashMap<>();
+        for(int i=0; i<count; i++) {
+            keys[i] = data[column].get(i).toString();    //TODO: Find better equivilance method
+            groups.computeIfAbsent(keys[i], key -> new ArrayList<>()).add(Integer.valueOf(i));
         }
 
-        for(int k,j,i=newData[0].size()-1; i>=0; i--) {
-            for(j=i-1; j>=0; j--) {
-                if(newData[column].get(i).toString().equals(newData[column].get(j).toString())) {    //TODO: Find better equivilance method
-                    i--;
-                    for(k=0; k<newData.length; k++) {
-                        aggregates[k].add(newData[k].get(j));
-                        newData[k].remove(j);
-                    }
-                }
+        ArrayList<Object>[] newData = GraphingCorePlugin.createArrayList(data.length);
+        for(int i=0; i<newData.length;i++) {
+            newData[i] = new ArrayList<>(groups.size());
+        }
+
+        Object[] aggregates;
+        for(int k,j,i=0; i<count; i++) {
+            List<Integer> rows = groups.get(keys[i]);
+            if(rows.get(rows.size()-1).intValue() != i) {
+                continue;
             }
             for(k=0; k<newData.length; k++) {
-                aggregates[k].add(newData[k].get(i));
-                if(k!=column) {
-                    newData[k].remove(i);
-                    try {
-                        newData[k].add(i, aggregate.aggregate(NumberType.cleanObj2Num(aggregates[k].toArray())));
-                    } catch(NumberFormatException nfe) {
-                        newData[k].add(i, columnMerge(aggregates[k].toArray()));
-                    }
+                if(k == column) {
+                    newData[k].add(data[k].get(i));
+                    continue;
+                }
+                aggregates = new Object[rows.size()];
+                for(j=0; j<aggregates.length-1; j++) {
+                    aggregates[j] = data[k].get(rows.get(aggregates.length-2-j).intValue());
+                }
+                aggregates[aggregates.length-1] = data[k].get(i);
+                try {
+                    newData[k].add(aggregate.aggregate(NumberType.cleanObj2Num(aggregates)));
+                } catch(NumberFormatException nfe) {
+                    newData[k].add(columnMerge(aggregates));
                 }
-                aggregates[k].clear();
             }
         }
         return newData;
@@ -13,9 +13,16 @@
 
 package org.eclipse.linuxtools.systemtap.graphing.core.structures;
 
+import java.io.IOException;
+
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IBlockDataSet;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataEntry;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataSet;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataSetParser;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.ParseBuffer;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.SnapshotWriter;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.column.ColumnDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.column.IColumnParser;
 import org.eclipse.linuxtools.systemtap.structures.listeners.IGobblerListener;
 
 
@@ -23,11 +30,23 @@ import org.eclipse.linuxtools.systemtap.structures.listeners.IGobblerListener;
 public class ChartStreamDaemon implements IGobblerListener {
     public ChartStreamDaemon(IDataSet d, IDataSetParser p) {
         data = d;
-        outputData = new StringBuilder(""); //$NON-NLS-1$
+        outputData = new ParseBuffer();
         parser = p;
         disposed = false;
     }
 
+    /**
+     * Records the entries appended to the data set from now on, so that the
+     * data of a running script can be reopened later. The writer is closed
+     * when this daemon is disposed.
+     * @param writer The writer, or <code>null</code> to stop recording.
+     * @since 2.2
+     */
+    public void setSnapshotWriter(SnapshotWriter writer) {
+        closeSnapshot();
+        snapshot = writer;
+    }
+
     /**
      * Takes one line from the output data and appends it to data object.
      */
@@ -35,9 +54,40 @@ public class ChartStreamDaemon implements IGobblerListener {
         if(null == data || null == parser)
             return;
 
-        IDataEntry e = parser.parse(outputData);
-        if(null != e)
+        if(null == snapshot && data instanceof ColumnDataSet && parser instanceof IColumnParser) {
+            //Integers are read straight into the columns, without creating strings for them
+            ((IColumnParser) parser).parseNext(outputData, (ColumnDataSet) data);
+            return;
+        }
+
+        IDataEntry e = parser.parseNext(outputData);
+        if(null != e) {
             data.setData(e);
+            record(e);
+        }
+    }
+
+    private void record(IDataEntry e) {
+        if(null == snapshot)
+            return;
+        try {
+            snapshot.append(e);
+            if(data instanceof IBlockDataSet)
+                snapshot.endBlock();
+        } catch(IOException ioe) {
+            //Stop recording rather than failing the script's output
+            closeSnapshot();
+        }
+    }
+
+    private void closeSnapshot() {
+        if(null != snapshot) {
+            try {
+                snapshot.close();
+            } catch(IOException e) {
+            }
+            snapshot = null;
+        }
     }
 
     @Override
@@ -53,16 +103,18 @@ public class ChartStreamDaemon implements IGobblerListener {
     public void dispose() {
         if(!disposed) {
             disposed = true;
+            closeSnapshot();
             data = null;
             if(null != outputData)
-                outputData.delete(0, outputData.length());
+                outputData.clear();
             outputData = null;
             parser = null;
         }
     }
 
     private IDataSet data;
-    private StringBuilder outputData;
+    private ParseBuffer outputData;
     private IDataSetParser parser;
     private boolean disposed;
+    private SnapshotWriter snapshot;
 }
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.graphing.core.structures;
+
+import java.util.Arrays;
+
+/**
+ * Reduces the number of points of a series to about the number which can be
+ * told apart on screen, keeping the shape of the series. Both methods return
+ * the indices of the points to keep, in increasing order.
+ *
+ * @since 2.2
+ */
+public final class Downsampler {
+
+    private Downsampler() {
+    }
+
+    /**
+     * Selects points with the Largest-Triangle-Three-Buckets algorithm: the
+     * points are split in buckets and from each bucket the point forming the
+     * largest triangle with the point kept from the previous bucket and the
+     * average of the next bucket is kept. The first and last points are
+     * always kept. Suited to line charts.
+     *
+     * @param x The x values.
+     * @param y The y values.
+     * @param length The number of points, starting from the first values.
+     * @param threshold The maximum number of points to keep.
+     * @return The indices of the points to keep.
+     */
+    public static int[] largestTriangleThreeBuckets(double[] x, double[] y, int length, int threshold) {
+        if (threshold >= length || threshold < 3) {
+            return all(length);
+        }
+
+        int[] kept = new int[threshold];
+        int n = 0;
+        double bucketSize = (double) (length - 2) / (threshold - 2);
+        int a = 0;
+        kept[n++] = a;
+        for (int i = 0; i < threshold - 2; i++) {
+            int avgStart = (int) ((i + 1) * bucketSize) + 1;
+            int avgEnd = Math.min((int) ((i + 2) * bucketSize) + 1, length);
+            double avgX = 0;
+            double avgY = 0;
+            for (int j = avgStart; j < avgEnd; j++) {
+                avgX += x[j];
+                avgY += y[j];
+            }
+            avgX /= avgEnd - avgStart;
+            avgY /= avgEnd - avgStart;
+
+            int start = (int) (i * bucketSize) + 1;
+            int end = avgStart;
+            double maxArea = -1;
+            int next = start;
+            for (int j = start; j < end; j++) {
+                // twice the area of the triangle, which compares the same
+                double area = Math.abs((x[a] - avgX) * (y[j] - y[a]) - (x[a] - x[j]) * (avgY - y[a]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = j;
+                }
+            }
+            kept[n++] = next;
+            a = next;
+        }
+        kept[n++] = length - 1;
+        return kept;
+    }
+
+    /**
+     * Selects the points with the smallest and the largest y value of each
+     * of <code>threshold / 2</code> buckets of consecutive points, so that
+     * peaks are never dropped. Suited to scatter charts.
+     *
+     * @param y The y values.
+     * @param length The number of points, starting from the first values.
+     * @param threshold The maximum number of points to keep.
+     * @return The indices of the points to keep.
+     */
+    public static int[] minMax(double[] y, int length, int threshold) {
+        int buckets = threshold / 2;
+        if (threshold >= length || buckets < 1) {
+            return all(length);
+        }
+
+        int[] kept = new int[2 * buckets];
+        int n = 0;
+        for (int b = 0; b < buckets; b++) {
+            int start = (int) ((long) b * length / buckets);
+            int end = (int) ((long) (b + 1) * length / buckets);
+            int min = start;
+            int max = start;
+            for (int j = start + 1; j < end; j++) {
+                if (y[j] < y[min]) {
+                    min = j;
+                } else if (y[j] > y[max]) {
+                    max = j;
+                }
+            }
+            kept[n++] = Math.min(min, max);
+            if (min != max) {
+                kept[n++] = Math.max(min, max);
+            }
+        }
+        return n == kept.length ? kept : Arrays.copyOf(kept, n);
+    }
+
+    private static int[] all(int length) {
+        int[] kept = new int[length];
+        for (int i = 0; i < length; i++) {
+            kept[i] = i;
+        }
+        return kept;
+    }
+}
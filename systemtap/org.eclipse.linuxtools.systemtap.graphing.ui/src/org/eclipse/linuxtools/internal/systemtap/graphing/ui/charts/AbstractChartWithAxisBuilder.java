@@ -18,6 +18,7 @@ import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.linuxtools.internal.systemtap.graphing.ui.charts.listeners.ChartWithAxisMouseMoveListener;
 import org.eclipse.linuxtools.internal.systemtap.graphing.ui.preferences.GraphingPreferenceConstants;
 import org.eclipse.linuxtools.systemtap.graphing.core.adapters.IAdapter;
+import org.eclipse.linuxtools.systemtap.graphing.core.structures.Downsampler;
 import org.eclipse.linuxtools.systemtap.graphing.ui.charts.AbstractChartBuilder;
 import org.eclipse.swt.events.PaintListener;
 import org.eclipse.swt.graphics.Font;
@@ -68,6 +69,19 @@ public abstract class AbstractChartWithAxisBuilder extends AbstractChartBuilder
         return defaultMargin;
     }
 
+    /**
+     * The number of points to plot per pixel of the plot area's width, and
+     * the smallest number of points to plot before downsampling.
+     */
+    private static final int POINTS_PER_PIXEL = 2;
+    private static final int MIN_POINTS = 1000;
+
+    private final SeriesWindow window = new SeriesWindow();
+    private double minX, maxX, minY, maxY;
+    private Range plotted = new Range(0, 0);
+    private int plottedThreshold;
+    private boolean plottedPoints;
+
     protected boolean xLineGrid, yLineGrid;
     /**
      * @since 3.0
@@ -219,102 +233,148 @@ public abstract class AbstractChartWithAxisBuilder extends AbstractChartBuilder
     }
 
     /**
-     * Builds X series.
+     * Builds X series. Only the most recent records are read, and only the
+     * points in the visible range of the x-axis are plotted, downsampled to
+     * about as many points as the plot area can show.
      */
     @Override
     protected void buildXSeries() {
-        Object data[][] = adapter.getData();
-        if (data == null || data.length == 0) {
+        boolean changed = window.update(adapter, maxItems, this::getDoubleOrNullValue);
+        int len = window.size();
+        if (len == 0) {
             return;
         }
+        if (changed) {
+            computeBounds();
+        }
+
+        Range rangeX = getRangeX(minX, maxX);
+        int threshold = Math.max(MIN_POINTS, POINTS_PER_PIXEL * chart.getPlotArea().getBounds().width);
+        if (changed || rangeX.lower != plotted.lower || rangeX.upper != plotted.upper || threshold != plottedThreshold) {
+            buildSeries(rangeX, threshold);
+            plotted = rangeX;
+            plottedThreshold = threshold;
+        }
 
-        int start = 0, len = Math.min(this.maxItems, data.length), leny = data[0].length-1;
-        if (this.maxItems < data.length) {
-            start = data.length - this.maxItems;
+        if (plottedPoints) {
+            chart.getAxisSet().getXAxis(0).setRange(rangeX);
+            applyRangeY(minY, maxY);
         }
+        chart.redraw();
+    }
 
-        Double[] all_valx = new Double[len];
-        Double[][] all_valy = new Double[leny][len];
+    /**
+     * Finds the bounds of the points of the window. Points with an empty
+     * (null) value in either axis are ignored.
+     */
+    private void computeBounds() {
         // Will want to centre view around points, so be as accurate with max/min as possible.
-        double maxX = Double.NEGATIVE_INFINITY;
-        double maxY = maxX;
-        double minX = Double.POSITIVE_INFINITY;
-        double minY = minX;
-
-        // Read in from the data array all x/y points to plot.
-        // In the case of an empty (null) value in either axis, ignore both x & y axis data for that point.
-        for (int i = 0; i < len; i++) {
-            for (int j = 0; j < leny + 1; j++) {
-                Double val = getDoubleOrNullValue(data[start + i][j]);
-                if (j == 0) {
-                    if (val != null) {
-                        all_valx[i] = val;
-                        maxX = Math.max(val, maxX);
-                        minX = Math.min(val, minX);
-                    } else {
-                        break;
-                    }
-                } else if (val != null) {
-                    all_valy[j-1][i] = val;
-                    maxY = Math.max(val, maxY);
-                    minY = Math.min(val, minY);
+        maxX = Double.NEGATIVE_INFINITY;
+        maxY = maxX;
+        minX = Double.POSITIVE_INFINITY;
+        minY = minX;
+
+        double[] x = window.getX();
+        for (int j = 0; j < window.size(); j++) {
+            if (Double.isNaN(x[j])) {
+                continue;
+            }
+            maxX = Math.max(x[j], maxX);
+            minX = Math.min(x[j], minX);
+            for (int i = 0; i < window.getSeriesCount(); i++) {
+                double y = window.getY(i)[j];
+                if (!Double.isNaN(y)) {
+                    maxY = Math.max(y, maxY);
+                    minY = Math.min(y, minY);
                 }
             }
         }
+    }
 
-        // Now create dense arrays of x/y values that exclude null values,
-        // and plot those values to the chart.
+    /**
+     * Plots the points of the window in the given range of the x-axis, along
+     * with the points just outside of it so that lines reach the edges.
+     */
+    private void buildSeries(Range rangeX, int threshold) {
+        int len = window.size();
+        double[] x = window.getX();
+        double[] valx = new double[len];
+        double[] valy = new double[len];
+        plottedPoints = false;
 
         ISeries allSeries[] = chart.getSeriesSet().getSeries();
-        ISeries series = null;
-        for (int i = 0; i < leny; i++) {
+        for (int i = 0; i < window.getSeriesCount(); i++) {
+            ISeries series;
             if (i >= allSeries.length) {
                 series = createChartISeries(i);
             } else {
-                series = chart.getSeriesSet().getSeries()[i];
+                series = allSeries[i];
             }
 
-            double[] valx = new double[len];
-            double[] valy = new double[len];
-            int len_trim = 0;
+            double[] y = window.getY(i);
+            int lenTrim = 0;
+            int last = -1;
+            boolean lastVisible = false;
+            boolean lastAdded = false;
             for (int j = 0; j < len; j++) {
-                if (all_valx[j] != null && all_valy[i][j] != null) {
-                    valx[len_trim] = all_valx[j].doubleValue();
-                    valy[len_trim] = all_valy[i][j].doubleValue();
-                    len_trim++;
+                if (Double.isNaN(x[j]) || Double.isNaN(y[j])) {
+                    continue;
+                }
+                boolean visible = x[j] >= rangeX.lower && x[j] <= rangeX.upper;
+                if (visible && last >= 0 && !lastAdded) {
+                    valx[lenTrim] = x[last];
+                    valy[lenTrim] = y[last];
+                    lenTrim++;
                 }
+                lastAdded = visible || lastVisible;
+                if (lastAdded) {
+                    valx[lenTrim] = x[j];
+                    valy[lenTrim] = y[j];
+                    lenTrim++;
+                }
+                last = j;
+                lastVisible = visible;
             }
-            double[] valx_trim = new double[len_trim];
-            double[] valy_trim = new double[len_trim];
-            for (int j = 0; j < len_trim; j++) {
-                valx_trim[j] = valx[j];
-                valy_trim[j] = valy[j];
+
+            int[] kept = downsample(valx, valy, lenTrim, threshold);
+            double[] valxTrim = new double[kept.length];
+            double[] valyTrim = new double[kept.length];
+            for (int j = 0; j < kept.length; j++) {
+                valxTrim[j] = valx[kept[j]];
+                valyTrim[j] = valy[kept[j]];
             }
-            series.setXSeries(valx_trim);
-            series.setYSeries(valy_trim);
+            series.setXSeries(valxTrim);
+            series.setYSeries(valyTrim);
+            plottedPoints |= kept.length > 0;
         }
+    }
 
-        if (series != null && series.getXSeries().length > 0) {
-            applyRangeX(minX, maxX);
-            applyRangeY(minY, maxY);
-        }
-        chart.redraw();
+    /**
+     * Selects the points of a series to plot when there are more of them than
+     * can be told apart on the plot area.
+     * @param x The x values of the points.
+     * @param y The y values of the points.
+     * @param length The number of points.
+     * @param threshold The maximum number of points to plot.
+     * @return The indices of the points to plot, in increasing order.
+     */
+    protected int[] downsample(double[] x, double[] y, int length, int threshold) {
+        return Downsampler.largestTriangleThreeBuckets(x, y, length, threshold);
     }
 
     /**
-     * Updates the visible range of the chart's x-axis.
+     * Computes the visible range of the chart's x-axis.
      * @param min The smallest x-value that should be in range.
      * @param max The largest x-value that should be in range.
      */
-    private void applyRangeX(double min, double max) {
-        IAxis axis = chart.getAxisSet().getXAxis(0);
+    private Range getRangeX(double min, double max) {
         double actualRange = max - min;
         double scaledRange = actualRange * scale;
         double marginL = scaledRange > 0 ? scaledRange * getChartMarginXL() : 1;
         double marginU = scaledRange > 0 ? scaledRange * getChartMarginXU() : 1;
 
         double lower = (actualRange - scaledRange) * scroll + min;
-        axis.setRange(new Range(lower - marginL, lower + scaledRange + marginU));
+        return new Range(lower - marginL, lower + scaledRange + marginU);
     }
 
     /**
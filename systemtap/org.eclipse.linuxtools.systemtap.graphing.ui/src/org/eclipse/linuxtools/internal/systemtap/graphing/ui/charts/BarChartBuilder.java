@@ -55,15 +55,14 @@ public class BarChartBuilder extends AbstractChartWithAxisBuilder {
 
     @Override
     protected void buildXSeries() {
-        Object data[][] = adapter.getData();
+        // Only read the records which are shown.
+        int count = adapter.getRecordCount();
+        Object data[][] = adapter.getData(Math.max(0, count - this.maxItems), count);
         if (data == null || data.length == 0) {
             return;
         }
 
-        int start = 0, len = Math.min(this.maxItems, data.length), leny = data[0].length-1;
-        if (this.maxItems < data.length) {
-            start = data.length - this.maxItems;
-        }
+        int len = data.length, leny = data[0].length-1;
 
         String[] allValx = new String[len];
         Double[][] allValy = new Double[leny][len];
@@ -75,11 +74,11 @@ public class BarChartBuilder extends AbstractChartWithAxisBuilder {
         // If a y-axis value is empty (null), set it to 0.
         // If an x-axis category is empty, ignore the entire category.
         for (int i = 0; i < len; i++) {
-            Object label = data[start + i][0];
+            Object label = data[i][0];
             if (label != null) {
                 allValx[i] = label.toString();
                 for (int j = 1; j < leny + 1; j++) {
-                    Double val = getDoubleOrNullValue(data[start + i][j]);
+                    Double val = getDoubleOrNullValue(data[i][j]);
                     if (val == null) {
                         val = 0.0;
                     }
@@ -52,26 +52,25 @@ public class PieChartBuilder extends AbstractChartWithoutAxisBuilder {
 
     @Override
     protected void buildXSeries() {
-        Object data[][] = adapter.getData();
+        // Only read the records which are shown.
+        int count = adapter.getRecordCount();
+        Object data[][] = adapter.getData(Math.max(0, count - this.maxItems), count);
         if (data == null || data.length == 0) {
             return;
         }
 
-        int start = 0, len = Math.min(this.maxItems, data.length), leny = data[0].length-1;
-        if (this.maxItems < data.length) {
-            start = data.length - this.maxItems;
-        }
+        int len = data.length, leny = data[0].length-1;
 
         Double[][] all_values = new Double[len][leny];
         String[] all_labels = new String[len];
 
         for (int i = 0; i < all_labels.length; i++) {
-            Object label = data[start + i][0];
+            Object label = data[i][0];
             if (label != null) {
                 all_labels[i] = label.toString();
-                for (int j = 1; j < data[start + i].length; j++) {
+                for (int j = 1; j < data[i].length; j++) {
                     // Ignore all null or negative slice values.
-                    Double val = getDoubleOrNullValue(data[start + i][j]);
+                    Double val = getDoubleOrNullValue(data[i][j]);
                     if (val != null && val >= 0) {
                         all_values[i][j-1] = val;
                     } else {
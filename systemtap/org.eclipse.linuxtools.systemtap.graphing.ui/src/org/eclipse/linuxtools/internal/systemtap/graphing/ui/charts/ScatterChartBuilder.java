@@ -14,6 +14,7 @@
 package org.eclipse.linuxtools.internal.systemtap.graphing.ui.charts;
 
 import org.eclipse.linuxtools.systemtap.graphing.core.adapters.IAdapter;
+import org.eclipse.linuxtools.systemtap.graphing.core.structures.Downsampler;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swtchart.ILineSeries;
 import org.eclipse.swtchart.ISeries;
@@ -37,4 +38,13 @@ public class ScatterChartBuilder extends LineChartBuilder {
         series.setLineStyle(LineStyle.NONE);
         return series;
     }
+
+    /**
+     * Points are not joined by lines, so keep the extremes of each range of
+     * points rather than the points which best follow the line.
+     */
+    @Override
+    protected int[] downsample(double[] x, double[] y, int length, int threshold) {
+        return Downsampler.minMax(y, length, threshold);
+    }
 }
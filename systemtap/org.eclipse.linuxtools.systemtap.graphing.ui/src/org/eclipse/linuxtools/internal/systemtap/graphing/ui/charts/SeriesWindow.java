@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.internal.systemtap.graphing.ui.charts;
+
+import java.util.function.Function;
+
+import org.eclipse.linuxtools.systemtap.graphing.core.adapters.IAdapter;
+
+/**
+ * The x and y values of the most recent records of an {@link IAdapter},
+ * converted to doubles. Missing or non-numeric values are stored as
+ * {@link Double#NaN}. When the adapter reports that its records were only
+ * appended to since the last update, only the appended records are read,
+ * even if the adapter dropped its oldest records to make room for them.
+ */
+final class SeriesWindow {
+
+    private double[] x = new double[0];
+    private double[][] y = new double[0][0];
+    private int size;
+    private int capacity = -1;
+    private int recordCount;
+    private long modificationCount = -1;
+    private long appendCount = -1;
+
+    /**
+     * Reads the records added since the last update, or all the records of
+     * the window if other changes were made.
+     * @param adapter The adapter to read from.
+     * @param capacity The number of records to keep.
+     * @param converter Converts a value to a double, or to <code>null</code>.
+     * @return <code>true</code> if the values of the window changed.
+     */
+    boolean update(IAdapter adapter, int capacity, Function<Object, Double> converter) {
+        long modifications = adapter.getModificationCount();
+        long appends = adapter.getAppendCount();
+        int count = adapter.getRecordCount();
+        int series = adapter.getSeriesCount();
+
+        int start;
+        if (modifications < 0 || modifications != modificationCount
+                || (appends < 0 ? count < recordCount : appends < appendCount)
+                || capacity != this.capacity || series != y.length) {
+            reset(capacity, series);
+            start = Math.max(0, count - capacity);
+        } else {
+            // the appended records are the last ones, those dropped to make room were the first ones
+            long added = appends < 0 ? count - recordCount : Math.min(appends - appendCount, count);
+            if (added == 0) {
+                return false;
+            }
+            start = (int) Math.max(count - added, count - capacity);
+        }
+
+        Object[][] data = adapter.getData(start, count);
+        int appended = data == null ? 0 : data.length;
+        int dropped = Math.max(0, size + appended - capacity);
+        if (dropped > 0) {
+            System.arraycopy(x, dropped, x, 0, size - dropped);
+            for (double[] values : y) {
+                System.arraycopy(values, dropped, values, 0, size - dropped);
+            }
+            size -= dropped;
+        }
+        for (int i = 0; i < appended; i++) {
+            x[size] = toDouble(data[i][0], converter);
+            for (int j = 0; j < y.length; j++) {
+                y[j][size] = j + 1 < data[i].length ? toDouble(data[i][j + 1], converter) : Double.NaN;
+            }
+            size++;
+        }
+
+        recordCount = count;
+        modificationCount = modifications;
+        appendCount = appends;
+        return true;
+    }
+
+    private void reset(int newCapacity, int series) {
+        capacity = newCapacity;
+        x = new double[newCapacity];
+        y = new double[series][newCapacity];
+        size = 0;
+        recordCount = 0;
+    }
+
+    private static double toDouble(Object o, Function<Object, Double> converter) {
+        Double d = converter.apply(o);
+        return d == null ? Double.NaN : d.doubleValue();
+    }
+
+    /**
+     * @return The number of records in the window.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return The number of y series.
+     */
+    int getSeriesCount() {
+        return y.length;
+    }
+
+    /**
+     * @return The x values. Only the first {@link #size()} values are used.
+     */
+    double[] getX() {
+        return x;
+    }
+
+    /**
+     * @param series The y series.
+     * @return The y values. Only the first {@link #size()} values are used.
+     */
+    double[] getY(int series) {
+        return y[series];
+    }
+}
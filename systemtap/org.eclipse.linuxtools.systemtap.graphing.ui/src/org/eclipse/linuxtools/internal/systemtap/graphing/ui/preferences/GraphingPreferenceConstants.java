@@ -16,6 +16,7 @@ package org.eclipse.linuxtools.internal.systemtap.graphing.ui.preferences;
 public class GraphingPreferenceConstants {
     //graphing
     public static final String P_GRAPH_UPDATE_DELAY = "GraphUpdateDelay"; //$NON-NLS-1$
+    public static final String P_DATA_SET_CAPACITY = "DataSetCapacity"; //$NON-NLS-1$
 
     //graphing.datatable
     public static final String P_JUMP_NEW_TABLE_ENTRY = "JumpNewTableEntry"; //$NON-NLS-1$
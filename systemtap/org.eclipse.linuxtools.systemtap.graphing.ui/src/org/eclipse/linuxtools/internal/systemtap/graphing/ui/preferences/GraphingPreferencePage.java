@@ -34,6 +34,12 @@ public class GraphingPreferencePage extends FieldEditorPreferencePage implements
                 GraphingPreferenceConstants.P_GRAPH_UPDATE_DELAY,
                 Localization.getString("GraphingPreferencePage.RefreshDelay"), //$NON-NLS-1$
                 getFieldEditorParent()));
+
+        addField(
+                new IntegerFieldEditor(
+                GraphingPreferenceConstants.P_DATA_SET_CAPACITY,
+                Localization.getString("GraphingPreferencePage.DataSetCapacity"), //$NON-NLS-1$
+                getFieldEditorParent()));
     }
 
     @Override
@@ -26,6 +26,7 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer {
 
         //graphing
         store.setDefault(GraphingPreferenceConstants.P_GRAPH_UPDATE_DELAY, 1000);
+        store.setDefault(GraphingPreferenceConstants.P_DATA_SET_CAPACITY, 0);
 
         //data table
         store.setDefault(GraphingPreferenceConstants.P_AUTO_RESIZE, true);
@@ -26,6 +26,7 @@ import org.eclipse.linuxtools.internal.systemtap.graphing.ui.preferences.Graphin
 import org.eclipse.linuxtools.internal.systemtap.graphing.ui.wizards.filter.AvailableFilterTypes;
 import org.eclipse.linuxtools.internal.systemtap.graphing.ui.wizards.filter.SelectFilterWizard;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IFilteredDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IHistoricalDataSet;
 import org.eclipse.linuxtools.systemtap.graphing.core.filters.IDataSetFilter;
 import org.eclipse.linuxtools.systemtap.structures.IFormattingStyles;
 import org.eclipse.linuxtools.systemtap.structures.StringFormatter;
@@ -39,6 +40,7 @@ import org.eclipse.swt.events.SelectionListener;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.MenuItem;
 import org.eclipse.swt.widgets.Table;
@@ -66,6 +68,15 @@ public class DataGrid implements IUpdateListener {
     private MenuItem formatMenuItem;
     private IPropertyChangeListener propertyChangeListener;
 
+    /**
+     * The data set row shown by the first item of the table.
+     */
+    private int firstRow;
+    /**
+     * The modification count of the data set when the items were last updated.
+     */
+    private long modificationCount = -1;
+
     /**
      * @param composite The {@link Composite} in which the grid will reside.
      * @param set The data set this grid is associated with.
@@ -89,7 +100,7 @@ public class DataGrid implements IUpdateListener {
     public Control getControl() { return table; }
 
     private void createPartControl(Composite parent) {
-        table = new Table(parent, SWT.SINGLE | SWT.FULL_SELECTION);
+        table = new Table(parent, SWT.SINGLE | SWT.FULL_SELECTION | SWT.VIRTUAL);
         table.setHeaderVisible(true);
         table.setLinesVisible(true);
         table.getVerticalBar().setVisible(true);
@@ -117,6 +128,7 @@ public class DataGrid implements IUpdateListener {
 		    clickLocation.x = event.x;
 		    clickLocation.y = event.y;
 		});
+        table.addListener(SWT.SetData, this::populateItem);
         handleUpdateEvent();
     }
 
@@ -272,12 +284,8 @@ public class DataGrid implements IUpdateListener {
                 }
             }
 
-            Object[] data = filteredDataSet.getColumn(column-1);
             columnFormat[column-1].setFormat(format);
-            for (i = 0; i < table.getItemCount(); i++) {
-                table.getItem(i).setText(column, columnFormat[column-1].format(data[i].toString()));
-            }
-            table.redraw();
+            table.clearAll();
         }
     }
 
@@ -291,36 +299,35 @@ public class DataGrid implements IUpdateListener {
 		    if (table.isDisposed()) {
 		        return;
 		    }
-		    TableItem item;
-		    int startLocation;
 		    int endLocation = filteredDataSet.getRowCount();
 		    int maxItems = prefs.getInt(GraphingPreferenceConstants.P_MAX_DATA_ITEMS);
-		    int oldSelection = table.getSelectionIndex();
-
-		    //Remove old items to refresh table, and only read in as many items as will fit.
-		    //Note that a full refresh is necessary in order for filtered data to appear correctly.
-		    table.removeAll();
-		    startLocation = Math.max(endLocation-maxItems, 0);
-
-		    //Add all the new items to the table
-		    Object[] os;
-		    for (int j, i1 = startLocation; i1 < endLocation; i1++) {
-		        item = new TableItem(table, SWT.NONE);
-		        os = filteredDataSet.getRow(i1);
-
-		        //Add 1 to the index/row num since graphs start counting rows at 1, not 0.
-		        item.setText(0, Integer.toString(i1 + 1));
-		        for (j = 0; j < os.length; j++) {
-		            //Ignore null items
-		            if (os[j] != null) {
-		                item.setText(j+1, columnFormat[j].format(os[j].toString()));
-		            }
+		    int startLocation = Math.max(endLocation-maxItems, 0);
+		    int itemCount = table.getItemCount();
+		    long modifications = getModificationCount();
+
+		    //Items are populated on demand, so only invalidate the items whose rows changed.
+		    if (modifications < 0 || modifications != modificationCount
+		            || startLocation < firstRow || endLocation < firstRow + itemCount) {
+		        //Rows other than the appended ones may have changed, e.g. after filtering.
+		        int oldSelection = table.getSelectionIndex();
+		        table.setItemCount(endLocation - startLocation);
+		        table.clearAll();
+		        //Re-select the old table selection, if there was one
+		        if (oldSelection != -1) {
+		            table.select(oldSelection);
 		        }
+		    } else {
+		        //Rows were only appended: drop the items of the rows which no longer
+		        //fit, the items added for the new rows are populated when shown.
+		        //The selection stays on its item, unless the item is dropped.
+		        int dropped = Math.min(startLocation - firstRow, itemCount);
+		        if (dropped > 0) {
+		            table.remove(0, dropped - 1);
+		        }
+		        table.setItemCount(endLocation - startLocation);
 		    }
-		    //Re-select the old table selection, if there was one
-		    if (oldSelection != -1) {
-		        table.select(oldSelection);
-		    }
+		    firstRow = startLocation;
+		    modificationCount = modifications;
 
 		    //Resize the columns
 		    TableColumn col = table.getColumn(0);
@@ -341,6 +348,32 @@ public class DataGrid implements IUpdateListener {
 		});
     }
 
+    private long getModificationCount() {
+        return filteredDataSet instanceof IHistoricalDataSet
+                ? ((IHistoricalDataSet) filteredDataSet).getModificationCount() : -1;
+    }
+
+    /**
+     * Fills in an item of the virtual table when it is first shown.
+     */
+    private void populateItem(Event event) {
+        TableItem item = (TableItem) event.item;
+        int row = firstRow + event.index;
+        if (row >= filteredDataSet.getRowCount()) {
+            return;
+        }
+        Object[] os = filteredDataSet.getRow(row);
+
+        //Add 1 to the index/row num since graphs start counting rows at 1, not 0.
+        item.setText(0, Integer.toString(row + 1));
+        for (int j = 0; j < os.length; j++) {
+            //Ignore null items
+            if (os[j] != null) {
+                item.setText(j+1, columnFormat[j].format(os[j].toString()));
+            }
+        }
+    }
+
     public void dispose() {
         filteredDataSet = null;
         table.dispose();
@@ -15,6 +15,10 @@ package org.eclipse.linuxtools.systemtap.graphing.ui.wizards.dataset;
 
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataSet;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IFilteredDataSet;
+import org.eclipse.linuxtools.internal.systemtap.graphing.ui.GraphingUIPlugin;
+import org.eclipse.linuxtools.internal.systemtap.graphing.ui.preferences.GraphingPreferenceConstants;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.column.ColumnDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.column.FilteredColumnDataSet;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.row.FilteredRowDataSet;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.row.RowDataSet;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.table.FilteredTableDataSet;
@@ -24,23 +28,61 @@ import org.eclipse.swt.widgets.Composite;
 
 public final class DataSetFactory {
     public static IDataSet createDataSet(String id, String[] labels) {
+        return createDataSet(id, labels, 0);
+    }
+
+    /**
+     * @param id The ID of the data set.
+     * @param labels The titles of the columns.
+     * @param capacity The maximum number of rows kept by a {@link ColumnDataSet},
+     *            or 0 to keep them all. Other data sets keep all their rows.
+     * @return The data set, or <code>null</code> if the ID is unknown.
+     * @since 4.2
+     */
+    public static IDataSet createDataSet(String id, String[] labels, int capacity) {
         if(id.equals(RowDataSet.ID)) {
             return new RowDataSet(labels);
         } else if(id.equals(TableDataSet.ID)) {
             return new TableDataSet(labels);
+        } else if(id.equals(ColumnDataSet.ID)) {
+            return new ColumnDataSet(labels, capacity);
         }
         return null;
     }
 
     public static IFilteredDataSet createFilteredDataSet(String id, String[] labels) {
+        return createFilteredDataSet(id, labels, 0);
+    }
+
+    /**
+     * @param id The ID of the data set to filter.
+     * @param labels The titles of the columns.
+     * @param capacity The maximum number of rows kept by a {@link ColumnDataSet},
+     *            or 0 to keep them all. Other data sets keep all their rows.
+     * @return The filtered data set.
+     * @since 4.2
+     */
+    public static IFilteredDataSet createFilteredDataSet(String id, String[] labels, int capacity) {
         if(id.equals(RowDataSet.ID)) {
             return new FilteredRowDataSet(labels);
         } else if(id.equals(TableDataSet.ID)) {
             return new FilteredTableDataSet(labels);
+        } else if(id.equals(ColumnDataSet.ID)) {
+            return new FilteredColumnDataSet(labels, capacity);
         }
         return new FilteredRowDataSet(labels);
     }
 
+    /**
+     * @return The maximum number of rows the data sets of a running script
+     *         keep, as set in the preferences, or 0 to keep them all.
+     * @since 4.2
+     */
+    public static int getDataSetCapacity() {
+        return Math.max(0, GraphingUIPlugin.getDefault().getPreferenceStore()
+                .getInt(GraphingPreferenceConstants.P_DATA_SET_CAPACITY));
+    }
+
     /**
      * Returns DataGrid instance containing the given data set as a sibling of the composite.
      * @param composite The parent composite.
@@ -49,7 +91,7 @@ public final class DataSetFactory {
      * @since 3.0 set must be a IFilteredDataSet.
      */
     public static DataGrid getDataGrid(Composite composite, IFilteredDataSet set) {
-        if(set instanceof RowDataSet || set instanceof TableDataSet) {
+        if(set instanceof RowDataSet || set instanceof TableDataSet || set instanceof ColumnDataSet) {
             return new DataGrid(composite, set);
         }
 
@@ -13,12 +13,18 @@
 
 package org.eclipse.linuxtools.systemtap.structures.tests.runnable;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.eclipse.linuxtools.systemtap.structures.listeners.IGobblerListener;
 import org.eclipse.linuxtools.systemtap.structures.runnable.StreamGobbler;
 import org.junit.Before;
 import org.junit.Test;
@@ -73,5 +79,74 @@ public class StreamGobblerTest{
         assertFalse(sg.isRunning());
     }
 
+    @Test
+    public void testDecoding() {
+        String text = "caf\u00e9 \u03bb\n\u65e5\u672c\u8a9e\n";
+        List<String> lines = new ArrayList<>();
+        StreamGobbler gobbler = new StreamGobbler(
+                new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+        gobbler.addDataListener(lines::add);
+        gobbler.start();
+        gobbler.stop();
+        assertEquals("caf\u00e9 \u03bb\n", lines.get(0));
+        assertEquals("\u65e5\u672c\u8a9e\n", lines.get(1));
+        assertEquals("", lines.get(2));
+    }
+
+    @Test
+    public void testBatches() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            text.append(i).append('\n');
+        }
+        text.append("last");
+        List<String> lines = new ArrayList<>();
+        int[] events = new int[1];
+        StreamGobbler gobbler = new StreamGobbler(
+                new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+        gobbler.addDataListener(new IGobblerListener() {
+            @Override
+            public void handleDataEvent(String line) {
+                lines.add(line);
+            }
+
+            @Override
+            public void handleDataEvents(List<String> l) {
+                events[0]++;
+                lines.addAll(l);
+            }
+        });
+        int[] failures = new int[1];
+        gobbler.addDataListener(line -> {
+            failures[0]++;
+            throw new IllegalStateException();
+        });
+        gobbler.start();
+        gobbler.stop();
+
+        assertEquals(100001, lines.size());
+        for (int i = 0; i < 100000; i++) {
+            assertEquals(i + "\n", lines.get(i));
+        }
+        assertEquals("last", lines.get(100000));
+        assertEquals(100000, gobbler.getLinesRead());
+        assertEquals(text.length(), gobbler.getCharsRead());
+        assertEquals(0, gobbler.getBufferedChars());
+        assertTrue("lines are delivered in batches", events[0] < lines.size() / 10);
+        // a failing listener is still given every following batch
+        assertEquals(events[0], failures[0]);
+        assertEquals(0, gobbler.getDroppedEvents());
+    }
+
+    @Test
+    public void testDroppedEvents() {
+        StreamGobbler gobbler = new StreamGobbler(
+                new ByteArrayInputStream("first\nsecond\n".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+        gobbler.start();
+        gobbler.stop();
+        assertEquals(2, gobbler.getLinesRead());
+        assertEquals(1, gobbler.getDroppedEvents());
+    }
+
     StreamGobbler sg;
 }
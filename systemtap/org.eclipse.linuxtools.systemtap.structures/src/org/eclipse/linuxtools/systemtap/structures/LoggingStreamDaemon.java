@@ -19,6 +19,7 @@ import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.linuxtools.internal.systemtap.structures.Localization;
@@ -77,6 +78,20 @@ public class LoggingStreamDaemon implements IGobblerListener {
         }
     }
 
+    /**
+     * Outputs several lines with a single write to the log.
+     * @since 4.3
+     */
+    @Override
+    public void handleDataEvents(List<String> lines) {
+        if (isReady()) {
+            for (String line : lines) {
+                output.append(line);
+            }
+            pushData();
+        }
+    }
+
     /**
      * Reads in and returns the output produced.
      * @return The logged data.
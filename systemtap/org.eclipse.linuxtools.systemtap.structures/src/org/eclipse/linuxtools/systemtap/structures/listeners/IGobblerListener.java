@@ -13,6 +13,8 @@
 
 package org.eclipse.linuxtools.systemtap.structures.listeners;
 
+import java.util.List;
+
 public interface IGobblerListener {
 
     /**
@@ -21,4 +23,17 @@ public interface IGobblerListener {
      *
      */
     void handleDataEvent(String line);
+
+    /**
+     * called by streamgobbler with all the lines read at once. By default
+     * each line is passed to {@link #handleDataEvent(String)}; listeners
+     * which can process several lines at once should override this.
+     * @param lines The textual lines to process, in order.
+     * @since 4.3
+     */
+    default void handleDataEvents(List<String> lines) {
+        for (String line : lines) {
+            handleDataEvent(line);
+        }
+    }
 }
@@ -15,24 +15,53 @@ package org.eclipse.linuxtools.systemtap.structures.runnable;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.linuxtools.internal.systemtap.structures.StructuresPlugin;
 import org.eclipse.linuxtools.systemtap.structures.listeners.IGobblerListener;
+import org.eclipse.osgi.util.NLS;
 
 /**
  * A separate thread to listen to an InputStream and pull all the data
  * out of it. When data is found a new event is fired share the data with
  * any <code>IDataListener</code> that is listening.
+ *
+ * The stream is read in blocks and decoded with the given charset. All the
+ * lines completed by one block are delivered to the listeners together, see
+ * {@link IGobblerListener#handleDataEvents(List)}.
  * @author Ryan Morse
  */
 public class StreamGobbler implements Runnable {
 
+    private static final int BUFFER_SIZE = 8192;
+
     public StreamGobbler(InputStream is) {
+        this(is, Charset.defaultCharset());
+    }
+
+    /**
+     * @param is The stream to read.
+     * @param charset The charset the stream is encoded with.
+     * @since 4.3
+     */
+    public StreamGobbler(InputStream is, Charset charset) {
         if(null != is) {
             this.is = is;
+            this.charset = charset;
             line = new StringBuilder();
-            listeners = new ArrayList<>();
+            listeners = new CopyOnWriteArrayList<>();
         }
     }
 
@@ -67,15 +96,30 @@ public class StreamGobbler implements Runnable {
         if (reader != Thread.currentThread())
             return;
 
+        startTime = System.nanoTime();
         try {
-            int val = is.read();
-            while(val != -1) {
-                line.append((char)val);
-
-                if ('\n' == val)
-                    this.fireNewDataEvent();
-
-                val = is.read();
+            Reader in = new InputStreamReader(is, charset);
+            char[] buffer = new char[BUFFER_SIZE];
+            List<String> lines = new ArrayList<>();
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                charsRead.addAndGet(count);
+                int start = 0;
+                for (int i = 0; i < count; i++) {
+                    if ('\n' == buffer[i]) {
+                        line.append(buffer, start, i + 1 - start);
+                        lines.add(line.toString());
+                        line.setLength(0);
+                        start = i + 1;
+                    }
+                }
+                line.append(buffer, start, count - start);
+                bufferedChars = line.length();
+                if (!lines.isEmpty()) {
+                    linesRead.addAndGet(lines.size());
+                    fireNewDataEvents(lines);
+                    lines = new ArrayList<>();
+                }
             }
         } catch (IOException ioe) {}    // If stream closed before thread shuts down
     }
@@ -116,27 +160,99 @@ public class StreamGobbler implements Runnable {
      * the current line of data.
      */
     private void fireNewDataEvent() {
-        this.fireNewDataEvent(line.toString());
+        // an empty last line is no data lost when nobody listens
+        if (line.length() > 0 || !listeners.isEmpty()) {
+            this.fireNewDataEvent(line.toString());
+        }
         line.delete(0, line.length());
+        bufferedChars = 0;
     }
 
     public void fireNewDataEvent(String l) {
-        synchronized (listeners) {
-            for(int i = 0; i < listeners.size(); i++){
-                listeners.get(i).handleDataEvent(l);
+        fireNewDataEvents(Collections.singletonList(l));
+    }
+
+    /**
+     * Fires one event with the given lines to everything that is monitoring
+     * this stream. A listener failing does not prevent the others, nor the
+     * following events, from getting the data; its first failure is logged.
+     * The lines are dropped when nothing is monitoring this stream.
+     * @param l The lines read, in order.
+     * @since 4.3
+     */
+    protected void fireNewDataEvents(List<String> l) {
+        if (listeners.isEmpty()) {
+            droppedEvents.incrementAndGet();
+            return;
+        }
+        List<String> lines = Collections.unmodifiableList(l);
+        for (IGobblerListener listener : listeners) {
+            try {
+                listener.handleDataEvents(lines);
+            } catch (RuntimeException e) {
+                if (failedListeners.add(listener)) {
+                    Platform.getLog(Platform.getBundle(StructuresPlugin.PLUGIN_ID)).log(new Status(IStatus.ERROR,
+                            StructuresPlugin.PLUGIN_ID, NLS.bind(Messages.StreamGobbler_listenerFailed, listener), e));
+                }
             }
         }
     }
 
+    /**
+     * @return The number of complete lines read so far.
+     * @since 4.3
+     */
+    public long getLinesRead() {
+        return linesRead.get();
+    }
+
+    /**
+     * @return The average number of lines read per second since the gobbler
+     * was started.
+     * @since 4.3
+     */
+    public double getLinesPerSecond() {
+        long elapsed = System.nanoTime() - startTime;
+        if (startTime == 0 || elapsed <= 0) {
+            return 0;
+        }
+        return linesRead.get() * 1e9 / elapsed;
+    }
+
+    /**
+     * @return The number of characters read so far, including those of the
+     * line being read.
+     * @since 4.3
+     */
+    public long getCharsRead() {
+        return charsRead.get();
+    }
+
+    /**
+     * @return The number of characters read but not yet delivered to the
+     * listeners, i.e. the length of the incomplete line being read.
+     * @since 4.3
+     */
+    public int getBufferedChars() {
+        return bufferedChars;
+    }
+
+    /**
+     * @return The number of events whose lines were dropped because no
+     * listener was registered when they were read.
+     * @since 4.3
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
     /**
      * Registers the provided listener to get data events.
      * @param l A listener that needs to monitor the stream.
      */
     public void addDataListener(IGobblerListener l) {
-        synchronized (listeners) {
-            if(l != null && !listeners.contains(l)){
-                listeners.add(l);
-            }
+        if(l != null){
+            listeners.addIfAbsent(l);
         }
     }
 
@@ -145,14 +261,19 @@ public class StreamGobbler implements Runnable {
      * @param l A listener that is monitoring the stream and should be removed
      */
     public void removeDataListener(IGobblerListener l) {
-        synchronized (listeners) {
-            if(listeners.contains(l))
-                listeners.remove(l);
-        }
+        listeners.remove(l);
     }
 
-    private List<IGobblerListener> listeners;
+    private CopyOnWriteArrayList<IGobblerListener> listeners;
+    /** listeners whose failure was logged already */
+    private final Set<IGobblerListener> failedListeners = ConcurrentHashMap.newKeySet();
     private StringBuilder line;
     private Thread reader;
     private InputStream is;
+    private Charset charset;
+    private final AtomicLong linesRead = new AtomicLong();
+    private final AtomicLong charsRead = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private volatile int bufferedChars;
+    private volatile long startTime;
 }
\ No newline at end of file
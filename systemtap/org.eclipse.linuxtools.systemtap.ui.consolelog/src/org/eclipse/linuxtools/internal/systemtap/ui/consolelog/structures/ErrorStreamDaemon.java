@@ -14,6 +14,8 @@
 
 package org.eclipse.linuxtools.internal.systemtap.ui.consolelog.structures;
 
+import java.util.List;
+
 import org.eclipse.linuxtools.systemtap.ui.consolelog.internal.Localization;
 import org.eclipse.linuxtools.systemtap.ui.consolelog.structures.ConsoleStreamDaemon;
 import org.eclipse.linuxtools.systemtap.ui.consolelog.structures.ScriptConsole;
@@ -45,6 +47,16 @@ public class ErrorStreamDaemon extends ConsoleStreamDaemon {
 
     }
 
+    /**
+     * Error lines are few and are filtered one by one.
+     */
+    @Override
+    public void handleDataEvents(List<String> lines) {
+        for (String line : lines) {
+            handleDataEvent(line);
+        }
+    }
+
     /**
      * Disposes of all internal references in the class. No method should be called after this.
      */
@@ -15,6 +15,7 @@ package org.eclipse.linuxtools.systemtap.ui.consolelog.structures;
 
 
 import java.io.IOException;
+import java.util.List;
 
 import org.eclipse.linuxtools.internal.systemtap.ui.consolelog.structures.Messages;
 import org.eclipse.linuxtools.systemtap.graphing.ui.widgets.ExceptionErrorDialog;
@@ -55,6 +56,23 @@ public class ConsoleStreamDaemon implements IGobblerListener {
         this.pushData();
     }
 
+    /**
+     * Captures several data events and pushes them to the console at once
+     * @since 4.1
+     */
+    @Override
+    public void handleDataEvents(List<String> lines) {
+        if (lines.size() == 1) {
+            handleDataEvent(lines.get(0));
+            return;
+        }
+        StringBuilder builder = new StringBuilder();
+        for (String line : lines) {
+            builder.append(line);
+        }
+        handleDataEvent(builder.toString());
+    }
+
     /**
      * Checks to see if the class has been disposed already
      * @return boolean representing whether or not the class has been disposed
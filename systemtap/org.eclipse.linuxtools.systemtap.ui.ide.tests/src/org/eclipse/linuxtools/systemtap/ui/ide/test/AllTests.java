@@ -14,11 +14,16 @@
 package org.eclipse.linuxtools.systemtap.ui.ide.test;
 
 import org.eclipse.linuxtools.systemtap.ui.ide.test.editors.stp.STPCompletionProcessorTest;
+import org.eclipse.linuxtools.systemtap.ui.ide.test.editors.stp.STPCompletionProposalTest;
 import org.eclipse.linuxtools.systemtap.ui.ide.test.editors.stp.STPFormattingTest;
 import org.eclipse.linuxtools.systemtap.ui.ide.test.editors.stp.STPIndenterTest;
 import org.eclipse.linuxtools.systemtap.ui.ide.test.editors.stp.STPToggleCommentTest;
+import org.eclipse.linuxtools.systemtap.ui.ide.test.structures.CompletionIndexTest;
+import org.eclipse.linuxtools.systemtap.ui.ide.test.structures.ProbeDatabaseTest;
 import org.eclipse.linuxtools.systemtap.ui.ide.test.structures.StapErrorParserTest;
+import org.eclipse.linuxtools.systemtap.ui.ide.test.structures.TapsetIndexTest;
 import org.eclipse.linuxtools.systemtap.ui.ide.test.structures.TreeSettingsTest;
+import org.eclipse.linuxtools.systemtap.ui.ide.test.swtbot.DataGridTest;
 import org.eclipse.linuxtools.systemtap.ui.ide.test.swtbot.TestCreateSystemtapScript;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -28,6 +33,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({ StapErrorParserTest.class, TreeSettingsTest.class,
         STPCompletionProcessorTest.class, STPToggleCommentTest.class,
         TestCreateSystemtapScript.class, ConditionalExpressionValidatorTest.class,
-        DirectoryValidatorTest.class, STPFormattingTest.class, STPIndenterTest.class })
+        DirectoryValidatorTest.class, STPFormattingTest.class, STPIndenterTest.class,
+        TapsetIndexTest.class, ProbeDatabaseTest.class, CompletionIndexTest.class,
+        STPCompletionProposalTest.class, DataGridTest.class })
 public class AllTests {
 }
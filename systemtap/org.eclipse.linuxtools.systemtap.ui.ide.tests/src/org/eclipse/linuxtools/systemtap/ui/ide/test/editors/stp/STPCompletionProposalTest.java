@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.ui.ide.test.editors.stp;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.linuxtools.internal.systemtap.ui.ide.editors.stp.proposals.STPCompletionProposal;
+import org.eclipse.linuxtools.internal.systemtap.ui.ide.editors.stp.proposals.STPFunctionCompletionProposal;
+import org.eclipse.linuxtools.internal.systemtap.ui.ide.editors.stp.proposals.STPProbeCompletionProposal;
+import org.eclipse.linuxtools.systemtap.structures.TreeNode;
+import org.junit.Test;
+
+public class STPCompletionProposalTest {
+
+    @Test
+    public void testCompletePrefix() {
+        IDocument document = new Document("x = op;"); //$NON-NLS-1$
+        STPCompletionProposal proposal = new STPFunctionCompletionProposal(
+                new TreeNode("open", true), 2, 6); //$NON-NLS-1$
+        proposal.apply(document);
+        assertEquals("x = open();", document.get()); //$NON-NLS-1$
+        // the cursor goes between the parentheses
+        assertEquals(9, proposal.getSelection(document).x);
+    }
+
+    @Test
+    public void testReplacePrefix() {
+        IDocument document = new Document("x = open;"); //$NON-NLS-1$
+        STPCompletionProposal proposal = new STPFunctionCompletionProposal(
+                new TreeNode("sys_open", true), 4, 8, true); //$NON-NLS-1$
+        proposal.apply(document);
+        assertEquals("x = sys_open();", document.get()); //$NON-NLS-1$
+        assertEquals(13, proposal.getSelection(document).x);
+    }
+
+    @Test
+    public void testReplaceCaseInsensitivePrefix() {
+        IDocument document = new Document("probe SYSCALL.OP"); //$NON-NLS-1$
+        STPCompletionProposal proposal = new STPProbeCompletionProposal(
+                new TreeNode("syscall.open", true), 10, 16, true); //$NON-NLS-1$
+        proposal.apply(document);
+        assertEquals("probe syscall.open", document.get()); //$NON-NLS-1$
+        assertEquals(18, proposal.getSelection(document).x);
+    }
+}
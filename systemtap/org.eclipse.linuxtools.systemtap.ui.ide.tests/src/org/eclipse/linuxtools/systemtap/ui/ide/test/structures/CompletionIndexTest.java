@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.ui.ide.test.structures;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.linuxtools.internal.systemtap.ui.ide.structures.CompletionIndex;
+import org.eclipse.linuxtools.systemtap.structures.TreeNode;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CompletionIndexTest {
+
+    private static final String[] NAMES = {"sys_open", "openat", "get_time_of_day",
+            "OpenFile", "ktime_get_ns", "open", "getpid"};
+
+    private CompletionIndex index;
+
+    @Before
+    public void setUp() {
+        List<TreeNode> nodes = new ArrayList<>();
+        for (String name : NAMES) {
+            nodes.add(new TreeNode(name, true));
+        }
+        index = new CompletionIndex(nodes);
+    }
+
+    @Test
+    public void testPrefix() {
+        assertMatches(index.find("getp", 10), "getpid");
+        assertMatches(index.find("x", 10));
+    }
+
+    @Test
+    public void testTiers() {
+        // exact prefixes, then prefixes ignoring case, then segments
+        assertMatches(index.find("open", 10), "open", "openat", "OpenFile", "sys_open");
+        assertMatches(index.find("Open", 10), "OpenFile", "open", "openat", "sys_open");
+    }
+
+    @Test
+    public void testSegments() {
+        assertMatches(index.find("time", 10), "get_time_of_day");
+        assertMatches(index.find("file", 10), "OpenFile");
+        assertMatches(index.find("GET", 10), "get_time_of_day", "getpid", "ktime_get_ns");
+        // the start of a segment is not matched in the middle of a name
+        assertMatches(index.find("ime", 10));
+    }
+
+    @Test
+    public void testSegmentAbbreviations() {
+        assertMatches(index.find("gTOD", 10), "get_time_of_day");
+        assertMatches(index.find("get_t_o_d", 10), "get_time_of_day");
+        assertMatches(index.find("ktGN", 10), "ktime_get_ns");
+        // segments must be matched in order
+        assertMatches(index.find("gDT", 10));
+        // without upper case letters or separators, the prefix is a single segment
+        assertMatches(index.find("gtod", 10));
+    }
+
+    @Test
+    public void testEmptyPrefix() {
+        assertMatches(index.find("", 10), "OpenFile", "get_time_of_day", "getpid",
+                "ktime_get_ns", "open", "openat", "sys_open");
+        assertMatches(index.find("", 2), "OpenFile", "get_time_of_day");
+        assertMatches(new CompletionIndex(new ArrayList<>()).find("", 10));
+    }
+
+    @Test
+    public void testLimit() {
+        // the limit applies across the tiers, best matches first
+        assertMatches(index.find("open", 3), "open", "openat", "OpenFile");
+        assertMatches(index.find("open", 0));
+
+        List<TreeNode> nodes = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            nodes.add(new TreeNode(String.format("f%04d", i), true)); //$NON-NLS-1$
+        }
+        TreeNode[] matches = new CompletionIndex(nodes).find("f", 1000); //$NON-NLS-1$
+        assertEquals(1000, matches.length);
+        assertEquals("f0000", matches[0].toString()); //$NON-NLS-1$
+        assertEquals("f0999", matches[999].toString()); //$NON-NLS-1$
+    }
+
+    private static void assertMatches(TreeNode[] matches, String... names) {
+        String[] matchNames = new String[matches.length];
+        for (int i = 0; i < matches.length; i++) {
+            matchNames[i] = matches[i].toString();
+        }
+        assertArrayEquals(names, matchNames);
+    }
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.ui.ide.test.structures;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.linuxtools.internal.systemtap.ui.ide.structures.tparsers.ProbeDatabase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ProbeDatabaseTest {
+
+    private static final String SOURCE = "local:5.0:/usr/share/systemtap/tapset";
+    private static final String FILE_A = "/usr/share/systemtap/tapset/a.stp";
+    private static final String FILE_B = "/usr/share/systemtap/tapset/b.stp";
+    private static final List<String> LINES_A = Arrays.asList(
+            "a.one $x:long", "a.two $y:struct task_struct*");
+
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("ProbeDatabase", ".db");
+        file.delete();
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    public void testGetProbeLines() {
+        ProbeDatabase database = new ProbeDatabase(file, SOURCE);
+        assertNull(database.getProbeLines(FILE_A, 1));
+        database.setProbeLines(FILE_A, 1, LINES_A);
+        assertEquals(LINES_A, database.getProbeLines(FILE_A, 1));
+        // the file changed since it was recorded
+        assertNull(database.getProbeLines(FILE_A, 2));
+    }
+
+    @Test
+    public void testSaveAndRead() {
+        ProbeDatabase database = new ProbeDatabase(file, SOURCE);
+        database.setProbeLines(FILE_A, 1, LINES_A);
+        database.setProbeLines(FILE_B, 2, Collections.emptyList());
+        assertTrue(database.save());
+
+        database = new ProbeDatabase(file, SOURCE);
+        assertEquals(LINES_A, database.getProbeLines(FILE_A, 1));
+        assertEquals(Collections.emptyList(), database.getProbeLines(FILE_B, 2));
+    }
+
+    @Test
+    public void testOtherSource() {
+        ProbeDatabase database = new ProbeDatabase(file, SOURCE);
+        database.setProbeLines(FILE_A, 1, LINES_A);
+        assertTrue(database.save());
+
+        database = new ProbeDatabase(file, "user@host:22:/usr/share/systemtap/tapset");
+        assertNull(database.getProbeLines(FILE_A, 1));
+    }
+
+    @Test
+    public void testRetainFiles() {
+        ProbeDatabase database = new ProbeDatabase(file, SOURCE);
+        database.setProbeLines(FILE_A, 1, LINES_A);
+        database.setProbeLines(FILE_B, 2, LINES_A);
+        database.retainFiles(Arrays.asList(FILE_B));
+        assertNull(database.getProbeLines(FILE_A, 1));
+        assertEquals(LINES_A, database.getProbeLines(FILE_B, 2));
+    }
+
+    @Test
+    public void testCorruptDatabase() throws IOException {
+        ProbeDatabase database = new ProbeDatabase(file, SOURCE);
+        database.setProbeLines(FILE_A, 1, LINES_A);
+        assertTrue(database.save());
+        // truncate the database in the middle of its entries
+        long length = file.length();
+        try (FileOutputStream out = new FileOutputStream(file, true)) {
+            out.getChannel().truncate(length - 4);
+        }
+
+        database = new ProbeDatabase(file, SOURCE);
+        assertNull(database.getProbeLines(FILE_A, 1));
+    }
+
+    @Test
+    public void testGetStamp() throws IOException {
+        File tapset = File.createTempFile("tapset", ".stp");
+        try {
+            assertEquals(tapset.lastModified(),
+                    ProbeDatabase.getStamp(tapset.getPath(), "probe a = b", true));
+        } finally {
+            tapset.delete();
+        }
+        // remote files are stamped by their contents
+        long stamp = ProbeDatabase.getStamp(FILE_A, "probe a = b", false);
+        assertTrue(stamp < 0);
+        assertEquals(stamp, ProbeDatabase.getStamp(FILE_A, "probe a = b", false));
+        assertNotEquals(stamp, ProbeDatabase.getStamp(FILE_A, "probe a = c", false));
+    }
+}
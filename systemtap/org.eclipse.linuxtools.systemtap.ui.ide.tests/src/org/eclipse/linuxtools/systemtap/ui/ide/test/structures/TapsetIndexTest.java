@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.ui.ide.test.structures;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.linuxtools.internal.systemtap.ui.ide.structures.tparsers.TapsetIndex;
+import org.eclipse.linuxtools.internal.systemtap.ui.ide.structures.tparsers.TapsetIndex.TapsetFile;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TapsetIndexTest {
+
+    private static final String FILE_A = "/usr/share/systemtap/tapset/linux/a.stp";
+    private static final String FILE_B = "/usr/share/systemtap/tapset/b.stp";
+
+    private TapsetIndex index;
+
+    @Before
+    public void setUp() {
+        index = new TapsetIndex(
+                "# file " + FILE_A + "\n"
+                + "probe a.one = kernel.function(\"one\") { }\n"
+                + "probe  a.two\n"
+                + "    += kernel.function(\"two\") { }\n"
+                + "probe a.three, a.four=\n"
+                + "    kernel.function(\"three\") { }\n"
+                + "probe begin { x = 1 }\n"
+                + "probe end\n"
+                + "{\n"
+                + "    y = 2\n"
+                + "}\n"
+                + "# file " + FILE_B + "\n"
+                + "probe a.one = kernel.function(\"other\") { }\n"
+                + "probe _b.private = kernel.function(\"private\") { }\n");
+    }
+
+    @Test
+    public void testGetFiles() {
+        List<TapsetFile> files = index.getFiles();
+        assertEquals(2, files.size());
+        assertEquals(FILE_A, files.get(0).getName());
+        assertEquals(FILE_B, files.get(1).getName());
+        assertTrue(files.get(1).getContents().startsWith("# file " + FILE_B));
+
+        assertEquals(1, index.getFiles("/usr/share/systemtap/tapset/linux").size());
+        assertEquals(2, index.getFiles("/usr/share/systemtap/tapset").size());
+        assertEquals(0, index.getFiles("/usr/share/other").size());
+    }
+
+    @Test
+    public void testGetProbeAliases() {
+        assertEquals(Arrays.asList("a.one", "a.two", "a.three", "a.four"),
+                index.getFiles().get(0).getProbeAliases());
+        assertEquals(Arrays.asList("a.one", "_b.private"),
+                index.getFiles().get(1).getProbeAliases());
+    }
+
+    @Test
+    public void testGetDefinitionOf() {
+        // the first file defining a probe wins
+        assertEquals(FILE_A, index.getDefinitionOf("a.one"));
+        assertEquals(FILE_A, index.getDefinitionOf("a.four"));
+        assertEquals(FILE_B, index.getDefinitionOf("_b.private"));
+        assertNull(index.getDefinitionOf("begin"));
+        assertNull(index.getDefinitionOf("end"));
+    }
+
+    @Test
+    public void testEmptyContents() {
+        assertTrue(new TapsetIndex("").getFiles().isEmpty());
+        assertTrue(new TapsetIndex("probe a = b").getFiles().isEmpty());
+    }
+}
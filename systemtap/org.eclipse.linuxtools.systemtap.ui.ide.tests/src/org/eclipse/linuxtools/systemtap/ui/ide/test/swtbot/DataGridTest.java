@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.systemtap.ui.ide.test.swtbot;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.column.FilteredColumnDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.row.RowEntry;
+import org.eclipse.linuxtools.systemtap.graphing.core.filters.MatchFilter;
+import org.eclipse.linuxtools.systemtap.graphing.ui.datadisplay.DataGrid;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swtbot.swt.finder.finders.UIThreadRunnable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests how the virtual table of a {@link DataGrid} follows the rows of its
+ * data set, when at most {@link #MAX_ITEMS} of them are shown.
+ */
+public class DataGridTest {
+
+    private static final String GRAPHING_UI_ID = "org.eclipse.linuxtools.systemtap.graphing.ui"; //$NON-NLS-1$
+    private static final String MAX_DATA_ITEMS = "MaxDataItems"; //$NON-NLS-1$
+    private static final int MAX_ITEMS = 5;
+
+    private IEclipsePreferences prefs;
+    private FilteredColumnDataSet data;
+    private Shell shell;
+    private DataGrid grid;
+
+    @Before
+    public void setUp() {
+        prefs = InstanceScope.INSTANCE.getNode(GRAPHING_UI_ID);
+        prefs.putInt(MAX_DATA_ITEMS, MAX_ITEMS);
+        data = new FilteredColumnDataSet(new String[] {"value"});
+        append(1, 3);
+        UIThreadRunnable.syncExec(() -> {
+            shell = new Shell(Display.getDefault());
+            grid = new DataGrid(shell, data);
+        });
+    }
+
+    @After
+    public void tearDown() {
+        UIThreadRunnable.syncExec(() -> {
+            grid.dispose();
+            shell.dispose();
+        });
+        prefs.remove(MAX_DATA_ITEMS);
+    }
+
+    @Test
+    public void testAppendedRows() {
+        UIThreadRunnable.syncExec(() -> {
+            Table table = (Table) grid.getControl();
+            assertEquals(3, table.getItemCount());
+            assertRows(table, 1);
+            table.select(2);
+        });
+
+        // the first rows no longer fit, and their items are removed
+        append(4, 7);
+        grid.handleUpdateEvent();
+        UIThreadRunnable.syncExec(() -> {
+            Table table = (Table) grid.getControl();
+            assertEquals(MAX_ITEMS, table.getItemCount());
+            assertRows(table, 3);
+            // the selection stays on the item of row 3
+            assertEquals(0, table.getSelectionIndex());
+            table.select(3);
+        });
+
+        // filtering refreshes all the items, keeping the selected index
+        data.addFilter(new MatchFilter(0, "v7", MatchFilter.REMOVE_MATCHING)); //$NON-NLS-1$
+        grid.handleUpdateEvent();
+        UIThreadRunnable.syncExec(() -> {
+            Table table = (Table) grid.getControl();
+            assertEquals(MAX_ITEMS, table.getItemCount());
+            assertRows(table, 2);
+            assertEquals(3, table.getSelectionIndex());
+        });
+    }
+
+    @Test
+    public void testMaxItemsChanged() {
+        append(4, 7);
+        // the grid updates itself when the preference changes
+        prefs.putInt(MAX_DATA_ITEMS, 2);
+        UIThreadRunnable.syncExec(() -> {
+            Table table = (Table) grid.getControl();
+            assertEquals(2, table.getItemCount());
+            assertRows(table, 6);
+        });
+    }
+
+    /**
+     * Checks that the items of the table show the consecutive rows starting
+     * at the given row number, each row holding its number as value.
+     */
+    private static void assertRows(Table table, int firstRow) {
+        for (int i = 0; i < table.getItemCount(); i++) {
+            String row = Integer.toString(firstRow + i);
+            assertEquals(row, table.getItem(i).getText(0));
+            assertEquals("v" + row, table.getItem(i).getText(1)); //$NON-NLS-1$
+        }
+    }
+
+    private void append(int first, int last) {
+        for (int i = first; i <= last; i++) {
+            RowEntry entry = new RowEntry();
+            entry.putRow(0, new String[] {"v" + i}); //$NON-NLS-1$
+            data.append(entry);
+        }
+    }
+}
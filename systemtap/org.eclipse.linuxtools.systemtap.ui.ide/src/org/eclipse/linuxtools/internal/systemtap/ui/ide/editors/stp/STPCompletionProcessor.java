@@ -33,6 +33,7 @@ import org.eclipse.jface.text.contentassist.IContextInformationValidator;
 import org.eclipse.linuxtools.internal.systemtap.ui.ide.editors.stp.proposals.STPFunctionCompletionProposal;
 import org.eclipse.linuxtools.internal.systemtap.ui.ide.editors.stp.proposals.STPProbeCompletionProposal;
 import org.eclipse.linuxtools.internal.systemtap.ui.ide.editors.stp.proposals.STPProbevarCompletionProposal;
+import org.eclipse.linuxtools.internal.systemtap.ui.ide.structures.CompletionIndex;
 import org.eclipse.linuxtools.internal.systemtap.ui.ide.structures.ManpageCacher;
 import org.eclipse.linuxtools.internal.systemtap.ui.ide.structures.TapsetItemType;
 import org.eclipse.linuxtools.systemtap.structures.TreeNode;
@@ -159,7 +160,8 @@ public class STPCompletionProcessor implements IContentAssistProcessor, ITextHov
             result[i] = new STPFunctionCompletionProposal(
                     completionData[i],
                     prefix.length(),
-                    offset);
+                    offset,
+                    !CompletionIndex.getCompletionText(completionData[i]).startsWith(prefix));
         }
 
         return result;
@@ -177,7 +179,8 @@ public class STPCompletionProcessor implements IContentAssistProcessor, ITextHov
                         completionData[i],
                         prefix.length(),
                         offset,
-                        probeName);
+                        probeName,
+                        !CompletionIndex.getCompletionText(completionData[i]).startsWith(prefix));
             }
             return result;
         } catch (BadLocationException|BadPartitioningException e) {
@@ -213,15 +216,19 @@ public class STPCompletionProcessor implements IContentAssistProcessor, ITextHov
     }
 
     private ICompletionProposal[] getProbeCompletionList(String prefix, int offset) {
+        String typedPrefix = prefix;
         prefix = canonicalizePrefix(prefix);
         TreeNode[] completionData = stpMetadataSingleton.getProbeCompletions(prefix);
 
         ICompletionProposal[] result = new ICompletionProposal[completionData.length];
         for (int i = 0; i < completionData.length; i++) {
+            // Matches that don't start with the prefix replace what was typed.
+            boolean replacePrefix = !completionData[i].toString().startsWith(prefix);
             result[i] = new STPProbeCompletionProposal(
                             completionData[i],
-                            prefix.length(),
-                            offset);
+                            replacePrefix ? typedPrefix.length() : prefix.length(),
+                            offset,
+                            replacePrefix);
         }
         return result;
 
@@ -15,25 +15,28 @@ package org.eclipse.linuxtools.internal.systemtap.ui.ide.editors.stp;
 
 
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
 
+import org.eclipse.linuxtools.internal.systemtap.ui.ide.structures.CompletionIndex;
 import org.eclipse.linuxtools.internal.systemtap.ui.ide.structures.TapsetLibrary;
-import org.eclipse.linuxtools.internal.systemtap.ui.ide.structures.nodedata.ICompletable;
-import org.eclipse.linuxtools.internal.systemtap.ui.ide.structures.nodedata.ProbevarNodeData;
 import org.eclipse.linuxtools.systemtap.structures.TreeNode;
 
 
 /**
  *
- * Build and hold completion metadata for Systemtap. This originally is generated from stap coverage data
+ * Build and hold completion metadata for Systemtap. This originally is generated from stap coverage data.
+ * Queries are answered by the content assist index of the {@link TapsetLibrary}.
  *
  */
 public final class STPMetadataSingleton {
 
     public static TreeNode[] NO_MATCHES = new TreeNode[0];
 
+    /**
+     * The maximum number of completions returned by a single query.
+     */
+    private static final int MAX_COMPLETIONS = 1000;
+
     private static STPMetadataSingleton instance = null;
 
     private STPMetadataSingleton() {}
@@ -46,24 +49,13 @@ public final class STPMetadataSingleton {
     }
 
     public TreeNode[] getFunctionCompletions(String prefix) {
-        TreeNode node = TapsetLibrary.getFunctions();
-        return getMatchingChildren(node, prefix);
+        return TapsetLibrary.getCompletionIndex().getFunctions(prefix, MAX_COMPLETIONS);
     }
 
     public TreeNode[] getProbeCompletions(String prefix) {
-        List<TreeNode> matches = new LinkedList<>();
-        String groupName = extractProbeGroupName(prefix);
-
-        for (TreeNode node : TapsetLibrary.getProbeCategoryNodes()) {
-            TreeNode groupNode = node.getChildByName(groupName);
-            if (groupNode != null) {
-                node = groupNode;
-            }
-
-            matches.addAll(Arrays.asList(getMatchingChildren(node, prefix)));
-        }
-
-        return !matches.isEmpty() ? matches.toArray(new TreeNode[matches.size()]) : NO_MATCHES;
+        TreeNode[] matches = TapsetLibrary.getCompletionIndex().getProbes(
+                prefix, extractProbeGroupName(prefix), MAX_COMPLETIONS);
+        return matches.length != 0 ? matches : NO_MATCHES;
     }
 
     /**
@@ -79,51 +71,20 @@ public final class STPMetadataSingleton {
     }
 
     public boolean isVariableInProbe(String probe, String variable) {
-        TreeNode node = getProbeAlias(probe);
-        if (node == null) {
-            return false;
-        }
-        for (int i = 0, n = node.getChildCount(); i < n; i++) {
-            TreeNode child = node.getChildAt(i);
-            String nodeVar = ((ProbevarNodeData) child.getData()).getCompletionText();
-            if (nodeVar.equals(variable)) {
-                return true;
-            }
-        }
-        return false;
+        return TapsetLibrary.getCompletionIndex().isVariableInProbe(probe, variable);
     }
 
     public TreeNode getProbeAlias(String probe) {
-        TreeNode node = TapsetLibrary.getProbeAliases();
-        if (node == null) {
-            return null;
-        }
-
-        node = node.getChildByName(extractProbeGroupName(probe));
-        if (node == null) {
-            return null;
-        }
-
-        return node.getChildByName(probe);
+        return TapsetLibrary.getCompletionIndex().getProbeAlias(probe);
     }
 
     private TreeNode[] getMatchingChildren(TreeNode node, String prefix) {
-        ArrayList<TreeNode> matches = new ArrayList<>();
-
+        // A probe has few variables, so they are indexed on demand.
+        List<TreeNode> children = new ArrayList<>(node.getChildCount());
         for (int i = 0, n = node.getChildCount(); i < n; i++) {
-            TreeNode childNode = node.getChildAt(i);
-            String childName;
-            if (childNode.getData() instanceof ICompletable) {
-                childName = ((ICompletable) childNode.getData()).getCompletionText();
-            } else {
-                childName = childNode.toString();
-            }
-            if (childName.startsWith(prefix)) {
-                matches.add(childNode);
-            }
+            children.add(node.getChildAt(i));
         }
-
-        return matches.toArray(new TreeNode[0]);
+        return new CompletionIndex(children).find(prefix, MAX_COMPLETIONS);
     }
 
     private String extractProbeGroupName(String probeName) {
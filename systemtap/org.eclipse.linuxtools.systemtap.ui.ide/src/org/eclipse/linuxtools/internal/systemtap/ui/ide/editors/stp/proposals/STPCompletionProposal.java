@@ -30,12 +30,26 @@ public abstract class STPCompletionProposal implements ICompletionProposal {
 
     private final int fPrefixLength;
     private final int fReplacementOffset;
+    private final boolean fReplacePrefix;
     private final String fDisplayString;
 
     protected final TreeNode fCompletionNode;
     protected String fDocumentation = null;
 
     public STPCompletionProposal(TreeNode completionNode, int prefixLength, int replacementOffset) {
+        this(completionNode, prefixLength, replacementOffset, false);
+    }
+
+    /**
+     * @param completionNode The node to complete to.
+     * @param prefixLength The length of the prefix typed before the replacement offset.
+     * @param replacementOffset The offset at which the prefix ends.
+     * @param replacePrefix Set this to <code>true</code> if the completion doesn't start with
+     * the prefix (as is the case for case-insensitive or segment matches), so that the prefix
+     * gets replaced instead of completed.
+     */
+    public STPCompletionProposal(TreeNode completionNode, int prefixLength, int replacementOffset,
+            boolean replacePrefix) {
         if (completionNode == null) {
             throw new InvalidParameterException();
         }
@@ -43,6 +57,7 @@ public abstract class STPCompletionProposal implements ICompletionProposal {
         fCompletionNode = completionNode;
         fPrefixLength = prefixLength;
         fReplacementOffset = replacementOffset;
+        fReplacePrefix = replacePrefix;
         fDisplayString = completionNode.toString() + " - " + getType().toString(); //$NON-NLS-1$
     }
 
@@ -72,7 +87,11 @@ public abstract class STPCompletionProposal implements ICompletionProposal {
     @Override
     public void apply(IDocument document) {
         try {
-            document.replace(fReplacementOffset, 0, getReplacementString().substring(fPrefixLength));
+            if (fReplacePrefix) {
+                document.replace(fReplacementOffset - fPrefixLength, fPrefixLength, getReplacementString());
+            } else {
+                document.replace(fReplacementOffset, 0, getReplacementString().substring(fPrefixLength));
+            }
         } catch (BadLocationException x) {
             // ignore
         }
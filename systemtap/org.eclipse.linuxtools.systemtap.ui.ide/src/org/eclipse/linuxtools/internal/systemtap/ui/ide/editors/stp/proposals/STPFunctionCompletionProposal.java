@@ -23,6 +23,11 @@ public class STPFunctionCompletionProposal extends STPCompletionProposal {
         super(completionNode, prefixLength, replacementOffset);
     }
 
+    public STPFunctionCompletionProposal(TreeNode completionNode, int prefixLength,
+            int replacementOffset, boolean replacePrefix) {
+        super(completionNode, prefixLength, replacementOffset, replacePrefix);
+    }
+
     @Override
     protected String getReplacementString() {
         return super.getReplacementString().concat("()"); //$NON-NLS-1$
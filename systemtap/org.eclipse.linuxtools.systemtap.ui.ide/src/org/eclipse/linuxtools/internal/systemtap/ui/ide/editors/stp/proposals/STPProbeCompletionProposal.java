@@ -23,6 +23,11 @@ public class STPProbeCompletionProposal extends STPCompletionProposal {
         super(completionNode, prefixLength, replacementOffset);
     }
 
+    public STPProbeCompletionProposal(TreeNode completionNode, int prefixLength,
+            int replacementOffset, boolean replacePrefix) {
+        super(completionNode, prefixLength, replacementOffset, replacePrefix);
+    }
+
     @Override
     protected TapsetItemType getType() {
         return TapsetItemType.PROBE;
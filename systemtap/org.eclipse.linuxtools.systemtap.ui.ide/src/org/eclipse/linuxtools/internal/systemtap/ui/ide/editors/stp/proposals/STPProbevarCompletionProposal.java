@@ -24,7 +24,12 @@ public class STPProbevarCompletionProposal extends STPCompletionProposal {
 
     public STPProbevarCompletionProposal(TreeNode completionNode, int prefixLength,
             int replacementOffset, String probeName) {
-        super(completionNode, prefixLength, replacementOffset);
+        this(completionNode, prefixLength, replacementOffset, probeName, false);
+    }
+
+    public STPProbevarCompletionProposal(TreeNode completionNode, int prefixLength,
+            int replacementOffset, String probeName, boolean replacePrefix) {
+        super(completionNode, prefixLength, replacementOffset, replacePrefix);
 
         fProbeName = probeName;
         fVariableName = ((ProbevarNodeData) completionNode.getData()).getCompletionText();
@@ -26,6 +26,9 @@ import org.eclipse.core.commands.AbstractHandler;
 import org.eclipse.core.commands.ExecutionEvent;
 import org.eclipse.linuxtools.internal.systemtap.ui.ide.IDEPerspective;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IFilteredDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.Snapshot;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.column.ColumnDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.column.FilteredColumnDataSet;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.row.FilteredRowDataSet;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.row.RowDataSet;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.table.FilteredTableDataSet;
@@ -65,15 +68,29 @@ public class ImportDataSetHandler extends AbstractHandler {
     public void execute(String path) {
         IFilteredDataSet dataset = null;
         File file = new File(path);
-        try (InputStreamReader fr = new InputStreamReader(new FileInputStream(file), Charset.defaultCharset());
-                BufferedReader br = new BufferedReader(fr)) {
-            String id = br.readLine();
-            String[] titles = br.readLine().split(", "); //$NON-NLS-1$
+        try {
+            String id;
+            String[] titles;
+            if (Snapshot.isSnapshot(file)) {
+                try (Snapshot snapshot = Snapshot.open(file)) {
+                    id = snapshot.getID();
+                    titles = snapshot.getTitles();
+                }
+            } else {
+                try (InputStreamReader fr = new InputStreamReader(new FileInputStream(file), Charset.defaultCharset());
+                        BufferedReader br = new BufferedReader(fr)) {
+                    id = br.readLine();
+                    String line = br.readLine();
+                    titles = line == null ? null : line.split(", "); //$NON-NLS-1$
+                }
+            }
 
-            if (id == null && titles == null) {
+            if (id == null || titles == null) {
                 throw new IOException();
             } else if (id.equals(RowDataSet.ID)) {
                 dataset = new FilteredRowDataSet(titles);
+            } else if (id.equals(ColumnDataSet.ID)) {
+                dataset = new FilteredColumnDataSet(titles);
             } else if (id.equals(TableDataSet.ID)) {
                 dataset = new FilteredTableDataSet(titles);
             } else {
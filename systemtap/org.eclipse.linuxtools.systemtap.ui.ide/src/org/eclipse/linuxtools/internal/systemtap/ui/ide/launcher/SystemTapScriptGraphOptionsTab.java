@@ -37,8 +37,8 @@ import org.eclipse.linuxtools.internal.systemtap.ui.ide.IDEPlugin;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataSet;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IDataSetParser;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.IFilteredDataSet;
+import org.eclipse.linuxtools.systemtap.graphing.core.datasets.column.ColumnDataSet;
 import org.eclipse.linuxtools.systemtap.graphing.core.datasets.row.LineParser;
-import org.eclipse.linuxtools.systemtap.graphing.core.datasets.row.RowDataSet;
 import org.eclipse.linuxtools.systemtap.graphing.core.structures.GraphData;
 import org.eclipse.linuxtools.systemtap.graphing.ui.widgets.ExceptionErrorDialog;
 import org.eclipse.linuxtools.systemtap.graphing.ui.wizards.dataset.DataSetFactory;
@@ -325,6 +325,7 @@ public class SystemTapScriptGraphOptionsTab extends
         try {
             int numberOfRegexs = configuration.getAttribute(NUMBER_OF_REGEXS, 0);
             ArrayList<IFilteredDataSet> datasets = new ArrayList<>(numberOfRegexs);
+            int capacity = DataSetFactory.getDataSetCapacity();
 
             for (int r = 0; r < numberOfRegexs; r++) {
                 int numberOfColumns = configuration.getAttribute(NUMBER_OF_COLUMNS + r, 0);
@@ -333,7 +334,7 @@ public class SystemTapScriptGraphOptionsTab extends
                 for (int c = 0; c < numberOfColumns; c++) {
                     labels.add(configuration.getAttribute(get2DConfigData(REGEX_BOX, r, c), "")); //$NON-NLS-1$
                 }
-                datasets.add(DataSetFactory.createFilteredDataSet(RowDataSet.ID, labels.toArray(new String[] {})));
+                datasets.add(DataSetFactory.createFilteredDataSet(ColumnDataSet.ID, labels.toArray(new String[] {}), capacity));
             }
 
             return datasets;
@@ -595,7 +596,7 @@ public class SystemTapScriptGraphOptionsTab extends
     }
 
     private IDataSet getCurrentDataset() {
-        return DataSetFactory.createDataSet(RowDataSet.ID, columnNamesList.get(selectedRegex).toArray(new String[] {}));
+        return DataSetFactory.createDataSet(ColumnDataSet.ID, columnNamesList.get(selectedRegex).toArray(new String[] {}));
     }
 
     private void createGraphCreateArea(Composite comp) {
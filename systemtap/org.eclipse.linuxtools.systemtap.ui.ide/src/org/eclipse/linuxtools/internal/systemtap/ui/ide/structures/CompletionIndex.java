@@ -0,0 +1,304 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.internal.systemtap.ui.ide.structures;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.linuxtools.internal.systemtap.ui.ide.structures.nodedata.ICompletable;
+import org.eclipse.linuxtools.systemtap.structures.TreeNode;
+
+/**
+ * An immutable index of {@link TreeNode}s by their completion text, answering prefix
+ * queries with binary searches over sorted arrays. Matches are returned in three tiers:
+ * <ol>
+ * <li>names that start with the prefix;</li>
+ * <li>names that start with the prefix, ignoring case;</li>
+ * <li>names with a segment that starts with the prefix, ignoring case (so that "open"
+ * matches "sys_open"), or whose successive segments start with the successive segments
+ * of the prefix (so that "gTOD" and "get_t_o_d" both match "get_time_of_day").</li>
+ * </ol>
+ * Segments are delimited by '_', '.', '(' and ')', and by lower case to upper case transitions.
+ */
+public final class CompletionIndex {
+
+    private final TreeNode[] nodes;
+    /** The completion text of each node, sorted. */
+    private final String[] keys;
+    /** The lower case completion text of each node. */
+    private final String[] lowerKeys;
+    /** The indices of the nodes, in the order of their lower case completion text. */
+    private final int[] lowerOrder;
+    /** The node and the offset of each segment which doesn't start its name, in the order of the segments' suffixes. */
+    private final int[] segmentNodes;
+    private final int[] segmentOffsets;
+
+    /**
+     * Indexes a list of nodes.
+     * @param nodes The nodes to index. Their order is irrelevant.
+     */
+    public CompletionIndex(List<TreeNode> nodes) {
+        int n = nodes.size();
+        Integer[] order = new Integer[n];
+        String[] unsortedKeys = new String[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+            unsortedKeys[i] = getCompletionText(nodes.get(i));
+        }
+        Arrays.sort(order, Comparator.comparing(i -> unsortedKeys[i]));
+
+        this.nodes = new TreeNode[n];
+        keys = new String[n];
+        lowerKeys = new String[n];
+        for (int i = 0; i < n; i++) {
+            this.nodes[i] = nodes.get(order[i]);
+            keys[i] = unsortedKeys[order[i]];
+            lowerKeys[i] = keys[i].toLowerCase(Locale.ROOT);
+        }
+
+        Integer[] lower = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            lower[i] = i;
+        }
+        Arrays.sort(lower, Comparator.comparing(i -> lowerKeys[i]));
+        lowerOrder = new int[n];
+        for (int i = 0; i < n; i++) {
+            lowerOrder[i] = lower[i];
+        }
+
+        List<int[]> segments = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            // Segment offsets are found in the original name, so they only apply
+            // to lower case names which have the same length.
+            if (keys[i].length() != lowerKeys[i].length()) {
+                continue;
+            }
+            for (int offset : getSegmentOffsets(keys[i])) {
+                if (offset > 0) {
+                    segments.add(new int[] {i, offset});
+                }
+            }
+        }
+        segments.sort((a, b) -> compareSuffixes(lowerKeys[a[0]], a[1], lowerKeys[b[0]], b[1]));
+        segmentNodes = new int[segments.size()];
+        segmentOffsets = new int[segments.size()];
+        for (int i = 0; i < segmentNodes.length; i++) {
+            segmentNodes[i] = segments.get(i)[0];
+            segmentOffsets[i] = segments.get(i)[1];
+        }
+    }
+
+    /**
+     * @param node A node of a tapset tree.
+     * @return The text that completes to the node.
+     */
+    public static String getCompletionText(TreeNode node) {
+        return node.getData() instanceof ICompletable
+                ? ((ICompletable) node.getData()).getCompletionText() : node.toString();
+    }
+
+    /**
+     * Finds the nodes whose completion text matches a prefix.
+     * @param prefix The prefix to complete.
+     * @param limit The maximum number of nodes to return.
+     * @return The matching nodes, best matches first.
+     */
+    public TreeNode[] find(String prefix, int limit) {
+        List<TreeNode> matches = new ArrayList<>();
+        BitSet added = new BitSet(nodes.length);
+
+        // Names that start with the prefix.
+        for (int i = lowerBound(keys, prefix); i < keys.length && matches.size() < limit
+                && keys[i].startsWith(prefix); i++) {
+            matches.add(nodes[i]);
+            added.set(i);
+        }
+        if (prefix.isEmpty() || matches.size() >= limit) {
+            return matches.toArray(new TreeNode[matches.size()]);
+        }
+
+        // Names that start with the prefix, ignoring case.
+        String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+        int first = lowerBound(lowerPrefix);
+        for (int i = first; i < lowerOrder.length && matches.size() < limit
+                && lowerKeys[lowerOrder[i]].startsWith(lowerPrefix); i++) {
+            addMatch(lowerOrder[i], matches, added);
+        }
+
+        // Names with a segment that starts with the prefix.
+        for (int i = lowerSegmentBound(lowerPrefix); i < segmentNodes.length && matches.size() < limit
+                && lowerKeys[segmentNodes[i]].startsWith(lowerPrefix, segmentOffsets[i]); i++) {
+            addMatch(segmentNodes[i], matches, added);
+        }
+
+        // Names whose segments start with the segments of the prefix. Candidates either start
+        // with the first segment of the prefix, or have a later segment that starts with its
+        // second segment, so scan whichever of those two ranges is shorter.
+        String[] prefixSegments = splitSegments(prefix);
+        if (prefixSegments.length > 1) {
+            String firstSegment = prefixSegments[0];
+            String secondSegment = prefixSegments[1];
+            int namesStart = lowerBound(firstSegment);
+            int namesEnd = lowerBound(firstSegment + Character.MAX_VALUE);
+            int segmentsStart = lowerSegmentBound(secondSegment);
+            int segmentsEnd = lowerSegmentBound(secondSegment + Character.MAX_VALUE);
+            boolean scanNames = namesEnd - namesStart <= segmentsEnd - segmentsStart;
+            for (int i = scanNames ? namesStart : segmentsStart, end = scanNames ? namesEnd : segmentsEnd;
+                    i < end && matches.size() < limit; i++) {
+                int node = scanNames ? lowerOrder[i] : segmentNodes[i];
+                if (!added.get(node) && lowerKeys[node].startsWith(firstSegment)
+                        && matchesSegments(node, prefixSegments)) {
+                    addMatch(node, matches, added);
+                }
+            }
+        }
+        return matches.toArray(new TreeNode[matches.size()]);
+    }
+
+    private void addMatch(int node, List<TreeNode> matches, BitSet added) {
+        if (!added.get(node)) {
+            added.set(node);
+            matches.add(nodes[node]);
+        }
+    }
+
+    private boolean matchesSegments(int node, String[] prefixSegments) {
+        String lowerKey = lowerKeys[node];
+        if (keys[node].length() != lowerKey.length()) {
+            return false;
+        }
+        int[] offsets = getSegmentOffsets(keys[node]);
+        // Matching each segment of the prefix against the earliest possible segment of the
+        // name leaves the most segments for the rest of the prefix, so no backtracking is needed.
+        int s = 0;
+        for (String prefixSegment : prefixSegments) {
+            while (s < offsets.length && !lowerKey.startsWith(prefixSegment, offsets[s])) {
+                s++;
+            }
+            if (s == offsets.length) {
+                return false;
+            }
+            s++;
+        }
+        return true;
+    }
+
+    private static int lowerBound(String[] sorted, String key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int lowerBound(String lowerKey) {
+        int low = 0;
+        int high = lowerOrder.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (lowerKeys[lowerOrder[mid]].compareTo(lowerKey) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int lowerSegmentBound(String lowerKey) {
+        int low = 0;
+        int high = segmentNodes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareSuffixes(lowerKeys[segmentNodes[mid]], segmentOffsets[mid], lowerKey, 0) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int compareSuffixes(String a, int aOffset, String b, int bOffset) {
+        int aLength = a.length() - aOffset;
+        int bLength = b.length() - bOffset;
+        for (int i = 0, n = Math.min(aLength, bLength); i < n; i++) {
+            int diff = a.charAt(aOffset + i) - b.charAt(bOffset + i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return aLength - bLength;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '_' || c == '.' || c == '(' || c == ')';
+    }
+
+    /**
+     * @return The offsets at which the segments of a name start.
+     */
+    private static int[] getSegmentOffsets(String name) {
+        int[] offsets = new int[name.length()];
+        int count = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (isSeparator(c)) {
+                continue;
+            }
+            if (i == 0 || isSeparator(name.charAt(i - 1))
+                    || Character.isUpperCase(c) && Character.isLowerCase(name.charAt(i - 1))) {
+                offsets[count++] = i;
+            }
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+
+    /**
+     * Splits a prefix into lower case segments. Every upper case letter of
+     * the prefix starts a segment, so that abbreviations like "gTOD" can be used.
+     */
+    private static String[] splitSegments(String prefix) {
+        List<String> segments = new ArrayList<>();
+        StringBuilder segment = new StringBuilder();
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            if (isSeparator(c) || Character.isUpperCase(c)) {
+                if (segment.length() > 0) {
+                    segments.add(segment.toString());
+                    segment.setLength(0);
+                }
+                if (isSeparator(c)) {
+                    continue;
+                }
+            }
+            segment.append(Character.toLowerCase(c));
+        }
+        if (segment.length() > 0) {
+            segments.add(segment.toString());
+        }
+        return segments.toArray(new String[segments.size()]);
+    }
+
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.internal.systemtap.ui.ide.structures;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.linuxtools.systemtap.structures.TreeNode;
+
+/**
+ * An immutable snapshot of the function and probe trees of the {@link TapsetLibrary},
+ * indexed for content assist. A new snapshot is built every time the trees are parsed,
+ * so lookups never have to walk the trees.
+ */
+public final class TapsetCompletionIndex {
+
+    /**
+     * The indices of a single probe category ("Static Probes" or "Probe Aliases").
+     */
+    private static final class ProbeCategory {
+        private final Set<String> groupNames = new HashSet<>();
+        private final CompletionIndex groups;
+        private final CompletionIndex probes;
+
+        private ProbeCategory(TreeNode category) {
+            List<TreeNode> groupNodes = new ArrayList<>();
+            List<TreeNode> probeNodes = new ArrayList<>();
+            if (category != null) {
+                for (int g = 0, gn = category.getChildCount(); g < gn; g++) {
+                    TreeNode group = category.getChildAt(g);
+                    groupNodes.add(group);
+                    groupNames.add(group.toString());
+                    for (int p = 0, pn = group.getChildCount(); p < pn; p++) {
+                        probeNodes.add(group.getChildAt(p));
+                    }
+                }
+            }
+            groups = new CompletionIndex(groupNodes);
+            probes = new CompletionIndex(probeNodes);
+        }
+    }
+
+    private final TreeNode functionTree;
+    private final TreeNode probeTree;
+
+    private final CompletionIndex functions;
+    private final ProbeCategory[] probeCategories;
+    private final Map<String, TreeNode> probeAliases = new HashMap<>();
+    private final Set<String> probeVariables = new HashSet<>();
+
+    /**
+     * Indexes the provided trees.
+     * @param functionTree The tree of tapset functions, as returned by {@link TapsetLibrary#getFunctions()}.
+     * @param probeTree The tree of tapset probes, as returned by {@link TapsetLibrary#getProbes()}.
+     */
+    public TapsetCompletionIndex(TreeNode functionTree, TreeNode probeTree) {
+        this.functionTree = functionTree;
+        this.probeTree = probeTree;
+
+        List<TreeNode> functionNodes = new ArrayList<>(functionTree.getChildCount());
+        for (int i = 0, n = functionTree.getChildCount(); i < n; i++) {
+            functionNodes.add(functionTree.getChildAt(i));
+        }
+        functions = new CompletionIndex(functionNodes);
+
+        TreeNode statics = probeTree.getChildByName(Messages.ProbeParser_staticProbes);
+        TreeNode aliases = probeTree.getChildByName(Messages.ProbeParser_aliasProbes);
+        probeCategories = new ProbeCategory[] {new ProbeCategory(statics), new ProbeCategory(aliases)};
+
+        if (aliases != null) {
+            for (int g = 0, gn = aliases.getChildCount(); g < gn; g++) {
+                TreeNode group = aliases.getChildAt(g);
+                for (int p = 0, pn = group.getChildCount(); p < pn; p++) {
+                    TreeNode probe = group.getChildAt(p);
+                    String probeName = probe.toString();
+                    probeAliases.putIfAbsent(probeName, probe);
+                    for (int v = 0, vn = probe.getChildCount(); v < vn; v++) {
+                        probeVariables.add(makeVariableKey(probeName,
+                                CompletionIndex.getCompletionText(probe.getChildAt(v))));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return <code>true</code> if this index was built from the provided trees.
+     */
+    public boolean isIndexOf(TreeNode functionTree, TreeNode probeTree) {
+        return this.functionTree == functionTree && this.probeTree == probeTree;
+    }
+
+    /**
+     * @param prefix The prefix to complete.
+     * @param limit The maximum number of functions to return.
+     * @return The functions matching the prefix, best matches first.
+     */
+    public TreeNode[] getFunctions(String prefix, int limit) {
+        return functions.find(prefix, limit);
+    }
+
+    /**
+     * Finds the probes matching a prefix. If the prefix names a probe group, the probes of the
+     * group (and of any other group) are matched, otherwise the probe groups themselves are.
+     * @param prefix The prefix to complete.
+     * @param groupName The name of the group of the probe being completed.
+     * @param limit The maximum number of nodes to return.
+     * @return The static probes or groups matching the prefix, followed by the matching probe
+     * aliases or groups.
+     */
+    public TreeNode[] getProbes(String prefix, String groupName, int limit) {
+        List<TreeNode> matches = new ArrayList<>();
+        for (ProbeCategory category : probeCategories) {
+            CompletionIndex index = category.groupNames.contains(groupName)
+                    ? category.probes : category.groups;
+            Collections.addAll(matches, index.find(prefix, limit - matches.size()));
+        }
+        return matches.toArray(new TreeNode[matches.size()]);
+    }
+
+    /**
+     * @param probe The name of a probe alias.
+     * @return The node of the probe alias, or <code>null</code> if there is no such alias.
+     */
+    public TreeNode getProbeAlias(String probe) {
+        return probeAliases.get(probe);
+    }
+
+    /**
+     * @param probe The name of a probe alias.
+     * @param variable The name of a variable.
+     * @return <code>true</code> if the variable is available in the probe alias.
+     */
+    public boolean isVariableInProbe(String probe, String variable) {
+        return probeVariables.contains(makeVariableKey(probe, variable));
+    }
+
+    private static String makeVariableKey(String probe, String variable) {
+        return probe + '\n' + variable;
+    }
+
+}
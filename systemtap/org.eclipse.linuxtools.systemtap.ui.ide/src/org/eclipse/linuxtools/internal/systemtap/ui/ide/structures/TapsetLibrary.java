@@ -17,6 +17,7 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.jobs.IJobChangeEvent;
@@ -50,6 +51,8 @@ public final class TapsetLibrary {
 
     private static boolean initialized = false;
 
+    private static final AtomicReference<TapsetCompletionIndex> completionIndex = new AtomicReference<>();
+
     public static TreeNode getProbes() {
         return probeParser.getTree();
     }
@@ -70,6 +73,24 @@ public final class TapsetLibrary {
         return functionParser.getTree();
     }
 
+    /**
+     * Returns the content assist index of the current function and probe trees. The index
+     * is rebuilt whenever a parse completes; if the trees were replaced since the index was
+     * last built (before any listener was registered by {@link #init()}), it is rebuilt here.
+     * @return An index of the current function and probe trees.
+     */
+    public static TapsetCompletionIndex getCompletionIndex() {
+        TapsetCompletionIndex index = completionIndex.get();
+        TreeNode functions = getFunctions();
+        TreeNode probes = getProbes();
+        if (index == null || !index.isIndexOf(functions, probes)) {
+            TapsetCompletionIndex newIndex = new TapsetCompletionIndex(functions, probes);
+            completionIndex.compareAndSet(index, newIndex);
+            index = newIndex;
+        }
+        return index;
+    }
+
     /**
      * Initialize all listeners associated with loading tapset contents, and perform
      * the first tapset load operation. Note that subsequent calls to this method will have no effect.
@@ -123,6 +144,9 @@ public final class TapsetLibrary {
                     TreeSettings.setTrees(getFunctions(), getProbes());
                 }
 
+                // Build the new index on the parser's thread, and swap it in at once.
+                completionIndex.set(new TapsetCompletionIndex(getFunctions(), getProbes()));
+
                 if (event.getJob() instanceof ProbeParser) {
                     ManpageCacher.clear(TapsetItemType.PROBE, TapsetItemType.PROBEVAR);
                 } else {
@@ -14,7 +14,9 @@
 package org.eclipse.linuxtools.internal.systemtap.ui.ide.structures.tparsers;
 
 import java.text.MessageFormat;
+import java.util.HashSet;
 import java.util.Scanner;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -194,30 +196,23 @@ public final class FunctionParser extends TreeTapsetParser {
 
     @Override
     protected int addTapsets(String tapsetContents, String[] additions, IProgressMonitor monitor) {
+        TapsetIndex index = SharedParser.getInstance().getTapsetIndex();
+        if (index == null) {
+            return IStatus.ERROR;
+        }
         boolean canceled = false;
+        Set<String> examined = new HashSet<>();
         // Search tapset contents for all files provided by each added directory.
-        for (int i = 0; i < additions.length; i++) {
-            int firstTagIndex = 0;
-            while (true) {
-                // Get the contents of each file provided by the directory additions[i].
-                firstTagIndex = tapsetContents.indexOf(
-                        SharedParser.makeFileTag(additions[i]), firstTagIndex);
-                if (firstTagIndex == -1) {
-                    break;
-                }
-                int nextTagIndex = tapsetContents.indexOf(SharedParser.TAG_FILE, firstTagIndex + 1);
-                String fileContents = nextTagIndex != -1
-                        ? tapsetContents.substring(firstTagIndex, nextTagIndex)
-                                : tapsetContents.substring(firstTagIndex);
-
+        for (int i = 0; i < additions.length && !canceled; i++) {
+            for (TapsetIndex.TapsetFile file : index.getFiles(additions[i])) {
                 if (monitor.isCanceled()) {
                     canceled = true;
                     break;
                 }
-                addFunctionsFromFileContents(fileContents);
-                // Remove the contents of the file that was just examined from the total contents.
-                tapsetContents = tapsetContents.substring(0, firstTagIndex).concat(
-                        tapsetContents.substring(firstTagIndex + fileContents.length()));
+                // A file may be provided by more than one of the added directories.
+                if (examined.add(file.getName())) {
+                    addFunctionsFromFileContents(file.getContents());
+                }
             }
         }
         tree.sortLevel();
@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.internal.systemtap.ui.ide.structures.tparsers;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.Path;
+
+/**
+ * A persistent database of the probe aliases provided by each tapset file, along with
+ * the variables of each probe as printed by "stap -L". Every file is recorded with a
+ * stamp of its state (its modification time, or a digest of its contents when it cannot
+ * be read locally), so that only the files which changed since the last run need to be
+ * listed by stap again.
+ */
+public final class ProbeDatabase {
+    private static final String FILE_NAME = "ProbeDatabase"; //$NON-NLS-1$
+    private static final String FILE_DIRECTORY = ".systemtapgui"; //$NON-NLS-1$
+    private static final int VERSION_NUMBER = 1;
+
+    private static final class Entry {
+        private final long stamp;
+        private final List<String> probeLines;
+
+        private Entry(long stamp, List<String> probeLines) {
+            this.stamp = stamp;
+            this.probeLines = probeLines;
+        }
+    }
+
+    private final File file;
+    private final String source;
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * Opens the database stored in the user's home directory. Its contents are
+     * discarded if they were recorded for a different tapset source.
+     * @param source A description of where the tapsets are read from, such as the host
+     * that runs stap and the kernel it lists probes for.
+     */
+    public ProbeDatabase(String source) {
+        this(new Path(System.getenv("HOME")).append(FILE_DIRECTORY) //$NON-NLS-1$
+                .append(FILE_NAME).addFileExtension("db").toFile(), source); //$NON-NLS-1$
+    }
+
+    /**
+     * Opens the database stored in a file. Its contents are discarded if they were
+     * recorded for a different tapset source.
+     * @param file The file the database is stored in.
+     * @param source A description of where the tapsets are read from.
+     */
+    public ProbeDatabase(File file, String source) {
+        this.file = file;
+        this.source = source;
+        read();
+    }
+
+    /**
+     * @return The description of where the tapsets recorded in this database are read from.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * @param fileName The path of a tapset file.
+     * @param stamp The current stamp of the file.
+     * @return The "stap -L" lines of the probes provided by the file, or <code>null</code>
+     * if the file isn't recorded or has changed since it was recorded.
+     */
+    public synchronized List<String> getProbeLines(String fileName, long stamp) {
+        Entry entry = entries.get(fileName);
+        return entry != null && entry.stamp == stamp
+                ? Collections.unmodifiableList(entry.probeLines) : null;
+    }
+
+    /**
+     * Records the probes provided by a tapset file, replacing what was previously recorded for it.
+     * @param fileName The path of a tapset file.
+     * @param stamp The current stamp of the file.
+     * @param probeLines The "stap -L" lines of the probes provided by the file.
+     */
+    public synchronized void setProbeLines(String fileName, long stamp, List<String> probeLines) {
+        entries.put(fileName, new Entry(stamp, new ArrayList<>(probeLines)));
+    }
+
+    /**
+     * Forgets every file that is not in the provided list.
+     * @param fileNames The paths of the tapset files to keep.
+     */
+    public synchronized void retainFiles(List<String> fileNames) {
+        entries.keySet().retainAll(fileNames);
+    }
+
+    /**
+     * Computes the stamp of a tapset file.
+     * @param fileName The path of a tapset file.
+     * @param contents The contents of the file, as found in the tapset content dump.
+     * @param local Set this to <code>true</code> if the path refers to the local filesystem.
+     * @return The modification time of the file if it can be read locally, or a digest of its
+     * contents otherwise. Modification times and digests are kept in disjoint ranges.
+     */
+    public static long getStamp(String fileName, String contents, boolean local) {
+        if (local) {
+            long modified = new File(fileName).lastModified();
+            if (modified > 0) {
+                return modified;
+            }
+        }
+        return Long.MIN_VALUE | ((long) contents.length() << 32) | (contents.hashCode() & 0xffffffffL);
+    }
+
+    private void read() {
+        if (!file.isFile()) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != VERSION_NUMBER || !source.equals(in.readUTF())) {
+                return;
+            }
+            for (int f = 0, fn = in.readInt(); f < fn; f++) {
+                String fileName = in.readUTF();
+                long stamp = in.readLong();
+                int n = in.readInt();
+                List<String> probeLines = new ArrayList<>(n);
+                for (int i = 0; i < n; i++) {
+                    probeLines.add(in.readUTF());
+                }
+                entries.put(fileName, new Entry(stamp, probeLines));
+            }
+        } catch (IOException e) {
+            // A truncated or corrupt database is as good as an empty one.
+            entries.clear();
+        }
+    }
+
+    /**
+     * Writes the database back to the filesystem.
+     * @return <code>true</code> if the database was saved successfully.
+     */
+    public synchronized boolean save() {
+        File parent = file.getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(VERSION_NUMBER);
+            out.writeUTF(source);
+            out.writeInt(entries.size());
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeLong(entry.getValue().stamp);
+                out.writeInt(entry.getValue().probeLines.size());
+                for (String line : entry.getValue().probeLines) {
+                    out.writeUTF(line);
+                }
+            }
+        } catch (IOException e) {
+            return false;
+        }
+        return true;
+    }
+
+}
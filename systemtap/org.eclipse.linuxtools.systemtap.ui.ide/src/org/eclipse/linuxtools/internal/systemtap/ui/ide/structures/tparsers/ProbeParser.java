@@ -16,24 +16,41 @@ package org.eclipse.linuxtools.internal.systemtap.ui.ide.structures.tparsers;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.StringJoiner;
 import java.util.StringTokenizer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.linuxtools.internal.systemtap.ui.ide.IDEPlugin;
+import org.eclipse.linuxtools.internal.systemtap.ui.ide.preferences.IDEPreferenceConstants;
+import org.eclipse.linuxtools.internal.systemtap.ui.ide.preferences.PreferenceConstants;
 import org.eclipse.linuxtools.internal.systemtap.ui.ide.structures.Messages;
 import org.eclipse.linuxtools.internal.systemtap.ui.ide.structures.nodedata.ProbeNodeData;
 import org.eclipse.linuxtools.internal.systemtap.ui.ide.structures.nodedata.ProbevarNodeData;
 import org.eclipse.linuxtools.systemtap.structures.TreeDefinitionNode;
 import org.eclipse.linuxtools.systemtap.structures.TreeNode;
+import org.eclipse.linuxtools.systemtap.ui.consolelog.internal.ConsoleLogPlugin;
+import org.eclipse.linuxtools.systemtap.ui.consolelog.preferences.ConsoleLogPreferenceConstants;
 
 /**
  * Runs stap -vp1 & stap -L in order to get all of the probes
  * that are defined in the tapsets.  Builds probeAlias trees
- * with the values obtained from the tapsets.
+ * with the values obtained from the tapsets. The output of stap -L
+ * is kept in a {@link ProbeDatabase}, so that only the tapset files
+ * which changed since it was recorded are listed again.
  *
  * @author Ryan Morse
  * @since 2.0
@@ -41,11 +58,18 @@ import org.eclipse.linuxtools.systemtap.structures.TreeNode;
 public final class ProbeParser extends TreeTapsetParser {
 
     public static final String PROBE_REGEX = "(?s)(?<!\\w)probe\\s+{0}\\s*\\+?="; //$NON-NLS-1$
-    private static final String TAPSET_PROBE_REGEX = "probe {0} \\+?="; //$NON-NLS-1$
     private static final String PROBE_FORM_CHECK_REGEX = "\\w+((\\(\\w+\\))?(\\.\\w+)?)*( \\$?\\w+:\\w+)*"; //$NON-NLS-1$
     private static final Pattern PROBE_GROUP_PATTERN = Pattern.compile("[^\\.\\(]+"); //$NON-NLS-1$
 
+    /**
+     * The number of probes listed by a single call of stap.
+     */
+    private static final int PROBES_PER_CALL = 64;
+    private static final int MAX_LOCAL_CALLS = 4;
+    private static final int MAX_REMOTE_CALLS = 2;
+
     private static ProbeParser parser = null;
+    private ProbeDatabase database = null;
     public static ProbeParser getInstance(){
         if (parser != null) {
             return parser;
@@ -136,39 +160,240 @@ public final class ProbeParser extends TreeTapsetParser {
             return IStatus.CANCEL;
         }
 
-        String probeDump = runStap(new String[]{"-L"}, "**", false); //$NON-NLS-1$ //$NON-NLS-2$
-        int result = verifyRunResult(probeDump);
+        TapsetIndex index = SharedParser.getInstance().getTapsetIndex();
+        if (index == null) {
+            return IStatus.ERROR;
+        }
+        ProbeDatabase database = getDatabase();
+        int result = addProbeAliasesFromFiles(index.getFiles(), index, database, statics, aliases, monitor);
+        if (result == IStatus.OK) {
+            List<String> fileNames = new ArrayList<>();
+            for (TapsetIndex.TapsetFile file : index.getFiles()) {
+                fileNames.add(file.getName());
+            }
+            database.retainFiles(fileNames);
+            database.save();
+        }
+        aliases.sortTree();
+        return result;
+    }
+
+    /**
+     * @return The probe database of the host that runs stap, reading it from the filesystem
+     * if it hasn't been read yet.
+     */
+    private synchronized ProbeDatabase getDatabase() {
+        String source = getDatabaseSource();
+        if (database == null || !database.getSource().equals(source)) {
+            database = new ProbeDatabase(source);
+        }
+        return database;
+    }
+
+    /**
+     * @return A description of the host and tapsets the probes are listed from, including
+     * the version of stap, since another version may list the same tapsets differently.
+     */
+    private String getDatabaseSource() {
+        IPreferenceStore ps = IDEPlugin.getDefault().getPreferenceStore();
+        String tapsetDir = ps.getString(PreferenceConstants.P_ENV.SYSTEMTAP_TAPSET.toPrefKey());
+        String version = getStapVersion();
+        if (!ps.getBoolean(IDEPreferenceConstants.P_REMOTE_PROBES)) {
+            return MessageFormat.format("local:{0}:{1}:{2}", System.getProperty("os.version"), tapsetDir, version); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        IPreferenceStore p = ConsoleLogPlugin.getDefault().getPreferenceStore();
+        return MessageFormat.format("{0}@{1}:{2}:{3}:{4}", //$NON-NLS-1$
+                p.getString(ConsoleLogPreferenceConstants.SCP_USER),
+                p.getString(ConsoleLogPreferenceConstants.HOST_NAME),
+                Integer.toString(p.getInt(ConsoleLogPreferenceConstants.PORT_NUMBER)), tapsetDir, version);
+    }
+
+    /**
+     * @return The first line printed by "stap -V", which names the version of stap, or an
+     * empty string if it couldn't be run.
+     */
+    private String getStapVersion() {
+        String output = runStap(new String[]{"-V"}, null, true); //$NON-NLS-1$
+        if (output == null) {
+            return ""; //$NON-NLS-1$
+        }
+        int end = output.indexOf('\n');
+        return (end != -1 ? output.substring(0, end) : output).trim();
+    }
+
+    /**
+     * Adds the probe aliases provided by some tapset files to the probe tree. The aliases of files
+     * that are up-to-date in the probe database are taken from it, and the rest are listed by stap,
+     * many at a time, and recorded in the database, unless a call of stap listed none of their probes.
+     * Such a call may have failed as a whole, so its files are listed again the next time.
+     * @param files The tapset files to add the aliases of.
+     * @param index The index of the tapset contents the files belong to.
+     * @param database The probe database to read and update.
+     * @param statics The tree of static probes. Aliases belonging to a static probe group are
+     * skipped. Pass <code>null</code> to not skip any alias.
+     * @param aliases The tree of probe aliases to add the aliases to.
+     * @return An {@link IStatus} severity level for the result of the operation.
+     */
+    private int addProbeAliasesFromFiles(List<TapsetIndex.TapsetFile> files, TapsetIndex index,
+            ProbeDatabase database, TreeNode statics, TreeNode aliases, IProgressMonitor monitor) {
+        boolean local = !IDEPlugin.getDefault().getPreferenceStore()
+                .getBoolean(IDEPreferenceConstants.P_REMOTE_PROBES);
+        Map<String, List<String>> fileToLinesMap = new LinkedHashMap<>();
+        Map<String, Long> staleFiles = new HashMap<>();
+        Map<String, String> probeToFileMap = new HashMap<>();
+        List<String> probes = new ArrayList<>();
+
+        for (TapsetIndex.TapsetFile file : files) {
+            String filename = file.getName();
+            long stamp = ProbeDatabase.getStamp(filename, file.getContents(), local);
+            List<String> lines = database.getProbeLines(filename, stamp);
+            if (lines != null) {
+                fileToLinesMap.put(filename, lines);
+                continue;
+            }
+            fileToLinesMap.put(filename, new ArrayList<>());
+            staleFiles.put(filename, stamp);
+            for (String probe : file.getProbeAliases()) {
+                // Private probes (starting with '_') are never shown, so don't list them.
+                if (!probe.startsWith("_") && probeToFileMap.putIfAbsent(probe, filename) == null) { //$NON-NLS-1$
+                    probes.add(probe);
+                }
+            }
+        }
+
+        Set<String> unlistedFiles = new HashSet<>();
+        int result = listProbes(probes, probeToFileMap, index, fileToLinesMap, unlistedFiles, monitor);
         if (result != IStatus.OK) {
             return result;
         }
-        if (!doQuickErrorCheck(probeDump)) {
-            return IStatus.ERROR;
+        for (Map.Entry<String, Long> entry : staleFiles.entrySet()) {
+            if (!unlistedFiles.contains(entry.getKey())) {
+                database.setProbeLines(entry.getKey(), entry.getValue(), fileToLinesMap.get(entry.getKey()));
+            }
         }
 
-        boolean canceled = false;
-        try (Scanner st = new Scanner(probeDump)) {
+        Set<String> added = new HashSet<>();
+        for (Map.Entry<String, List<String>> entry : fileToLinesMap.entrySet()) {
             TreeNode groupNode = null;
-            while (st.hasNextLine()) {
+            for (String probeLine : entry.getValue()) {
                 if (monitor.isCanceled()) {
-                    canceled = true;
-                    break;
+                    return IStatus.CANCEL;
                 }
-                String tokenString = st.nextLine();
+                String probeName = extractProbeName(probeLine);
                 // If the token starts with '_' or '__' it is a private probe so
-                // skip it.
-                if (tokenString.startsWith("_")) { //$NON-NLS-1$
+                // skip it. Also skip probes that were already added by another file.
+                if (probeName.startsWith("_") || !added.add(probeName)) { //$NON-NLS-1$
                     continue;
                 }
                 // Only add this group if it is not a static probe group
-                String groupName = extractProbeGroupName(tokenString);
-                if (statics.getChildByName(groupName) != null) {
+                String groupName = extractProbeGroupName(probeName);
+                if (statics != null && statics.getChildByName(groupName) != null) {
                     continue;
                 }
-                groupNode = addSingleProbeAlias(tokenString, aliases, groupNode, groupName, null);
+                groupNode = addSingleProbeAlias(probeLine, aliases, groupNode, groupName, entry.getKey());
             }
         }
-        aliases.sortTree();
-        return !canceled ? IStatus.OK : IStatus.CANCEL;
+        return IStatus.OK;
+    }
+
+    /**
+     * Runs stap to list the variables of the provided probe aliases. Each call of stap lists
+     * many probes, and a bounded number of calls are run at the same time.
+     * @param probes The aliases of the probes to list.
+     * @param probeToFileMap The path of the file which defines each of the probes.
+     * @param index The index of the tapset contents the probes belong to.
+     * @param fileToLinesMap The map to add each printed line to, under the path of the file that
+     * defines the probe it describes.
+     * @param unlistedFiles The set to add the paths of the files defining the probes of calls that
+     * printed nothing to.
+     * @return An {@link IStatus} severity level for the result of the operation.
+     */
+    private int listProbes(List<String> probes, Map<String, String> probeToFileMap, TapsetIndex index,
+            Map<String, List<String>> fileToLinesMap, Set<String> unlistedFiles, IProgressMonitor monitor) {
+        if (probes.isEmpty()) {
+            return IStatus.OK;
+        }
+        boolean remote = IDEPlugin.getDefault().getPreferenceStore()
+                .getBoolean(IDEPreferenceConstants.P_REMOTE_PROBES);
+        int batches = (probes.size() + PROBES_PER_CALL - 1) / PROBES_PER_CALL;
+        int threads = Math.min(batches, remote ? MAX_REMOTE_CALLS
+                : Math.min(MAX_LOCAL_CALLS, Runtime.getRuntime().availableProcessors()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<String>> results = new ArrayList<>(batches);
+            List<List<String>> batchProbes = new ArrayList<>(batches);
+            for (int b = 0; b < batches; b++) {
+                StringJoiner probeList = new StringJoiner(","); //$NON-NLS-1$
+                List<String> batch = probes.subList(b * PROBES_PER_CALL,
+                        Math.min(probes.size(), (b + 1) * PROBES_PER_CALL));
+                batchProbes.add(batch);
+                for (String probe : batch) {
+                    // Mark every probe as optional, so that a probe which can't be
+                    // resolved doesn't prevent the others of its call from being listed.
+                    probeList.add(probe + '?');
+                }
+                String probe = probeList.toString();
+                results.add(executor.submit(() -> runStap(new String[]{"-L"}, probe, false))); //$NON-NLS-1$
+            }
+
+            for (int b = 0; b < batches; b++) {
+                String probeDump;
+                try {
+                    probeDump = results.get(b).get();
+                } catch (InterruptedException e) {
+                    return IStatus.CANCEL;
+                } catch (ExecutionException e) {
+                    return IStatus.ERROR;
+                }
+                if (monitor.isCanceled()) {
+                    return IStatus.CANCEL;
+                }
+                if (probeDump == null) {
+                    return IStatus.ERROR;
+                }
+                if (probeDump.isEmpty()) {
+                    // Only a remote run signals cancellation with empty output. Otherwise,
+                    // none of the probes of this call could be resolved, or the call failed.
+                    if (remote) {
+                        return IStatus.CANCEL;
+                    }
+                    for (String probe : batchProbes.get(b)) {
+                        unlistedFiles.add(probeToFileMap.get(probe));
+                    }
+                    continue;
+                }
+                if (!doQuickErrorCheck(probeDump)) {
+                    return IStatus.ERROR;
+                }
+                try (Scanner st = new Scanner(probeDump)) {
+                    while (st.hasNextLine()) {
+                        String probeLine = st.nextLine();
+                        String probeName = extractProbeName(probeLine);
+                        String filename = probeToFileMap.get(probeName);
+                        if (filename == null) {
+                            filename = index.getDefinitionOf(probeName);
+                        }
+                        List<String> lines = filename != null ? fileToLinesMap.get(filename) : null;
+                        if (lines != null) {
+                            lines.add(probeLine);
+                        }
+                    }
+                }
+            }
+            return IStatus.OK;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return The name of the probe described by a line printed by "stap -L".
+     */
+    private String extractProbeName(String probeLine) {
+        int end = probeLine.indexOf(' ');
+        String probeName = end != -1 ? probeLine.substring(0, end) : probeLine;
+        return probeName.endsWith("?") ? probeName.substring(0, probeName.length() - 1) : probeName; //$NON-NLS-1$
     }
 
     /**
@@ -262,20 +487,8 @@ public final class ProbeParser extends TreeTapsetParser {
      * file can't be found (which is the case for static probes).
      */
     private String findDefinitionOf(String probeName) {
-        String tapsetContents = SharedParser.getInstance().getTapsetContents();
-        if (tapsetContents == null) {
-            return null;
-        }
-        Matcher probeMatcher = Pattern.compile(MessageFormat.format(
-                TAPSET_PROBE_REGEX, Pattern.quote(probeName))).matcher(tapsetContents);
-        if (!probeMatcher.find()) {
-            return null;
-        }
-        int fileLocIndex = tapsetContents.substring(0, probeMatcher.start())
-                .lastIndexOf(SharedParser.TAG_FILE);
-        try (Scanner scanner = new Scanner(tapsetContents.substring(fileLocIndex))) {
-            return SharedParser.findFileNameInTag(scanner.nextLine());
-        }
+        TapsetIndex index = SharedParser.getInstance().getTapsetIndex();
+        return index != null ? index.getDefinitionOf(probeName) : null;
     }
 
     /**
@@ -343,60 +556,28 @@ public final class ProbeParser extends TreeTapsetParser {
 
     @Override
     protected int addTapsets(String tapsetContents, String[] additions, IProgressMonitor monitor) {
-        boolean canceled = false;
+        TapsetIndex index = SharedParser.getInstance().getTapsetIndex();
+        if (index == null) {
+            return IStatus.ERROR;
+        }
         TreeNode aliases = tree.getChildByName(Messages.ProbeParser_aliasProbes);
-        Map<String, ArrayList<String>> fileToItemMap = new HashMap<>();
 
         // Search tapset contents for all files provided by each added directory.
+        Map<String, TapsetIndex.TapsetFile> files = new LinkedHashMap<>();
         for (int i = 0; i < additions.length; i++) {
-            int firstTagIndex = 0;
-            while (true) {
-                // Get the contents of each file provided by the directory additions[i].
-                firstTagIndex = tapsetContents.indexOf(
-                        SharedParser.makeFileTag(additions[i]), firstTagIndex);
-                if (firstTagIndex == -1) {
-                    break;
-                }
-                int nextTagIndex = tapsetContents.indexOf(SharedParser.TAG_FILE, firstTagIndex + 1);
-                String fileContents = nextTagIndex != -1
-                        ? tapsetContents.substring(firstTagIndex, nextTagIndex)
-                                : tapsetContents.substring(firstTagIndex);
-
-                String filename;
-                try (Scanner st = new Scanner(fileContents)) {
-                    filename = SharedParser.findFileNameInTag(st.nextLine());
-                }
-
-                // Search file contents for the probes the file provides.
-                ArrayList<String> newItems = new ArrayList<>();
-                Matcher matcher = Pattern.compile(MessageFormat.format(
-                        TAPSET_PROBE_REGEX, "(\\S+)")) //$NON-NLS-1$
-                        .matcher(fileContents);
-                while (matcher.find()) {
-                    newItems.add(matcher.group(1));
-                }
-                if (!newItems.isEmpty()) {
-                    fileToItemMap.put(filename, newItems);
-                }
-                // Remove the contents of the file that was just examined from the total contents.
-                tapsetContents = tapsetContents.substring(0, firstTagIndex).concat(
-                        tapsetContents.substring(firstTagIndex + fileContents.length()));
-            }
-        }
-        // Run stap on each discovered probe to obtain their variable information.
-        for (Map.Entry<String, ArrayList<String>> entry : fileToItemMap.entrySet()) {
-            for (String newitem : entry.getValue()) {
-                if (canceled || monitor.isCanceled()) {
-                    canceled = true;
-                    break;
-                }
-                addSingleProbeAlias(runStap(new String[]{"-L"}, newitem, false), //$NON-NLS-1$
-                        aliases, null, null, entry.getKey());
+            for (TapsetIndex.TapsetFile file : index.getFiles(additions[i])) {
+                files.putIfAbsent(file.getName(), file);
             }
         }
 
+        ProbeDatabase database = getDatabase();
+        int result = addProbeAliasesFromFiles(new ArrayList<>(files.values()), index, database,
+                null, aliases, monitor);
+        if (result == IStatus.OK) {
+            database.save();
+        }
         aliases.sortTree();
-        return !canceled ? IStatus.OK : IStatus.CANCEL;
+        return result;
     }
 
 }
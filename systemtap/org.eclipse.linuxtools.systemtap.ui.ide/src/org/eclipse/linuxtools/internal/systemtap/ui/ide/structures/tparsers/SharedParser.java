@@ -67,6 +67,7 @@ public final class SharedParser extends TapsetParser {
     }
 
     private String tapsetContents = null;
+    private TapsetIndex tapsetIndex = null;
 
     private static SharedParser parser = null;
     public static SharedParser getInstance(){
@@ -87,6 +88,7 @@ public final class SharedParser extends TapsetParser {
      */
     public synchronized void clearTapsetContents() {
         tapsetContents = null;
+        tapsetIndex = null;
     }
 
     /**
@@ -101,6 +103,22 @@ public final class SharedParser extends TapsetParser {
         return tapsetContents != null ? tapsetContents : runAction();
     }
 
+    /**
+     * Get the index of the contents returned by {@link #getTapsetContents()}, which
+     * is built once per tapset content dump.
+     * @return The index of the tapset contents, or <code>null</code> if the contents
+     * could not be obtained.
+     */
+    synchronized TapsetIndex getTapsetIndex() {
+        if (tapsetIndex == null) {
+            String contents = getTapsetContents();
+            if (verifyRunResult(contents) == IStatus.OK) {
+                tapsetIndex = new TapsetIndex(contents);
+            }
+        }
+        return tapsetIndex;
+    }
+
     @Override
     protected IStatus run(IProgressMonitor monitor) {
         return createStatus(verifyRunResult(runAction()));
@@ -116,6 +134,7 @@ public final class SharedParser extends TapsetParser {
                 int beginIndex = contents.indexOf(TAG_FILE, firstTagIndex + 1);
                 if (beginIndex != -1) {
                     tapsetContents = contents.substring(beginIndex);
+                    tapsetIndex = null;
                 }
             }
             return tapsetContents;
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.linuxtools.internal.systemtap.ui.ide.structures.tparsers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An index of a tapset content dump, built in a single pass over the dump.
+ * It locates the contents of each tapset file, and the file which defines
+ * each probe alias, so that parsers never have to search the whole dump again.
+ */
+public final class TapsetIndex {
+
+    /**
+     * The definition of one or more probe aliases, such as <code>probe a, b +=</code>,
+     * which may span several lines.
+     */
+    private static final Pattern P_PROBE_ALIAS = Pattern.compile(
+            "\\bprobe\\s+([^\\s,=+{}]+(?:\\s*,\\s*[^\\s,=+{}]+)*)\\s*\\+?="); //$NON-NLS-1$
+    private static final Pattern P_ALIAS_SEPARATOR = Pattern.compile("\\s*,\\s*"); //$NON-NLS-1$
+
+    /**
+     * The contents of a single file of a tapset content dump.
+     */
+    public static final class TapsetFile {
+        private final String name;
+        private final String contents;
+        private final int start;
+        private final int end;
+        private final List<String> probes = new ArrayList<>();
+
+        private TapsetFile(String name, String contents, int start, int end) {
+            this.name = name;
+            this.contents = contents;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * @return The path of the file.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return The contents of the file, starting with its file tag.
+         */
+        public String getContents() {
+            return contents.substring(start, end);
+        }
+
+        /**
+         * @return The names of the probe aliases defined in the file, in order of appearance.
+         */
+        public List<String> getProbeAliases() {
+            return Collections.unmodifiableList(probes);
+        }
+    }
+
+    private final List<TapsetFile> files = new ArrayList<>();
+    private final Map<String, String> probeDefinitions = new HashMap<>();
+
+    /**
+     * Indexes a tapset content dump.
+     * @param tapsetContents The tapset contents, as generated by {@link SharedParser#getTapsetContents()}.
+     */
+    public TapsetIndex(String tapsetContents) {
+        int start = tapsetContents.indexOf(SharedParser.TAG_FILE);
+        while (start != -1) {
+            int next = tapsetContents.indexOf(SharedParser.TAG_FILE, start + 1);
+            int end = next != -1 ? next : tapsetContents.length();
+            int lineEnd = tapsetContents.indexOf('\n', start);
+            String name = SharedParser.findFileNameInTag(
+                    tapsetContents.substring(start, lineEnd != -1 && lineEnd < end ? lineEnd : end));
+            if (name != null) {
+                TapsetFile file = new TapsetFile(name, tapsetContents, start, end);
+                Matcher matcher = P_PROBE_ALIAS.matcher(tapsetContents).region(start, end);
+                while (matcher.find()) {
+                    for (String probe : P_ALIAS_SEPARATOR.split(matcher.group(1))) {
+                        file.probes.add(probe);
+                        probeDefinitions.putIfAbsent(probe, name);
+                    }
+                }
+                files.add(file);
+            }
+            start = next;
+        }
+    }
+
+    /**
+     * @return All the files of the tapset contents, in order of appearance.
+     */
+    public List<TapsetFile> getFiles() {
+        return Collections.unmodifiableList(files);
+    }
+
+    /**
+     * @param prefix A directory or a file path.
+     * @return The files of the tapset contents whose path starts with the given prefix.
+     */
+    public List<TapsetFile> getFiles(String prefix) {
+        List<TapsetFile> result = new ArrayList<>();
+        for (TapsetFile file : files) {
+            if (file.name.startsWith(prefix)) {
+                result.add(file);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param probeName The alias of a probe.
+     * @return The path of the file which first defines the probe, or <code>null</code>
+     * if no file defines it (which is the case for static probes).
+     */
+    public String getDefinitionOf(String probeName) {
+        return probeDefinitions.get(probeName);
+    }
+
+}
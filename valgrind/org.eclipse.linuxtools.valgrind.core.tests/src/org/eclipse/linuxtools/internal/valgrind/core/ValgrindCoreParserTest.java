@@ -90,4 +90,70 @@ public class ValgrindCoreParserTest extends AbstractInlineDataTest {
 		checkMessage(0, messages, "one");
 		checkMessage(0, messages[0].getChildren(), "two");
 	}
+
+	//==2== Invalid read of size 1
+	//==2==    at 0x4004E2: main (test.c:16)
+	//==2==  Address 0x4c2104a is 0 bytes after a block of size 10 alloc'd
+	//==2==    at 0x4A05E5D: malloc (vg_replace_malloc.c:195)
+	//==2==    by 0x4004D5: main (test.c:15)
+	//==2==
+	//==2== Invalid read of size 1
+	//==2==    at 0x4004E2: main (test.c:16)
+	//==2==  Address 0x4c2104a is 0 bytes after a block of size 10 alloc'd
+	//==2==    at 0x4A05E5D: malloc (vg_replace_malloc.c:195)
+	//==2==    by 0x4004D5: main (test.c:15)
+	//==2==
+	//==2== Invalid read of size 1
+	//==2==    at 0x4004F3: main (test.c:17)
+	//==2==  Address 0x4c2104a is 0 bytes after a block of size 10 alloc'd
+	//==2==    at 0x4A05E5D: malloc (vg_replace_malloc.c:195)
+	//==2==    by 0x4004D5: main (test.c:15)
+	@Test
+	public void testRepeatedErrors() throws IOException {
+		parseComment();
+		assertEquals(2, messages.length);
+		checkMessage(0, messages, "Invalid read of size 1 (2 occurrences)");
+		checkMessage(1, messages, "Invalid read of size 1");
+		assertEquals(2, ((ValgrindError) messages[0]).getCount());
+		assertTrue(((ValgrindError) messages[0]).getSignature() != ((ValgrindError) messages[1]).getSignature());
+
+		IValgrindMessage[] children = messages[0].getChildren();
+		assertEquals(2, children.length);
+		ValgrindStackFrame frame = (ValgrindStackFrame) children[0];
+		assertEquals("at 0x4004E2: main (test.c:16)", frame.getText());
+		assertEquals("test.c", frame.getFile());
+		assertEquals(16, frame.getLine());
+		assertSame(messages[0], frame.getParent());
+		checkMessage(1, children, "Address 0x4c2104a is 0 bytes after a block of size 10 alloc'd");
+		assertEquals(2, children[1].getChildren().length);
+		checkMessage(1, children[1].getChildren(), "by 0x4004D5: main (test.c:15)");
+	}
+
+	//==2== 10 bytes in 1 blocks are definitely lost in loss record 1 of 2
+	//==2==    at 0x4A05E5D: malloc (vg_replace_malloc.c:195)
+	//==2==    by 0x4004D5: main (test.c:15)
+	//==2==
+	//==2== 20 bytes in 1 blocks are definitely lost in loss record 2 of 2
+	//==2==    at 0x4A05E5D: malloc (vg_replace_malloc.c:195)
+	//==2==    by 0x4004F3: main (test.c:17)
+	@Test
+	public void testSharedFrames() throws IOException {
+		parseComment();
+		assertEquals(2, messages.length);
+		assertTrue(((ValgrindError) messages[1]).hasChildren());
+		IValgrindMessage[] frames1 = messages[0].getChildren();
+		IValgrindMessage[] frames2 = messages[1].getChildren();
+		assertEquals(2, frames2.length);
+		// frames repeated across stacks are kept once
+		assertSame(frames1[0].getText(), frames2[0].getText());
+		assertEquals("by 0x4004F3: main (test.c:17)", frames2[1].getText());
+		assertEquals(17, ((ValgrindStackFrame) frames2[1]).getLine());
+
+		// frames created again stand for the same frames
+		IValgrindMessage[] frames2Again = messages[1].getChildren();
+		assertEquals(frames2[1], frames2Again[1]);
+		assertEquals(frames2[1].hashCode(), frames2Again[1].hashCode());
+		assertFalse(frames2[0].equals(frames2Again[1]));
+		assertFalse(frames1[0].equals(frames2[0]));
+	}
 }
@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Red Hat, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.valgrind.core;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.linuxtools.valgrind.core.IValgrindMessage;
+import org.eclipse.linuxtools.valgrind.core.tests.AbstractInlineDataTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class ValgrindXmlParserTest extends AbstractInlineDataTest {
+	private static final String VALGRIND_OUT = "valgrind_42.xml";
+	private IValgrindMessage[] messages;
+	private ILaunch launchMock;
+
+	@Before
+	public void setUp() {
+		launchMock = Mockito.mock(ILaunch.class);
+	}
+
+	private void parseComment() throws IOException {
+		File file = getAboveCommentAndSaveFile(VALGRIND_OUT);
+		messages = ValgrindXmlParser.parse(file, launchMock);
+		assertNotNull(messages);
+	}
+
+	//<?xml version="1.0"?>
+	//<valgrindoutput>
+	//<protocolversion>4</protocolversion>
+	//<protocoltool>memcheck</protocoltool>
+	//<pid>1234</pid>
+	//<error>
+	//  <unique>0x0</unique>
+	//  <tid>1</tid>
+	//  <kind>InvalidRead</kind>
+	//  <what>Invalid read of size 4</what>
+	//  <stack>
+	//    <frame>
+	//      <ip>0x40053C</ip>
+	//      <obj>/tmp/a.out</obj>
+	//      <fn>main</fn>
+	//      <dir>/tmp/src</dir>
+	//      <file>test.c</file>
+	//      <line>12</line>
+	//    </frame>
+	//    <frame>
+	//      <ip>0x4E5A555</ip>
+	//      <obj>/usr/lib64/libc.so.6</obj>
+	//    </frame>
+	//  </stack>
+	//  <auxwhat>Address 0x51f7068 is 0 bytes after a block of size 40 alloc'd</auxwhat>
+	//  <stack>
+	//    <frame>
+	//      <ip>0x4C2A0F0</ip>
+	//      <obj>/usr/lib64/valgrind/vgpreload_memcheck-amd64-linux.so</obj>
+	//      <fn>malloc</fn>
+	//    </frame>
+	//  </stack>
+	//</error>
+	//<errorcounts>
+	//</errorcounts>
+	//</valgrindoutput>
+	@Test
+	public void testError() throws IOException {
+		parseComment();
+		assertEquals(1, messages.length);
+		assertTrue(messages[0] instanceof ValgrindError);
+		assertEquals("Invalid read of size 4 [PID: 1234]", messages[0].getText());
+
+		IValgrindMessage[] children = messages[0].getChildren();
+		assertEquals(3, children.length);
+		ValgrindStackFrame frame = (ValgrindStackFrame) children[0];
+		assertEquals("at 0x40053C: main (/tmp/src/test.c:12)", frame.getText());
+		assertEquals("/tmp/src/test.c", frame.getFile());
+		assertEquals(12, frame.getLine());
+		assertSame(launchMock, frame.getLaunch());
+		frame = (ValgrindStackFrame) children[1];
+		assertEquals("by 0x4E5A555: ??? (in /usr/lib64/libc.so.6)", frame.getText());
+		assertNull(frame.getFile());
+		assertEquals(0, frame.getLine());
+
+		// auxiliary message owns the stack that follows it
+		assertTrue(children[2] instanceof ValgrindError);
+		assertEquals("Address 0x51f7068 is 0 bytes after a block of size 40 alloc'd [PID: 1234]", children[2].getText());
+		assertEquals(1, children[2].getChildren().length);
+		assertEquals("at 0x4C2A0F0: malloc (in /usr/lib64/valgrind/vgpreload_memcheck-amd64-linux.so)",
+				children[2].getChildren()[0].getText());
+	}
+
+	//<?xml version="1.0"?>
+	//<valgrindoutput>
+	//<error>
+	//  <kind>Leak_DefinitelyLost</kind>
+	//  <xwhat>
+	//    <text>40 bytes in 1 blocks are definitely lost in loss record 1 of 1</text>
+	//    <leakedbytes>40</leakedbytes>
+	//    <leakedblocks>1</leakedblocks>
+	//  </xwhat>
+	//  <stack>
+	//    <frame><ip>0x4C2A0F0</ip><fn>malloc</fn></frame>
+	//    <frame><ip>0x400537</ip><fn>main</fn><file>test.c</file><line>5</line></frame>
+	//  </stack>
+	//</error>
+	//<error>
+	//  <kind>Leak_DefinitelyLost</kind>
+	//  <xwhat>
+	//    <text>8 bytes in 1 blocks are definitely lost in loss record 2 of 2</text>
+	//  </xwhat>
+	//  <stack>
+	//    <frame><ip>0x4C2A0F0</ip><fn>malloc</fn></frame>
+	//  </stack>
+	//</error>
+	//</valgrindoutput>
+	@Test
+	public void testLeaks() throws IOException {
+		parseComment();
+		assertEquals(2, messages.length);
+		assertEquals("40 bytes in 1 blocks are definitely lost in loss record 1 of 1 [PID: 42]", messages[0].getText());
+		IValgrindMessage[] frames = messages[0].getChildren();
+		assertEquals(2, frames.length);
+		assertEquals("by 0x400537: main (test.c:5)", frames[1].getText());
+		assertEquals("test.c", ((ValgrindStackFrame) frames[1]).getFile());
+
+		// frames repeated across stacks share their text
+		assertSame(frames[0].getText(), messages[1].getChildren()[0].getText());
+	}
+
+	//<?xml version="1.0"?>
+	//<valgrindoutput>
+	//<pid>7</pid>
+	//<announcethread>
+	//  <hthreadid>1</hthreadid>
+	//  <isrootthread></isrootthread>
+	//</announcethread>
+	//<announcethread>
+	//  <hthreadid>2</hthreadid>
+	//  <stack>
+	//    <frame><ip>0x3E4A8D</ip><fn>clone</fn></frame>
+	//  </stack>
+	//</announcethread>
+	//<error>
+	//  <kind>Race</kind>
+	//  <xwhat>
+	//    <text>Possible data race during write of size 4 at 0x601040 by thread #2</text>
+	//    <hthreadid>2</hthreadid>
+	//  </xwhat>
+	//  <stack>
+	//    <frame><ip>0x400602</ip><fn>worker</fn><file>race.c</file><line>8</line></frame>
+	//  </stack>
+	//  <xauxwhat>
+	//    <text>This conflicts with a previous write of size 4 by thread #1</text>
+	//    <hthreadid>1</hthreadid>
+	//  </xauxwhat>
+	//  <stack>
+	//    <frame><ip>0x400650</ip><fn>main</fn><file>race.c</file><line>20</line></frame>
+	//  </stack>
+	//</error>
+	//</valgrindoutput>
+	@Test
+	public void testHelgrind() throws IOException {
+		parseComment();
+		assertEquals(3, messages.length);
+		assertEquals("Thread #1 is the program's root thread [PID: 7]", messages[0].getText());
+		assertEquals(0, messages[0].getChildren().length);
+		assertEquals("Thread #2 was created [PID: 7]", messages[1].getText());
+		assertEquals(1, messages[1].getChildren().length);
+		assertEquals("Possible data race during write of size 4 at 0x601040 by thread #2 [PID: 7]", messages[2].getText());
+		IValgrindMessage[] children = messages[2].getChildren();
+		assertEquals(2, children.length);
+		assertEquals("at 0x400602: worker (race.c:8)", children[0].getText());
+		assertEquals("This conflicts with a previous write of size 4 by thread #1 [PID: 7]", children[1].getText());
+		assertEquals("at 0x400650: main (race.c:20)", children[1].getChildren()[0].getText());
+	}
+
+	//<?xml version="1.0"?>
+	//<valgrindoutput>
+	//<error>
+	//  <what>Invalid free() / delete / delete[] / realloc()</what>
+	//</error>
+	//<error>
+	//  <what>Conditional jump or move depends on uninitialised value(s)</what>
+	//  <stack>
+	//    <frame><ip>0x4005
+	@Test
+	public void testTruncated() throws IOException {
+		File file = getAboveCommentAndSaveFile(VALGRIND_OUT);
+		List<IValgrindMessage> parsed = new ArrayList<>();
+		try {
+			new ValgrindXmlParser(new FileInputStream(file), 42, launchMock, null).parse(parsed::add);
+			fail("truncated output should not parse");
+		} catch (IOException e) {
+			// expected
+		}
+		// messages read before the truncated part are kept
+		assertEquals(1, parsed.size());
+		assertEquals("Invalid free() / delete / delete[] / realloc() [PID: 42]", parsed.get(0).getText());
+	}
+
+	@Test
+	public void testTail() throws Exception {
+		File file = tmpfiles.newFile(VALGRIND_OUT);
+		AtomicBoolean finished = new AtomicBoolean();
+		List<IValgrindMessage> parsed = new ArrayList<>();
+		CountDownLatch first = new CountDownLatch(1);
+		AtomicReference<IOException> failure = new AtomicReference<>();
+		Thread reader = new Thread(() -> {
+			try {
+				new ValgrindXmlParser(new TailInputStream(new FileInputStream(file), finished::get), 42, launchMock, null)
+						.parse(message -> {
+							parsed.add(message);
+							first.countDown();
+						});
+			} catch (IOException e) {
+				failure.set(e);
+			}
+		});
+		try (FileOutputStream out = new FileOutputStream(file)) {
+			out.write("<?xml version=\"1.0\"?>\n<valgrindoutput>\n<error><what>first</what></error>\n".getBytes(CHARSET_UTF_8));
+			out.flush();
+			reader.start();
+			assertTrue(first.await(5, TimeUnit.SECONDS));
+			// the reader waits for the rest of the output
+			assertTrue(reader.isAlive());
+			out.write("<error><what>second</what></error>\n</valgrindoutput>\n".getBytes(CHARSET_UTF_8));
+		}
+		finished.set(true);
+		reader.join(5000);
+		assertFalse(reader.isAlive());
+		if (failure.get() != null) {
+			throw failure.get();
+		}
+		assertEquals(2, parsed.size());
+		assertEquals("second [PID: 42]", parsed.get(1).getText());
+	}
+}
@@ -21,6 +21,7 @@ import org.eclipse.linuxtools.valgrind.core.IValgrindMessage;
  * Abstract class implementing IValgrindMessage
  */
 public class AbstractValgrindMessage implements IValgrindMessage {
+    private static final IValgrindMessage[] NO_CHILDREN = new IValgrindMessage[0];
 
     private IValgrindMessage parent;
     private ILaunch launch;
@@ -34,18 +35,32 @@ public class AbstractValgrindMessage implements IValgrindMessage {
      * @param launch - launch object, can be null
      */
     public AbstractValgrindMessage(IValgrindMessage parent, String text, ILaunch launch) {
-        children = new ArrayList<>();
+        this(parent, text, launch, true);
+    }
+
+    /**
+     * Contructor
+     * @param parent - parent message can be null
+     * @param text - message text, cannot be null
+     * @param launch - launch object, can be null
+     * @param addToParent - whether to add the message to the children of its parent
+     */
+    protected AbstractValgrindMessage(IValgrindMessage parent, String text, ILaunch launch, boolean addToParent) {
         this.parent = parent;
         this.text = text;
         this.launch = launch;
 
-        if (parent != null) {
+        if (parent != null && addToParent) {
             parent.addChild(this);
         }
     }
 
     @Override
     public void addChild(IValgrindMessage message) {
+        // most messages have no children, only allocate the list when needed
+        if (children == null) {
+            children = new ArrayList<>(4);
+        }
         children.add(message);
     }
 
@@ -65,9 +80,20 @@ public class AbstractValgrindMessage implements IValgrindMessage {
 	 */
     @Override
     public IValgrindMessage[] getChildren() {
+        if (children == null) {
+            return NO_CHILDREN;
+        }
         return children.toArray(new IValgrindMessage[children.size()]);
     }
 
+    /**
+     * Tells whether the message has children, without creating them
+     * @return true if {@link #getChildren()} returns a non empty array
+     */
+    public boolean hasChildren() {
+        return children != null;
+    }
+
     @Override
     public String getText() {
         return text;
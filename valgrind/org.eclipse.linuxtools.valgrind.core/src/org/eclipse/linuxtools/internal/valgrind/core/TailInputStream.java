@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Red Hat, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.valgrind.core;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Input stream that follows a file which is still being written, like "tail -f".
+ * Reaching the end of the underlying stream blocks until more data is appended,
+ * and only ends the stream once the writer is known to be finished.
+ */
+public class TailInputStream extends FilterInputStream {
+    private static final long POLL_INTERVAL = 100;
+
+    private final BooleanSupplier finished;
+
+    /**
+     * Constructor
+     * @param in - stream to follow, usually a {@link java.io.FileInputStream}
+     * @param finished - returns true once nothing more will be appended to the stream
+     */
+    public TailInputStream(InputStream in, BooleanSupplier finished) {
+        super(in);
+        this.finished = finished;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) < 0 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (true) {
+            // check before reading, so that data written just before the
+            // writer finished is never mistaken for the end of the stream
+            boolean done = finished.getAsBoolean();
+            int n = super.read(b, off, len);
+            if (n > 0 || done) {
+                return n;
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+        }
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+}
@@ -18,6 +18,7 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Stack;
 
@@ -35,6 +36,9 @@ import org.eclipse.linuxtools.valgrind.core.ValgrindParserUtils;
 
 /**
  * Parser for paring valgrind generic output into array of hierarchical messages
+ *
+ * The stack frames of all errors are kept in a single {@link ValgrindFrameTable}, and
+ * errors reported more than once are collapsed into their first occurrence.
  */
 public class ValgrindCoreParser {
     private static final String AT = "at"; //$NON-NLS-1$
@@ -44,6 +48,7 @@ public class ValgrindCoreParser {
     private int pid;
     private ILaunch launch;
     private ISourceLocator locator;
+    private ValgrindFrameTable frames;
 
     /**
      * When using this method make sure locator passed to this method can
@@ -61,6 +66,7 @@ public class ValgrindCoreParser {
     public ValgrindCoreParser(File inputFile, ILaunch launch, ISourceLocator locator) throws IOException {
         this.launch = launch;
         this.locator = locator;
+        frames = new ValgrindFrameTable(locator);
         // keep track of nested messages and their corresponding indents
         Stack<IValgrindMessage> messageStack = new Stack<>();
         Stack<Integer> indentStack = new Stack<>();
@@ -122,6 +128,11 @@ public class ValgrindCoreParser {
                 }
             }
         }
+        ValgrindMessageCollector collector = new ValgrindMessageCollector();
+        for (IValgrindMessage message : messages) {
+            collector.add(message);
+        }
+        messages = Arrays.asList(collector.getMessages());
     }
 
     private IValgrindMessage getMessage(IValgrindMessage message, String line) {
@@ -129,6 +140,12 @@ public class ValgrindCoreParser {
             Object[] parsed = ValgrindParserUtils.parseFilename(line);
             String filename = (String) parsed[0];
             int lineNo = (Integer) parsed[1];
+            if (message instanceof ValgrindError) {
+                // frame of the stack of an error, anything nested below it belongs to the error
+                ValgrindError error = (ValgrindError) message;
+                error.addFrame(frames, frames.intern(line, filename, lineNo));
+                return error;
+            }
             return new ValgrindStackFrame(message, line, launch, locator, filename, lineNo);
         }
         return new ValgrindError(message, line, launch, pid);
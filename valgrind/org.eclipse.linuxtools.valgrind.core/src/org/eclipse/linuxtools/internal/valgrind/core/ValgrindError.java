@@ -13,14 +13,32 @@
  *******************************************************************************/
 package org.eclipse.linuxtools.internal.valgrind.core;
 
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.linuxtools.valgrind.core.IValgrindMessage;
+import org.eclipse.osgi.util.NLS;
 
 /**
  * Valgrind Error message object
+ *
+ * The frames of the stack of the error are kept as ids in a {@link ValgrindFrameTable}
+ * shared by all errors of an output, the {@link ValgrindStackFrame} children are only
+ * created when asked for, and are not retained. Frames created again are equal to the
+ * ones created before.
  */
 public class ValgrindError extends AbstractValgrindMessage {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
     protected int pid;
+    private ValgrindFrameTable frameTable;
+    private int[] frameIds;
+    private int frameCount;
+    private WeakReference<ValgrindStackFrame[]> frames;
+    private volatile int count = 1;
 
     /**
      * Constructor
@@ -34,8 +52,154 @@ public class ValgrindError extends AbstractValgrindMessage {
         this.pid = pid;
     }
 
+    /**
+     * Adds a frame to the stack of the error. Frames that come after other
+     * children, or from another table, are added as regular children.
+     * @param table - frame table
+     * @param id - id of the frame in the table
+     */
+    public void addFrame(ValgrindFrameTable table, int id) {
+        if (frameTable == null) {
+            frameTable = table;
+        }
+        if (frameTable != table || super.hasChildren()) {
+            new ValgrindStackFrame(this, table.getText(id), getLaunch(), table.getSourceLocator(),
+                    table.getFile(id), table.getLine(id));
+            return;
+        }
+        if (frameIds == null) {
+            frameIds = new int[4];
+        } else if (frameCount == frameIds.length) {
+            frameIds = Arrays.copyOf(frameIds, frameCount * 2);
+        }
+        frameIds[frameCount++] = id;
+        frames = null;
+    }
+
+    /**
+     * Children of the error: the frames of its stack followed by the other children
+     * @return non null array of children messages
+     */
+    @Override
+    public IValgrindMessage[] getChildren() {
+        IValgrindMessage[] children = super.getChildren();
+        if (frameCount == 0) {
+            return children;
+        }
+        ValgrindStackFrame[] stack = frames != null ? frames.get() : null;
+        if (stack == null) {
+            stack = new ValgrindStackFrame[frameCount];
+            for (int i = 0; i < frameCount; i++) {
+                stack[i] = new ValgrindStackFrame(this, frameTable, frameIds[i], i);
+            }
+            frames = new WeakReference<>(stack);
+        }
+        IValgrindMessage[] result = Arrays.copyOf(stack, frameCount + children.length, IValgrindMessage[].class);
+        System.arraycopy(children, 0, result, frameCount, children.length);
+        return result;
+    }
+
+    @Override
+    public boolean hasChildren() {
+        return frameCount > 0 || super.hasChildren();
+    }
+
+    /**
+     * Number of times the error was reported
+     * @return occurrence count, at least 1
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Sets the number of times the error was reported
+     * @param count - occurrence count
+     */
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    /**
+     * Signature of the error, computed from its text, its pid, its stack and its nested
+     * messages. Identical errors have the same signature, which does not change from
+     * one run to the next.
+     * @return 64 bit FNV-1a hash of the error
+     */
+    public long getSignature() {
+        long hash = hash(FNV_OFFSET_BASIS, super.getText());
+        hash = (hash ^ pid) * FNV_PRIME;
+        for (int i = 0; i < frameCount; i++) {
+            hash = hash(hash, frameTable.getText(frameIds[i]));
+        }
+        for (IValgrindMessage child : super.getChildren()) {
+            if (child instanceof ValgrindError) {
+                long signature = ((ValgrindError) child).getSignature();
+                for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+                    hash = (hash ^ ((signature >>> shift) & 0xff)) * FNV_PRIME;
+                }
+            } else {
+                hash = hash(hash, child.getText());
+            }
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, String text) {
+        for (byte b : text.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+        }
+        // separator, so that ("ab", "c") and ("a", "bc") differ
+        return (hash ^ 0xff) * FNV_PRIME;
+    }
+
+    /**
+     * Compares the error to another one, ignoring their occurrence counts
+     * @param other - error to compare to
+     * @return true if both errors have the same text, pid, stack and nested messages
+     */
+    public boolean isSameError(ValgrindError other) {
+        if (pid != other.pid || frameCount != other.frameCount || !super.getText().equals(other.getMessageText())) {
+            return false;
+        }
+        for (int i = 0; i < frameCount; i++) {
+            if (frameTable == other.frameTable ? frameIds[i] != other.frameIds[i]
+                    : !frameTable.getText(frameIds[i]).equals(other.frameTable.getText(other.frameIds[i]))) {
+                return false;
+            }
+        }
+        IValgrindMessage[] children = super.getChildren();
+        IValgrindMessage[] otherChildren = other.getOtherChildren();
+        if (children.length != otherChildren.length) {
+            return false;
+        }
+        for (int i = 0; i < children.length; i++) {
+            if (children[i] instanceof ValgrindError && otherChildren[i] instanceof ValgrindError) {
+                if (!((ValgrindError) children[i]).isSameError((ValgrindError) otherChildren[i])) {
+                    return false;
+                }
+            } else if (children[i].getClass() != otherChildren[i].getClass()
+                    || !children[i].getText().equals(otherChildren[i].getText())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String getMessageText() {
+        return super.getText();
+    }
+
+    private IValgrindMessage[] getOtherChildren() {
+        return super.getChildren();
+    }
+
     @Override
     public String getText() {
-        return super.getText() + " [PID: " + pid + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+        String text = super.getText() + " [PID: " + pid + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+        if (count > 1) {
+            text += ' ' + NLS.bind(Messages.getString("ValgrindError.Occurrences"), count); //$NON-NLS-1$
+        }
+        return text;
     }
 }
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Red Hat, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.valgrind.core;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.debug.core.model.ISourceLocator;
+
+/**
+ * Table of the distinct stack frames found in a valgrind output. The same few thousand
+ * frames usually repeat in the stacks of all errors of a run, so errors keep the ids of
+ * their frames in this table (see {@link ValgrindError#addFrame(ValgrindFrameTable, int)})
+ * rather than a message object per frame.
+ */
+public class ValgrindFrameTable {
+    private final ISourceLocator locator;
+    private final Map<String, Integer> ids = new HashMap<>();
+    private String[] texts = new String[64];
+    private String[] files = new String[64];
+    private int[] lines = new int[64];
+    private int size;
+
+    /**
+     * Constructor
+     * @param locator - source locator of the frames, can be null
+     */
+    public ValgrindFrameTable(ISourceLocator locator) {
+        this.locator = locator;
+    }
+
+    /**
+     * Finds a frame in the table, adding it if it is not there yet. Frames are
+     * identified by their text, which includes their address.
+     * @param text - frame text, cannot be null
+     * @param file - source file of the frame, can be null
+     * @param line - line number in the source file
+     * @return id of the frame
+     */
+    public synchronized int intern(String text, String file, int line) {
+        Integer id = ids.get(text);
+        if (id != null) {
+            return id;
+        }
+        if (size == texts.length) {
+            texts = Arrays.copyOf(texts, size * 2);
+            files = Arrays.copyOf(files, size * 2);
+            lines = Arrays.copyOf(lines, size * 2);
+        }
+        texts[size] = text;
+        files[size] = file;
+        lines[size] = line;
+        ids.put(text, size);
+        return size++;
+    }
+
+    /**
+     * @param id - frame id
+     * @return frame text
+     */
+    public synchronized String getText(int id) {
+        return texts[id];
+    }
+
+    /**
+     * @param id - frame id
+     * @return source file of the frame, can be null
+     */
+    public synchronized String getFile(int id) {
+        return files[id];
+    }
+
+    /**
+     * @param id - frame id
+     * @return line number in the source file
+     */
+    public synchronized int getLine(int id) {
+        return lines[id];
+    }
+
+    /**
+     * @return number of distinct frames
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Source locator
+     * @return source locator of the frames, can be null
+     */
+    public ISourceLocator getSourceLocator() {
+        return locator;
+    }
+}
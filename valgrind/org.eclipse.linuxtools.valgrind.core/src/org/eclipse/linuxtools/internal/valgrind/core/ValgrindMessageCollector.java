@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Red Hat, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.valgrind.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.linuxtools.valgrind.core.IValgrindMessage;
+
+/**
+ * Collects the top level messages of a valgrind output, collapsing the errors
+ * reported more than once into their first occurrence, whose count is increased.
+ */
+public class ValgrindMessageCollector {
+    private final List<IValgrindMessage> messages = new ArrayList<>();
+    private final Map<Long, List<ValgrindError>> errors = new HashMap<>();
+
+    /**
+     * Adds a message, unless it is an error identical to one added before
+     * @param message - top level message
+     * @return the message, or the error it was collapsed into
+     */
+    public IValgrindMessage add(IValgrindMessage message) {
+        if (message instanceof ValgrindError) {
+            ValgrindError error = (ValgrindError) message;
+            List<ValgrindError> candidates = errors.computeIfAbsent(error.getSignature(), k -> new ArrayList<>(1));
+            for (ValgrindError candidate : candidates) {
+                if (candidate.isSameError(error)) {
+                    candidate.setCount(candidate.getCount() + error.getCount());
+                    return candidate;
+                }
+            }
+            candidates.add(error);
+        }
+        messages.add(message);
+        return message;
+    }
+
+    /**
+     * Collected messages
+     * @return top level messages in the order they were first added
+     */
+    public IValgrindMessage[] getMessages() {
+        return messages.toArray(new IValgrindMessage[messages.size()]);
+    }
+}
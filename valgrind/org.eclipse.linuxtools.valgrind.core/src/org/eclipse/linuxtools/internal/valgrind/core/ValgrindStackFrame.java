@@ -24,6 +24,10 @@ public class ValgrindStackFrame extends AbstractValgrindMessage {
 	protected String file;
 	protected int line;
 	private ISourceLocator locator;
+	// set for the frames of a stack kept in a frame table, see ValgrindError
+	private ValgrindFrameTable table;
+	private int id;
+	private int index;
 
     /**
      * Constructor
@@ -41,6 +45,26 @@ public class ValgrindStackFrame extends AbstractValgrindMessage {
 		this.locator = locator;
 	}
 
+	/**
+	 * Constructor for a frame of the stack of an error, which is not added to
+	 * the children of the error (see {@link ValgrindError#getChildren()}).
+	 * Such frames may be created more than once, and are equal if they stand for
+	 * the same frame of the same stack.
+	 * @param parent - error owning the stack
+	 * @param table - frame table
+	 * @param id - id of the frame in the table
+	 * @param index - position of the frame in the stack
+	 */
+	ValgrindStackFrame(ValgrindError parent, ValgrindFrameTable table, int id, int index) {
+		super(parent, table.getText(id), parent.getLaunch(), false);
+		this.file = table.getFile(id);
+		this.line = table.getLine(id);
+		this.locator = table.getSourceLocator();
+		this.table = table;
+		this.id = id;
+		this.index = index;
+	}
+
 	/**
 	 * Source file
 	 *
@@ -73,4 +97,21 @@ public class ValgrindStackFrame extends AbstractValgrindMessage {
 		}
 		return null;
 	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (table == null || !(obj instanceof ValgrindStackFrame)) {
+			return super.equals(obj);
+		}
+		ValgrindStackFrame other = (ValgrindStackFrame) obj;
+		return getParent() == other.getParent() && table == other.table && id == other.id && index == other.index;
+	}
+
+	@Override
+	public int hashCode() {
+		if (table == null) {
+			return super.hashCode();
+		}
+		return (System.identityHashCode(getParent()) * 31 + id) * 31 + index;
+	}
 }
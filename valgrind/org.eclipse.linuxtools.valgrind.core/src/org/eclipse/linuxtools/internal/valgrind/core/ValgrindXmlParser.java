@@ -0,0 +1,358 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Red Hat, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.valgrind.core;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.model.ISourceLocator;
+import org.eclipse.linuxtools.valgrind.core.CommandLineConstants;
+import org.eclipse.linuxtools.valgrind.core.IValgrindMessage;
+import org.eclipse.linuxtools.valgrind.core.ValgrindParserUtils;
+
+/**
+ * Parser for valgrind XML output (--xml=yes), as written by memcheck and helgrind.
+ * Unlike {@link ValgrindCoreParser} it reads the output as a stream, handing every
+ * top level message over as soon as it is complete, so it can follow the output of a
+ * program that is still running (see {@link TailInputStream}). Parsed messages are not
+ * retained, and the frames that repeat from one stack to the next are kept once in a
+ * {@link ValgrindFrameTable}.
+ */
+public class ValgrindXmlParser {
+    private static final String AT = "at"; //$NON-NLS-1$
+    private static final String BY = "by"; //$NON-NLS-1$
+    private static final String UNKNOWN_FUNCTION = "???"; //$NON-NLS-1$
+
+    private static final String PID = "pid"; //$NON-NLS-1$
+    private static final String ERROR = "error"; //$NON-NLS-1$
+    private static final String ANNOUNCE_THREAD = "announcethread"; //$NON-NLS-1$
+    private static final String HTHREADID = "hthreadid"; //$NON-NLS-1$
+    private static final String ISROOTTHREAD = "isrootthread"; //$NON-NLS-1$
+    private static final String WHAT = "what"; //$NON-NLS-1$
+    private static final String XWHAT = "xwhat"; //$NON-NLS-1$
+    private static final String AUXWHAT = "auxwhat"; //$NON-NLS-1$
+    private static final String XAUXWHAT = "xauxwhat"; //$NON-NLS-1$
+    private static final String KIND = "kind"; //$NON-NLS-1$
+    private static final String TEXT = "text"; //$NON-NLS-1$
+    private static final String STACK = "stack"; //$NON-NLS-1$
+    private static final String FRAME = "frame"; //$NON-NLS-1$
+    private static final String IP = "ip"; //$NON-NLS-1$
+    private static final String OBJ = "obj"; //$NON-NLS-1$
+    private static final String FN = "fn"; //$NON-NLS-1$
+    private static final String DIR = "dir"; //$NON-NLS-1$
+    private static final String FILE = "file"; //$NON-NLS-1$
+    private static final String LINE = "line"; //$NON-NLS-1$
+
+    private final InputStream in;
+    private final ILaunch launch;
+    private final ValgrindFrameTable frames;
+    private int pid;
+
+    /**
+     * When using this method make sure locator passed to this method can
+     * outlive disposal of launch object if it was derived from it, use
+     * {@link ValgrindCoreParser#copyLaunchSourceLocator(ILaunch)} if needed
+     *
+     * @param in - stream to parse, it is closed once parsing is over
+     * @param pid - pid reported for the messages until the output names one
+     * @param launch - launch object, can be null
+     * @param locator - source locator
+     */
+    public ValgrindXmlParser(InputStream in, int pid, ILaunch launch, ISourceLocator locator) {
+        this.in = in;
+        this.pid = pid;
+        this.launch = launch;
+        frames = new ValgrindFrameTable(locator);
+    }
+
+    /**
+     * Parses the stream, passing every top level message to the consumer as soon as
+     * it has been read. Messages read before a malformed or truncated part of the
+     * stream are still passed to the consumer.
+     *
+     * @param consumer - receives the top level messages in the order of the output
+     * @throws IOException if the stream cannot be read or is not valid valgrind XML output
+     */
+    public void parse(Consumer<IValgrindMessage> consumer) throws IOException {
+        XMLStreamReader reader = null;
+        try {
+            reader = createInputFactory().createXMLStreamReader(in);
+            // skip to the root element
+            while (reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT) {
+                // ignore prolog
+            }
+            while (nextChild(reader)) {
+                switch (reader.getLocalName()) {
+                case PID:
+                    pid = Integer.parseInt(reader.getElementText().trim());
+                    break;
+                case ERROR:
+                    consumer.accept(parseError(reader));
+                    break;
+                case ANNOUNCE_THREAD:
+                    consumer.accept(parseThreadAnnouncement(reader));
+                    break;
+                default:
+                    skipElement(reader);
+                }
+            }
+        } catch (XMLStreamException | NumberFormatException e) {
+            throw new IOException(e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // ignore
+                }
+            }
+            in.close();
+        }
+    }
+
+    /**
+     * Parses the whole stream
+     * @return all parsed messages, errors reported more than once are collapsed
+     * @throws IOException if the stream cannot be read or is not valid valgrind XML output
+     */
+    public IValgrindMessage[] getMessages() throws IOException {
+        ValgrindMessageCollector collector = new ValgrindMessageCollector();
+        parse(collector::add);
+        return collector.getMessages();
+    }
+
+    /**
+     * Pid of the process described by the output
+     * @return pid found in the output so far, or the pid passed to the constructor
+     */
+    public int getPid() {
+        return pid;
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        return factory;
+    }
+
+    private IValgrindMessage parseError(XMLStreamReader reader) throws XMLStreamException {
+        ValgrindError error = null;
+        // auxiliary messages nest under the error, and own the stack that follows them
+        ValgrindError stackOwner = null;
+        String kind = null;
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+            case KIND:
+                kind = reader.getElementText().trim();
+                break;
+            case WHAT:
+                error = new ValgrindError(null, reader.getElementText().trim(), launch, pid);
+                stackOwner = error;
+                break;
+            case XWHAT:
+                error = new ValgrindError(null, readText(reader), launch, pid);
+                stackOwner = error;
+                break;
+            case AUXWHAT:
+                error = ensureError(error, kind);
+                stackOwner = new ValgrindError(error, reader.getElementText().trim(), launch, pid);
+                break;
+            case XAUXWHAT:
+                error = ensureError(error, kind);
+                stackOwner = new ValgrindError(error, readText(reader), launch, pid);
+                break;
+            case STACK:
+                error = ensureError(error, kind);
+                addFrames(stackOwner != null ? stackOwner : error, readStack(reader));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return ensureError(error, kind);
+    }
+
+    private IValgrindMessage parseThreadAnnouncement(XMLStreamReader reader) throws XMLStreamException {
+        String threadId = null;
+        boolean root = false;
+        List<Integer> stack = null;
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+            case HTHREADID:
+                threadId = reader.getElementText().trim();
+                break;
+            case ISROOTTHREAD:
+                root = true;
+                skipElement(reader);
+                break;
+            case STACK:
+                stack = readStack(reader);
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        // same wording as helgrind's text output
+        String text = "Thread #" + threadId + (root ? " is the program's root thread" : " was created"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        ValgrindError announcement = new ValgrindError(null, text, launch, pid);
+        if (stack != null) {
+            addFrames(announcement, stack);
+        }
+        return announcement;
+    }
+
+    private ValgrindError ensureError(ValgrindError error, String kind) {
+        return error != null ? error : new ValgrindError(null, kind != null ? kind : UNKNOWN_FUNCTION, launch, pid);
+    }
+
+    private void addFrames(ValgrindError parent, List<Integer> stack) {
+        for (int id : stack) {
+            parent.addFrame(frames, id);
+        }
+    }
+
+    /**
+     * Reads a stack into the frame table
+     * @return ids of the frames of the stack
+     */
+    private List<Integer> readStack(XMLStreamReader reader) throws XMLStreamException {
+        List<Integer> stack = new ArrayList<>();
+        while (nextChild(reader)) {
+            if (FRAME.equals(reader.getLocalName())) {
+                stack.add(readFrame(reader, stack.isEmpty() ? AT : BY));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return stack;
+    }
+
+    private int readFrame(XMLStreamReader reader, String prefix) throws XMLStreamException {
+        String ip = null;
+        String obj = null;
+        String fn = null;
+        String dir = null;
+        String file = null;
+        int line = 0;
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+            case IP:
+                ip = reader.getElementText().trim();
+                break;
+            case OBJ:
+                obj = reader.getElementText().trim();
+                break;
+            case FN:
+                fn = reader.getElementText().trim();
+                break;
+            case DIR:
+                dir = reader.getElementText().trim();
+                break;
+            case FILE:
+                file = reader.getElementText().trim();
+                break;
+            case LINE:
+                try {
+                    line = Integer.parseInt(reader.getElementText().trim());
+                } catch (NumberFormatException e) {
+                    line = 0;
+                }
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+
+        // same format as the text output with --fullpath-after=
+        if (file != null && dir != null && !dir.isEmpty()) {
+            file = dir + '/' + file;
+        }
+        StringBuilder text = new StringBuilder(prefix).append(' ').append(ip).append(": ") //$NON-NLS-1$
+                .append(fn != null ? fn : UNKNOWN_FUNCTION);
+        if (file != null) {
+            text.append(" (").append(file).append(':').append(line).append(')'); //$NON-NLS-1$
+        } else if (obj != null) {
+            text.append(" (in ").append(obj).append(')'); //$NON-NLS-1$
+        }
+        return frames.intern(text.toString(), file, line);
+    }
+
+    /**
+     * Collects the text of an element and of the &lt;text&gt; elements it contains.
+     */
+    private static String readText(XMLStreamReader reader) throws XMLStreamException {
+        String text = null;
+        while (nextChild(reader)) {
+            if (TEXT.equals(reader.getLocalName())) {
+                text = reader.getElementText().trim();
+            } else {
+                skipElement(reader);
+            }
+        }
+        return text != null ? text : ""; //$NON-NLS-1$
+    }
+
+    /**
+     * Moves to the next child element of the current element.
+     * @return true if positioned on a child element, false if positioned on the end of the current element
+     */
+    private static boolean nextChild(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Convenience method to parse a complete output file
+     * @param inputFile - file to parse
+     * @param launch - launch object, can be null
+     * @return all parsed messages
+     * @throws IOException if the file cannot be read or is not valid valgrind XML output
+     */
+    public static IValgrindMessage[] parse(File inputFile, ILaunch launch) throws IOException {
+        int pid = ValgrindParserUtils.parsePID(inputFile.getName(), CommandLineConstants.LOG_PREFIX);
+        return new ValgrindXmlParser(new FileInputStream(inputFile), pid, launch,
+                ValgrindCoreParser.copyLaunchSourceLocator(launch)).getMessages();
+    }
+}
@@ -21,6 +21,8 @@ public interface CommandLineConstants {
 	String OPT_TOOL = "--tool"; //$NON-NLS-1$
 	/** --xml */
     String OPT_XML = "--xml"; //$NON-NLS-1$
+	/** --xml-file */
+    String OPT_XMLFILE = "--xml-file"; //$NON-NLS-1$
 	/** --log-file */
     String OPT_LOGFILE = "--log-file"; //$NON-NLS-1$
 	/** -q */
@@ -34,6 +34,7 @@ public final class LaunchConfigurationConstants {
     public static final String ATTR_GENERAL_MAXFRAME = PLUGIN_ID + ".GENERAL_MAXFRAME"; //$NON-NLS-1$
     public static final String ATTR_GENERAL_SUPPFILES = PLUGIN_ID + ".GENERAL_SUPPFILES"; //$NON-NLS-1$
     public static final String ATTR_GENERAL_EXTRA_OPTIONS = PLUGIN_ID + ".GENERAL_OTHER_OPTIONS"; //$NON-NLS-1$
+    public static final String ATTR_GENERAL_STREAM_ERRORS = PLUGIN_ID + ".GENERAL_STREAM_ERRORS"; //$NON-NLS-1$
 
     // 3.4.0 specific
     public static final String ATTR_GENERAL_MAINSTACK_BOOL = PLUGIN_ID + ".GENERAL_MAINSTACK_BOOL"; //$NON-NLS-1$
@@ -54,6 +55,7 @@ public final class LaunchConfigurationConstants {
     public static final boolean DEFAULT_GENERAL_BELOWMAIN = false;
     public static final int DEFAULT_GENERAL_MAXFRAME = 2000000;
     public static final List<String> DEFAULT_GENERAL_SUPPFILES = Collections.emptyList();
+    public static final boolean DEFAULT_GENERAL_STREAM_ERRORS = false;
 
     // 3.4.0 specific
     public static final boolean DEFAULT_GENERAL_MAINSTACK_BOOL = false;
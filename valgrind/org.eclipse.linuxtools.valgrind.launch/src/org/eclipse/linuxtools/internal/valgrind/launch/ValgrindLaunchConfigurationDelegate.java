@@ -16,19 +16,14 @@ package org.eclipse.linuxtools.internal.valgrind.launch;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
-import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Stack;
 import java.util.regex.Pattern;
 
 import org.eclipse.cdt.debug.core.CDebugUtils;
 import org.eclipse.cdt.debug.core.ICDTLaunchConfigurationConstants;
 import org.eclipse.cdt.launch.AbstractCLaunchDelegate;
-import org.eclipse.core.filesystem.URIUtil;
-import org.eclipse.core.resources.IFile;
-import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceChangeEvent;
@@ -45,16 +40,11 @@ import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.debug.core.model.IProcess;
-import org.eclipse.debug.core.model.ISourceLocator;
-import org.eclipse.debug.core.sourcelookup.containers.LocalFileStorage;
-import org.eclipse.debug.ui.DebugUITools;
-import org.eclipse.debug.ui.sourcelookup.ISourceLookupResult;
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.linuxtools.internal.valgrind.core.ValgrindCommand;
 import org.eclipse.linuxtools.internal.valgrind.core.ValgrindCoreParser;
-import org.eclipse.linuxtools.internal.valgrind.core.ValgrindError;
 import org.eclipse.linuxtools.internal.valgrind.core.ValgrindInfo;
-import org.eclipse.linuxtools.internal.valgrind.core.ValgrindStackFrame;
+import org.eclipse.linuxtools.internal.valgrind.core.ValgrindXmlParser;
 import org.eclipse.linuxtools.internal.valgrind.ui.ValgrindUIPlugin;
 import org.eclipse.linuxtools.internal.valgrind.ui.ValgrindViewPart;
 import org.eclipse.linuxtools.valgrind.core.CommandLineConstants;
@@ -71,8 +61,13 @@ public class ValgrindLaunchConfigurationDelegate extends AbstractCLaunchDelegate
     private static final String EQUALS = "="; //$NON-NLS-1$
 
     private static final String LOG_FILE = CommandLineConstants.LOG_PREFIX + "%p.txt"; //$NON-NLS-1$
+    private static final String XML_EXTENSION = ".xml"; //$NON-NLS-1$
+    private static final String XML_FILE = CommandLineConstants.LOG_PREFIX + "%p" + XML_EXTENSION; //$NON-NLS-1$
     private static final Pattern CORE_PATTERN = Pattern.compile("^.*\\.txt\\.core\\.[0-9]+$");  //$NON-NLS-1$
-    private static final FileFilter LOG_FILTER = pathname -> pathname.getName().startsWith(CommandLineConstants.LOG_PREFIX) && !CORE_PATTERN.matcher(pathname.getName()).matches();
+    private static final FileFilter LOG_FILTER = pathname -> pathname.getName().startsWith(CommandLineConstants.LOG_PREFIX) && !pathname.getName().endsWith(XML_EXTENSION) && !CORE_PATTERN.matcher(pathname.getName()).matches();
+    private static final FileFilter XML_FILTER = pathname -> pathname.getName().startsWith(CommandLineConstants.LOG_PREFIX) && pathname.getName().endsWith(XML_EXTENSION);
+    // tools whose errors can be reported in XML
+    private static final List<String> XML_TOOLS = Arrays.asList("memcheck", "helgrind"); //$NON-NLS-1$ //$NON-NLS-2$
 
     protected String toolID;
     protected ValgrindCommand command;
@@ -83,6 +78,8 @@ public class ValgrindLaunchConfigurationDelegate extends AbstractCLaunchDelegate
     protected IProcess process;
     protected String launchStr;
     protected Version valgrindVersion; // null if not used
+    protected boolean streamErrors; // report errors in XML and show them while the program runs
+    private ValgrindMarkerCreator markerCreator; // markers of the current launch
 
     @Override
     public void launch(ILaunchConfiguration config, String mode,
@@ -99,6 +96,7 @@ public class ValgrindLaunchConfigurationDelegate extends AbstractCLaunchDelegate
 
         this.config = config;
         this.launch    = launch;
+        markerCreator = null;
         try {
             IProject project = CDebugUtils.verifyCProject(config).getProject();
             ValgrindUIPlugin.getDefault().setProfiledProject(project);
@@ -140,6 +138,7 @@ public class ValgrindLaunchConfigurationDelegate extends AbstractCLaunchDelegate
             toolID = getTool(config);
             // ask tool extension for arguments
             dynamicDelegate = getDynamicDelegate(toolID);
+            streamErrors = isStreamingErrors(config);
             String[] opts = getValgrindArgumentsArray(config);
 
             // set the default source locator if required
@@ -165,22 +164,41 @@ public class ValgrindLaunchConfigurationDelegate extends AbstractCLaunchDelegate
             process = createNewProcess(launch, command.getProcess(), commandArray[0]);
             // set the command line used
             process.setAttribute(IProcess.ATTR_CMDLINE, command.getCommandLine());
+
+            // create launch summary string to distinguish this launch
+            launchStr = createLaunchStr();
+
+            ValgrindXmlLogReader xmlReader = null;
+            if (streamErrors) {
+                // show errors as they are reported, with the view created up front
+                ValgrindUIPlugin.getDefault().createView(launchStr, toolID);
+                ValgrindUIPlugin.getDefault().showView();
+                xmlReader = new ValgrindXmlLogReader(outputPath.toFile(), XML_FILTER, launch,
+                        ValgrindCoreParser.copyLaunchSourceLocator(launch), process::isTerminated);
+            }
             while (!process.isTerminated()) {
+                if (xmlReader != null) {
+                    xmlReader.poll();
+                    publishMessages(xmlReader);
+                }
                 Thread.sleep(100);
             }
+            if (xmlReader != null) {
+                xmlReader.join();
+                publishMessages(xmlReader);
+            }
 
             // store these for use by other classes
             getPlugin().setCurrentLaunchConfiguration(config);
             getPlugin().setCurrentLaunch(launch);
 
             // parse Valgrind logs
-            IValgrindMessage[] messages = parseLogs(outputPath);
+            IValgrindMessage[] messages = parseLogs(outputPath, xmlReader);
 
-            // create launch summary string to distinguish this launch
-            launchStr = createLaunchStr();
-
-            // create view
-            ValgrindUIPlugin.getDefault().createView(launchStr, toolID);
+            if (xmlReader == null) {
+                // create view
+                ValgrindUIPlugin.getDefault().createView(launchStr, toolID);
+            }
             // set log messages
             ValgrindViewPart view = ValgrindUIPlugin.getDefault().getView();
             view.setMessages(messages);
@@ -214,13 +232,40 @@ public class ValgrindLaunchConfigurationDelegate extends AbstractCLaunchDelegate
     }
 
     protected IValgrindMessage[] parseLogs(IPath outputPath) throws IOException, CoreException {
+        return parseLogs(outputPath, null);
+    }
+
+    /**
+     * Parses the output of valgrind once it has terminated.
+     * @param outputPath - directory of the output files
+     * @param xmlReader - reader that followed the XML output while valgrind ran, or null if the XML output is to be parsed here
+     * @return the messages of all output files
+     */
+    private IValgrindMessage[] parseLogs(IPath outputPath, ValgrindXmlLogReader xmlReader) throws IOException, CoreException {
         List<IValgrindMessage> messages = new ArrayList<>();
 
+        // errors of tools that report in XML (only in XML) are not in the text logs
+        if (xmlReader != null) {
+            messages.addAll(xmlReader.getMessages());
+        } else {
+            // markers were not created while the program ran, start afresh
+            markerCreator = null;
+            for (File log : outputPath.toFile().listFiles(XML_FILTER)) {
+                IValgrindMessage[] results = ValgrindXmlParser.parse(log, launch);
+                messages.addAll(Arrays.asList(results));
+                createMarkers(results);
+            }
+        }
+        boolean hasErrors = !messages.isEmpty();
+
         for (File log : outputPath.toFile().listFiles(LOG_FILTER)) {
             ValgrindCoreParser parser = new ValgrindCoreParser(log, launch);
             IValgrindMessage[] results = parser.getMessages();
 
             if (results.length == 0){
+                if (hasErrors) {
+                    continue;
+                }
                 results = new IValgrindMessage[1];
                 results[0] = new ValgrindInfo(null, Messages.getString("ValgrindOutputView.No_output"), launch); //$NON-NLS-1$
             }
@@ -231,53 +276,27 @@ public class ValgrindLaunchConfigurationDelegate extends AbstractCLaunchDelegate
         return messages.toArray(new IValgrindMessage[messages.size()]);
     }
 
+    /**
+     * Shows messages of a running program in the view and annotates their sources.
+     * @param xmlReader - reader following the XML output of the program
+     */
+    private void publishMessages(ValgrindXmlLogReader xmlReader) throws CoreException {
+        IValgrindMessage[] messages = xmlReader.nextBatch();
+        if (messages.length > 0) {
+            ValgrindUIPlugin.getDefault().addMessages(messages);
+            createMarkers(messages);
+        }
+        IValgrindMessage[] updated = xmlReader.getUpdatedMessages();
+        if (updated.length > 0) {
+            ValgrindUIPlugin.getDefault().updateMessages(updated);
+        }
+    }
+
     private void createMarkers(IValgrindMessage[] messages) throws CoreException {
-        // find the topmost stack frame within the workspace to annotate with marker
-        // traverse nested errors as well
-        Stack<IValgrindMessage> messageStack = new Stack<>();
-        messageStack.addAll(Arrays.asList(messages));
-        while (!messageStack.isEmpty()) {
-            IValgrindMessage message = messageStack.pop();
-            IMarker marker = null;
-            IValgrindMessage[] children = message.getChildren();
-            for (int i = 0; i < children.length; i++) {
-                // if we've found our marker we don't care about any further frames in this stack
-                if (children[i] instanceof ValgrindStackFrame && marker == null) {
-                    ValgrindStackFrame frame = (ValgrindStackFrame) children[i];
-                    if (frame.getLine() > 0) {
-                        ISourceLocator locator = frame.getSourceLocator();
-                        ISourceLookupResult result = DebugUITools.lookupSource(frame.getFile(), locator);
-                        Object sourceElement = result.getSourceElement();
-
-                        if (sourceElement != null) {
-                            // Resolve IResource in case we get a LocalFileStorage object
-                            if (sourceElement instanceof LocalFileStorage) {
-                                IPath filePath = ((LocalFileStorage) sourceElement).getFullPath();
-                                URI fileURI = URIUtil.toURI(filePath);
-                                IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
-                                IFile[] files = root.findFilesForLocationURI(fileURI);
-                                if (files.length > 0) {
-                                    // Take the first match
-                                    sourceElement = files[0];
-                                }
-                            }
-
-                            if (sourceElement instanceof IResource) {
-                                IResource resource = (IResource) sourceElement;
-                                marker = resource.createMarker(ValgrindLaunchPlugin.MARKER_TYPE);
-                                marker.setAttribute(IMarker.MESSAGE, message.getText());
-                                marker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_ERROR);
-                                marker.setAttribute(IMarker.LINE_NUMBER, frame.getLine());
-                            }
-                        }
-                    }
-                }
-                else if (children[i] instanceof ValgrindError) {
-                    // nested error
-                    messageStack.push(children[i]);
-                }
-            }
+        if (markerCreator == null) {
+            markerCreator = new ValgrindMarkerCreator();
         }
+        markerCreator.createMarkers(messages);
     }
 
     protected IProcess createNewProcess(ILaunch launch, Process systemProcess, String programName) {
@@ -329,6 +348,16 @@ public class ValgrindLaunchConfigurationDelegate extends AbstractCLaunchDelegate
         }
     }
 
+    /**
+     * Errors are streamed if requested, and if the tool reports them in XML with a version of
+     * valgrind that can write XML output to a file of its own.
+     */
+    private boolean isStreamingErrors(ILaunchConfiguration config) throws CoreException {
+        return config.getAttribute(LaunchConfigurationConstants.ATTR_GENERAL_STREAM_ERRORS, LaunchConfigurationConstants.DEFAULT_GENERAL_STREAM_ERRORS)
+                && XML_TOOLS.contains(getPlugin().getToolName(toolID))
+                && (valgrindVersion == null || valgrindVersion.compareTo(ValgrindLaunchPlugin.VER_3_6_0) >= 0);
+    }
+
     private String createLaunchStr() {
         return config.getName() + " [" + getPlugin().getToolName(toolID) + "] " + process.getLabel(); //$NON-NLS-1$ //$NON-NLS-2$
     }
@@ -338,6 +367,10 @@ public class ValgrindLaunchConfigurationDelegate extends AbstractCLaunchDelegate
         opts.add(CommandLineConstants.OPT_TOOL + EQUALS + getPlugin().getToolName(toolID));
         opts.add(CommandLineConstants.OPT_QUIET); // suppress uninteresting output
         opts.add(CommandLineConstants.OPT_LOGFILE + EQUALS + outputPath.append(LOG_FILE).toPortableString());
+        if (streamErrors) {
+            opts.add(CommandLineConstants.OPT_XML + EQUALS + YES);
+            opts.add(CommandLineConstants.OPT_XMLFILE + EQUALS + outputPath.append(XML_FILE).toPortableString());
+        }
 
         opts.add(CommandLineConstants.OPT_TRACECHILD + EQUALS + (config.getAttribute(LaunchConfigurationConstants.ATTR_GENERAL_TRACECHILD, LaunchConfigurationConstants.DEFAULT_GENERAL_TRACECHILD) ? YES : NO));
         opts.add(CommandLineConstants.OPT_CHILDSILENT + EQUALS + YES); // necessary for parsing
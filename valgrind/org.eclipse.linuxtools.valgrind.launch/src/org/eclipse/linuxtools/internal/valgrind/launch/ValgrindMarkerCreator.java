@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Red Hat, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.valgrind.launch;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Stack;
+
+import org.eclipse.core.filesystem.URIUtil;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.model.ISourceLocator;
+import org.eclipse.debug.core.sourcelookup.containers.LocalFileStorage;
+import org.eclipse.debug.ui.DebugUITools;
+import org.eclipse.debug.ui.sourcelookup.ISourceLookupResult;
+import org.eclipse.linuxtools.internal.valgrind.core.ValgrindError;
+import org.eclipse.linuxtools.internal.valgrind.core.ValgrindStackFrame;
+import org.eclipse.linuxtools.valgrind.core.IValgrindMessage;
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * Creates the problem markers of the errors of a launch. Every error is annotated at its
+ * topmost stack frame within the workspace. Markers are created in batches, each in a single
+ * workspace operation so that a batch fires a single resource delta, and the workspace
+ * resource of every source file is only looked up once per launch.
+ *
+ * A run may report many thousands of errors, far more than can be browsed in the Problems
+ * view. Once {@link #DEDUP_THRESHOLD} markers have been created, errors identical to an
+ * error already annotated at the same location get no marker of their own, and no more than
+ * {@link #MAX_MARKERS} markers are created per launch.
+ */
+public class ValgrindMarkerCreator {
+    /** Number of markers after which duplicate errors are no longer annotated. */
+    public static final int DEDUP_THRESHOLD = 1000;
+    /** Maximum number of markers created for a launch. */
+    public static final int MAX_MARKERS = 5000;
+
+    private final IWorkspace workspace = ResourcesPlugin.getWorkspace();
+    // workspace resource of each source file, null if it is not in the workspace
+    private final Map<String, IResource> resources = new HashMap<>();
+    private final Set<String> annotated = new HashSet<>();
+    private int markerCount;
+
+    /**
+     * Creates the markers of a batch of messages.
+     * @param messages - top level messages, nested errors are annotated as well
+     * @throws CoreException if the markers cannot be created
+     */
+    public void createMarkers(IValgrindMessage[] messages) throws CoreException {
+        final List<IResource> markerResources = new ArrayList<>();
+        final List<Map<String, Object>> markerAttributes = new ArrayList<>();
+
+        // traverse nested errors as well
+        Stack<IValgrindMessage> messageStack = new Stack<>();
+        messageStack.addAll(Arrays.asList(messages));
+        while (!messageStack.isEmpty() && markerCount < MAX_MARKERS) {
+            IValgrindMessage message = messageStack.pop();
+            boolean found = false;
+            for (IValgrindMessage child : message.getChildren()) {
+                // if we've found our resource we don't care about any further frames in this stack
+                if (child instanceof ValgrindStackFrame && !found) {
+                    ValgrindStackFrame frame = (ValgrindStackFrame) child;
+                    IResource resource = frame.getLine() > 0 ? getResource(frame) : null;
+                    if (resource != null) {
+                        found = true;
+                        String text = message.getText();
+                        String key = resource.getFullPath().toString() + ':' + frame.getLine() + ':' + text;
+                        if (annotated.add(key) || markerCount < DEDUP_THRESHOLD) {
+                            Map<String, Object> attributes = new HashMap<>();
+                            attributes.put(IMarker.MESSAGE, text);
+                            attributes.put(IMarker.SEVERITY, IMarker.SEVERITY_ERROR);
+                            attributes.put(IMarker.LINE_NUMBER, frame.getLine());
+                            markerResources.add(resource);
+                            markerAttributes.add(attributes);
+                            if (++markerCount == MAX_MARKERS) {
+                                ValgrindLaunchPlugin.getDefault().getLog().log(new Status(IStatus.INFO,
+                                        ValgrindLaunchPlugin.PLUGIN_ID, NLS.bind(Messages.getString(
+                                                "ValgrindMarkerCreator.Too_many_markers"), MAX_MARKERS))); //$NON-NLS-1$
+                                break;
+                            }
+                        }
+                    }
+                } else if (child instanceof ValgrindError) {
+                    // nested error
+                    messageStack.push(child);
+                }
+            }
+        }
+
+        if (!markerResources.isEmpty()) {
+            IWorkspaceRunnable runnable = monitor -> {
+                for (int i = 0; i < markerResources.size(); i++) {
+                    IMarker marker = markerResources.get(i).createMarker(ValgrindLaunchPlugin.MARKER_TYPE);
+                    marker.setAttributes(markerAttributes.get(i));
+                }
+            };
+            workspace.run(runnable, null, IWorkspace.AVOID_UPDATE, null);
+        }
+    }
+
+    /**
+     * Finds the workspace resource of the source file of a frame.
+     * @return the resource, or null if the file is not in the workspace
+     */
+    private IResource getResource(ValgrindStackFrame frame) {
+        String file = frame.getFile();
+        if (resources.containsKey(file)) {
+            return resources.get(file);
+        }
+        IResource resource = null;
+        ISourceLocator locator = frame.getSourceLocator();
+        ISourceLookupResult result = DebugUITools.lookupSource(file, locator);
+        Object sourceElement = result.getSourceElement();
+
+        // Resolve IResource in case we get a LocalFileStorage object
+        if (sourceElement instanceof LocalFileStorage) {
+            IPath filePath = ((LocalFileStorage) sourceElement).getFullPath();
+            URI fileURI = URIUtil.toURI(filePath);
+            IWorkspaceRoot root = workspace.getRoot();
+            IFile[] files = root.findFilesForLocationURI(fileURI);
+            if (files.length > 0) {
+                // Take the first match
+                sourceElement = files[0];
+            }
+        }
+        if (sourceElement instanceof IResource) {
+            resource = (IResource) sourceElement;
+        }
+        resources.put(file, resource);
+        return resource;
+    }
+}
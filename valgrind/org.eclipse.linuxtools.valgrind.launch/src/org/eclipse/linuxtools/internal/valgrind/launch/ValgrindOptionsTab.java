@@ -65,6 +65,7 @@ public class ValgrindOptionsTab extends AbstractLaunchConfigurationTab {
     protected Button traceChildrenButton;
     protected Button childSilentButton;
     protected Button runFreeresButton;
+    protected Button streamErrorsButton;
     protected Text otherOptionsText;
 
     protected Button demangleButton;
@@ -261,6 +262,12 @@ public class ValgrindOptionsTab extends AbstractLaunchConfigurationTab {
         runFreeresButton.setText(Messages.getString("ValgrindOptionsTab.run_freeres")); //$NON-NLS-1$
         runFreeresButton.addSelectionListener(selectListener);
         runFreeresButton.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+
+        // Only used by tools that report errors in XML (memcheck, helgrind)
+        streamErrorsButton = new Button(basicTop, SWT.CHECK);
+        streamErrorsButton.setText(Messages.getString("ValgrindOptionsTab.stream_errors")); //$NON-NLS-1$
+        streamErrorsButton.addSelectionListener(selectListener);
+        streamErrorsButton.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
     }
 
 	private void createOtherOptions(Composite basicTop) {
@@ -535,6 +542,7 @@ public class ValgrindOptionsTab extends AbstractLaunchConfigurationTab {
             otherOptionsText.setText(configuration.getAttribute(LaunchConfigurationConstants.ATTR_GENERAL_EXTRA_OPTIONS, "")); //$NON-NLS-1$
             traceChildrenButton.setSelection(configuration.getAttribute(LaunchConfigurationConstants.ATTR_GENERAL_TRACECHILD, LaunchConfigurationConstants.DEFAULT_GENERAL_TRACECHILD));
             runFreeresButton.setSelection(configuration.getAttribute(LaunchConfigurationConstants.ATTR_GENERAL_FREERES, LaunchConfigurationConstants.DEFAULT_GENERAL_FREERES));
+            streamErrorsButton.setSelection(configuration.getAttribute(LaunchConfigurationConstants.ATTR_GENERAL_STREAM_ERRORS, LaunchConfigurationConstants.DEFAULT_GENERAL_STREAM_ERRORS));
             demangleButton.setSelection(configuration.getAttribute(LaunchConfigurationConstants.ATTR_GENERAL_DEMANGLE, LaunchConfigurationConstants.DEFAULT_GENERAL_DEMANGLE));
             numCallersSpinner.setSelection(configuration.getAttribute(LaunchConfigurationConstants.ATTR_GENERAL_NUMCALLERS, LaunchConfigurationConstants.DEFAULT_GENERAL_NUMCALLERS));
             errorLimitButton.setSelection(configuration.getAttribute(LaunchConfigurationConstants.ATTR_GENERAL_ERRLIMIT, LaunchConfigurationConstants.DEFAULT_GENERAL_ERRLIMIT));
@@ -610,6 +618,7 @@ public class ValgrindOptionsTab extends AbstractLaunchConfigurationTab {
 
         configuration.setAttribute(LaunchConfigurationConstants.ATTR_GENERAL_TRACECHILD, traceChildrenButton.getSelection());
         configuration.setAttribute(LaunchConfigurationConstants.ATTR_GENERAL_FREERES, runFreeresButton.getSelection());
+        configuration.setAttribute(LaunchConfigurationConstants.ATTR_GENERAL_STREAM_ERRORS, streamErrorsButton.getSelection());
 
         configuration.setAttribute(LaunchConfigurationConstants.ATTR_GENERAL_DEMANGLE, demangleButton.getSelection());
         configuration.setAttribute(LaunchConfigurationConstants.ATTR_GENERAL_NUMCALLERS, numCallersSpinner.getSelection());
@@ -646,6 +655,7 @@ public class ValgrindOptionsTab extends AbstractLaunchConfigurationTab {
             configuration.setAttribute(LaunchConfigurationConstants.ATTR_TOOL, LaunchConfigurationConstants.DEFAULT_TOOL);
         configuration.setAttribute(LaunchConfigurationConstants.ATTR_GENERAL_TRACECHILD, LaunchConfigurationConstants.DEFAULT_GENERAL_TRACECHILD);
         configuration.setAttribute(LaunchConfigurationConstants.ATTR_GENERAL_FREERES, LaunchConfigurationConstants.DEFAULT_GENERAL_FREERES);
+        configuration.setAttribute(LaunchConfigurationConstants.ATTR_GENERAL_STREAM_ERRORS, LaunchConfigurationConstants.DEFAULT_GENERAL_STREAM_ERRORS);
 
         configuration.setAttribute(LaunchConfigurationConstants.ATTR_GENERAL_DEMANGLE, LaunchConfigurationConstants.DEFAULT_GENERAL_DEMANGLE);
         configuration.setAttribute(LaunchConfigurationConstants.ATTR_GENERAL_NUMCALLERS, LaunchConfigurationConstants.DEFAULT_GENERAL_NUMCALLERS);
@@ -703,6 +713,10 @@ public class ValgrindOptionsTab extends AbstractLaunchConfigurationTab {
         return runFreeresButton;
     }
 
+    public Button getStreamErrorsButton() {
+        return streamErrorsButton;
+    }
+
     public Button getDemangleButton() {
         return demangleButton;
     }
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Red Hat, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.linuxtools.internal.valgrind.launch;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.model.ISourceLocator;
+import org.eclipse.linuxtools.internal.valgrind.core.TailInputStream;
+import org.eclipse.linuxtools.internal.valgrind.core.ValgrindMessageCollector;
+import org.eclipse.linuxtools.internal.valgrind.core.ValgrindXmlParser;
+import org.eclipse.linuxtools.valgrind.core.CommandLineConstants;
+import org.eclipse.linuxtools.valgrind.core.IValgrindMessage;
+import org.eclipse.linuxtools.valgrind.core.ValgrindParserUtils;
+
+/**
+ * Follows the XML output files of a running valgrind process. Every output file
+ * (one per traced process) is parsed on its own thread while it is written, and the
+ * messages read so far are handed over in batches by {@link #nextBatch()}. Errors
+ * reported more than once are collapsed into the error handed over first, see
+ * {@link #getUpdatedMessages()}.
+ */
+public class ValgrindXmlLogReader {
+
+    private final File outputDir;
+    private final FileFilter filter;
+    private final ILaunch launch;
+    private final ISourceLocator locator;
+    private final BooleanSupplier finished;
+
+    private final Set<String> followedFiles = new HashSet<>();
+    private final List<Thread> readers = new ArrayList<>();
+    private final ConcurrentLinkedQueue<IValgrindMessage> queue = new ConcurrentLinkedQueue<>();
+    private final List<IValgrindMessage> messages = new ArrayList<>();
+    private final ValgrindMessageCollector collector = new ValgrindMessageCollector();
+    private final Set<IValgrindMessage> updatedMessages = new LinkedHashSet<>();
+
+    /**
+     * Constructor
+     * @param outputDir - directory valgrind writes its output files to
+     * @param filter - accepts the XML output files of the directory
+     * @param launch - launch object, can be null
+     * @param locator - source locator for the stack frames
+     * @param finished - returns true once the valgrind process has terminated
+     */
+    public ValgrindXmlLogReader(File outputDir, FileFilter filter, ILaunch launch, ISourceLocator locator,
+            BooleanSupplier finished) {
+        this.outputDir = outputDir;
+        this.filter = filter;
+        this.launch = launch;
+        this.locator = locator;
+        this.finished = finished;
+    }
+
+    /**
+     * Starts following the output files that appeared since the last call.
+     */
+    public void poll() {
+        File[] files = outputDir.listFiles(filter);
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (followedFiles.add(file.getName())) {
+                Thread reader = new Thread(() -> read(file), "Valgrind XML reader: " + file.getName()); //$NON-NLS-1$
+                reader.setDaemon(true);
+                readers.add(reader);
+                reader.start();
+            }
+        }
+    }
+
+    private void read(File file) {
+        try {
+            int pid = ValgrindParserUtils.parsePID(file.getName(), CommandLineConstants.LOG_PREFIX);
+            new ValgrindXmlParser(new TailInputStream(new FileInputStream(file), finished), pid, launch, locator)
+                    .parse(queue::add);
+        } catch (IOException e) {
+            // output of a process that was killed ends abruptly, keep whatever was read
+            ValgrindLaunchPlugin.getDefault().getLog().log(
+                    new Status(IStatus.WARNING, ValgrindLaunchPlugin.PLUGIN_ID, e.getMessage(), e));
+        }
+    }
+
+    /**
+     * Takes the messages read since the last call.
+     * @return new top level messages, possibly none
+     */
+    public IValgrindMessage[] nextBatch() {
+        List<IValgrindMessage> batch = new ArrayList<>();
+        IValgrindMessage message;
+        while ((message = queue.poll()) != null) {
+            IValgrindMessage collected = collector.add(message);
+            if (collected == message) {
+                batch.add(message);
+            } else {
+                // repeated error, only its count changed
+                updatedMessages.add(collected);
+            }
+        }
+        // errors of this batch are shown with their current count anyway
+        batch.forEach(updatedMessages::remove);
+        messages.addAll(batch);
+        return batch.toArray(new IValgrindMessage[batch.size()]);
+    }
+
+    /**
+     * Follows the output files left to read and waits until all of them
+     * have been read. Must only be called once the process has terminated.
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void join() throws InterruptedException {
+        poll();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+    }
+
+    /**
+     * Takes the messages handed over by earlier calls to {@link #nextBatch()}
+     * whose occurrence count has changed since the last call.
+     * @return updated top level messages, possibly none
+     */
+    public IValgrindMessage[] getUpdatedMessages() {
+        IValgrindMessage[] updated = updatedMessages.toArray(new IValgrindMessage[updatedMessages.size()]);
+        updatedMessages.clear();
+        return updated;
+    }
+
+    /**
+     * @return all messages handed over by {@link #nextBatch()}
+     */
+    public List<IValgrindMessage> getMessages() {
+        return messages;
+    }
+}
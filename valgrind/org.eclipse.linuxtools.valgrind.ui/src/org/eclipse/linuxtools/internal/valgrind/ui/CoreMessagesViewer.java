@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.linuxtools.internal.valgrind.ui;
 
+import java.util.List;
+
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.debug.core.model.ISourceLocator;
 import org.eclipse.debug.ui.DebugUITools;
@@ -30,6 +32,7 @@ import org.eclipse.jface.viewers.LabelProvider;
 import org.eclipse.jface.viewers.TreeSelection;
 import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.linuxtools.internal.valgrind.core.AbstractValgrindMessage;
 import org.eclipse.linuxtools.internal.valgrind.core.ValgrindError;
 import org.eclipse.linuxtools.internal.valgrind.core.ValgrindStackFrame;
 import org.eclipse.linuxtools.profiling.ui.ProfileUIUtils;
@@ -91,6 +94,9 @@ public class CoreMessagesViewer {
                 if (parentElement instanceof Object[]) {
                     return (Object[]) parentElement;
                 }
+                if (parentElement instanceof List) {
+                    return ((List<?>) parentElement).toArray();
+                }
                 return ((IValgrindMessage) parentElement).getChildren();
             }
 
@@ -101,6 +107,10 @@ public class CoreMessagesViewer {
 
             @Override
             public boolean hasChildren(Object element) {
+                // don't create the stack frames of every error shown
+                if (element instanceof AbstractValgrindMessage) {
+                    return ((AbstractValgrindMessage) element).hasChildren();
+                }
                 return getChildren(element).length > 0;
             }
 
@@ -21,6 +21,7 @@ import org.eclipse.core.runtime.IExtensionPoint;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.linuxtools.valgrind.core.IValgrindMessage;
 import org.eclipse.linuxtools.valgrind.ui.IValgrindToolView;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.IWorkbenchPage;
@@ -125,6 +126,28 @@ public class ValgrindUIPlugin extends AbstractUIPlugin {
         }
     }
 
+    /**
+     * Appends messages to the ones displayed in the Valgrind view.
+     *
+     * @param messages  the messages to append
+     */
+    public void addMessages(final IValgrindMessage[] messages) {
+        if (view != null) {
+            Display.getDefault().syncExec(() -> view.addMessages(messages));
+        }
+    }
+
+    /**
+     * Refreshes the labels of messages displayed in the Valgrind view.
+     *
+     * @param messages  the messages to refresh
+     */
+    public void updateMessages(final IValgrindMessage[] messages) {
+        if (view != null) {
+            Display.getDefault().syncExec(() -> view.updateMessages(messages));
+        }
+    }
+
     /**
      * Empties the contents of the view and restores its original state.
      */
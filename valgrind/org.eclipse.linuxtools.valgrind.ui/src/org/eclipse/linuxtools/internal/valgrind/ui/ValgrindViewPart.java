@@ -12,6 +12,10 @@
  *******************************************************************************/
 package org.eclipse.linuxtools.internal.valgrind.ui;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -21,6 +25,7 @@ import org.eclipse.jface.action.IAction;
 import org.eclipse.jface.action.IMenuManager;
 import org.eclipse.jface.action.IToolBarManager;
 import org.eclipse.jface.action.ToolBarManager;
+import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.linuxtools.internal.valgrind.core.ValgrindInfo;
 import org.eclipse.linuxtools.valgrind.core.IValgrindMessage;
 import org.eclipse.linuxtools.valgrind.ui.IValgrindToolView;
@@ -43,6 +48,8 @@ public class ValgrindViewPart extends ViewPart {
     private IValgrindToolView dynamicView;
     private ActionContributionItem[] dynamicActions;
     private IValgrindMessage[] messages;
+    // input of the viewer while the messages of a running program are added
+    private List<IValgrindMessage> streamedMessages;
     private CoreMessagesViewer messagesViewer;
     private Action showCoreAction;
     private Action showToolAction;
@@ -109,9 +116,10 @@ public class ValgrindViewPart extends ViewPart {
         }
 
         // remove old messages
-        if (messages != null){
+        if (messages != null || streamedMessages != null){
             messagesViewer.getTreeViewer().setInput(null);
             messages = null;
+            streamedMessages = null;
         }
 
         for (Control child : dynamicViewHolder.getChildren()) {
@@ -163,6 +171,43 @@ public class ValgrindViewPart extends ViewPart {
      */
     public void setMessages(IValgrindMessage[] messages) {
         this.messages = messages;
+        streamedMessages = null;
+    }
+
+    /**
+     * Appends messages to the ones displayed in the view, without refreshing
+     * the messages already displayed. Used to show the messages of a program
+     * while it is still running.
+     *
+     * @param newMessages  the array of messages to append
+     */
+    public void addMessages(IValgrindMessage[] newMessages) {
+        if (newMessages.length == 0) {
+            return;
+        }
+        TreeViewer viewer = messagesViewer.getTreeViewer();
+        if (streamedMessages == null || viewer.getInput() != streamedMessages) {
+            streamedMessages = new ArrayList<>(Arrays.asList(newMessages));
+            messages = null;
+            viewer.setInput(streamedMessages);
+            showCoreAction.setEnabled(true);
+            showCorePage();
+        } else {
+            streamedMessages.addAll(Arrays.asList(newMessages));
+            viewer.add(streamedMessages, (Object[]) newMessages);
+        }
+    }
+
+    /**
+     * Refreshes the labels of messages already displayed in the view, e.g.
+     * errors whose occurrence count has changed.
+     *
+     * @param updatedMessages  the messages to refresh
+     */
+    public void updateMessages(IValgrindMessage[] updatedMessages) {
+        if ((messages != null || streamedMessages != null) && updatedMessages.length > 0) {
+            messagesViewer.getTreeViewer().update(updatedMessages, null);
+        }
     }
 
     /**
@@ -171,6 +216,9 @@ public class ValgrindViewPart extends ViewPart {
      * @return the array of messages
      */
     public IValgrindMessage[] getMessages() {
+        if (messages == null && streamedMessages != null) {
+            return streamedMessages.toArray(new IValgrindMessage[streamedMessages.size()]);
+        }
         return messages;
     }
 